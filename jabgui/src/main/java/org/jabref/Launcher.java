@@ -27,6 +27,7 @@ import org.jabref.logic.search.PostgreServer;
 import org.jabref.logic.util.BuildInfo;
 import org.jabref.logic.util.Directories;
 import org.jabref.migrations.PreferencesMigrations;
+import org.jabref.model.search.BibFieldsSearchBackend;
 
 import com.airhacks.afterburner.injection.Injector;
 import org.slf4j.Logger;
@@ -85,8 +86,14 @@ public class Launcher {
 
         PreferencesMigrations.runMigrations(preferences);
 
-        PostgreServer postgreServer = new PostgreServer();
-        Injector.setModelOrService(PostgreServer.class, postgreServer);
+        // The Postgres server is started only here, thus a change of the backend takes effect after a restart only.
+        // The backend chosen now is used for the whole session.
+        BibFieldsSearchBackend bibFieldsSearchBackend = preferences.getSearchPreferences().getBibFieldsSearchBackend();
+        Injector.setModelOrService(BibFieldsSearchBackend.class, bibFieldsSearchBackend);
+        if (bibFieldsSearchBackend == BibFieldsSearchBackend.POSTGRES) {
+            PostgreServer postgreServer = new PostgreServer();
+            Injector.setModelOrService(PostgreServer.class, postgreServer);
+        }
 
         CSLStyleLoader.loadInternalStyles();
 
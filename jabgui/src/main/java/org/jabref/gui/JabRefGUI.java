@@ -31,11 +31,13 @@ import org.jabref.gui.util.WebViewStore;
 import org.jabref.logic.UiCommand;
 import org.jabref.logic.ai.AiService;
 import org.jabref.logic.citation.SearchCitationsRelationsService;
+import org.jabref.logic.citationstyle.PersistentPreviewCache;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.net.ProxyRegisterer;
 import org.jabref.logic.os.OS;
+import org.jabref.logic.pdf.ExtractedTextCache;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
 import org.jabref.logic.remote.RemotePreferences;
 import org.jabref.logic.remote.server.RemoteListenerServerManager;
@@ -46,6 +48,7 @@ import org.jabref.logic.util.FallbackExceptionHandler;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.search.BibFieldsSearchBackend;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.FileUpdateMonitor;
 
@@ -420,6 +423,10 @@ public class JabRefGUI extends Application {
         shutdownThreadPools();
         LOGGER.trace("Closing citations and relations search service");
         citationsAndRelationsSearchService.close();
+        LOGGER.trace("Closing cache of extracted texts");
+        ExtractedTextCache.closeShared();
+        LOGGER.trace("Closing cache of previews");
+        PersistentPreviewCache.closeShared();
         LOGGER.trace("Finished stop");
     }
 
@@ -437,9 +444,11 @@ public class JabRefGUI extends Application {
         LOGGER.trace("Shutting down directoryMonitor");
         DirectoryMonitor directoryMonitor = Injector.instantiateModelOrService(DirectoryMonitor.class);
         directoryMonitor.shutdown();
-        LOGGER.trace("Shutting down postgreServer");
-        PostgreServer postgreServer = Injector.instantiateModelOrService(PostgreServer.class);
-        postgreServer.shutdown();
+        if (Injector.instantiateModelOrService(BibFieldsSearchBackend.class) == BibFieldsSearchBackend.POSTGRES) {
+            LOGGER.trace("Shutting down postgreServer");
+            PostgreServer postgreServer = Injector.instantiateModelOrService(PostgreServer.class);
+            postgreServer.shutdown();
+        }
         LOGGER.trace("Shutting down HeadlessExecutorService");
         HeadlessExecutorService.INSTANCE.shutdownEverything();
         LOGGER.trace("Finished shutdownThreadPools");
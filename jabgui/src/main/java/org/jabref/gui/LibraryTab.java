@@ -60,6 +60,8 @@ import org.jabref.gui.util.OptionalObjectProperty;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.ai.AiService;
 import org.jabref.logic.citationstyle.CitationStyleCache;
+import org.jabref.logic.citationstyle.PersistentPreviewCache;
+import org.jabref.logic.database.DuplicateCandidateIndex;
 import org.jabref.logic.importer.FetcherClientException;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.FetcherServerException;
@@ -88,6 +90,7 @@ import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.search.BibFieldsSearchBackend;
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.util.FileUpdateMonitor;
 
@@ -118,6 +121,8 @@ public class LibraryTab extends Tab {
     private BibDatabaseContext bibDatabaseContext;
     private MainTableDataModel tableModel;
     private FileAnnotationCache annotationCache;
+    private CitationStyleCache citationStyleCache;
+    private DuplicateCandidateIndex duplicateCandidateIndex;
     private MainTable mainTable;
     private DatabaseNotification databaseNotificationPane;
 
@@ -207,7 +212,16 @@ public class LibraryTab extends Tab {
         this.selectedGroupsProperty = new SimpleListProperty<>(stateManager.getSelectedGroups(bibDatabaseContext));
         this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferences, taskExecutor, getIndexManager(), selectedGroupsProperty(), searchQueryProperty, resultSizeProperty());
 
-        new CitationStyleCache(bibDatabaseContext);
+        if (citationStyleCache != null) {
+            citationStyleCache.close();
+        }
+        citationStyleCache = new CitationStyleCache(bibDatabaseContext, PersistentPreviewCache.getShared());
+        stateManager.setCitationStyleCache(bibDatabaseContext, citationStyleCache);
+        if (duplicateCandidateIndex != null) {
+            duplicateCandidateIndex.close();
+        }
+        duplicateCandidateIndex = DuplicateCandidateIndex.listeningTo(bibDatabaseContext.getDatabase());
+        stateManager.setDuplicateCandidateIndex(bibDatabaseContext, duplicateCandidateIndex);
         annotationCache = new FileAnnotationCache(bibDatabaseContext, preferences.getFilePreferences());
         importHandler = new ImportHandler(
                 bibDatabaseContext,
@@ -291,7 +305,10 @@ public class LibraryTab extends Tab {
     }
 
     public void createIndexManager() {
-        indexManager = new IndexManager(bibDatabaseContext, taskExecutor, preferences, Injector.instantiateModelOrService(PostgreServer.class));
+        PostgreServer postgreServer = Injector.instantiateModelOrService(BibFieldsSearchBackend.class) == BibFieldsSearchBackend.POSTGRES
+                                      ? Injector.instantiateModelOrService(PostgreServer.class)
+                                      : null;
+        indexManager = new IndexManager(bibDatabaseContext, taskExecutor, preferences, postgreServer);
         stateManager.setIndexManager(bibDatabaseContext, indexManager);
     }
 
@@ -697,6 +714,16 @@ public class LibraryTab extends Tab {
             tableModel.unbind();
         }
 
+        if (citationStyleCache != null) {
+            citationStyleCache.close();
+            stateManager.removeCitationStyleCache(bibDatabaseContext);
+        }
+
+        if (duplicateCandidateIndex != null) {
+            duplicateCandidateIndex.close();
+            stateManager.removeDuplicateCandidateIndex(bibDatabaseContext);
+        }
+
         // clean up the groups map
         stateManager.clearSelectedGroups(bibDatabaseContext);
     }
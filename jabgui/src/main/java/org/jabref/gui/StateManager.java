@@ -31,6 +31,8 @@ import org.jabref.gui.sidepane.SidePaneType;
 import org.jabref.gui.util.CustomLocalDragboard;
 import org.jabref.gui.util.DialogWindowState;
 import org.jabref.gui.util.OptionalObjectProperty;
+import org.jabref.logic.citationstyle.CitationStyleCache;
+import org.jabref.logic.database.DuplicateCandidateIndex;
 import org.jabref.logic.search.IndexManager;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.model.database.BibDatabaseContext;
@@ -66,6 +68,8 @@ public class StateManager {
     private final ObservableList<BibEntry> selectedEntries = FXCollections.observableArrayList();
     private final ObservableMap<String, ObservableList<GroupTreeNode>> selectedGroups = FXCollections.observableHashMap();
     private final ObservableMap<String, IndexManager> indexManagers = FXCollections.observableHashMap();
+    private final ObservableMap<String, CitationStyleCache> citationStyleCaches = FXCollections.observableHashMap();
+    private final ObservableMap<String, DuplicateCandidateIndex> duplicateCandidateIndexes = FXCollections.observableHashMap();
     private final OptionalObjectProperty<SearchQuery> activeSearchQuery = OptionalObjectProperty.empty();
     private final OptionalObjectProperty<SearchQuery> activeGlobalSearchQuery = OptionalObjectProperty.empty();
     private final StringProperty searchQueryProperty = new SimpleStringProperty();
@@ -146,6 +150,30 @@ public class StateManager {
         return Optional.ofNullable(indexManagers.get(database.getUid()));
     }
 
+    public void setCitationStyleCache(BibDatabaseContext database, CitationStyleCache citationStyleCache) {
+        citationStyleCaches.put(database.getUid(), citationStyleCache);
+    }
+
+    public void removeCitationStyleCache(BibDatabaseContext database) {
+        citationStyleCaches.remove(database.getUid());
+    }
+
+    public Optional<CitationStyleCache> getCitationStyleCache(BibDatabaseContext database) {
+        return Optional.ofNullable(citationStyleCaches.get(database.getUid()));
+    }
+
+    public void setDuplicateCandidateIndex(BibDatabaseContext database, DuplicateCandidateIndex duplicateCandidateIndex) {
+        duplicateCandidateIndexes.put(database.getUid(), duplicateCandidateIndex);
+    }
+
+    public void removeDuplicateCandidateIndex(BibDatabaseContext database) {
+        duplicateCandidateIndexes.remove(database.getUid());
+    }
+
+    public Optional<DuplicateCandidateIndex> getDuplicateCandidateIndex(BibDatabaseContext database) {
+        return Optional.ofNullable(duplicateCandidateIndexes.get(database.getUid()));
+    }
+
     public Optional<BibDatabaseContext> getActiveDatabase() {
         return activeDatabase.get();
     }
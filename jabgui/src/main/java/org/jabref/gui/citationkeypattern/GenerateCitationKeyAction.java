@@ -113,25 +113,26 @@ public class GenerateCitationKeyAction extends SimpleCommand {
                         return null;
                     }
                 UiTaskExecutor.runInJavaFXThread(() -> {
-                        updateProgress(0, entries.size());
+                        updateProgress(0, 2 * entries.size());
                         messageProperty().set(Localization.lang("%0/%1 entries", 0, entries.size()));
                     });
                     stateManager.getActiveDatabase().ifPresent(databaseContext -> {
-                        // generate the new citation keys for each entry
+                        // generate the new citation keys for all entries at once, which expands the patterns in parallel
                         compound = new NamedCompound(Localization.lang("Autogenerate citation keys"));
                         CitationKeyGenerator keyGenerator =
                                 new CitationKeyGenerator(databaseContext, preferences.getCitationKeyPatternPreferences());
-                        int entriesDone = 0;
-                        for (BibEntry entry : entries) {
-                            keyGenerator.generateAndSetKey(entry)
-                                        .ifPresent(fieldChange -> compound.addEdit(new UndoableKeyChange(fieldChange)));
-                            entriesDone++;
-                            int finalEntriesDone = entriesDone;
-                            UiTaskExecutor.runInJavaFXThread(() -> {
-                                updateProgress(finalEntriesDone, entries.size());
-                                messageProperty().set(Localization.lang("%0/%1 entries", finalEntriesDone, entries.size()));
-                            });
-                        }
+                        // Each entry takes two steps; the progress is shown in steps of one percent
+                        int steps = 2 * entries.size();
+                        int reportingInterval = Math.max(1, steps / 100);
+                        keyGenerator.generateAndSetKeys(List.copyOf(entries), stepsDone -> {
+                                        if ((stepsDone % reportingInterval == 0) || (stepsDone == steps)) {
+                                            UiTaskExecutor.runInJavaFXThread(() -> {
+                                                updateProgress(stepsDone, steps);
+                                                messageProperty().set(Localization.lang("%0/%1 entries", stepsDone / 2, entries.size()));
+                                            });
+                                        }
+                                    })
+                                    .forEach(fieldChange -> compound.addEdit(new UndoableKeyChange(fieldChange)));
                         compound.end();
                     });
                     return null;
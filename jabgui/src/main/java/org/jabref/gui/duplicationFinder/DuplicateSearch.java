@@ -1,15 +1,13 @@
 package org.jabref.gui.duplicationFinder;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import javafx.beans.binding.Bindings;
@@ -27,13 +25,13 @@ import org.jabref.gui.undo.NamedCompound;
 import org.jabref.gui.undo.UndoableInsertEntries;
 import org.jabref.gui.undo.UndoableRemoveEntries;
 import org.jabref.gui.util.UiTaskExecutor;
+import org.jabref.logic.database.DuplicateCandidateIndex;
 import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.database.DuplicateScan;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
-import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 
@@ -42,12 +40,9 @@ import static org.jabref.gui.actions.ActionHelper.needsDatabase;
 public class DuplicateSearch extends SimpleCommand {
 
     private final Supplier<LibraryTab> tabSupplier;
-    private final BlockingQueue<List<BibEntry>> duplicates = new LinkedBlockingQueue<>();
 
-    private final AtomicBoolean libraryAnalyzed = new AtomicBoolean();
     private final AtomicBoolean autoRemoveExactDuplicates = new AtomicBoolean();
-    private final AtomicInteger duplicateCount = new AtomicInteger();
-    private final SimpleStringProperty duplicateCountObservable = new SimpleStringProperty();
+    private final AtomicReference<DuplicateScan> duplicateScan = new AtomicReference<>();
     private final SimpleStringProperty duplicateTotal = new SimpleStringProperty();
     private final SimpleIntegerProperty duplicateProgress = new SimpleIntegerProperty(0);
     private final DialogService dialogService;
@@ -79,66 +74,48 @@ public class DuplicateSearch extends SimpleCommand {
         dialogService.notify(Localization.lang("Searching for duplicates..."));
 
         List<BibEntry> entries = database.getEntries();
-        duplicates.clear();
-        libraryAnalyzed.set(false);
         autoRemoveExactDuplicates.set(false);
-        duplicateCount.set(0);
 
         if (entries.size() < 2) {
             return;
         }
 
-        duplicateCountObservable.addListener((obj, oldValue, newValue) -> UiTaskExecutor.runAndWaitInJavaFXThread(() -> duplicateTotal.set(newValue)));
+        // The scan streams the found duplicates into a bounded queue, which is drained by verifyDuplicates while the user resolves them
+        DuplicateScan scan = new DuplicateScan(new DuplicateCheck(entryTypesManager), database.getMode())
+                .start(stateManager.getDuplicateCandidateIndex(database).orElseGet(() -> DuplicateCandidateIndex.of(entries)), entries);
+        Optional.ofNullable(duplicateScan.getAndSet(scan)).ifPresent(DuplicateScan::cancel);
 
-        HeadlessExecutorService.INSTANCE.executeInterruptableTask(() -> searchPossibleDuplicates(entries, database.getMode()), "DuplicateSearcher");
-        BackgroundTask.wrap(this::verifyDuplicates)
+        BackgroundTask.wrap(() -> verifyDuplicates(scan))
                       .onSuccess(this::handleDuplicates)
                       .executeWith(taskExecutor);
     }
 
-    private void searchPossibleDuplicates(List<BibEntry> entries, BibDatabaseMode databaseMode) {
-        for (int i = 0; i < (entries.size() - 1); i++) {
-            for (int j = i + 1; j < entries.size(); j++) {
-                if (Thread.interrupted()) {
-                    return;
-                }
-
-                BibEntry first = entries.get(i);
-                BibEntry second = entries.get(j);
-
-                if (new DuplicateCheck(entryTypesManager).isDuplicate(first, second, databaseMode)) {
-                    duplicates.add(Arrays.asList(first, second));
-                    duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
-                }
-            }
-        }
-        libraryAnalyzed.set(true);
-    }
-
-    private DuplicateSearchResult verifyDuplicates() {
+    private DuplicateSearchResult verifyDuplicates(DuplicateScan scan) {
         DuplicateSearchResult result = new DuplicateSearchResult();
 
-        while (!libraryAnalyzed.get() || !duplicates.isEmpty()) {
-            duplicateProgress.set(duplicateProgress.getValue() + 1);
-
-            List<BibEntry> dups;
+        while (scan.hasMoreResults()) {
+            Optional<DuplicateScan.Result> duplicate;
             try {
                 // poll with timeout in case the library is not analyzed completely, but contains no more duplicates
-                dups = this.duplicates.poll(100, TimeUnit.MILLISECONDS);
-                if (dups == null) {
-                    continue;
-                }
+                duplicate = scan.poll(100, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
+                scan.cancel();
                 return null;
             }
+            if (duplicate.isEmpty()) {
+                continue;
+            }
+            duplicateProgress.set(duplicateProgress.getValue() + 1);
+            String foundDuplicates = String.valueOf(scan.getFoundDuplicates());
+            UiTaskExecutor.runInJavaFXThread(() -> duplicateTotal.set(foundDuplicates));
 
-            BibEntry first = dups.getFirst();
-            BibEntry second = dups.get(1);
+            BibEntry first = duplicate.get().first();
+            BibEntry second = duplicate.get().second();
 
             if (!result.isToRemove(first) && !result.isToRemove(second)) {
                 // Check if they are exact duplicates:
                 boolean askAboutExact = false;
-                if (DuplicateCheck.compareEntriesStrictly(first, second) > 1) {
+                if (duplicate.get().score() > 1) {
                     if (autoRemoveExactDuplicates.get()) {
                         result.remove(second);
                         continue;
@@ -148,14 +125,14 @@ public class DuplicateSearch extends SimpleCommand {
 
                 DuplicateResolverType resolverType = askAboutExact ? DuplicateResolverType.DUPLICATE_SEARCH_WITH_EXACT : DuplicateResolverType.DUPLICATE_SEARCH;
 
-                UiTaskExecutor.runAndWaitInJavaFXThread(() -> askResolveStrategy(result, first, second, resolverType));
+                UiTaskExecutor.runAndWaitInJavaFXThread(() -> askResolveStrategy(scan, result, first, second, resolverType));
             }
         }
 
         return result;
     }
 
-    private void askResolveStrategy(DuplicateSearchResult result, BibEntry first, BibEntry second, DuplicateResolverType resolverType) {
+    private void askResolveStrategy(DuplicateScan scan, DuplicateSearchResult result, BibEntry first, BibEntry second, DuplicateResolverType resolverType) {
         DuplicateResolverDialog dialog = new DuplicateResolverDialog(first, second, resolverType, stateManager, dialogService, preferences);
 
         dialog.titleProperty().bind(Bindings.concat(dialog.getTitle()).concat(" (").concat(duplicateProgress.getValue()).concat("/").concat(duplicateTotal).concat(")"));
@@ -174,8 +151,7 @@ public class DuplicateSearch extends SimpleCommand {
             result.remove(first);
             result.replace(second, dialog.getNewRightEntry());
         } else if (resolverResult == DuplicateResolverResult.BREAK) {
-            libraryAnalyzed.set(true);
-            duplicates.clear();
+            scan.cancel();
         } else if (resolverResult == DuplicateResolverResult.KEEP_MERGE) {
             result.replace(first, second, dialog.getMergedEntry());
         } else if (resolverResult == DuplicateResolverResult.KEEP_BOTH) {
@@ -206,7 +182,8 @@ public class DuplicateSearch extends SimpleCommand {
 
         duplicateProgress.set(0);
 
-        dialogService.notify(Localization.lang("Duplicates found") + ": " + duplicateCount.get() + ' '
+        int foundDuplicates = Optional.ofNullable(duplicateScan.get()).map(DuplicateScan::getFoundDuplicates).orElse(0);
+        dialogService.notify(Localization.lang("Duplicates found") + ": " + foundDuplicates + ' '
                 + Localization.lang("pairs processed") + ": " + result.getDuplicateCount());
         compoundEdit.end();
         libraryTab.getUndoManager().addEdit(compoundEdit);
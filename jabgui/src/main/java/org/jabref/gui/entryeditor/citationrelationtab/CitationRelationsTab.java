@@ -50,6 +50,7 @@ import org.jabref.logic.bibtex.BibEntryWriter;
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.logic.citation.SearchCitationsRelationsService;
+import org.jabref.logic.database.DuplicateCandidateIndex;
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.importer.fetcher.citation.CitationFetcher;
@@ -510,14 +511,19 @@ public class CitationRelationsTab extends EntryEditorTab {
                                              ObservableList<CitationRelationItem> observableList) {
         hideNodes(abortButton, progress);
 
-        BibDatabase database = stateManager.getActiveDatabase().map(BibDatabaseContext::getDatabase)
-                                           .orElse(new BibDatabase());
+        Optional<BibDatabaseContext> activeDatabase = stateManager.getActiveDatabase();
+        BibDatabase database = activeDatabase.map(BibDatabaseContext::getDatabase)
+                                             .orElse(new BibDatabase());
+        BibDatabaseMode databaseMode = BibDatabaseModeDetection.inferMode(database);
+        DuplicateCandidateIndex candidateIndex = activeDatabase.flatMap(stateManager::getDuplicateCandidateIndex)
+                                                               .orElseGet(() -> DuplicateCandidateIndex.of(database.getEntries()));
         observableList.setAll(
                 fetchedList.stream().map(entr ->
-                                   duplicateCheck.containsDuplicate(
+                                   candidateIndex.findDuplicate(
                                                          database,
                                                          entr,
-                                                         BibDatabaseModeDetection.inferMode(database))
+                                                         databaseMode,
+                                                         duplicateCheck)
                                                  .map(localEntry -> new CitationRelationItem(entr, localEntry, true))
                                                  .orElseGet(() -> new CitationRelationItem(entr, false)))
                            .toList()
@@ -284,8 +284,11 @@ public class ImportHandler {
     }
 
     public Optional<BibEntry> findDuplicate(BibDatabaseContext bibDatabaseContext, BibEntry entryToCheck) {
-        return new DuplicateCheck(Injector.instantiateModelOrService(BibEntryTypesManager.class))
-                .containsDuplicate(bibDatabaseContext.getDatabase(), entryToCheck, bibDatabaseContext.getMode());
+        DuplicateCheck duplicateCheck = new DuplicateCheck(Injector.instantiateModelOrService(BibEntryTypesManager.class));
+        // The index is owned by the library tab. Libraries without a tab are compared with all entries.
+        return stateManager.getDuplicateCandidateIndex(bibDatabaseContext)
+                           .map(index -> index.findDuplicate(bibDatabaseContext.getDatabase(), entryToCheck, bibDatabaseContext.getMode(), duplicateCheck))
+                           .orElseGet(() -> duplicateCheck.containsDuplicate(bibDatabaseContext.getDatabase(), entryToCheck, bibDatabaseContext.getMode()));
     }
 
     public Optional<BibEntry> handleDuplicates(BibDatabaseContext bibDatabaseContext, BibEntry originalEntry, BibEntry duplicateEntry, DuplicateResolverDialog.DuplicateResolverResult decision) {
@@ -1,6 +1,5 @@
 package org.jabref.gui.frame;
 
-import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -284,16 +283,17 @@ public class JabRefFrameViewModel implements UiMessageHandler {
     }
 
     private void appendToCurrentLibrary(List<Path> libraries) {
-        List<ParserResult> parserResults = new ArrayList<>();
+        List<ParserResult> parserResults;
         try {
-            for (Path file : libraries) {
-                parserResults.add(OpenDatabase.loadDatabase(
-                        file,
-                        preferences.getImportFormatPreferences(),
-                        fileUpdateMonitor));
-            }
-        } catch (IOException e) {
-            LOGGER.error("Could not open bib file {}", libraries, e);
+            parserResults = new ArrayList<>(OpenDatabase.loadDatabases(
+                    libraries,
+                    preferences.getImportFormatPreferences(),
+                    fileUpdateMonitor,
+                    OpenDatabaseAction.getLibraryLoadingBudget(preferences),
+                    (file, _) -> LOGGER.debug("Loaded {}", file)));
+        } catch (InterruptedException e) {
+            LOGGER.error("Interrupted while opening bib files {}", libraries, e);
+            Thread.currentThread().interrupt();
             return;
         }
 
@@ -9,13 +9,13 @@ import javafx.beans.InvalidationListener;
 import javafx.beans.WeakInvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.BooleanBinding;
-import javafx.beans.binding.IntegerBinding;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.ObservableSet;
 import javafx.scene.input.Dragboard;
 import javafx.scene.paint.Color;
 
@@ -48,6 +48,7 @@ import org.jabref.model.groups.RegexKeywordGroup;
 import org.jabref.model.groups.SearchGroup;
 import org.jabref.model.groups.SmartGroup;
 import org.jabref.model.groups.TexGroup;
+import org.jabref.model.groups.event.GroupMembershipChangedEvent;
 import org.jabref.model.search.event.IndexAddedOrUpdatedEvent;
 import org.jabref.model.search.event.IndexClosedEvent;
 import org.jabref.model.search.event.IndexRemovedEvent;
@@ -57,7 +58,6 @@ import org.jabref.model.strings.StringUtil;
 import com.google.common.eventbus.Subscribe;
 import com.tobiasdiez.easybind.EasyBind;
 import com.tobiasdiez.easybind.EasyObservableList;
-import io.github.adr.linked.ADR;
 
 public class GroupNodeViewModel {
 
@@ -67,8 +67,7 @@ public class GroupNodeViewModel {
     private final BibDatabaseContext databaseContext;
     private final StateManager stateManager;
     private final GroupTreeNode groupNode;
-    @ADR(38)
-    private final ObservableSet<String> matchedEntries = FXCollections.observableSet();
+    private final SimpleIntegerProperty hits = new SimpleIntegerProperty();
     private final SimpleBooleanProperty hasChildren;
     private final SimpleBooleanProperty expandedProperty = new SimpleBooleanProperty();
     private final BooleanBinding anySelectedEntriesMatched;
@@ -77,9 +76,9 @@ public class GroupNodeViewModel {
     private final CustomLocalDragboard localDragBoard;
     private final GuiPreferences preferences;
     @SuppressWarnings("FieldCanBeLocal")
-    private final ObservableList<BibEntry> entriesList;
-    @SuppressWarnings("FieldCanBeLocal")
     private final InvalidationListener onInvalidatedGroup = _ -> refreshGroup();
+    private final SearchIndexListener searchIndexListener = new SearchIndexListener();
+    private final GroupMembershipListener groupMembershipListener = new GroupMembershipListener();
 
     public GroupNodeViewModel(BibDatabaseContext databaseContext, StateManager stateManager, TaskExecutor taskExecutor, GroupTreeNode groupNode, CustomLocalDragboard localDragBoard, GuiPreferences preferences) {
         this.databaseContext = Objects.requireNonNull(databaseContext);
@@ -116,17 +115,19 @@ public class GroupNodeViewModel {
         expandedProperty.set(groupNode.getGroup().isExpanded());
         expandedProperty.addListener((_, _, newValue) -> groupNode.getGroup().setExpanded(newValue));
 
-        // Register listener
-        // The wrapper created by the FXCollections will set a weak listener on the wrapped list. This weak listener gets garbage collected. Hence, we need to maintain a reference to this list.
-        entriesList = databaseContext.getDatabase().getEntries();
-        entriesList.addListener(this::onDatabaseChanged);
-
         EasyObservableList<Boolean> selectedEntriesMatchStatus = EasyBind.map(stateManager.getSelectedEntries(), groupNode::matches);
         anySelectedEntriesMatched = selectedEntriesMatchStatus.anyMatch(matched -> matched);
         // 'all' returns 'true' for empty streams, so this has to be checked explicitly
         allSelectedEntriesMatched = selectedEntriesMatchStatus.isEmptyBinding().not().and(selectedEntriesMatchStatus.allMatch(matched -> matched));
 
-        this.databaseContext.getDatabase().registerListener(new SearchIndexListener());
+        this.databaseContext.getDatabase().registerListener(searchIndexListener);
+        this.databaseContext.getDatabase().registerListener(groupMembershipListener);
+        // Subgroups removed from the tree are not shown anymore
+        children.addListener((ListChangeListener<GroupNodeViewModel>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(GroupNodeViewModel::dispose);
+            }
+        });
     }
 
     public GroupNodeViewModel(BibDatabaseContext databaseContext, StateManager stateManager, TaskExecutor taskExecutor, AbstractGroup group, CustomLocalDragboard localDragboard, GuiPreferences preferences) {
@@ -192,8 +193,8 @@ public class GroupNodeViewModel {
         return groupNode.getGroup().getDescription().orElse("");
     }
 
-    public IntegerBinding getHits() {
-        return Bindings.size(matchedEntries);
+    public ReadOnlyIntegerProperty getHits() {
+        return hits;
     }
 
     @Override
@@ -219,7 +220,7 @@ public class GroupNodeViewModel {
                 ", children=" + children +
                 ", databaseContext=" + databaseContext +
                 ", groupNode=" + groupNode +
-                ", matchedEntries=" + matchedEntries +
+                ", hits=" + hits.get() +
                 '}';
     }
 
@@ -252,45 +253,18 @@ public class GroupNodeViewModel {
     }
 
     /**
-     * Gets invoked if an entry in the current database changes.
-     *
-     * @implNote Search groups are updated in {@link SearchIndexListener}.
+     * Stops listening to changes of the library for this node and its subgroups. To be called once the node is not shown anymore, e.g., when the group tree is rebuilt.
      */
-    private void onDatabaseChanged(ListChangeListener.Change<? extends BibEntry> change) {
-        if (groupNode.getGroup() instanceof SearchGroup) {
-            return;
-        }
-        while (change.next()) {
-            if (change.wasPermutated()) {
-                // Nothing to do, as permutation doesn't change matched entries
-            } else if (change.wasUpdated()) {
-                for (BibEntry changedEntry : change.getList().subList(change.getFrom(), change.getTo())) {
-                    if (groupNode.matches(changedEntry)) {
-                        // ADR-0038
-                        matchedEntries.add(changedEntry.getId());
-                    } else {
-                        // ADR-0038
-                        matchedEntries.remove(changedEntry.getId());
-                    }
-                }
-            } else {
-                for (BibEntry removedEntry : change.getRemoved()) {
-                    // ADR-0038
-                    matchedEntries.remove(removedEntry.getId());
-                }
-                for (BibEntry addedEntry : change.getAddedSubList()) {
-                    if (groupNode.matches(addedEntry)) {
-                        // ADR-0038
-                        matchedEntries.add(addedEntry.getId());
-                    }
-                }
-            }
-        }
+    public void dispose() {
+        databaseContext.getDatabase().unregisterListener(searchIndexListener);
+        databaseContext.getDatabase().unregisterListener(groupMembershipListener);
+        children.forEach(GroupNodeViewModel::dispose);
     }
 
     private void refreshGroup() {
         UiTaskExecutor.runInJavaFXThread(() -> {
-            updateMatchedEntries(); // Update the entries matched by the group
+            // The content of the group is determined again. The index announces the change, which updates the counts of this group and all groups depending on it (see GroupMembershipListener).
+            databaseContext.getGroupMembershipIndex().invalidateGroup(groupNode.getGroup());
             // "Re-add" to the selected groups if it were selected, this refreshes the entries the user views
             ObservableList<GroupTreeNode> selectedGroups = this.stateManager.getSelectedGroups(this.databaseContext);
             if (selectedGroups.remove(this.groupNode)) {
@@ -300,17 +274,11 @@ public class GroupNodeViewModel {
     }
 
     private void updateMatchedEntries() {
-        // We calculate the new hit value
-        // We could be more intelligent and try to figure out the new number of hits based on the entry change
-        // for example, a previously matched entry gets removed -> hits = hits - 1
+        // The index keeps the content of each group, thus only determining the content of a group for the first time takes long
         if (preferences.getGroupsPreferences().shouldDisplayGroupCount()) {
             BackgroundTask
-                    .wrap(() -> groupNode.findMatches(databaseContext.getDatabase()))
-                    .onSuccess(entries -> {
-                        matchedEntries.clear();
-                        // ADR-0038
-                        entries.forEach(entry -> matchedEntries.add(entry.getId()));
-                    })
+                    .wrap(() -> databaseContext.getGroupMembershipIndex().getMatchCount(groupNode))
+                    .onSuccess(hits::set)
                     .executeWith(taskExecutor);
         }
     }
@@ -528,7 +496,8 @@ public class GroupNodeViewModel {
     class SearchIndexListener {
         @Subscribe
         public void listen(IndexStartedEvent event) {
-            if (groupNode.getGroup() instanceof SearchGroup searchGroup) {
+            // Partially built indexes are reported from a background thread; the group is refreshed once the index is complete
+            if (event.isComplete() && groupNode.getGroup() instanceof SearchGroup searchGroup) {
                 stateManager.getIndexManager(databaseContext).ifPresent(indexManager -> {
                     searchGroup.setMatchedEntries(indexManager.search(searchGroup.getSearchQuery()).getMatchedEntries());
                     refreshGroup();
@@ -544,14 +513,7 @@ public class GroupNodeViewModel {
                     for (BibEntry entry : event.entries()) {
                         searchGroup.updateMatches(entry, indexManager.isEntryMatched(entry, searchGroup.getSearchQuery()));
                     }
-                }).onFinished(() -> {
-                    for (BibEntry entry : event.entries()) {
-                        if (groupNode.matches(entry)) {
-                            matchedEntries.add(entry.getId());
-                        } else {
-                            matchedEntries.remove(entry.getId());
-                        }
-                    }
+                    databaseContext.getGroupMembershipIndex().updateGroup(searchGroup, event.entries());
                 }).executeWith(taskExecutor));
             }
         }
@@ -561,7 +523,6 @@ public class GroupNodeViewModel {
             if (groupNode.getGroup() instanceof SearchGroup searchGroup) {
                 for (BibEntry entry : event.entries()) {
                     searchGroup.updateMatches(entry, false);
-                    matchedEntries.remove(entry.getId());
                 }
             }
         }
@@ -573,4 +534,13 @@ public class GroupNodeViewModel {
             }
         }
     }
+
+    class GroupMembershipListener {
+        @Subscribe
+        public void listen(GroupMembershipChangedEvent event) {
+            if (databaseContext.getGroupMembershipIndex().dependsOnAny(groupNode, event.groups())) {
+                updateMatchedEntries();
+            }
+        }
+    }
 }
@@ -159,6 +159,8 @@ public class GroupTreeViewModel extends AbstractViewModel {
      * We need to get the new group tree and update the view
      */
     private void onActiveDatabaseChanged(Optional<BibDatabaseContext> newDatabase) {
+        // The tree is rebuilt, thus the nodes of the previous tree need not be updated anymore
+        Optional.ofNullable(rootGroup.get()).ifPresent(GroupNodeViewModel::dispose);
         if (newDatabase.isPresent()) {
             GroupNodeViewModel newRoot = newDatabase
                     .map(BibDatabaseContext::getMetaData)
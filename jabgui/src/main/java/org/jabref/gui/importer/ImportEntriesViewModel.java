@@ -115,9 +115,15 @@ public class ImportEntriesViewModel extends AbstractViewModel {
     }
 
     public boolean hasDuplicate(BibEntry entry) {
-        return findInternalDuplicate(entry).isPresent() ||
-                new DuplicateCheck(entryTypesManager)
-                .containsDuplicate(selectedDb.getValue().getDatabase(), entry, selectedDb.getValue().getMode()).isPresent();
+        if (findInternalDuplicate(entry).isPresent()) {
+            return true;
+        }
+        BibDatabaseContext targetContext = selectedDb.getValue();
+        DuplicateCheck duplicateCheck = new DuplicateCheck(entryTypesManager);
+        return stateManager.getDuplicateCandidateIndex(targetContext)
+                           .map(index -> index.findDuplicate(targetContext.getDatabase(), entry, targetContext.getMode(), duplicateCheck))
+                           .orElseGet(() -> duplicateCheck.containsDuplicate(targetContext.getDatabase(), entry, targetContext.getMode()))
+                           .isPresent();
     }
 
     public String getSourceString(BibEntry entry) {
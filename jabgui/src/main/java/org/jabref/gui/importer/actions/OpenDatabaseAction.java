@@ -26,6 +26,7 @@ import org.jabref.gui.undo.CountingUndoManager;
 import org.jabref.gui.util.FileDialogConfiguration;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.ai.AiService;
+import org.jabref.logic.importer.LibraryLoadingBudget;
 import org.jabref.logic.importer.OpenDatabase;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.l10n.Localization;
@@ -61,6 +62,9 @@ public class OpenDatabaseAction extends SimpleCommand {
             // Migrate search groups fielded terms to use the new operators (RegEx, case sensitive)
             new SearchGroupsMigrationAction());
 
+    // Shared by all windows, so that all libraries opened at the same time (e.g., the ones of the last session) are loaded within one budget
+    private static LibraryLoadingBudget libraryLoadingBudget;
+
     private final LibraryTabContainer tabContainer;
     private final GuiPreferences preferences;
     private final AiService aiService;
@@ -102,6 +106,13 @@ public class OpenDatabaseAction extends SimpleCommand {
         }
     }
 
+    public static synchronized LibraryLoadingBudget getLibraryLoadingBudget(CliPreferences preferences) {
+        if (libraryLoadingBudget == null) {
+            libraryLoadingBudget = LibraryLoadingBudget.fromPreferences(preferences.getImporterPreferences());
+        }
+        return libraryLoadingBudget;
+    }
+
     @Override
     public void execute() {
         List<Path> filesToOpen = getFilesToOpen();
@@ -264,9 +275,11 @@ public class OpenDatabaseAction extends SimpleCommand {
         try {
             if (parserResult == null) {
                 // No backup was restored, do the "normal" loading
+                // Each library is loaded in its own task, the budget limits how many of them are parsed at the same time
                 parserResult = OpenDatabase.loadDatabase(fileToLoad,
                         preferences.getImportFormatPreferences(),
-                        fileUpdateMonitor);
+                        fileUpdateMonitor,
+                        getLibraryLoadingBudget(preferences));
             }
 
             if (parserResult.hasWarnings()) {
@@ -278,6 +291,10 @@ public class OpenDatabaseAction extends SimpleCommand {
         } catch (IOException e) {
             parserResult = ParserResult.fromError(e);
             LOGGER.error("Error opening file '{}'", fileToLoad, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            parserResult = ParserResult.fromError(e);
+            LOGGER.debug("Opening file '{}' was interrupted", fileToLoad, e);
         }
 
         if (parserResult.getDatabase().isShared()) {
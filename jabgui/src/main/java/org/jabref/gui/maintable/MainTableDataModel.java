@@ -245,6 +245,10 @@ public class MainTableDataModel {
 
         @Subscribe
         public void listen(IndexStartedEvent indexStartedEvent) {
+            // While the index is being built, the matches only need to be updated for an active search
+            if (!indexStartedEvent.isComplete() && searchQueryProperty.get().isEmpty()) {
+                return;
+            }
             updateSearchMatches(searchQueryProperty.get());
         }
     }
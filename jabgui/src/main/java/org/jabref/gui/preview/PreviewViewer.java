@@ -6,6 +6,7 @@ import java.io.StringWriter;
 import java.net.MalformedURLException;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
@@ -27,6 +28,7 @@ import org.jabref.gui.search.Highlighter;
 import org.jabref.gui.theme.ThemeManager;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.gui.util.WebViewStore;
+import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.format.Number;
 import org.jabref.logic.preview.PreviewLayout;
@@ -77,6 +79,7 @@ public class PreviewViewer extends ScrollPane implements InvalidationListener {
         """;
 
     private final ClipBoardManager clipBoardManager;
+    private final StateManager stateManager;
     private final DialogService dialogService;
     private final TaskExecutor taskExecutor;
     private final WebView previewView;
@@ -102,6 +105,7 @@ public class PreviewViewer extends ScrollPane implements InvalidationListener {
                          StringProperty searchQueryProperty) {
         this.dialogService = dialogService;
         this.clipBoardManager = Injector.instantiateModelOrService(ClipBoardManager.class);
+        this.stateManager = Injector.instantiateModelOrService(StateManager.class);
         this.taskExecutor = taskExecutor;
         this.preferences = preferences;
         this.searchQueryProperty = searchQueryProperty;
@@ -202,8 +206,13 @@ public class PreviewViewer extends ScrollPane implements InvalidationListener {
 
         Number.serialExportNumber = 1;
         BibEntry currentEntry = entry;
+        PreviewLayout currentLayout = layout;
+        BibDatabaseContext currentDatabaseContext = databaseContext;
+        // The cache of an open library keeps the previews in CSL styles across restarts
+        Optional<CitationStyleCache> citationStyleCache = stateManager.getCitationStyleCache(currentDatabaseContext);
 
-        BackgroundTask.wrap(() -> layout.generatePreview(currentEntry, databaseContext))
+        BackgroundTask.wrap(() -> citationStyleCache.map(cache -> cache.getCitationFor(currentEntry, currentLayout))
+                                                    .orElseGet(() -> currentLayout.generatePreview(currentEntry, currentDatabaseContext)))
                       .onSuccess(this::setPreviewText)
                       .onFailure(e -> setPreviewText(formatError(currentEntry, e)))
                       .executeWith(taskExecutor);
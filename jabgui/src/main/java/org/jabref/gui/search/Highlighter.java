@@ -9,10 +9,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.jabref.logic.search.PostgreServer;
 import org.jabref.logic.search.query.SearchQueryConversion;
 import org.jabref.model.entry.field.Field;
+import org.jabref.model.search.BibFieldsSearchBackend;
 import org.jabref.model.search.PostgreConstants;
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchQueryNode;
@@ -36,6 +40,7 @@ public class Highlighter {
      */
     private static final String REGEXP_MARK = "SELECT regexp_mark(?, ?)";
     private static final String REGEXP_POSITIONS = "SELECT * FROM regexp_positions(?, ?)";
+    private static final String MARK_REPLACEMENT = "<mark style=\"background: orange\">$1</mark>";
     private static Connection connection;
 
     public static String highlightHtml(String htmlText, SearchQuery searchQuery) {
@@ -67,6 +72,10 @@ public class Highlighter {
     }
 
     private static String highlightNode(String text, String searchPattern) {
+        if (!isPostgresAvailable()) {
+            return compilePattern(searchPattern).map(pattern -> pattern.matcher(text).replaceAll(MARK_REPLACEMENT))
+                                                .orElse(text);
+        }
         if (connection == null) {
             connection = Injector.instantiateModelOrService(PostgreServer.class).getConnection();
         }
@@ -87,6 +96,17 @@ public class Highlighter {
     }
 
     public static List<Range> findMatchPositions(String text, String pattern) {
+        if (!isPostgresAvailable()) {
+            return compilePattern(pattern).map(compiledPattern -> {
+                List<Range> positions = new ArrayList<>();
+                Matcher matcher = compiledPattern.matcher(text);
+                while (matcher.find()) {
+                    // Same as regexp_positions: one-based, end inclusive
+                    positions.add(new Range(matcher.start() + 1, matcher.end()));
+                }
+                return positions;
+            }).orElse(List.of());
+        }
         if (connection == null) {
             connection = Injector.instantiateModelOrService(PostgreServer.class).getConnection();
         }
@@ -108,6 +128,25 @@ public class Highlighter {
         return List.of();
     }
 
+    /**
+     * If the bib fields are indexed in memory, no Postgres server is running. Then, the highlighting functions of Postgres are mimicked using Java regular expressions.
+     */
+    private static boolean isPostgresAvailable() {
+        return Injector.instantiateModelOrService(BibFieldsSearchBackend.class) == BibFieldsSearchBackend.POSTGRES;
+    }
+
+    /**
+     * Compiles the pattern the same way as the Postgres functions: as a group, case-insensitive
+     */
+    private static Optional<Pattern> compilePattern(String searchPattern) {
+        try {
+            return Optional.of(Pattern.compile("(" + searchPattern + ")", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE));
+        } catch (PatternSyntaxException e) {
+            LOGGER.debug("Invalid search pattern {}", searchPattern, e);
+            return Optional.empty();
+        }
+    }
+
     public static Map<Optional<Field>, List<String>> groupTermsByField(SearchQuery searchQuery) {
         if (!searchQuery.isValid()) {
             return Map.of();
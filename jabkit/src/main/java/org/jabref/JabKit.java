@@ -77,15 +77,17 @@ public class JabKit {
             Injector.setModelOrService(FileUpdateMonitor.class, new DummyFileUpdateMonitor());
 
             // Process arguments
-            ArgumentProcessor argumentProcessor = new ArgumentProcessor(preferences, entryTypesManager);
-            CommandLine commandLine = new CommandLine(argumentProcessor);
-            String usageHeader = BuildInfo.JABREF_BANNER.formatted(new BuildInfo().version) + "\n" + JABKIT_BRAND;
-            commandLine.getCommandSpec().usageMessage().header(usageHeader);
-            applyUsageFooters(commandLine,
-                    ArgumentProcessor.getAvailableImportFormats(preferences),
-                    ArgumentProcessor.getAvailableExportFormats(preferences),
-                    WebFetchers.getSearchBasedFetchers(preferences.getImportFormatPreferences(), preferences.getImporterPreferences()));
-            int result = commandLine.execute(args);
+            int result;
+            try (ArgumentProcessor argumentProcessor = new ArgumentProcessor(preferences, entryTypesManager)) {
+                CommandLine commandLine = new CommandLine(argumentProcessor);
+                String usageHeader = BuildInfo.JABREF_BANNER.formatted(new BuildInfo().version) + "\n" + JABKIT_BRAND;
+                commandLine.getCommandSpec().usageMessage().header(usageHeader);
+                applyUsageFooters(commandLine,
+                        ArgumentProcessor.getAvailableImportFormats(preferences),
+                        ArgumentProcessor.getAvailableExportFormats(preferences),
+                        WebFetchers.getSearchBasedFetchers(preferences.getImportFormatPreferences(), preferences.getImporterPreferences()));
+                result = commandLine.execute(args);
+            }
             System.exit(result);
         } catch (Exception ex) {
             LOGGER.error("Unexpected exception", ex);
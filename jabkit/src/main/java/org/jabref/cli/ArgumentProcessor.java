@@ -4,8 +4,14 @@ import java.io.IOException;
 import java.net.MalformedURLException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javafx.util.Pair;
 
@@ -18,10 +24,12 @@ import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.ImportException;
 import org.jabref.logic.importer.ImportFormatReader;
+import org.jabref.logic.importer.LibraryLoadingBudget;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.os.OS;
+import org.jabref.logic.pdf.ExtractedTextCache;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.BuildInfo;
 import org.jabref.logic.util.io.FileUtil;
@@ -42,6 +50,7 @@ import static picocli.CommandLine.Option;
         // sorted alphabetically
         subcommands = {
                 CheckConsistency.class,
+                CheckDuplicates.class,
 //                CheckIntegrity.class,
                 Convert.class,
                 Fetch.class,
@@ -50,9 +59,10 @@ import static picocli.CommandLine.Option;
                 Pdf.class,
                 Preferences.class,
                 Pseudonymize.class,
-                Search.class
+                Search.class,
+                TextCache.class
         })
-public class ArgumentProcessor implements Runnable {
+public class ArgumentProcessor implements Runnable, AutoCloseable {
     private static final Logger LOGGER = LoggerFactory.getLogger(ArgumentProcessor.class);
 
     protected final CliPreferences cliPreferences;
@@ -74,6 +84,14 @@ public class ArgumentProcessor implements Runnable {
         System.out.printf(BuildInfo.JABREF_BANNER + "%n", new BuildInfo().version);
     }
 
+    /**
+     * Closes the resources shared by the commands, e.g., the {@link ExtractedTextCache} filled when indexing linked files
+     */
+    @Override
+    public void close() {
+        ExtractedTextCache.closeShared();
+    }
+
     /**
      * Reads URIs as input
      */
@@ -82,33 +100,95 @@ public class ArgumentProcessor implements Runnable {
                                                        CliPreferences cliPreferences,
                                                        boolean porcelain) {
         LOGGER.debug("Importing file {}", importArguments);
+        Optional<ParserResult> importResult = resolveFile(importArguments)
+                .flatMap(file -> importFile(file, importFormat, cliPreferences, porcelain));
+        importResult.ifPresent(ArgumentProcessor::printWarnings);
+        return importResult;
+    }
+
+    /**
+     * Imports several files (or URIs) concurrently. The number of files imported at the same time and the memory used for it are limited by the {@link LibraryLoadingBudget} configured in the preferences.
+     *
+     * @return the results in the order of the given files
+     */
+    protected static List<Optional<ParserResult>> importFiles(List<String> importArguments,
+                                                              String importFormat,
+                                                              CliPreferences cliPreferences,
+                                                              boolean porcelain) {
+        if (importArguments.size() == 1) {
+            return List.of(importFile(importArguments.getFirst(), importFormat, cliPreferences, porcelain));
+        }
+
+        LibraryLoadingBudget budget = LibraryLoadingBudget.fromPreferences(cliPreferences.getImporterPreferences());
+        AtomicInteger importedFiles = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(budget.getMaxConcurrentLoads(), importArguments.size()));
+        try {
+            List<Future<Optional<ParserResult>>> futures = importArguments
+                    .stream()
+                    .map(importArgument -> executor.submit(() -> {
+                        LOGGER.debug("Importing file {}", importArgument);
+                        Optional<ParserResult> importResult = Optional.empty();
+                        Optional<Path> file = resolveFile(importArgument);
+                        if (file.isPresent()) {
+                            try (LibraryLoadingBudget.Reservation _ = budget.reserve(file.get())) {
+                                importResult = importFile(file.get(), importFormat, cliPreferences, porcelain);
+                            }
+                        }
+                        importResult.ifPresent(ArgumentProcessor::printWarnings);
+                        if (!porcelain) {
+                            System.out.println(Localization.lang("Imported %0 of %1 files", importedFiles.incrementAndGet(), importArguments.size()));
+                        }
+                        return importResult;
+                    }))
+                    .toList();
+
+            List<Optional<ParserResult>> results = new ArrayList<>(futures.size());
+            for (Future<Optional<ParserResult>> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    LOGGER.error("Error importing file", e.getCause());
+                    results.add(Optional.empty());
+                }
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("Interrupted while importing files", e);
+            return importArguments.stream().map(_ -> Optional.<ParserResult>empty()).toList();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the local file to import. Web resources are downloaded to a temporary file.
+     */
+    private static Optional<Path> resolveFile(String importArguments) {
         String[] data = importArguments.split(",");
 
         String address = data[0];
-        Path file;
         if (address.startsWith("http://") || address.startsWith("https://") || address.startsWith("ftp://")) {
             // Download web resource to temporary file
             try {
-                file = new URLDownload(address).toTemporaryFile();
+                return Optional.of(new URLDownload(address).toTemporaryFile());
             } catch (FetcherException | MalformedURLException e) {
                 System.err.println(Localization.lang("Problem downloading from %0: %1", address, e.getLocalizedMessage()));
                 return Optional.empty();
             }
         } else {
             if (OS.WINDOWS) {
-                file = Path.of(address);
+                return Optional.of(Path.of(address));
             } else {
-                file = Path.of(address.replace("~", System.getProperty("user.home")));
+                return Optional.of(Path.of(address.replace("~", System.getProperty("user.home"))));
             }
         }
+    }
 
-        Optional<ParserResult> importResult = importFile(file, importFormat, cliPreferences, porcelain);
-        importResult.ifPresent(result -> {
-            if (result.hasWarnings()) {
-                System.out.println(result.getErrorMessage());
-            }
-        });
-        return importResult;
+    private static void printWarnings(ParserResult result) {
+        if (result.hasWarnings()) {
+            System.out.println(result.getErrorMessage());
+        }
     }
 
     protected static Optional<ParserResult> importFile(Path file,
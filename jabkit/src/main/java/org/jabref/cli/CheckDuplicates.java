@@ -0,0 +1,140 @@
+package org.jabref.cli;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.database.DuplicateCandidateIndex;
+import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.database.DuplicateScan;
+import org.jabref.logic.database.DuplicateScanResultCsvWriter;
+import org.jabref.logic.database.DuplicateScanResultJsonWriter;
+import org.jabref.logic.database.DuplicateScanResultWriter;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.l10n.Localization;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static picocli.CommandLine.Command;
+import static picocli.CommandLine.Mixin;
+import static picocli.CommandLine.Option;
+import static picocli.CommandLine.ParentCommand;
+
+@Command(name = "check-duplicates", description = "Find duplicate entries in the library.")
+class CheckDuplicates implements Callable<Integer> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CheckDuplicates.class);
+
+    @ParentCommand
+    private ArgumentProcessor argumentProcessor;
+
+    @Mixin
+    private ArgumentProcessor.SharedOptions sharedOptions = new ArgumentProcessor.SharedOptions();
+
+    @Option(names = {"--input"}, description = "Input BibTeX file", required = true)
+    private String inputFile;
+
+    @Option(names = {"--output"}, description = "Output file (default: standard output)")
+    private Path outputFile;
+
+    @Option(names = {"--output-format"}, description = "Output format: csv or json", defaultValue = "csv")
+    private String outputFormat;
+
+    @Option(names = {"--threads"}, description = "Number of threads used for checking (default: number of processors)")
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    @Override
+    public Integer call() {
+        Optional<ParserResult> parserResult = ArgumentProcessor.importFile(
+                inputFile,
+                "bibtex",
+                argumentProcessor.cliPreferences,
+                sharedOptions.porcelain);
+        if (parserResult.isEmpty()) {
+            System.out.println(Localization.lang("Unable to open file '%0'.", inputFile));
+            return 2;
+        }
+
+        if (parserResult.get().isInvalid()) {
+            System.out.println(Localization.lang("Input file '%0' is invalid and could not be parsed.", inputFile));
+            return 2;
+        }
+
+        if (!sharedOptions.porcelain) {
+            System.out.println(Localization.lang("Searching for duplicates in '%0'.", inputFile));
+            System.out.flush();
+        }
+
+        BibDatabaseContext databaseContext = parserResult.get().getDatabaseContext();
+        BibDatabase database = databaseContext.getDatabase();
+        List<BibEntry> entries = database.getEntries();
+
+        DuplicateScan scan = new DuplicateScan(
+                new DuplicateCheck(argumentProcessor.entryTypesManager),
+                databaseContext.getMode(),
+                threads,
+                DuplicateScan.DEFAULT_QUEUE_CAPACITY)
+                .start(DuplicateCandidateIndex.of(entries), entries);
+
+        List<DuplicateScan.Result> results = new ArrayList<>();
+        try {
+            while (scan.hasMoreResults()) {
+                scan.poll(100, TimeUnit.MILLISECONDS).ifPresent(results::add);
+            }
+        } catch (InterruptedException e) {
+            scan.cancel();
+            Thread.currentThread().interrupt();
+            return 2;
+        }
+
+        // The scan runs in parallel, thus the order of the results is not stable. Sorting gives reproducible output.
+        results.sort(Comparator.<DuplicateScan.Result>comparingInt(result -> database.indexOf(result.first()))
+                               .thenComparingInt(result -> database.indexOf(result.second())));
+
+        try {
+            writeResults(database, results);
+        } catch (IOException e) {
+            LOGGER.error("Error writing results", e);
+            return 2;
+        }
+
+        if (!sharedOptions.porcelain) {
+            System.out.println(Localization.lang("Found %0 duplicate pairs after checking %1 candidate pairs.", results.size(), scan.getCheckedPairs()));
+        }
+        return results.isEmpty() ? 0 : 1;
+    }
+
+    private void writeResults(BibDatabase database, List<DuplicateScan.Result> results) throws IOException {
+        Writer writer = outputFile == null
+                        ? new OutputStreamWriter(System.out, StandardCharsets.UTF_8)
+                        : Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8);
+        // System.out should not be closed, therefore no try-with-resources
+        try {
+            DuplicateScanResultWriter resultWriter = "json".equalsIgnoreCase(outputFormat)
+                                                     ? new DuplicateScanResultJsonWriter(writer, database)
+                                                     : new DuplicateScanResultCsvWriter(writer, database);
+            resultWriter.writeHeader();
+            for (DuplicateScan.Result result : results) {
+                resultWriter.write(result);
+            }
+            resultWriter.close();
+            writer.flush();
+        } finally {
+            if (outputFile != null) {
+                writer.close();
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.jabref.cli;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -60,9 +61,7 @@ public class GenerateCitationKeys implements Runnable {
         CitationKeyGenerator keyGenerator = new CitationKeyGenerator(
                 databaseContext,
                 argumentProcessor.cliPreferences.getCitationKeyPatternPreferences());
-        for (BibEntry entry : databaseContext.getEntries()) {
-            keyGenerator.generateAndSetKey(entry);
-        }
+        keyGenerator.generateAndSetKeys(List.copyOf(databaseContext.getEntries()));
 
         if (outputFile != null) {
             ArgumentProcessor.saveDatabase(
@@ -2,6 +2,7 @@ package org.jabref.cli;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,7 @@ import org.jabref.logic.util.CurrentThreadTaskExecutor;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.BibFieldsSearchBackend;
 import org.jabref.model.search.query.SearchQuery;
 
 import com.airhacks.afterburner.injection.Injector;
@@ -33,7 +35,7 @@ import static picocli.CommandLine.Mixin;
 import static picocli.CommandLine.Option;
 import static picocli.CommandLine.ParentCommand;
 
-@Command(name = "search", description = "Search in a library.")
+@Command(name = "search", description = "Search in one or more libraries.")
 class Search implements Runnable {
     private static final Logger LOGGER = LoggerFactory.getLogger(Search.class);
 
@@ -46,8 +48,8 @@ class Search implements Runnable {
     @Option(names = {"--query"}, description = "Search query", required = true)
     private String query;
 
-    @Option(names = {"--input"}, description = "Input BibTeX file", required = true)
-    private String inputFile;
+    @Option(names = {"--input"}, description = "Input BibTeX file. Can be given multiple times to search in several libraries, which are loaded concurrently.", required = true)
+    private List<String> inputFiles;
 
     @Option(names = {"--output"}, description = "Output file")
     private Path outputFile;
@@ -57,37 +59,45 @@ class Search implements Runnable {
 
     @Override
     public void run() {
-        Optional<ParserResult> parserResult = ArgumentProcessor.importFile(
-                inputFile,
+        List<Optional<ParserResult>> parserResults = ArgumentProcessor.importFiles(
+                inputFiles,
                 "bibtex",
                 argumentProcessor.cliPreferences,
                 sharedOptions.porcelain);
-        if (parserResult.isEmpty()) {
-            System.out.println(Localization.lang("Unable to open file '%0'.", inputFile));
-            return;
-        }
+        List<BibDatabaseContext> databaseContexts = new ArrayList<>(parserResults.size());
+        for (int i = 0; i < parserResults.size(); i++) {
+            Optional<ParserResult> parserResult = parserResults.get(i);
+            if (parserResult.isEmpty()) {
+                System.out.println(Localization.lang("Unable to open file '%0'.", inputFiles.get(i)));
+                return;
+            }
 
-        if (parserResult.get().isInvalid()) {
-            System.out.println(Localization.lang("Input file '%0' is invalid and could not be parsed.", inputFile));
-            return;
+            if (parserResult.get().isInvalid()) {
+                System.out.println(Localization.lang("Input file '%0' is invalid and could not be parsed.", inputFiles.get(i)));
+                return;
+            }
+            databaseContexts.add(parserResult.get().getDatabaseContext());
         }
 
-        PostgreServer postgreServer = new PostgreServer();
+        SearchPreferences searchPreferences = argumentProcessor.cliPreferences.getSearchPreferences();
+        PostgreServer postgreServer = searchPreferences.getBibFieldsSearchBackend() == BibFieldsSearchBackend.POSTGRES
+                                      ? new PostgreServer()
+                                      : null;
         IndexManager.clearOldSearchIndices();
 
-        SearchPreferences searchPreferences = argumentProcessor.cliPreferences.getSearchPreferences();
         SearchQuery searchQuery = new SearchQuery(query, searchPreferences.getSearchFlags());
 
-        BibDatabaseContext databaseContext = parserResult.get().getDatabaseContext();
-        List<BibEntry> matches;
+        List<BibEntry> matches = new ArrayList<>();
         try {
-            // extract current thread task executor from indexManager
-            matches = new DatabaseSearcher(
-                    databaseContext,
-                    new CurrentThreadTaskExecutor(),
-                    argumentProcessor.cliPreferences,
-                    postgreServer
-            ).getMatches(searchQuery);
+            for (BibDatabaseContext databaseContext : databaseContexts) {
+                // extract current thread task executor from indexManager
+                matches.addAll(new DatabaseSearcher(
+                        databaseContext,
+                        new CurrentThreadTaskExecutor(),
+                        argumentProcessor.cliPreferences,
+                        postgreServer
+                ).getMatches(searchQuery));
+            }
         } catch (IOException ex) {
             LOGGER.error("Error occurred when searching", ex);
             return;
@@ -121,8 +131,9 @@ class Search implements Runnable {
             // We have an TemplateExporter instance:
             try {
                 System.out.println(Localization.lang("Exporting %0", outputFile.toAbsolutePath().toString()));
+                // The settings of the first library (e.g., its file directories) apply to the export
                 exporter.get().export(
-                        databaseContext,
+                        databaseContexts.getFirst(),
                         outputFile,
                         matches,
                         List.of(),
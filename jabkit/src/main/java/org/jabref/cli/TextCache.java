@@ -0,0 +1,88 @@
+package org.jabref.cli;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.pdf.ExtractedTextCache;
+
+import static picocli.CommandLine.Command;
+import static picocli.CommandLine.Mixin;
+import static picocli.CommandLine.Option;
+import static picocli.CommandLine.ParentCommand;
+
+@Command(name = "text-cache", description = "Manage the cache of the text extracted from linked PDF files.",
+        subcommands = {
+                TextCache.TextCachePrune.class,
+                TextCache.TextCacheClear.class
+        })
+class TextCache implements Runnable {
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+    @ParentCommand
+    protected ArgumentProcessor argumentProcessor;
+
+    @Mixin
+    private ArgumentProcessor.SharedOptions sharedOptions = new ArgumentProcessor.SharedOptions();
+
+    @Override
+    public void run() {
+        Optional<ExtractedTextCache> cache = openCache();
+        if (cache.isPresent()) {
+            System.out.println(Localization.lang("The cache contains the text of %0 files (%1 MB).",
+                    String.valueOf(cache.get().getNumberOfFiles()),
+                    String.valueOf(cache.get().getSize() / BYTES_PER_MEGABYTE)));
+            cache.get().close();
+        }
+        System.out.println("Specify a subcommand (prune, clear).");
+    }
+
+    /**
+     * Opens the cache stored in the user data directory. The cache cannot be opened while JabRef uses it.
+     */
+    private static Optional<ExtractedTextCache> openCache() {
+        ExtractedTextCache cache = new ExtractedTextCache(ExtractedTextCache.getDefaultFile(), ExtractedTextCache.DEFAULT_MAX_SIZE);
+        if (!cache.isPersistent()) {
+            cache.close();
+            System.err.println(Localization.lang("The cache could not be opened. Please close JabRef and try again."));
+            return Optional.empty();
+        }
+        return Optional.of(cache);
+    }
+
+    @Command(name = "prune", description = "Remove the least recently used texts until the cache is not larger than the given size.")
+    class TextCachePrune implements Callable<Integer> {
+
+        @Option(names = {"--max-size"}, description = "Maximum size of the cache in megabytes", defaultValue = "1024")
+        long maxSize;
+
+        @Override
+        public Integer call() {
+            Optional<ExtractedTextCache> cache = openCache();
+            if (cache.isEmpty()) {
+                return 1;
+            }
+            try (ExtractedTextCache openedCache = cache.get()) {
+                int evicted = openedCache.prune(maxSize * BYTES_PER_MEGABYTE);
+                System.out.println(Localization.lang("Removed the text of %0 files from the cache.", String.valueOf(evicted)));
+            }
+            return 0;
+        }
+    }
+
+    @Command(name = "clear", description = "Remove all texts from the cache.")
+    class TextCacheClear implements Callable<Integer> {
+        @Override
+        public Integer call() {
+            Optional<ExtractedTextCache> cache = openCache();
+            if (cache.isEmpty()) {
+                return 1;
+            }
+            try (ExtractedTextCache openedCache = cache.get()) {
+                openedCache.clear();
+                System.out.println(Localization.lang("Removed all texts from the cache."));
+            }
+            return 0;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.nio.file.Path;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
 
@@ -24,6 +25,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
+import org.jabref.model.search.BibFieldsSearchBackend;
 import org.jabref.model.search.SearchDisplayMode;
 import org.jabref.model.search.SearchFlags;
 import org.jabref.model.util.DummyFileUpdateMonitor;
@@ -65,7 +67,8 @@ class ArgumentProcessorTest {
                 false,
                 0,
                 0,
-                0));
+                0,
+                BibFieldsSearchBackend.IN_MEMORY));
 
         ArgumentProcessor argumentProcessor = new ArgumentProcessor(preferences, entryTypesManager);
         commandLine = new CommandLine(argumentProcessor);
@@ -108,6 +111,30 @@ class ArgumentProcessorTest {
         BibEntryAssert.assertEquals(expectedEntries, outputBib, bibtexImporter);
     }
 
+    @Test
+    void searchInSeveralLibraries(@TempDir Path tempDir) throws URISyntaxException, IOException {
+        Path originBib = Path.of(Objects.requireNonNull(ArgumentProcessorTest.class.getResource("origin.bib")).toURI());
+        String originBibFile = originBib.toAbsolutePath().toString();
+
+        Path expectedBib = Path.of(
+                Objects.requireNonNull(ArgumentProcessorTest.class.getResource("ArgumentProcessorTestExportMatches.bib"))
+                       .toURI()
+        );
+
+        BibtexImporter bibtexImporter = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor());
+        List<BibEntry> expectedMatches = bibtexImporter.importDatabase(expectedBib).getDatabase().getEntries();
+        List<BibEntry> expectedEntries = Stream.concat(expectedMatches.stream(), expectedMatches.stream()).toList();
+
+        Path outputBib = tempDir.resolve("output.bib").toAbsolutePath();
+
+        List<String> args = List.of("search", "--query", "author=Einstein", "--input", originBibFile, "--input", originBibFile, "--output", outputBib.toString());
+
+        commandLine.execute(args.toArray(String[]::new));
+
+        assertTrue(Files.exists(outputBib));
+        BibEntryAssert.assertEquals(expectedEntries, outputBib, bibtexImporter);
+    }
+
     @Test
     void convertBibtexToTableRefsAsBib(@TempDir Path tempDir) throws URISyntaxException {
         Path originBib = Path.of(Objects.requireNonNull(ArgumentProcessorTest.class.getResource("origin.bib")).toURI());
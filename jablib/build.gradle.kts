@@ -406,6 +406,11 @@ jmh {
     iterations = 10
     fork = 2
     zip64  = true
+    // Reports the allocation rate next to the time, e.g., for the parser benchmarks
+    profilers = listOf("gc")
+    // Machine-readable results to compare runs over time, e.g., using https://jmh.morethan.io
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
 }
 
 tasks.register<Test>("fetcherTest") {
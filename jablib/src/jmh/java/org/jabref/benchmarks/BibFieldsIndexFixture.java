@@ -0,0 +1,72 @@
+package org.jabref.benchmarks;
+
+import org.jabref.logic.search.BibFieldsIndexer;
+import org.jabref.logic.search.BibFieldsSearcher;
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.indexing.InMemoryBibFieldsIndexer;
+import org.jabref.logic.search.indexing.PostgresBibFieldsIndexer;
+import org.jabref.logic.search.retrieval.InMemoryBibFieldsSearcher;
+import org.jabref.logic.search.retrieval.PostgresBibFieldsSearcher;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.search.BibFieldsSearchBackend;
+
+/**
+ * Creates the indexer and the searcher of the bib fields for a backend, without the linked files index of {@link org.jabref.logic.search.IndexManager}.
+ */
+class BibFieldsIndexFixture implements AutoCloseable {
+
+    private static final BibEntryPreferences BIB_ENTRY_PREFERENCES = new BibEntryPreferences(',');
+
+    private final BibFieldsSearchBackend backend;
+    private final BibDatabaseContext databaseContext;
+    // null for the in-memory backend
+    private final PostgreServer postgreServer;
+
+    BibFieldsIndexFixture(BibFieldsSearchBackend backend, BibDatabaseContext databaseContext) {
+        this.backend = backend;
+        this.databaseContext = databaseContext;
+        this.postgreServer = backend == BibFieldsSearchBackend.POSTGRES ? new PostgreServer() : null;
+    }
+
+    /**
+     * Creates an empty index. The caller has to close it.
+     */
+    BibFieldsIndexer createIndexer() {
+        if (postgreServer == null) {
+            return new InMemoryBibFieldsIndexer(BIB_ENTRY_PREFERENCES, databaseContext);
+        }
+        return new PostgresBibFieldsIndexer(BIB_ENTRY_PREFERENCES, databaseContext, postgreServer.getConnection());
+    }
+
+    BibFieldsSearcher createSearcher(BibFieldsIndexer indexer) {
+        return switch (indexer) {
+            case InMemoryBibFieldsIndexer inMemoryIndexer ->
+                    new InMemoryBibFieldsSearcher(inMemoryIndexer.getIndex());
+            case PostgresBibFieldsIndexer postgresIndexer ->
+                    new PostgresBibFieldsSearcher(postgreServer.getConnection(), postgresIndexer.getTable());
+            default ->
+                    throw new IllegalArgumentException("Unsupported indexer for backend " + backend + ": " + indexer.getClass().getName());
+        };
+    }
+
+    @Override
+    public void close() {
+        if (postgreServer != null) {
+            postgreServer.shutdown();
+        }
+    }
+
+    /**
+     * A task which is never cancelled and whose progress is not shown anywhere.
+     */
+    static BackgroundTask<Void> noOpTask() {
+        return new BackgroundTask<>() {
+            @Override
+            public Void call() {
+                return null;
+            }
+        };
+    }
+}
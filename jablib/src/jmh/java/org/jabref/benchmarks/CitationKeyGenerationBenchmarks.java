@@ -0,0 +1,61 @@
+package org.jabref.benchmarks;
+
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures generating the citation keys of all entries of a {@link SyntheticLibrary}.
+ * The pattern "[auth][year]" produces many duplicates, so that letters have to be appended to a lot of keys.
+ * Each lookup of a key candidate asks the library how often the candidate is used already.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+public class CitationKeyGenerationBenchmarks {
+
+    @Param({"10000", "50000"})
+    public int numberOfEntries;
+
+    private final CitationKeyPatternPreferences preferences = new CitationKeyPatternPreferences(
+            false,
+            false,
+            false,
+            CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_B,
+            "",
+            "",
+            CitationKeyGenerator.DEFAULT_UNWANTED_CHARACTERS,
+            GlobalCitationKeyPatterns.fromPattern("[auth][year]"),
+            "",
+            ',');
+
+    private BibDatabaseContext databaseContext;
+
+    // The keys are changed by the benchmark, thus each iteration starts with a fresh library
+    @Setup(Level.Iteration)
+    public void setUp() {
+        databaseContext = SyntheticLibrary.create(numberOfEntries);
+    }
+
+    @Benchmark
+    public int generateKeys() {
+        CitationKeyGenerator generator = new CitationKeyGenerator(databaseContext, preferences);
+        int changedKeys = 0;
+        for (BibEntry entry : databaseContext.getEntries()) {
+            if (generator.generateAndSetKey(entry).isPresent()) {
+                changedKeys++;
+            }
+        }
+        return changedKeys;
+    }
+}
@@ -0,0 +1,79 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.logic.citationstyle.CSLStyleLoader;
+import org.jabref.logic.citationstyle.CitationStyle;
+import org.jabref.logic.citationstyle.CitationStyleGenerator;
+import org.jabref.logic.citationstyle.CitationStyleOutputFormat;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures rendering the bibliography of a {@link SyntheticLibrary} in four citation styles, in blocks of entries as the preview and the export do.
+ * Compares rendering the blocks one after another to rendering them concurrently.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+public class CitationStyleBenchmarks {
+
+    private static final Set<String> STYLE_FILES = Set.of("ieee.csl", "apa.csl", "chicago-author-date.csl", "acm-siggraph.csl");
+
+    @Param({"10000"})
+    public int numberOfEntries;
+
+    @Param({"100"})
+    public int entriesPerBlock;
+
+    private final BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+    private BibDatabaseContext databaseContext;
+    private List<Job> jobs;
+
+    @Setup
+    public void setUp() {
+        databaseContext = SyntheticLibrary.create(numberOfEntries);
+        List<String> styles = CSLStyleLoader.getInternalStyles().stream()
+                                            .filter(style -> STYLE_FILES.contains(style.getFilePath()))
+                                            .map(CitationStyle::getSource)
+                                            .toList();
+
+        List<BibEntry> entries = databaseContext.getEntries();
+        jobs = new ArrayList<>();
+        for (String style : styles) {
+            for (int start = 0; start < entries.size(); start += entriesPerBlock) {
+                jobs.add(new Job(style, entries.subList(start, Math.min(start + entriesPerBlock, entries.size()))));
+            }
+        }
+    }
+
+    @Benchmark
+    public long renderSequentially() {
+        return jobs.stream().mapToLong(this::render).sum();
+    }
+
+    @Benchmark
+    public long renderConcurrently() {
+        return jobs.parallelStream().mapToLong(this::render).sum();
+    }
+
+    private long render(Job job) {
+        return CitationStyleGenerator.generateBibliography(job.entries(), job.style(), CitationStyleOutputFormat.HTML, databaseContext, entryTypesManager)
+                                     .stream()
+                                     .mapToLong(String::length)
+                                     .sum();
+    }
+
+    private record Job(String style, List<BibEntry> entries) {
+    }
+}
@@ -0,0 +1,135 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.jabref.logic.ai.ingestion.MVStoreEmbeddingStore;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import org.apache.commons.io.FileUtils;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
+
+/**
+ * Compares the search in the vector index of the {@link MVStoreEmbeddingStore} to comparing the query to all embeddings.
+ * The recall of the index (share of the exact top results found by the index) and the size of the stores on disk are printed after the setup.
+ * The size of the indexed store includes the index next to the MVStore file.
+ * For comparison, the size of the same embeddings in the format of earlier versions (float vectors, serialized together with the content) is printed as well.
+ */
+@State(Scope.Benchmark)
+public class EmbeddingSearchBenchmarks {
+
+    // Dimensions of the default embedding model (all-MiniLM-L6-v2)
+    private static final int DIMENSIONS = 384;
+    private static final int SEGMENTS_PER_FILE = 50;
+    private static final int MAX_RESULTS = 10;
+    private static final int RECALL_QUERIES = 100;
+
+    // Format of the embeddings stored by earlier versions of MVStoreEmbeddingStore
+    private record FloatEmbeddingRecord(String file, String content, float[] embeddingVector) implements Serializable {
+    }
+
+    @Param({"10000", "100000"})
+    public int numberOfEmbeddings;
+
+    private Path storeDirectory;
+    private MVStoreEmbeddingStore indexedStore;
+    private MVStoreEmbeddingStore exhaustiveStore;
+    private EmbeddingSearchRequest request;
+
+    @Setup
+    public void setUp() throws IOException {
+        storeDirectory = Files.createTempDirectory("jabref-benchmark-embeddings");
+        indexedStore = new MVStoreEmbeddingStore(storeDirectory.resolve("indexed.mv"), message -> { }, true);
+        exhaustiveStore = new MVStoreEmbeddingStore(storeDirectory.resolve("exhaustive.mv"), message -> { }, false);
+        MVStore floatStore = new MVStore.Builder().autoCommitDisabled().fileName(storeDirectory.resolve("float.mv").toString()).open();
+        MVMap<String, FloatEmbeddingRecord> floatEmbeddings = floatStore.openMap("embeddings");
+
+        Random random = new Random(SyntheticLibrary.DEFAULT_SEED);
+        for (int i = 0; i < numberOfEmbeddings; i++) {
+            Embedding embedding = randomEmbedding(random);
+            TextSegment segment = new TextSegment("segment " + i, new Metadata(Map.of(LINK_METADATA_KEY, "paper" + (i / SEGMENTS_PER_FILE) + ".pdf")));
+            indexedStore.add(embedding, segment);
+            exhaustiveStore.add(embedding, segment);
+            floatEmbeddings.put(UUID.randomUUID().toString(), new FloatEmbeddingRecord(segment.metadata().getString(LINK_METADATA_KEY), segment.text(), embedding.vector()));
+        }
+        indexedStore.commit();
+        exhaustiveStore.commit();
+        floatStore.close();
+
+        request = searchRequest(randomEmbedding(random));
+        printRecall(random);
+        System.out.printf("Size of the float vectors (format of earlier versions): %d bytes%n", Files.size(storeDirectory.resolve("float.mv")));
+        System.out.printf("Size of the store without index: %d bytes%n", Files.size(storeDirectory.resolve("exhaustive.mv")));
+        long mvStoreSize = Files.size(storeDirectory.resolve("indexed.mv"));
+        long indexSize = FileUtils.sizeOfDirectory(storeDirectory.resolve("indexed.mv-hnsw").toFile());
+        System.out.printf("Size of the store with index: %d bytes (MVStore: %d bytes, index: %d bytes)%n", mvStoreSize + indexSize, mvStoreSize, indexSize);
+    }
+
+    private void printRecall(Random random) {
+        int found = 0;
+        for (int i = 0; i < RECALL_QUERIES; i++) {
+            EmbeddingSearchRequest recallRequest = searchRequest(randomEmbedding(random));
+            Set<String> exact = new HashSet<>(ids(exhaustiveStore.search(recallRequest).matches()));
+            found += (int) ids(indexedStore.search(recallRequest).matches()).stream().filter(exact::contains).count();
+        }
+        System.out.printf("%nRecall@%d with %d embeddings: %.3f%n", MAX_RESULTS, numberOfEmbeddings, (double) found / (RECALL_QUERIES * MAX_RESULTS));
+    }
+
+    private static EmbeddingSearchRequest searchRequest(Embedding query) {
+        return EmbeddingSearchRequest.builder()
+                                     .queryEmbedding(query)
+                                     .maxResults(MAX_RESULTS)
+                                     .build();
+    }
+
+    private static List<String> ids(List<EmbeddingMatch<TextSegment>> matches) {
+        return matches.stream().map(EmbeddingMatch::embeddingId).toList();
+    }
+
+    private static Embedding randomEmbedding(Random random) {
+        float[] vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        indexedStore.close();
+        exhaustiveStore.close();
+        FileUtils.deleteDirectory(storeDirectory.toFile());
+    }
+
+    @Benchmark
+    public EmbeddingSearchResult<TextSegment> searchInVectorIndex() {
+        return indexedStore.search(request);
+    }
+
+    @Benchmark
+    public EmbeddingSearchResult<TextSegment> searchAllEmbeddings() {
+        return exhaustiveStore.search(request);
+    }
+}
@@ -0,0 +1,67 @@
+package org.jabref.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.Locale;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the memory needed by the entries of a library.
+ * <p>
+ * The allocated bytes are reported by the gc profiler (<code>gc.alloc.rate.norm</code>, divide by the number of entries to get the bytes per entry).
+ * The bytes retained by the entries of the last invocation are printed at the end of each iteration.
+ * For a detailed picture, take a heap histogram (<code>jcmd &lt;pid&gt; GC.class_histogram</code>) of the forked VM while the benchmark runs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+public class EntryMemoryBenchmarks {
+
+    @Param({"10000", "100000"})
+    public int numberOfEntries;
+
+    /**
+     * Entries in a library have listeners registered; entries outside of a library (e.g., fetched ones) do not.
+     */
+    @Param({"false", "true"})
+    public boolean inLibrary;
+
+    private Object retained;
+
+    @Benchmark
+    public Object createEntries() {
+        List<BibEntry> entries = SyntheticLibrary.createEntries(numberOfEntries, SyntheticLibrary.DEFAULT_SEED);
+        // Derived values are cached by the entry; use them the same way the main table does
+        entries.forEach(entry -> entry.getFieldLatexFree(StandardField.TITLE));
+        retained = inLibrary ? new BibDatabase(entries) : entries;
+        return retained;
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportRetainedBytes() {
+        long withEntries = usedHeap();
+        retained = null;
+        long withoutEntries = usedHeap();
+        System.out.printf(Locale.ROOT, "%nRetained bytes per entry: %d%n", (withEntries - withoutEntries) / numberOfEntries);
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
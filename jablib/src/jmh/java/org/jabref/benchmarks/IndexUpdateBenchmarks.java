@@ -0,0 +1,65 @@
+package org.jabref.benchmarks;
+
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.logic.search.BibFieldsIndexer;
+import org.jabref.logic.search.EntryFieldChanges;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.BibFieldsSearchBackend;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures applying a batch of field changes (as caused by a cleanup of selected entries) to an already built index.
+ */
+@State(Scope.Benchmark)
+public class IndexUpdateBenchmarks {
+
+    private static final int CHANGED_ENTRIES = 100;
+
+    @Param({"1000", "10000", "100000"})
+    public int numberOfEntries;
+
+    @Param
+    public BibFieldsSearchBackend backend;
+
+    private BibFieldsIndexFixture fixture;
+    private BibFieldsIndexer indexer;
+    private List<EntryFieldChanges> changes;
+    private int round;
+
+    @Setup
+    public void setUp() {
+        BibDatabaseContext databaseContext = SyntheticLibrary.create(numberOfEntries);
+        fixture = new BibFieldsIndexFixture(backend, databaseContext);
+        indexer = fixture.createIndexer();
+        indexer.updateOnStart(BibFieldsIndexFixture.noOpTask());
+        changes = databaseContext.getEntries().stream()
+                                 .limit(CHANGED_ENTRIES)
+                                 .map(entry -> new EntryFieldChanges(entry, Set.of(StandardField.TITLE, StandardField.YEAR)))
+                                 .toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        indexer.closeAndWait();
+        fixture.close();
+    }
+
+    @Benchmark
+    public void incrementalUpdate() {
+        round++;
+        for (EntryFieldChanges change : changes) {
+            change.entry().setField(StandardField.TITLE, "Changed title " + round);
+            change.entry().setField(StandardField.YEAR, Integer.toString(1970 + round % 56));
+        }
+        indexer.updateEntries(changes);
+    }
+}
@@ -0,0 +1,56 @@
+package org.jabref.benchmarks;
+
+import org.jabref.logic.search.BibFieldsIndexer;
+import org.jabref.model.search.BibFieldsSearchBackend;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the initial indexing of the bib fields when a library is opened.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+public class IndexingBenchmarks {
+
+    @Param({"1000", "10000", "100000"})
+    public int numberOfEntries;
+
+    @Param
+    public BibFieldsSearchBackend backend;
+
+    private BibFieldsIndexFixture fixture;
+    private BibFieldsIndexer indexer;
+
+    @Setup(Level.Trial)
+    public void setUpLibrary() {
+        fixture = new BibFieldsIndexFixture(backend, SyntheticLibrary.create(numberOfEntries));
+    }
+
+    @Setup(Level.Invocation)
+    public void createIndexer() {
+        indexer = fixture.createIndexer();
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeIndexer() {
+        indexer.closeAndWait();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownLibrary() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public void initialLoad() {
+        indexer.updateOnStart(BibFieldsIndexFixture.noOpTask());
+    }
+}
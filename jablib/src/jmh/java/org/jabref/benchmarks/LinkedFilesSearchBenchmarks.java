@@ -0,0 +1,110 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.pdf.ExtractedTextCache;
+import org.jabref.logic.search.indexing.DefaultLinkedFilesIndexer;
+import org.jabref.logic.search.retrieval.LinkedFilesSearcher;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResults;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures full-text search over a corpus of generated PDF files linked to the entries of a {@link SyntheticLibrary}.
+ */
+@State(Scope.Benchmark)
+public class LinkedFilesSearchBenchmarks {
+
+    private static final int PAGES_PER_FILE = 3;
+    private static final int LINES_PER_PAGE = 40;
+
+    @Param({"100", "1000"})
+    public int numberOfFiles;
+
+    @Param({"network", "\"distributed systems\"", "optim*"})
+    public String searchExpression;
+
+    private Path corpusDirectory;
+    private DefaultLinkedFilesIndexer indexer;
+    private LinkedFilesSearcher searcher;
+    private SearchQuery searchQuery;
+
+    @Setup
+    public void setUp() throws IOException {
+        BibDatabaseContext databaseContext = SyntheticLibrary.create(numberOfFiles);
+        corpusDirectory = Files.createTempDirectory("jabref-benchmark-corpus");
+        Random random = new Random(SyntheticLibrary.DEFAULT_SEED);
+        List<BibEntry> entries = databaseContext.getEntries();
+        for (int i = 0; i < entries.size(); i++) {
+            Path pdf = corpusDirectory.resolve("paper" + i + ".pdf");
+            writePdf(pdf, random);
+            entries.get(i).setFiles(List.of(new LinkedFile("", pdf.toAbsolutePath(), "PDF")));
+        }
+
+        FilePreferences filePreferences = mock(FilePreferences.class);
+        when(filePreferences.shouldFulltextIndexLinkedFiles()).thenReturn(true);
+
+        indexer = new DefaultLinkedFilesIndexer(databaseContext, filePreferences, new ExtractedTextCache(null, ExtractedTextCache.DEFAULT_MAX_SIZE));
+        indexer.updateOnStart(BibFieldsIndexFixture.noOpTask());
+        searcher = new LinkedFilesSearcher(databaseContext, indexer, filePreferences);
+        searchQuery = new SearchQuery(searchExpression, EnumSet.of(SearchFlags.FULLTEXT));
+    }
+
+    private static void writePdf(Path path, Random random) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            for (int pageNumber = 0; pageNumber < PAGES_PER_FILE; pageNumber++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
+                    contentStream.beginText();
+                    contentStream.setFont(font, 10);
+                    contentStream.setLeading(14);
+                    contentStream.newLineAtOffset(50, 740);
+                    for (int line = 0; line < LINES_PER_PAGE; line++) {
+                        contentStream.showText(SyntheticLibrary.words(random, 12, line == 0));
+                        contentStream.newLine();
+                    }
+                    contentStream.endText();
+                }
+            }
+            document.save(path.toString());
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        indexer.closeAndWait();
+        FileUtils.deleteDirectory(corpusDirectory.toFile());
+    }
+
+    @Benchmark
+    public SearchResults search() {
+        return searcher.search(searchQuery);
+    }
+}
@@ -0,0 +1,55 @@
+package org.jabref.benchmarks;
+
+import org.jabref.logic.search.BibFieldsIndexer;
+import org.jabref.logic.search.BibFieldsSearcher;
+import org.jabref.model.search.BibFieldsSearchBackend;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResults;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures searching the bib fields of a library which is already indexed.
+ */
+@State(Scope.Benchmark)
+public class SearchBenchmarks {
+
+    @Param({"1000", "10000", "100000"})
+    public int numberOfEntries;
+
+    @Param
+    public BibFieldsSearchBackend backend;
+
+    @Param
+    public SearchQueryShape queryShape;
+
+    private BibFieldsIndexFixture fixture;
+    private BibFieldsIndexer indexer;
+    private BibFieldsSearcher searcher;
+    private SearchQuery searchQuery;
+
+    @Setup
+    public void setUp() {
+        fixture = new BibFieldsIndexFixture(backend, SyntheticLibrary.create(numberOfEntries));
+        indexer = fixture.createIndexer();
+        indexer.updateOnStart(BibFieldsIndexFixture.noOpTask());
+        searcher = fixture.createSearcher(indexer);
+        searchQuery = queryShape.toSearchQuery();
+    }
+
+    @TearDown
+    public void tearDown() {
+        indexer.closeAndWait();
+        fixture.close();
+    }
+
+    @Benchmark
+    public SearchResults search() {
+        return searcher.search(searchQuery);
+    }
+}
@@ -0,0 +1,33 @@
+package org.jabref.benchmarks;
+
+import org.jabref.logic.search.query.SearchQueryConversion;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SqlQueryNode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the conversion of a parsed search query to SQL, which is independent of the library.
+ */
+@State(Scope.Benchmark)
+public class SearchQueryConversionBenchmarks {
+
+    @Param
+    public SearchQueryShape queryShape;
+
+    private SearchQuery searchQuery;
+
+    @Setup
+    public void setUp() {
+        searchQuery = queryShape.toSearchQuery();
+    }
+
+    @Benchmark
+    public SqlQueryNode searchToSql() {
+        return SearchQueryConversion.searchToSql("benchmark", searchQuery);
+    }
+}
@@ -0,0 +1,23 @@
+package org.jabref.benchmarks;
+
+import org.jabref.model.search.query.SearchQuery;
+
+/**
+ * The main shapes of search queries users type into the search bar. The terms are contained in the {@link SyntheticLibrary}.
+ */
+public enum SearchQueryShape {
+    PLAIN_TERM("learning"),
+    FIELD_REGEX("title =~ \"neural.*network\""),
+    BOOLEAN("author = smith AND (year = 2019 OR keywords = optimization)"),
+    NEGATION("NOT keywords = survey");
+
+    private final String searchExpression;
+
+    SearchQueryShape(String searchExpression) {
+        this.searchExpression = searchExpression;
+    }
+
+    public SearchQuery toSearchQuery() {
+        return new SearchQuery(searchExpression);
+    }
+}
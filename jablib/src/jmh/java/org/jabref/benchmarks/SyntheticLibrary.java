@@ -0,0 +1,163 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.EntryType;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.MetaData;
+
+/**
+ * Generates reproducible libraries for the benchmarks.
+ * <p>
+ * The same seed always leads to the same entries. The field distributions roughly follow the ones of real-world libraries:
+ * most entries are articles and conference papers, nearly all have authors, a title, and a year, while abstracts, DOIs, and groups are present only for some entries.
+ * Some values contain LaTeX commands to exercise the conversion to Unicode.
+ */
+public final class SyntheticLibrary {
+
+    public static final long DEFAULT_SEED = 4711;
+
+    /**
+     * Words contained in the generated titles, abstracts, and keywords. The search benchmarks query for some of them.
+     */
+    static final List<String> WORDS = List.of(
+            "learning", "neural", "network", "networks", "deep", "graph", "optimization", "survey", "analysis", "model",
+            "models", "distributed", "systems", "efficient", "algorithm", "algorithms", "data", "language", "processing", "search",
+            "index", "query", "evaluation", "robust", "scalable", "secure", "software", "engineering", "empirical", "study",
+            "towards", "approach", "framework", "benchmark", "performance", "memory", "parallel", "retrieval", "semantic", "web");
+
+    private static final List<String> FAMILY_NAMES = List.of(
+            "Smith", "Müller", "Garc{\\'i}a", "Wang", "Kumar", "Nguyen", "Schmidt", "Rossi", "Kowalski", "Tanaka",
+            "Johansson", "Dubois", "Silva", "Novák", "Cohen", "Andersen", "Yilmaz", "O'Brien", "Papadopoulos", "Sch{\\\"a}fer");
+
+    private static final List<String> GIVEN_NAMES = List.of(
+            "Anna", "Ben", "Carlos", "Dana", "Emil", "Fatima", "Georg", "Hana", "Ivan", "Julia",
+            "Kenji", "Lena", "Marek", "Nora", "Oliver", "Priya", "Quentin", "Rosa", "Stefan", "Tao");
+
+    private static final List<String> JOURNALS = List.of(
+            "Journal of Machine Learning Research", "IEEE Transactions on Software Engineering", "Communications of the ACM",
+            "Information Systems", "ACM Computing Surveys", "Data \\& Knowledge Engineering", "Journal of Systems and Software");
+
+    private static final List<String> CONFERENCES = List.of(
+            "Proceedings of the International Conference on Software Engineering", "Proceedings of the ACM SIGIR Conference",
+            "Advances in Neural Information Processing Systems", "Proceedings of the VLDB Endowment", "Proceedings of the Web Conference");
+
+    private static final List<String> PUBLISHERS = List.of("Springer", "ACM", "IEEE", "Elsevier", "MIT Press", "O'Reilly");
+
+    private static final List<String> GROUPS = List.of("to read", "thesis", "related work", "project A", "project B");
+
+    private SyntheticLibrary() {
+    }
+
+    public static BibDatabaseContext create(int numberOfEntries) {
+        return create(numberOfEntries, DEFAULT_SEED);
+    }
+
+    public static BibDatabaseContext create(int numberOfEntries, long seed) {
+        return new BibDatabaseContext(new BibDatabase(createEntries(numberOfEntries, seed)), new MetaData());
+    }
+
+    /**
+     * Creates the entries only, i.e., without adding them to a library
+     */
+    public static List<BibEntry> createEntries(int numberOfEntries, long seed) {
+        Random random = new Random(seed);
+        List<BibEntry> entries = new ArrayList<>(numberOfEntries);
+        for (int i = 0; i < numberOfEntries; i++) {
+            entries.add(createEntry(i, random));
+        }
+        return entries;
+    }
+
+    private static BibEntry createEntry(int number, Random random) {
+        EntryType type = entryType(random);
+        BibEntry entry = new BibEntry(type)
+                .withCitationKey("key" + number)
+                .withField(StandardField.AUTHOR, authors(random))
+                .withField(StandardField.TITLE, words(random, 4 + random.nextInt(8), true))
+                .withField(StandardField.YEAR, Integer.toString(1970 + random.nextInt(56)));
+
+        if (type == StandardEntryType.Article) {
+            entry.setField(StandardField.JOURNAL, pick(JOURNALS, random));
+            entry.setField(StandardField.VOLUME, Integer.toString(1 + random.nextInt(60)));
+            entry.setField(StandardField.PAGES, pages(random));
+        } else if (type == StandardEntryType.InProceedings) {
+            entry.setField(StandardField.BOOKTITLE, pick(CONFERENCES, random));
+            entry.setField(StandardField.PAGES, pages(random));
+        } else if (type == StandardEntryType.Book) {
+            entry.setField(StandardField.PUBLISHER, pick(PUBLISHERS, random));
+            entry.setField(StandardField.ISBN, "978-" + (100_000_000 + random.nextInt(900_000_000)));
+        } else {
+            entry.setField(StandardField.HOWPUBLISHED, "\\url{https://example.org/" + number + "}");
+        }
+
+        if (random.nextInt(100) < 70) {
+            entry.setField(StandardField.DOI, "10." + (1000 + random.nextInt(9000)) + "/" + number);
+        }
+        if (random.nextInt(100) < 60) {
+            entry.setField(StandardField.KEYWORDS, IntStream.range(0, 1 + random.nextInt(5))
+                                                            .mapToObj(_ -> pick(WORDS, random))
+                                                            .distinct()
+                                                            .collect(Collectors.joining(", ")));
+        }
+        if (random.nextInt(100) < 40) {
+            entry.setField(StandardField.ABSTRACT, words(random, 80 + random.nextInt(120), false));
+        }
+        if (random.nextInt(100) < 20) {
+            entry.setField(StandardField.GROUPS, pick(GROUPS, random));
+        }
+        return entry;
+    }
+
+    private static EntryType entryType(Random random) {
+        int percentage = random.nextInt(100);
+        if (percentage < 50) {
+            return StandardEntryType.Article;
+        } else if (percentage < 80) {
+            return StandardEntryType.InProceedings;
+        } else if (percentage < 90) {
+            return StandardEntryType.Book;
+        }
+        return StandardEntryType.Misc;
+    }
+
+    private static String authors(Random random) {
+        // Most papers have few authors, some have many
+        int numberOfAuthors = random.nextInt(100) < 90 ? 1 + random.nextInt(4) : 5 + random.nextInt(12);
+        return IntStream.range(0, numberOfAuthors)
+                        .mapToObj(_ -> pick(FAMILY_NAMES, random) + ", " + pick(GIVEN_NAMES, random))
+                        .collect(Collectors.joining(" and "));
+    }
+
+    static String words(Random random, int count, boolean capitalize) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            String word = pick(WORDS, random);
+            if (capitalize && i == 0) {
+                word = Character.toUpperCase(word.charAt(0)) + word.substring(1);
+            }
+            builder.append(word);
+        }
+        return builder.toString();
+    }
+
+    private static String pages(Random random) {
+        int firstPage = 1 + random.nextInt(900);
+        return firstPage + "--" + (firstPage + 5 + random.nextInt(25));
+    }
+
+    private static String pick(List<String> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
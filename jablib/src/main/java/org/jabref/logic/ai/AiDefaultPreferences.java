@@ -79,6 +79,9 @@ public class AiDefaultPreferences {
     public static final int RAG_MAX_RESULTS_COUNT = 10;
     public static final double RAG_MIN_SCORE = 0.3;
 
+    // 0 lets the ingestion choose the number of workers based on the available processors
+    public static final int INGESTION_WORKERS = 0;
+
     public static final int FALLBACK_CONTEXT_WINDOW_SIZE = 8196;
 
     public static final Map<AiTemplate, String> TEMPLATES = Map.of(
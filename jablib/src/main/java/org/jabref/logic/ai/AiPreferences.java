@@ -59,6 +59,7 @@ public class AiPreferences {
     private final IntegerProperty documentSplitterOverlapSize;
     private final IntegerProperty ragMaxResultsCount;
     private final DoubleProperty ragMinScore;
+    private final IntegerProperty ingestionWorkers;
 
     private final Map<AiTemplate, StringProperty> templates;
 
@@ -86,6 +87,7 @@ public class AiPreferences {
                          int documentSplitterOverlapSize,
                          int ragMaxResultsCount,
                          double ragMinScore,
+                         int ingestionWorkers,
                          Map<AiTemplate, String> templates
     ) {
         this.enableAi = new SimpleBooleanProperty(enableAi);
@@ -115,6 +117,7 @@ public class AiPreferences {
         this.documentSplitterOverlapSize = new SimpleIntegerProperty(documentSplitterOverlapSize);
         this.ragMaxResultsCount = new SimpleIntegerProperty(ragMaxResultsCount);
         this.ragMinScore = new SimpleDoubleProperty(ragMinScore);
+        this.ingestionWorkers = new SimpleIntegerProperty(ingestionWorkers);
 
         this.templates = Map.of(
                 AiTemplate.CHATTING_SYSTEM_MESSAGE, new SimpleStringProperty(templates.get(AiTemplate.CHATTING_SYSTEM_MESSAGE)),
@@ -454,6 +457,21 @@ public class AiPreferences {
         this.ragMinScore.set(ragMinScore);
     }
 
+    public IntegerProperty ingestionWorkersProperty() {
+        return ingestionWorkers;
+    }
+
+    /**
+     * @return the number of files whose embeddings are generated at the same time, 0 to choose it based on the available processors
+     */
+    public int getIngestionWorkers() {
+        return ingestionWorkers.get();
+    }
+
+    public void setIngestionWorkers(int ingestionWorkers) {
+        this.ingestionWorkers.set(ingestionWorkers);
+    }
+
     /**
      * Listen to changes of preferences that are related to embeddings generation.
      *
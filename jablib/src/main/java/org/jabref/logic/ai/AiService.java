@@ -141,6 +141,7 @@ public class AiService implements AutoCloseable {
 
         cachedThreadPool.shutdownNow();
         jabRefChatLanguageModel.close();
+        ingestionService.close();
         jabRefEmbeddingModel.close();
 
         mvStoreFullyIngestedDocumentsTracker.close();
@@ -0,0 +1,156 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.KnnByteVectorField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.KnnByteVectorQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Approximate nearest neighbour index (HNSW) of the embeddings stored in the {@link MVStoreEmbeddingStore}.
+ * <p>
+ * The index is a Lucene index stored next to the MVStore file. Lucene keeps the vectors in contiguous, memory-mapped segments and extends the HNSW graph with each added vector.
+ * The index stores the quantized vectors of the MVStore (see {@link QuantizedEmbeddings}) as byte vectors. Thus, the index ranks the same vectors as comparing the query to all embeddings.
+ * Besides the vectors, the index contains the ids and the linked files only. The linked files are used to filter the search (e.g., to the files of the entries of a chat);
+ * if only few vectors match the filter, Lucene compares all of them instead of traversing the graph.
+ * The text segments are read from the MVStore for the found ids.
+ * <p>
+ * The index compares the vectors by their cosine similarity. The score of a match is <code>(1 + cosine) / 2</code>, which equals {@link dev.langchain4j.store.embedding.RelevanceScore#fromCosineSimilarity(double)}.
+ */
+class EmbeddingsVectorIndex implements AutoCloseable {
+    private static final String ID_FIELD = "id";
+    private static final String FILE_FIELD = "file";
+    private static final String VECTOR_FIELD = "vector";
+
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+
+    /**
+     * @param indexDirectory the directory to store the index in, <code>null</code> to keep the index in memory
+     */
+    EmbeddingsVectorIndex(@Nullable Path indexDirectory) throws IOException {
+        this.directory = indexDirectory == null ? new ByteBuffersDirectory() : FSDirectory.open(indexDirectory);
+        this.indexWriter = new IndexWriter(directory, new IndexWriterConfig());
+        this.searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    /**
+     * @return the number of indexed vectors
+     */
+    int size() {
+        return indexWriter.getDocStats().numDocs;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the vector has more dimensions than supported by Lucene or another number of dimensions than the vectors already indexed
+     */
+    void add(String id, @Nullable String file, byte[] quantizedVector) throws IOException {
+        Document document = new Document();
+        document.add(new StringField(ID_FIELD, id, Field.Store.YES));
+        if (file != null) {
+            document.add(new StringField(FILE_FIELD, file, Field.Store.NO));
+        }
+        document.add(new KnnByteVectorField(VECTOR_FIELD, quantizedVector, VectorSimilarityFunction.COSINE));
+        indexWriter.updateDocument(new Term(ID_FIELD, id), document);
+    }
+
+    void remove(String id) throws IOException {
+        indexWriter.deleteDocuments(new Term(ID_FIELD, id));
+    }
+
+    void removeAll() throws IOException {
+        indexWriter.deleteAll();
+    }
+
+    /**
+     * Returns the ids of all vectors generated from one of the given files
+     */
+    List<String> findIds(Collection<String> files) throws IOException {
+        Query query = filesQuery(files);
+        searcherManager.maybeRefreshBlocking();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            int count = searcher.count(query);
+            if (count == 0) {
+                return List.of();
+            }
+            return toIds(searcher, searcher.search(query, count));
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * Finds the vectors most similar to the given one
+     *
+     * @param quantizedQuery the query quantized using {@link QuantizedEmbeddings#quantize(float[])}
+     * @param files the files to restrict the search to, <code>null</code> to search all vectors
+     */
+    List<Match> search(byte[] quantizedQuery, int maxResults, @Nullable Collection<String> files) throws IOException {
+        Query filter = files == null ? null : filesQuery(files);
+        Query query = new KnnByteVectorQuery(VECTOR_FIELD, quantizedQuery, maxResults, filter);
+        searcherManager.maybeRefreshBlocking();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs topDocs = searcher.search(query, maxResults);
+            StoredFields storedFields = searcher.storedFields();
+            List<Match> matches = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                matches.add(new Match(storedFields.document(scoreDoc.doc).get(ID_FIELD), scoreDoc.score));
+            }
+            return matches;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    void commit() throws IOException {
+        indexWriter.commit();
+    }
+
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    private static Query filesQuery(Collection<String> files) {
+        return new TermInSetQuery(FILE_FIELD, files.stream().map(BytesRef::new).toList());
+    }
+
+    private static List<String> toIds(IndexSearcher searcher, TopDocs topDocs) throws IOException {
+        StoredFields storedFields = searcher.storedFields();
+        List<String> ids = new ArrayList<>(topDocs.scoreDocs.length);
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+            ids.add(storedFields.document(scoreDoc.doc).get(ID_FIELD));
+        }
+        return ids;
+    }
+
+    record Match(String id, double score) {
+    }
+}
@@ -1,12 +1,16 @@
 package org.jabref.logic.ai.ingestion;
 
 import java.io.IOException;
-import java.io.StringWriter;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javafx.beans.property.ReadOnlyBooleanProperty;
 
+import org.jabref.logic.pdf.ExtractedTextCache;
 import org.jabref.logic.pdf.InterruptablePDFTextStripper;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.logic.xmp.XmpUtilReader;
@@ -14,6 +18,8 @@ import org.jabref.logic.xmp.XmpUtilReader;
 import dev.langchain4j.data.document.DefaultDocument;
 import dev.langchain4j.data.document.Document;
 import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,9 +27,18 @@ public class FileToDocument {
     private static final Logger LOGGER = LoggerFactory.getLogger(FileToDocument.class);
 
     private final ReadOnlyBooleanProperty shutdownSignal;
+    private final ExtractedTextCache extractedTextCache;
 
     public FileToDocument(ReadOnlyBooleanProperty shutdownSignal) {
+        this(shutdownSignal, ExtractedTextCache.getShared());
+    }
+
+    /**
+     * @param extractedTextCache the cache to take the text of files already extracted (e.g., for the full-text search) from and to store newly extracted text in
+     */
+    public FileToDocument(ReadOnlyBooleanProperty shutdownSignal, ExtractedTextCache extractedTextCache) {
         this.shutdownSignal = shutdownSignal;
+        this.extractedTextCache = extractedTextCache;
     }
 
     public Optional<Document> fromFile(Path path) {
@@ -38,26 +53,50 @@ public class FileToDocument {
     private Optional<Document> fromPdfFile(Path path) {
         // This method is private to ensure that the path is really pointing to PDF file (determined by extension).
 
-        try (PDDocument document = new XmpUtilReader().loadWithAutomaticDecryption(path)) {
-            int lastPage = document.getNumberOfPages();
-            StringWriter writer = new StringWriter();
+        Optional<List<ExtractedTextCache.Page>> cachedPages = extractedTextCache.get(path);
+        if (cachedPages.isPresent()) {
+            LOGGER.debug("Using the cached content of file {}", path);
+            return fromString(cachedPages.get().stream()
+                                         .map(ExtractedTextCache.Page::text)
+                                         .collect(Collectors.joining("\n")));
+        }
 
+        try (PDDocument document = new XmpUtilReader().loadWithAutomaticDecryption(path)) {
             InterruptablePDFTextStripper stripper = new InterruptablePDFTextStripper(shutdownSignal);
-            stripper.setStartPage(1);
-            stripper.setEndPage(lastPage);
-            stripper.writeText(document, writer);
+            stripper.setLineSeparator("\n");
 
-            if (shutdownSignal.get()) {
-                return Optional.empty();
+            // The text is extracted page by page and stored in the cache like the full-text indexer does, so that the indexer can reuse it
+            List<ExtractedTextCache.Page> pages = new ArrayList<>(document.getNumberOfPages());
+            for (int pageNumber = 1; pageNumber <= document.getNumberOfPages(); pageNumber++) {
+                stripper.setStartPage(pageNumber);
+                stripper.setEndPage(pageNumber);
+                String text = stripper.getText(document);
+
+                if (shutdownSignal.get()) {
+                    return Optional.empty();
+                }
+
+                pages.add(new ExtractedTextCache.Page(text, annotations(document.getPage(pageNumber - 1))));
             }
+            extractedTextCache.put(path, pages);
 
-            return fromString(writer.toString());
+            return fromString(pages.stream()
+                                   .map(ExtractedTextCache.Page::text)
+                                   .collect(Collectors.joining("\n")));
         } catch (IOException e) {
             LOGGER.error("An error occurred while reading the PDF file: {}", path, e);
             return Optional.empty();
         }
     }
 
+    private static String annotations(PDPage page) throws IOException {
+        return page.getAnnotations()
+                   .stream()
+                   .map(PDAnnotation::getContents)
+                   .filter(Objects::nonNull)
+                   .collect(Collectors.joining("\n"));
+    }
+
     public Optional<Document> fromString(String content) {
         return Optional.of(new DefaultDocument(content));
     }
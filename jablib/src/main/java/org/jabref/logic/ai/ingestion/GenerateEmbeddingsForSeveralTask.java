@@ -15,7 +15,6 @@ import org.jabref.logic.ai.processingstatus.ProcessingState;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.ProgressCounter;
-import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.LinkedFile;
 
@@ -26,6 +25,8 @@ import org.slf4j.LoggerFactory;
  * This task generates embeddings for several {@link LinkedFile} (typically used for groups).
  * It will check if embeddings were already generated.
  * And it also will store the embeddings.
+ * <p>
+ * The files are ingested concurrently by the workers of the {@link IngestionScheduler}.
  */
 public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
     private static final Logger LOGGER = LoggerFactory.getLogger(GenerateEmbeddingsForSeveralTask.class);
@@ -35,7 +36,7 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
     private final FileEmbeddingsManager fileEmbeddingsManager;
     private final BibDatabaseContext bibDatabaseContext;
     private final FilePreferences filePreferences;
-    private final TaskExecutor taskExecutor;
+    private final IngestionScheduler ingestionScheduler;
     private final ReadOnlyBooleanProperty shutdownSignal;
 
     private final ProgressCounter progressCounter = new ProgressCounter();
@@ -48,7 +49,7 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
             FileEmbeddingsManager fileEmbeddingsManager,
             BibDatabaseContext bibDatabaseContext,
             FilePreferences filePreferences,
-            TaskExecutor taskExecutor,
+            IngestionScheduler ingestionScheduler,
             ReadOnlyBooleanProperty shutdownSignal
     ) {
         this.groupName = groupName;
@@ -56,7 +57,7 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
         this.fileEmbeddingsManager = fileEmbeddingsManager;
         this.bibDatabaseContext = bibDatabaseContext;
         this.filePreferences = filePreferences;
-        this.taskExecutor = taskExecutor;
+        this.ingestionScheduler = ingestionScheduler;
         this.shutdownSignal = shutdownSignal;
 
         configure(groupName);
@@ -74,7 +75,7 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
 
     @Override
     public Void call() throws ExecutionException, InterruptedException {
-        LOGGER.debug("Starting embeddings generation of several files for {}", groupName.get());
+        LOGGER.debug("Starting embeddings generation of several files for {} using {} workers", groupName.get(), ingestionScheduler.getNumberOfWorkers());
 
         List<Pair<? extends Future<?>, String>> futures = new ArrayList<>();
 
@@ -83,7 +84,7 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
                 .map(processingInfo -> {
                     processingInfo.setState(ProcessingState.PROCESSING);
                     return new Pair<>(
-                            new GenerateEmbeddingsTask(
+                            ingestionScheduler.execute(new GenerateEmbeddingsTask(
                                     processingInfo.getObject(),
                                     fileEmbeddingsManager,
                                     bibDatabaseContext,
@@ -93,8 +94,7 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
                                     .showToUser(false)
                                     .onSuccess(v -> processingInfo.setState(ProcessingState.SUCCESS))
                                     .onFailure(processingInfo::setException)
-                                    .onFinished(() -> progressCounter.increaseWorkDone(1))
-                                    .executeWith(taskExecutor),
+                                    .onFinished(() -> progressCounter.increaseWorkDone(1))),
                             processingInfo.getObject().getLink());
                 })
                 .forEach(futures::add);
@@ -0,0 +1,137 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.jabref.logic.ai.AiPreferences;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.TaskExecutor;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the generation of embeddings for several files concurrently on its own pool of workers.
+ * <p>
+ * The ingestion does not use the {@link TaskExecutor}, because ingesting a whole library would occupy all threads of the task executor for a long time.
+ * Instead, the workers are limited to leave at least one processor to the user interface, and they run with the lowest priority.
+ * The callbacks of the tasks are still passed to the {@link TaskExecutor}, so they run on the same thread as for other tasks (i.e., the JavaFX thread).
+ */
+public class IngestionScheduler implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IngestionScheduler.class);
+
+    private final TaskExecutor taskExecutor;
+    private final ThreadPoolExecutor executor;
+
+    public IngestionScheduler(AiPreferences aiPreferences, TaskExecutor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+
+        int workers = getNumberOfWorkers(aiPreferences.getIngestionWorkers());
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("ai-ingestion-%d")
+                                          .setDaemon(true)
+                                          .setPriority(Thread.MIN_PRIORITY)
+                                          .build());
+
+        aiPreferences.ingestionWorkersProperty().addListener((_, _, newValue) -> setNumberOfWorkers(getNumberOfWorkers(newValue.intValue())));
+    }
+
+    /**
+     * @param configuredWorkers the number of workers configured in the preferences, 0 to choose it based on the available processors
+     */
+    static int getNumberOfWorkers(int configuredWorkers) {
+        int availableProcessors = Runtime.getRuntime().availableProcessors();
+        int maxWorkers = Math.max(1, availableProcessors - 1);
+        if (configuredWorkers <= 0) {
+            // Each worker may use several threads to compute the embeddings
+            return Math.max(1, Math.min(maxWorkers, availableProcessors / 2));
+        }
+        return Math.min(maxWorkers, configuredWorkers);
+    }
+
+    private synchronized void setNumberOfWorkers(int workers) {
+        LOGGER.debug("Using {} workers to generate embeddings", workers);
+        // The core pool size must not exceed the maximum pool size at any time
+        if (workers > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(workers);
+            executor.setCorePoolSize(workers);
+        } else {
+            executor.setCorePoolSize(workers);
+            executor.setMaximumPoolSize(workers);
+        }
+    }
+
+    public int getNumberOfWorkers() {
+        return executor.getCorePoolSize();
+    }
+
+    /**
+     * Runs the task as soon as a worker is free
+     *
+     * @return a future completing after the task has finished, but possibly before its callbacks have run
+     */
+    public <V> Future<V> execute(BackgroundTask<V> task) {
+        return executor.submit(() -> {
+            try {
+                V result = task.call();
+                runCallback(task.getOnSuccess(), result);
+                return result;
+            } catch (Exception e) {
+                if (task.getOnException() == null) {
+                    LOGGER.error("Unhandled exception while generating embeddings", e);
+                } else {
+                    runCallback(task.getOnException(), e);
+                }
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Creates a task for the {@link TaskExecutor}, which runs the given task on a worker and waits for it.
+     * Thus, the task is listed with the other background tasks and can be cancelled there, while the work is done by the workers.
+     * The title, message and progress of the given task are passed on. Its callbacks are not run; set them on the returned task instead.
+     */
+    public <V> BackgroundTask<V> runOnWorker(BackgroundTask<V> task) {
+        BackgroundTask<V> waitingTask = new BackgroundTask<>() {
+            @Override
+            public V call() throws Exception {
+                Future<V> future = executor.submit(task::call);
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    future.cancel(true);
+                    throw e;
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Exception cause) {
+                        throw cause;
+                    }
+                    throw e;
+                }
+            }
+        };
+        waitingTask.titleProperty().bind(task.titleProperty());
+        waitingTask.messageProperty().bind(task.messageProperty());
+        waitingTask.progressProperty().bind(task.progressProperty());
+        task.isCancelledProperty().bind(waitingTask.isCancelledProperty());
+        return waitingTask.showToUser(task.showToUser());
+    }
+
+    private <T> void runCallback(Consumer<T> callback, T value) {
+        if (callback != null) {
+            BackgroundTask.wrap(() -> value)
+                          .onSuccess(callback)
+                          .executeWith(taskExecutor);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
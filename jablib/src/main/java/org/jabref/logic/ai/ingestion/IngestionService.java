@@ -27,8 +27,10 @@ import dev.langchain4j.store.embedding.EmbeddingStore;
 /**
  * Main class for generating embedding for files.
  * Use this class in the logic and UI.
+ * <p>
+ * The embeddings are generated by the workers of an {@link IngestionScheduler}, so that several files are ingested concurrently.
  */
-public class IngestionService {
+public class IngestionService implements AutoCloseable {
     // We use a {@link TreeMap} here for the same reasons we use it in {@link ChatHistoryService}.
     private final TreeMap<LinkedFile, ProcessingInfo<LinkedFile, Void>> ingestionStatusMap = new TreeMap<>(Comparator.comparing(LinkedFile::getLink));
 
@@ -37,6 +39,7 @@ public class IngestionService {
     private final AiPreferences aiPreferences;
     private final FilePreferences filePreferences;
     private final TaskExecutor taskExecutor;
+    private final IngestionScheduler ingestionScheduler;
 
     private final FileEmbeddingsManager fileEmbeddingsManager;
 
@@ -53,6 +56,7 @@ public class IngestionService {
         this.aiPreferences = aiPreferences;
         this.filePreferences = filePreferences;
         this.taskExecutor = taskExecutor;
+        this.ingestionScheduler = new IngestionScheduler(aiPreferences, taskExecutor);
 
         this.fileEmbeddingsManager = new FileEmbeddingsManager(
                 aiPreferences,
@@ -142,17 +146,17 @@ public class IngestionService {
     private void startEmbeddingsGenerationTask(LinkedFile linkedFile, BibDatabaseContext bibDatabaseContext, ProcessingInfo<LinkedFile, Void> processingInfo) {
         processingInfo.setState(ProcessingState.PROCESSING);
 
-        new GenerateEmbeddingsTask(linkedFile, fileEmbeddingsManager, bibDatabaseContext, filePreferences, shutdownSignal)
-                .showToUser(true)
-                .onSuccess(v -> processingInfo.setState(ProcessingState.SUCCESS))
-                .onFailure(processingInfo::setException)
-                .executeWith(taskExecutor);
+        ingestionScheduler.runOnWorker(new GenerateEmbeddingsTask(linkedFile, fileEmbeddingsManager, bibDatabaseContext, filePreferences, shutdownSignal))
+                          .showToUser(true)
+                          .onSuccess(v -> processingInfo.setState(ProcessingState.SUCCESS))
+                          .onFailure(processingInfo::setException)
+                          .executeWith(taskExecutor);
     }
 
     private void startEmbeddingsGenerationTask(StringProperty groupName, List<ProcessingInfo<LinkedFile, Void>> linkedFiles, BibDatabaseContext bibDatabaseContext) {
         linkedFiles.forEach(processingInfo -> processingInfo.setState(ProcessingState.PROCESSING));
 
-        new GenerateEmbeddingsForSeveralTask(groupName, linkedFiles, fileEmbeddingsManager, bibDatabaseContext, filePreferences, taskExecutor, shutdownSignal)
+        new GenerateEmbeddingsForSeveralTask(groupName, linkedFiles, fileEmbeddingsManager, bibDatabaseContext, filePreferences, ingestionScheduler, shutdownSignal)
                 .executeWith(taskExecutor);
     }
 
@@ -160,4 +164,9 @@ public class IngestionService {
         fileEmbeddingsManager.clearEmbeddingsFor(linkedFiles);
         ingestionStatusMap.values().forEach(processingInfo -> processingInfo.setState(ProcessingState.STOPPED));
     }
+
+    @Override
+    public void close() {
+        ingestionScheduler.close();
+    }
 }
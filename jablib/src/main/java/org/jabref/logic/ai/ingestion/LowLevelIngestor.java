@@ -7,22 +7,28 @@ import javafx.beans.property.ReadOnlyBooleanProperty;
 
 import org.jabref.logic.ai.AiPreferences;
 
-import dev.langchain4j.data.document.DefaultDocument;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.document.splitter.DocumentSplitters;
+import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.store.embedding.EmbeddingStore;
-import dev.langchain4j.store.embedding.EmbeddingStoreIngestor;
 
+/**
+ * Splits documents into segments, generates the embeddings of the segments, and stores them.
+ * <p>
+ * The embeddings are generated for several segments at once, which is faster than generating them one by one.
+ * Each batch is added to the embedding store in one call; documents ingested concurrently therefore do not interleave within a batch.
+ */
 public class LowLevelIngestor {
+    static final int EMBEDDING_BATCH_SIZE = 16;
+
     private final AiPreferences aiPreferences;
 
     private final EmbeddingStore<TextSegment> embeddingStore;
     private final EmbeddingModel embeddingModel;
 
-    private EmbeddingStoreIngestor ingestor;
     private DocumentSplitter documentSplitter;
 
     public LowLevelIngestor(AiPreferences aiPreferences, EmbeddingStore<TextSegment> embeddingStore, EmbeddingModel embeddingModel) {
@@ -39,13 +45,6 @@ public class LowLevelIngestor {
         this.documentSplitter = DocumentSplitters
                 .recursive(aiPreferences.getDocumentSplitterChunkSize(),
                            aiPreferences.getDocumentSplitterOverlapSize());
-
-        this.ingestor = EmbeddingStoreIngestor
-                .builder()
-                .embeddingStore(embeddingStore)
-                .embeddingModel(embeddingModel)
-                .documentSplitter(documentSplitter)
-                .build();
     }
 
     private void setupListeningToPreferencesChanges() {
@@ -64,14 +63,16 @@ public class LowLevelIngestor {
         List<TextSegment> textSegments = documentSplitter.split(document);
         workMax.set(textSegments.size());
 
-        for (TextSegment documentPart : textSegments) {
+        for (int start = 0; start < textSegments.size(); start += EMBEDDING_BATCH_SIZE) {
             if (stopProperty.get()) {
                 throw new InterruptedException();
             }
 
-            ingestor.ingest(new DefaultDocument(documentPart.text(), document.metadata()));
+            List<TextSegment> batch = textSegments.subList(start, Math.min(start + EMBEDDING_BATCH_SIZE, textSegments.size()));
+            List<Embedding> embeddings = embeddingModel.embedAll(batch).content();
+            embeddingStore.addAll(embeddings, batch);
 
-            workDone.set(workDone.get() + 1);
+            workDone.set(workDone.get() + batch.size());
         }
     }
 }
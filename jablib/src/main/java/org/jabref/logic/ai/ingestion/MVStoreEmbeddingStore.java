@@ -1,27 +1,32 @@
 package org.jabref.logic.ai.ingestion;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.jabref.logic.ai.util.MVStoreBase;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.NotificationService;
 
+import com.google.common.annotations.VisibleForTesting;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
-import dev.langchain4j.store.embedding.CosineSimilarity;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
@@ -30,8 +35,11 @@ import dev.langchain4j.store.embedding.RelevanceScore;
 import dev.langchain4j.store.embedding.filter.Filter;
 import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
 import dev.langchain4j.store.embedding.filter.comparison.IsIn;
-import jakarta.annotation.Nullable;
+import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static java.util.Comparator.comparingDouble;
 import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
@@ -39,22 +47,223 @@ import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_
 /**
  * A custom implementation of langchain4j's {@link EmbeddingStore} that uses a {@link MVStore} as an embedded database.
  * <p>
- * Every embedding has 3 fields: float array (the embedding itself), file where it was generated from, and the embedded
- * string (the content).
+ * Every embedding has 3 fields, each stored in a separate map: the embedding vector (quantized, see {@link QuantizedEmbeddings}),
+ * the file where it was generated from, and the embedded string (the content). Thus, a search reads the vectors and the files only,
+ * and the contents (as well as the scales to restore the vectors) are read for the found embeddings.
  * <p>
+ * The embeddings are additionally indexed in an {@link EmbeddingsVectorIndex} to find the most relevant ones without comparing the query to all embeddings.
+ * The index is kept in sync with the MVStore and rebuilt if it does not match (e.g., after a crash). If the index cannot be used (e.g., because the embeddings have too many dimensions for it),
+ * all embeddings are compared to the query.
  */
 public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore<TextSegment> {
+    // Format of the embeddings stored by earlier versions. Read only to migrate them.
     // `file` field is nullable, because {@link Optional} can't be serialized.
     private record EmbeddingRecord(@Nullable String file, String content, float[] embeddingVector) implements Serializable { }
 
-    private static final String EMBEDDINGS_MAP_NAME = "embeddings";
+    private static final Logger LOGGER = LoggerFactory.getLogger(MVStoreEmbeddingStore.class);
 
-    private final Map<String, EmbeddingRecord> embeddingsMap;
+    private static final String LEGACY_EMBEDDINGS_MAP_NAME = "embeddings";
+    private static final String VECTORS_MAP_NAME = "vectors";
+    private static final String SCALES_MAP_NAME = "scales";
+    private static final String FILES_MAP_NAME = "files";
+    private static final String CONTENTS_MAP_NAME = "contents";
+    private static final String VECTOR_INDEX_DIRECTORY_SUFFIX = "-hnsw";
+
+    // id -> quantized embedding vector
+    private final Map<String, byte[]> vectorsMap;
+
+    // id -> scale to restore the embedding vector from the quantized one
+    private final Map<String, Float> scalesMap;
+
+    // id -> file the embedding was generated from; embeddings without a file have no entry
+    private final Map<String, String> filesMap;
+
+    // id -> embedded text
+    private final Map<String, String> contentsMap;
+
+    // Set as soon as the index is in sync with the map. Changes of the map are synchronized to keep the index in sync.
+    private volatile @Nullable EmbeddingsVectorIndex vectorIndex;
+    private volatile boolean closing;
+
+    // Ids of the embeddings changed while the index is rebuilt, null if no rebuild is running. Guarded by this.
+    private @Nullable Set<String> changedDuringRebuild;
+    private boolean clearedDuringRebuild;
 
     public MVStoreEmbeddingStore(Path path, NotificationService dialogService) {
+        this(path, dialogService, true);
+    }
+
+    /**
+     * @param useVectorIndex false to compare the query to all embeddings, e.g., to compare the results with the ones of the index
+     */
+    public MVStoreEmbeddingStore(Path path, NotificationService dialogService, boolean useVectorIndex) {
         super(path, dialogService);
 
-        this.embeddingsMap = this.mvStore.openMap(EMBEDDINGS_MAP_NAME);
+        this.vectorsMap = this.mvStore.openMap(VECTORS_MAP_NAME);
+        this.scalesMap = this.mvStore.openMap(SCALES_MAP_NAME);
+        this.filesMap = this.mvStore.openMap(FILES_MAP_NAME);
+        this.contentsMap = this.mvStore.openMap(CONTENTS_MAP_NAME);
+        migrateLegacyEmbeddings();
+
+        if (useVectorIndex) {
+            // An in-memory store gets an in-memory index
+            Path indexDirectory = mvStore.getFileStore() == null ? null : path.resolveSibling(path.getFileName() + VECTOR_INDEX_DIRECTORY_SUFFIX);
+            try {
+                EmbeddingsVectorIndex index = new EmbeddingsVectorIndex(indexDirectory);
+                if (index.size() == vectorsMap.size()) {
+                    this.vectorIndex = index;
+                } else {
+                    // Until the index is rebuilt, all embeddings are compared when searching
+                    changedDuringRebuild = new HashSet<>();
+                    HeadlessExecutorService.INSTANCE.execute(() -> rebuildVectorIndex(index));
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Could not open the index of the embeddings. All embeddings will be compared when searching.", e);
+            }
+        }
+    }
+
+    /**
+     * Converts the embeddings stored by earlier versions, which kept the float vector and the content in one serialized record
+     */
+    private void migrateLegacyEmbeddings() {
+        if (!mvStore.hasMap(LEGACY_EMBEDDINGS_MAP_NAME)) {
+            return;
+        }
+        MVMap<String, EmbeddingRecord> legacyEmbeddings = mvStore.openMap(LEGACY_EMBEDDINGS_MAP_NAME);
+        LOGGER.info("Converting {} embeddings to the quantized format", legacyEmbeddings.size());
+        legacyEmbeddings.forEach((id, eRecord) -> put(id, eRecord.file(), eRecord.content(), eRecord.embeddingVector()));
+        mvStore.removeMap(legacyEmbeddings);
+        mvStore.commit();
+    }
+
+    /**
+     * Rebuilds the index if it does not match the map, e.g., after a crash or when the index was created for the first time.
+     * <p>
+     * The embeddings are added without blocking changes of the store. The embeddings changed in the meantime are recorded and updated in the index before it is used.
+     */
+    private void rebuildVectorIndex(EmbeddingsVectorIndex index) {
+        LOGGER.info("Rebuilding the index of {} embeddings", vectorsMap.size());
+        try {
+            index.removeAll();
+            for (Map.Entry<String, byte[]> entry : vectorsMap.entrySet()) {
+                if (closing) {
+                    break;
+                }
+                index.add(entry.getKey(), filesMap.get(entry.getKey()), entry.getValue());
+            }
+            synchronized (this) {
+                if (!closing) {
+                    replayChanges(index);
+                    index.commit();
+                    vectorIndex = index;
+                    changedDuringRebuild = null;
+                    LOGGER.info("Rebuilt the index of the embeddings");
+                    return;
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warn("Could not rebuild the index of the embeddings. All embeddings will be compared when searching.", e);
+        }
+        synchronized (this) {
+            changedDuringRebuild = null;
+        }
+        try {
+            index.close();
+        } catch (IOException e) {
+            LOGGER.debug("Could not close the index of the embeddings", e);
+        }
+    }
+
+    /**
+     * Updates the embeddings changed during the rebuild in the index
+     */
+    private void replayChanges(EmbeddingsVectorIndex index) throws IOException {
+        if (clearedDuringRebuild) {
+            index.removeAll();
+        }
+        for (String id : Objects.requireNonNull(changedDuringRebuild)) {
+            byte[] vector = vectorsMap.get(id);
+            if (vector == null) {
+                index.remove(id);
+            } else {
+                index.add(id, filesMap.get(id), vector);
+            }
+        }
+    }
+
+    /**
+     * @return the quantized vector as it is stored
+     */
+    private byte[] put(String id, @Nullable String file, String content, float[] vector) {
+        byte[] quantized = QuantizedEmbeddings.quantize(vector);
+        vectorsMap.put(id, quantized);
+        scalesMap.put(id, QuantizedEmbeddings.scale(vector));
+        if (file == null) {
+            filesMap.remove(id);
+        } else {
+            filesMap.put(id, file);
+        }
+        contentsMap.put(id, content);
+        return quantized;
+    }
+
+    private void removeFromMaps(String id) {
+        vectorsMap.remove(id);
+        scalesMap.remove(id);
+        filesMap.remove(id);
+        contentsMap.remove(id);
+    }
+
+    private void addToVectorIndex(String id, @Nullable String file, byte[] quantizedVector) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(id);
+        }
+        EmbeddingsVectorIndex index = vectorIndex;
+        if (index == null) {
+            return;
+        }
+        try {
+            index.add(id, file, quantizedVector);
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warn("Could not index embedding. All embeddings will be compared when searching.", e);
+            disableVectorIndex();
+        }
+    }
+
+    private void removeFromVectorIndex(Collection<String> ids) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.addAll(ids);
+        }
+        EmbeddingsVectorIndex index = vectorIndex;
+        if (index == null) {
+            return;
+        }
+        try {
+            for (String id : ids) {
+                index.remove(id);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not remove embedding from the index. All embeddings will be compared when searching.", e);
+            disableVectorIndex();
+        }
+    }
+
+    @VisibleForTesting
+    boolean usesVectorIndex() {
+        return vectorIndex != null;
+    }
+
+    private synchronized void disableVectorIndex() {
+        EmbeddingsVectorIndex index = vectorIndex;
+        vectorIndex = null;
+        if (index != null) {
+            try {
+                index.close();
+            } catch (IOException e) {
+                LOGGER.debug("Could not close the index of the embeddings", e);
+            }
+        }
     }
 
     @Override
@@ -73,39 +282,60 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     }
 
     @Override
-    public void add(String id, Embedding embedding) {
+    public synchronized void add(String id, Embedding embedding) {
         // It does not make much sense to store single embedding vector, but this is a requirement from langchain4j's
         // {@link EmbeddingStore}.
-        embeddingsMap.put(id, new EmbeddingRecord(null, "", embedding.vector()));
+        addToVectorIndex(id, null, put(id, null, "", embedding.vector()));
     }
 
     @Override
-    public String add(Embedding embedding, TextSegment textSegment) {
+    public synchronized String add(Embedding embedding, TextSegment textSegment) {
         String id = String.valueOf(UUID.randomUUID());
         String linkedFile = textSegment.metadata().getString(LINK_METADATA_KEY);
-        embeddingsMap.put(id, new EmbeddingRecord(linkedFile, textSegment.text(), embedding.vector()));
+        addToVectorIndex(id, linkedFile, put(id, linkedFile, textSegment.text(), embedding.vector()));
         return id;
     }
 
+    /**
+     * Adds the embeddings at once, i.e., no other change of the store happens in between
+     */
     @Override
-    public List<String> addAll(List<Embedding> embeddings, List<TextSegment> embedded) {
+    public synchronized List<String> addAll(List<Embedding> embeddings, List<TextSegment> embedded) {
         return IntStream.range(0, embeddings.size()).mapToObj(i -> add(embeddings.get(i), embedded.get(i))).toList();
     }
 
     @Override
-    public void remove(String id) {
-        embeddingsMap.remove(id);
+    public synchronized void remove(String id) {
+        removeFromMaps(id);
+        removeFromVectorIndex(List.of(id));
     }
 
     @Override
-    public void removeAll(Filter filter) {
+    public synchronized void removeAll(Filter filter) {
         List<String> idsToRemove = applyFilter(filter).toList();
-        idsToRemove.forEach(this::remove);
+        idsToRemove.forEach(this::removeFromMaps);
+        removeFromVectorIndex(idsToRemove);
     }
 
     @Override
-    public void removeAll() {
-        embeddingsMap.clear();
+    public synchronized void removeAll() {
+        vectorsMap.clear();
+        scalesMap.clear();
+        filesMap.clear();
+        contentsMap.clear();
+        if (changedDuringRebuild != null) {
+            clearedDuringRebuild = true;
+            changedDuringRebuild.clear();
+        }
+        EmbeddingsVectorIndex index = vectorIndex;
+        if (index != null) {
+            try {
+                index.removeAll();
+            } catch (IOException e) {
+                LOGGER.warn("Could not clear the index of the embeddings. All embeddings will be compared when searching.", e);
+                disableVectorIndex();
+            }
+        }
     }
 
     /// The main function of finding most relevant text segments.
@@ -119,27 +349,50 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     /// @return an [EmbeddingSearchResult], which contains most relevant text segments
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
+        EmbeddingsVectorIndex index = vectorIndex;
+        if (index != null) {
+            try {
+                return searchInVectorIndex(index, request);
+            } catch (IOException e) {
+                LOGGER.warn("Could not search the index of the embeddings. All embeddings will be compared when searching.", e);
+                disableVectorIndex();
+            }
+        }
+        return searchExhaustively(request);
+    }
+
+    private EmbeddingSearchResult<TextSegment> searchInVectorIndex(EmbeddingsVectorIndex index, EmbeddingSearchRequest request) throws IOException {
+        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>();
+        for (EmbeddingsVectorIndex.Match match : index.search(QuantizedEmbeddings.quantize(request.queryEmbedding().vector()), request.maxResults(), filteredFiles(request.filter()))) {
+            if (vectorsMap.containsKey(match.id()) && (match.score() >= request.minScore())) {
+                result.add(toMatch(match.score(), match.id()));
+            }
+        }
+        return new EmbeddingSearchResult<>(result);
+    }
+
+    /**
+     * Compares the query to all embeddings matching the filter
+     */
+    private EmbeddingSearchResult<TextSegment> searchExhaustively(EmbeddingSearchRequest request) {
         // Source: {@link InMemoryEmbeddingStore}.
+        // The contents are read for the best matches only.
 
-        Comparator<EmbeddingMatch<TextSegment>> comparator = comparingDouble(EmbeddingMatch::score);
-        PriorityQueue<EmbeddingMatch<TextSegment>> matches = new PriorityQueue<>(comparator);
+        Comparator<ScoredId> comparator = comparingDouble(ScoredId::score);
+        PriorityQueue<ScoredId> matches = new PriorityQueue<>(comparator);
+        byte[] query = QuantizedEmbeddings.quantize(request.queryEmbedding().vector());
 
         applyFilter(request.filter()).forEach(id -> {
-            EmbeddingRecord eRecord = embeddingsMap.get(id);
+            byte[] vector = vectorsMap.get(id);
+            if (vector == null) {
+                return;
+            }
 
-            double cosineSimilarity = CosineSimilarity.between(Embedding.from(eRecord.embeddingVector), request.queryEmbedding());
+            double cosineSimilarity = QuantizedEmbeddings.cosineSimilarity(query, vector);
             double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
 
             if (score >= request.minScore()) {
-                matches.add(
-                        new EmbeddingMatch<>(
-                                score,
-                                id,
-                                Embedding.from(eRecord.embeddingVector),
-                                new TextSegment(
-                                        eRecord.content,
-                                        new Metadata(
-                                                eRecord.file == null ? Map.of() : Map.of(LINK_METADATA_KEY, eRecord.file)))));
+                matches.add(new ScoredId(id, score));
 
                 if (matches.size() > request.maxResults()) {
                     matches.poll();
@@ -147,33 +400,106 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
             }
         });
 
-        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>(matches);
-        result.sort(comparator.reversed());
+        return new EmbeddingSearchResult<>(matches.stream()
+                                                  .sorted(comparator.reversed())
+                                                  .map(match -> toMatch(match.score(), match.id()))
+                                                  .toList());
+    }
 
-        return new EmbeddingSearchResult<>(result);
+    private EmbeddingMatch<TextSegment> toMatch(double score, String id) {
+        String file = filesMap.get(id);
+        return new EmbeddingMatch<>(
+                score,
+                id,
+                Embedding.from(QuantizedEmbeddings.dequantize(vectorsMap.get(id), scalesMap.get(id))),
+                new TextSegment(
+                        Objects.requireNonNullElse(contentsMap.get(id), ""),
+                        new Metadata(
+                                file == null ? Map.of() : Map.of(LINK_METADATA_KEY, file))));
+    }
+
+    private record ScoredId(String id, double score) {
     }
 
     @Override
-    public void removeAll(Collection ids) {
-        embeddingsMap.entrySet().removeIf(entry -> ids.contains(entry.getKey()));
+    public synchronized void removeAll(Collection ids) {
+        List<String> idsToRemove = ((Collection<?>) ids).stream().map(String::valueOf).filter(vectorsMap::containsKey).toList();
+        idsToRemove.forEach(this::removeFromMaps);
+        removeFromVectorIndex(idsToRemove);
+    }
+
+    /**
+     * Returns the files the given filter restricts the embeddings to, <code>null</code> if there is no filter
+     */
+    private static @Nullable Set<String> filteredFiles(@Nullable Filter filter) {
+        return switch (filter) {
+            case null -> null;
+
+            case IsIn isInFilter when Objects.equals(isInFilter.key(), LINK_METADATA_KEY) ->
+                    isInFilter.comparisonValues().stream().map(String::valueOf).collect(Collectors.toSet());
+
+            case IsEqualTo isEqualToFilter when Objects.equals(isEqualToFilter.key(), LINK_METADATA_KEY) ->
+                    Set.of(String.valueOf(isEqualToFilter.comparisonValue()));
+
+            default -> throw new IllegalArgumentException("Wrong filter passed to MVStoreEmbeddingStore");
+        };
     }
 
     private Stream<String> applyFilter(@Nullable Filter filter) {
+        EmbeddingsVectorIndex index = vectorIndex;
+        if ((index != null) && (filter != null)) {
+            try {
+                return index.findIds(filteredFiles(filter)).stream();
+            } catch (IOException e) {
+                LOGGER.warn("Could not search the index of the embeddings. All embeddings will be compared when searching.", e);
+                disableVectorIndex();
+            }
+        }
+
         return switch (filter) {
-            case null -> embeddingsMap.keySet().stream();
+            case null -> vectorsMap.keySet().stream();
 
             case IsIn isInFilter when Objects.equals(isInFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isInFilter.comparisonValues().contains(entry.getValue().file));
+                    filterEntries(entry -> isInFilter.comparisonValues().contains(entry.getValue()));
 
             case IsEqualTo isEqualToFilter when Objects.equals(isEqualToFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isEqualToFilter.comparisonValue().equals(entry.getValue().file));
+                    filterEntries(entry -> isEqualToFilter.comparisonValue().equals(entry.getValue()));
 
             default -> throw new IllegalArgumentException("Wrong filter passed to MVStoreEmbeddingStore");
         };
     }
 
-    private Stream<String> filterEntries(Predicate<Map.Entry<String, EmbeddingRecord>> predicate) {
-        return embeddingsMap.entrySet().stream().filter(predicate).map(Map.Entry::getKey);
+    private Stream<String> filterEntries(Predicate<Map.Entry<String, String>> predicate) {
+        return filesMap.entrySet().stream().filter(predicate).map(Map.Entry::getKey);
+    }
+
+    @Override
+    public void commit() {
+        super.commit();
+        EmbeddingsVectorIndex index = vectorIndex;
+        if (index != null) {
+            try {
+                index.commit();
+            } catch (IOException e) {
+                LOGGER.warn("Could not commit the index of the embeddings", e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        // Stops a running rebuild of the index
+        closing = true;
+        EmbeddingsVectorIndex index = vectorIndex;
+        if (index != null) {
+            try {
+                index.commit();
+            } catch (IOException e) {
+                LOGGER.warn("Could not commit the index of the embeddings", e);
+            }
+        }
+        disableVectorIndex();
+        super.close();
     }
 
     @Override
@@ -0,0 +1,60 @@
+package org.jabref.logic.ai.ingestion;
+
+import org.apache.lucene.util.VectorUtil;
+
+/**
+ * Stores embedding vectors as signed bytes (int8) with a scale per vector, which takes a quarter of the space of the float vectors.
+ * <p>
+ * A quantized vector has one byte per dimension. The scale is needed to restore the vector only: the cosine similarity does not depend on the length of the vectors.
+ * Thus, a query is quantized the same way and compared to the bytes directly, using the vectorized int8 arithmetic of Lucene.
+ * This is the same similarity as the one the {@link EmbeddingsVectorIndex} computes on the same bytes.
+ */
+final class QuantizedEmbeddings {
+
+    private QuantizedEmbeddings() {
+    }
+
+    static byte[] quantize(float[] vector) {
+        float scale = scale(vector);
+        byte[] quantized = new byte[vector.length];
+        if (scale == 0) {
+            return quantized;
+        }
+        for (int i = 0; i < vector.length; i++) {
+            quantized[i] = (byte) Math.round(vector[i] / scale);
+        }
+        return quantized;
+    }
+
+    static float[] dequantize(byte[] quantized, float scale) {
+        float[] vector = new float[quantized.length];
+        for (int i = 0; i < quantized.length; i++) {
+            vector[i] = quantized[i] * scale;
+        }
+        return vector;
+    }
+
+    /**
+     * @param quantizedQuery the query quantized using {@link #quantize(float[])}
+     * @throws IllegalArgumentException if the query and the vector have different dimensions
+     */
+    static double cosineSimilarity(byte[] quantizedQuery, byte[] quantized) {
+        if (quantizedQuery.length != quantized.length) {
+            throw new IllegalArgumentException("The query has " + quantizedQuery.length + " dimensions, but the vector " + quantized.length);
+        }
+        float cosine = VectorUtil.cosine(quantizedQuery, quantized);
+        // The similarity to a zero vector is undefined
+        return Float.isNaN(cosine) ? 0 : cosine;
+    }
+
+    /**
+     * The scale maps the component with the largest absolute value to {@link Byte#MAX_VALUE}
+     */
+    static float scale(float[] vector) {
+        float maxAbsoluteValue = 0;
+        for (float value : vector) {
+            maxAbsoluteValue = Math.max(maxAbsoluteValue, Math.abs(value));
+        }
+        return maxAbsoluteValue / Byte.MAX_VALUE;
+    }
+}
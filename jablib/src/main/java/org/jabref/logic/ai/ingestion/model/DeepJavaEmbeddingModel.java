@@ -1,8 +1,9 @@
 package org.jabref.logic.ai.ingestion.model;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import ai.djl.MalformedModelException;
 import ai.djl.inference.Predictor;
@@ -15,26 +16,31 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
 
+/**
+ * Generates embeddings using a model loaded by Deep Java Library.
+ * <p>
+ * A {@link Predictor} must not be used by several threads at the same time. Thus, each call takes an idle predictor or creates a new one,
+ * so that embeddings can be generated concurrently (e.g., for several documents).
+ */
 public class DeepJavaEmbeddingModel implements EmbeddingModel, AutoCloseable {
     private final ZooModel<String, float[]> model;
-    private final Predictor<String, float[]> predictor;
+    private final Queue<Predictor<String, float[]>> idlePredictors = new ConcurrentLinkedQueue<>();
 
     public DeepJavaEmbeddingModel(Criteria<String, float[]> criteria) throws ModelNotFoundException, MalformedModelException, IOException {
         this.model = criteria.loadModel();
-        this.predictor = model.newPredictor();
+        this.idlePredictors.add(model.newPredictor());
     }
 
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> list) {
-        try {
-            List<Embedding> result = new ArrayList<>();
-
-            for (TextSegment textSegment : list) {
-                float[] embedding = predictor.predict(textSegment.text());
-                result.add(new Embedding(embedding));
-            }
+        Predictor<String, float[]> predictor = idlePredictors.poll();
+        if (predictor == null) {
+            predictor = model.newPredictor();
+        }
 
-            return new Response<>(result);
+        try {
+            List<float[]> embeddings = predictor.batchPredict(list.stream().map(TextSegment::text).toList());
+            return new Response<>(embeddings.stream().map(Embedding::new).toList());
         } catch (TranslateException e) {
             // The rationale for RuntimeException here:
             // 1. langchain4j error handling is a mess, and it uses RuntimeExceptions
@@ -45,11 +51,14 @@ public class DeepJavaEmbeddingModel implements EmbeddingModel, AutoCloseable {
             //    it's possible, but langchain4j doesn't do it.
 
             throw new RuntimeException(e);
+        } finally {
+            idlePredictors.add(predictor);
         }
     }
 
     @Override
     public void close() {
+        idlePredictors.forEach(Predictor::close);
         this.model.close();
     }
 }
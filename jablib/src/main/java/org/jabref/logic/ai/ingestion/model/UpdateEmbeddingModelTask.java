@@ -58,6 +58,8 @@ public class UpdateEmbeddingModelTask extends BackgroundTask<Void> {
                         .optModelUrls(modelUrl)
                         .optEngine("PyTorch")
                         .optTranslatorFactory(new TextEmbeddingTranslatorFactory())
+                        // Segments of different lengths are padded to embed them in one batch
+                        .optArgument("padding", "true")
                         .optProgress(progressCounter)
                         .build();
 
@@ -1,10 +1,19 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.ToLongFunction;
 import java.util.regex.PatternSyntaxException;
 
 import org.jabref.model.FieldChange;
@@ -106,19 +115,89 @@ public class CitationKeyGenerator extends BracketedPattern {
 
         String newKey = createCitationKeyFromPattern(entry);
         newKey = replaceWithRegex(newKey);
-        newKey = appendLettersToKey(newKey, currentKey);
+        newKey = appendLettersToKey(newKey, currentKey, database::getNumberOfCitationKeyOccurrences);
         return cleanKey(newKey, unwantedCharacters);
     }
 
+    /**
+     * Generates the citation keys of the given entries and sets them.
+     * The keys are the same as if {@link #generateAndSetKey(BibEntry)} was called for each entry in the given order.
+     * <p>
+     * The patterns are expanded in parallel, as the expansion of an entry does not depend on the keys of other entries.
+     * Afterwards, the letters making the keys unique are assigned in one pass in the given order.
+     * This pass counts the keys in a map, which reflects the keys assigned so far, instead of looking them up in the library.
+     *
+     * @param entries the entries to generate the keys for
+     * @return the changes to the keys
+     */
+    public List<FieldChange> generateAndSetKeys(List<BibEntry> entries) {
+        return generateAndSetKeys(entries, _ -> {
+        });
+    }
+
+    /**
+     * Generates the citation keys of the given entries and sets them, reporting the progress.
+     *
+     * @param entries  the entries to generate the keys for
+     * @param progress called with the number of steps done so far, possibly from several threads. There are two steps per entry: expanding its pattern and setting its key.
+     * @return the changes to the keys
+     * @see #generateAndSetKeys(List)
+     */
+    public List<FieldChange> generateAndSetKeys(List<BibEntry> entries, IntConsumer progress) {
+        AtomicInteger expandedEntries = new AtomicInteger();
+        List<String> keysFromPattern = entries.parallelStream()
+                                              .map(entry -> {
+                                                  String key = replaceWithRegex(createCitationKeyFromPattern(entry));
+                                                  progress.accept(expandedEntries.incrementAndGet());
+                                                  return key;
+                                              })
+                                              .toList();
+
+        // Only entries of the library count as occurrences of a key
+        Map<String, Long> occurrences = new HashMap<>();
+        Set<BibEntry> entriesOfDatabase = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (BibEntry entry : database.getEntries()) {
+            entriesOfDatabase.add(entry);
+            entry.getCitationKey().ifPresent(key -> occurrences.merge(key, 1L, Long::sum));
+        }
+
+        // Keys assigned in this pass, for entries given more than once
+        Map<BibEntry, Optional<String>> assignedKeys = new IdentityHashMap<>();
+        List<String> newKeys = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            BibEntry entry = entries.get(i);
+            Optional<String> currentKey = assignedKeys.getOrDefault(entry, entry.getCitationKey());
+            String newKey = appendLettersToKey(keysFromPattern.get(i), currentKey.orElse(null), key -> occurrences.getOrDefault(key, 0L));
+            newKey = cleanKey(newKey, unwantedCharacters);
+            newKeys.add(newKey);
+
+            // An empty key clears the key of the entry
+            Optional<String> storedKey = Optional.of(newKey).filter(key -> !key.isEmpty());
+            if (entriesOfDatabase.contains(entry) && !storedKey.equals(currentKey)) {
+                currentKey.ifPresent(key -> occurrences.merge(key, -1L, Long::sum));
+                storedKey.ifPresent(key -> occurrences.merge(key, 1L, Long::sum));
+            }
+            assignedKeys.put(entry, storedKey);
+        }
+
+        List<FieldChange> changes = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            entries.get(i).setCitationKey(newKeys.get(i)).ifPresent(changes::add);
+            progress.accept(entries.size() + i + 1);
+        }
+        return changes;
+    }
+
     /**
      * A letter will be appended to the key based on the user's preferences, either always or to prevent duplicated keys.
      *
-     * @param key    the new key
-     * @param oldKey the old key
+     * @param key                 the new key
+     * @param oldKey              the old key
+     * @param numberOfOccurrences the number of entries having the given key
      * @return a key, if needed, with an appended letter
      */
-    private String appendLettersToKey(String key, String oldKey) {
-        long occurrences = database.getNumberOfCitationKeyOccurrences(key);
+    private String appendLettersToKey(String key, String oldKey, ToLongFunction<String> numberOfOccurrences) {
+        long occurrences = numberOfOccurrences.applyAsLong(key);
 
         if ((occurrences > 0) && Objects.equals(oldKey, key)) {
             occurrences--; // No change, so we can accept one dupe.
@@ -139,7 +218,7 @@ public class CitationKeyGenerator extends BracketedPattern {
                 moddedKey = key + getAppendix(number);
                 number++;
 
-                occurrences = database.getNumberOfCitationKeyOccurrences(moddedKey);
+                occurrences = numberOfOccurrences.applyAsLong(moddedKey);
                 // only happens if #getAddition() is buggy
                 if (Objects.equals(oldKey, moddedKey)) {
                     occurrences--;
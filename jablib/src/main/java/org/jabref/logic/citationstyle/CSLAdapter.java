@@ -3,7 +3,6 @@ package org.jabref.logic.citationstyle;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
 
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -15,66 +14,59 @@ import de.undercouch.citeproc.output.Bibliography;
 import de.undercouch.citeproc.output.Citation;
 
 /**
- * Provides an adapter class to CSL. It holds a CSL instance under the hood that is only recreated when
- * the style changes.
+ * Provides an adapter class to CSL. It holds a CSL instance for one style under the hood.
  * <p>
- * Note on the API: The first call to {@link #makeBibliography} is expensive since the
- * CSL instance will be created. As long as the style stays the same, we can reuse this instance. On style-change, the
- * engine is re-instantiated. Therefore, the use-case of this class is many calls to {@link #makeBibliography} with the
- * same style. Changing the output format is cheap.
+ * Note on the API: Creating an adapter is expensive since the CSL instance is created for the style.
+ * Therefore, adapters are reused by the {@link CSLAdapterPool}. Changing the output format is cheap.
  * <p>
  * Note on the implementation:
- * The main function {@link #makeBibliography} will enforce
- * synchronized calling. The main CSL engine under the hood is not thread-safe. Since this class is usually called from
- * a BackgroundTask, the only other option would be to create several CSL instances which is wasting a lot of resources and very slow.
- * In the current scheme, {@link #makeBibliography} can be called as usual
- * background task and to the best of my knowledge, concurrent calls will pile up and processed sequentially.
+ * The main CSL engine under the hood is not thread-safe. Thus, an adapter must be used by one thread at a time,
+ * which is ensured by the {@link CSLAdapterPool}. Several adapters (even for the same style) can be used concurrently.
  */
-public class CSLAdapter {
+class CSLAdapter {
 
     private final JabRefItemDataProvider dataProvider = new JabRefItemDataProvider();
-    private String style;
+    private final String style;
+    private final CSL cslInstance;
     private CitationStyleOutputFormat format;
-    private CSL cslInstance;
 
     /**
-     * Creates the bibliography of the provided items. This method needs to run synchronized because the underlying
-     * CSL engine is not thread-safe.
+     * @param style the source of the CSL style
+     * @throws IOException An error occurred in the underlying framework
+     */
+    CSLAdapter(String style) throws IOException {
+        this.style = style;
+        // lang and forceLang are set to the default values of other CSL constructors
+        this.cslInstance = new CSL(dataProvider, new JabRefLocaleProvider(),
+                new DefaultAbbreviationProvider(), style, "en-US");
+    }
+
+    String getStyle() {
+        return style;
+    }
+
+    /**
+     * Creates the bibliography of the provided items.
      *
      * @param databaseContext {@link BibDatabaseContext} is used to be able to resolve fields and their aliases
      */
-    public synchronized List<String> makeBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException, IllegalArgumentException {
+    List<String> makeBibliography(List<BibEntry> bibEntries, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IllegalArgumentException {
         dataProvider.setData(bibEntries, databaseContext, entryTypesManager);
-        initialize(style, outputFormat);
+        setOutputFormat(outputFormat);
         cslInstance.registerCitationItems(dataProvider.getIds());
         final Bibliography bibliography = cslInstance.makeBibliography();
         return Arrays.asList(bibliography.getEntries());
     }
 
-    public synchronized Citation makeCitation(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException {
+    Citation makeCitation(List<BibEntry> bibEntries, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
         dataProvider.setData(bibEntries, databaseContext, entryTypesManager);
-        initialize(style, outputFormat);
+        setOutputFormat(outputFormat);
         cslInstance.registerCitationItems(dataProvider.getIds());
         return cslInstance.makeCitation(bibEntries.stream().map(entry -> entry.getCitationKey().orElse("")).toList()).getFirst();
     }
 
-    /**
-     * Initialized the static CSL instance if needed.
-     *
-     * @param newStyle  journal style of the output
-     * @param newFormat usually HTML or RTF.
-     * @throws IOException An error occurred in the underlying framework
-     */
-    private void initialize(String newStyle, CitationStyleOutputFormat newFormat) throws IOException {
-        final boolean newCslInstanceNeedsToBeCreated = (cslInstance == null) || !Objects.equals(newStyle, style);
-        if (newCslInstanceNeedsToBeCreated) {
-            // lang and forceLang are set to the default values of other CSL constructors
-            cslInstance = new CSL(dataProvider, new JabRefLocaleProvider(),
-                    new DefaultAbbreviationProvider(), newStyle, "en-US");
-            style = newStyle;
-        }
-
-        if (newCslInstanceNeedsToBeCreated || (!Objects.equals(newFormat, format))) {
+    private void setOutputFormat(CitationStyleOutputFormat newFormat) {
+        if (newFormat != format) {
             cslInstance.setOutputFormat(newFormat.getFormat());
             format = newFormat;
         }
@@ -0,0 +1,130 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Pool of {@link CSLAdapter}s, so that citations and bibliographies can be rendered concurrently.
+ * <p>
+ * An adapter is bound to a style, as creating the CSL engine for a style is expensive. Adapters not in use are kept for later calls with the same style.
+ * Thus, alternating between styles (e.g., previews in different styles) does not create the engines again.
+ * The output format is set on the adapter for each call, which is cheap.
+ * <p>
+ * The number of adapters in use at the same time is bounded; further calls wait for an adapter to be returned.
+ * Idle adapters are evicted if they were not used for some time or if there are too many of them (the least recently used ones first).
+ */
+class CSLAdapterPool {
+
+    private static final int DEFAULT_MAX_ADAPTERS_IN_USE = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final int DEFAULT_MAX_IDLE_ADAPTERS = 2 * DEFAULT_MAX_ADAPTERS_IN_USE;
+    private static final Duration DEFAULT_MAX_IDLE_TIME = Duration.ofMinutes(10);
+
+    private final Semaphore adaptersInUse;
+    private final int maxIdleAdapters;
+    private final long maxIdleNanos;
+
+    // style -> idle adapters, the most recently returned one first
+    private final Map<String, Deque<IdleAdapter>> idleAdapters = new HashMap<>();
+    private int numberOfIdleAdapters;
+
+    CSLAdapterPool() {
+        this(DEFAULT_MAX_ADAPTERS_IN_USE, DEFAULT_MAX_IDLE_ADAPTERS, DEFAULT_MAX_IDLE_TIME);
+    }
+
+    CSLAdapterPool(int maxAdaptersInUse, int maxIdleAdapters, Duration maxIdleTime) {
+        this.adaptersInUse = new Semaphore(maxAdaptersInUse, true);
+        this.maxIdleAdapters = maxIdleAdapters;
+        this.maxIdleNanos = maxIdleTime.toNanos();
+    }
+
+    /**
+     * Runs the given function with an adapter for the given style. The adapter is used by the calling thread only until the function returns.
+     *
+     * @param style the source of the CSL style
+     * @throws IOException if the CSL engine could not be created for the style
+     */
+    <T> T withAdapter(String style, AdapterFunction<T> function) throws IOException {
+        adaptersInUse.acquireUninterruptibly();
+        try {
+            CSLAdapter adapter = takeIdleAdapter(style);
+            if (adapter == null) {
+                adapter = new CSLAdapter(style);
+            }
+            // An adapter whose call failed is not returned to the pool, as the state of the engine is unknown
+            T result = function.apply(adapter);
+            returnAdapter(adapter);
+            return result;
+        } finally {
+            adaptersInUse.release();
+        }
+    }
+
+    synchronized int getNumberOfIdleAdapters() {
+        return numberOfIdleAdapters;
+    }
+
+    private synchronized CSLAdapter takeIdleAdapter(String style) {
+        evictExpiredAdapters(System.nanoTime());
+        Deque<IdleAdapter> adapters = idleAdapters.get(style);
+        if ((adapters == null) || adapters.isEmpty()) {
+            return null;
+        }
+        numberOfIdleAdapters--;
+        return adapters.pollFirst().adapter();
+    }
+
+    private synchronized void returnAdapter(CSLAdapter adapter) {
+        long now = System.nanoTime();
+        idleAdapters.computeIfAbsent(adapter.getStyle(), _ -> new ArrayDeque<>()).addFirst(new IdleAdapter(adapter, now));
+        numberOfIdleAdapters++;
+        evictExpiredAdapters(now);
+        while (numberOfIdleAdapters > maxIdleAdapters) {
+            evictLeastRecentlyUsedAdapter();
+        }
+    }
+
+    private void evictExpiredAdapters(long now) {
+        Iterator<Deque<IdleAdapter>> styles = idleAdapters.values().iterator();
+        while (styles.hasNext()) {
+            Deque<IdleAdapter> adapters = styles.next();
+            while (!adapters.isEmpty() && ((now - adapters.peekLast().returned()) > maxIdleNanos)) {
+                adapters.pollLast();
+                numberOfIdleAdapters--;
+            }
+            if (adapters.isEmpty()) {
+                styles.remove();
+            }
+        }
+    }
+
+    private void evictLeastRecentlyUsedAdapter() {
+        Deque<IdleAdapter> leastRecentlyUsed = null;
+        for (Deque<IdleAdapter> adapters : idleAdapters.values()) {
+            if ((leastRecentlyUsed == null) || (adapters.peekLast().returned() < leastRecentlyUsed.peekLast().returned())) {
+                leastRecentlyUsed = adapters;
+            }
+        }
+        if (leastRecentlyUsed == null) {
+            return;
+        }
+        IdleAdapter evicted = leastRecentlyUsed.pollLast();
+        numberOfIdleAdapters--;
+        if (leastRecentlyUsed.isEmpty()) {
+            idleAdapters.remove(evicted.adapter().getStyle());
+        }
+    }
+
+    @FunctionalInterface
+    interface AdapterFunction<T> {
+        T apply(CSLAdapter adapter);
+    }
+
+    private record IdleAdapter(CSLAdapter adapter, long returned) {
+    }
+}
@@ -171,4 +171,44 @@ public final class CSLStyleUtils {
             return Optional.empty();
         }
     }
+
+    /**
+     * Checks whether the bibliography of a style lists the entries in the order in which they are cited.
+     * This is the case if the bibliography is not sorted or sorted by the citation number in ascending order only.
+     * Then, the bibliography of a list of entries is the concatenation of the bibliographies of its parts (apart from the numbering).
+     *
+     * @param content The XML content of the style
+     * @return true if the bibliography keeps the citation order, false otherwise or if the style could not be parsed
+     */
+    public static boolean keepsBibliographyInCitationOrder(String content) {
+        try {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(Reader.of(content));
+
+            boolean inBibliography = false;
+            while (reader.hasNext()) {
+                int event = reader.next();
+
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (reader.getLocalName()) {
+                        case "bibliography" -> inBibliography = true;
+                        case "key" -> {
+                            if (inBibliography
+                                    && (!"citation-number".equals(reader.getAttributeValue(null, "variable"))
+                                    || "descending".equals(reader.getAttributeValue(null, "sort")))) {
+                                return false;
+                            }
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if ("bibliography".equals(reader.getLocalName())) {
+                        inBibliography = false;
+                    }
+                }
+            }
+            return true;
+        } catch (XMLStreamException e) {
+            LOGGER.error("Error parsing XML of style: {}", e.getMessage(), e);
+            return false;
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+
+import org.jbibtex.TokenMgrException;
+
+/**
+ * Writes the bibliography of (possibly many) entries in a citation style.
+ * <p>
+ * In contrast to {@link CitationStyleGenerator#generateBibliography(List, String, CitationStyleOutputFormat, BibDatabaseContext, BibEntryTypesManager)},
+ * the entries are rendered in chunks of a bounded size, and each chunk is written before the next one is rendered.
+ * Thus, only the entries of one chunk are converted for the CSL engine and held as rendered text at the same time, regardless of the size of the library.
+ * <p>
+ * Rendering in chunks is only equivalent to rendering all entries at once if the style lists the entries in citation order and numbers them.
+ * Styles that sort their bibliography (e.g., by author and year) or disambiguate entries (e.g., by year suffixes) need to see all entries at once.
+ * Thus, such styles are rendered in a single chunk. Numeric styles are numbered continuously across the chunks.
+ * <p>
+ * As most author-date styles sort their bibliography, the memory needed stays bounded for numeric styles in citation order only (e.g., IEEE).
+ * For the other styles, the text of all entries is rendered at once, as by {@link CitationStyleGenerator}; it is still written without building one large string.
+ */
+public class CitationStyleBibliographyWriter {
+
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+
+    private final CitationStyle style;
+    private final CitationStyleOutputFormat outputFormat;
+    private final BibEntryTypesManager entryTypesManager;
+    private final int chunkSize;
+    private final boolean renderInChunks;
+
+    public CitationStyleBibliographyWriter(CitationStyle style, CitationStyleOutputFormat outputFormat, BibEntryTypesManager entryTypesManager) {
+        this(style, outputFormat, entryTypesManager, DEFAULT_CHUNK_SIZE);
+    }
+
+    public CitationStyleBibliographyWriter(CitationStyle style, CitationStyleOutputFormat outputFormat, BibEntryTypesManager entryTypesManager, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk size must be positive");
+        }
+        this.style = style;
+        this.outputFormat = outputFormat;
+        this.entryTypesManager = entryTypesManager;
+        this.chunkSize = chunkSize;
+        this.renderInChunks = style.isNumericStyle() && CSLStyleUtils.keepsBibliographyInCitationOrder(style.getSource());
+    }
+
+    /**
+     * Writes the bibliography entries separated by the line separator of the output format. The writer is neither flushed nor closed.
+     *
+     * @param databaseContext {@link BibDatabaseContext} is used to be able to resolve fields and their aliases
+     * @throws IOException if writing fails or if the CSL engine could not render the entries
+     */
+    public void write(List<BibEntry> entries, BibDatabaseContext databaseContext, Writer writer) throws IOException {
+        int written = 0;
+        int size = renderInChunks ? chunkSize : Math.max(entries.size(), 1);
+        for (int start = 0; start < entries.size(); start += size) {
+            List<BibEntry> chunk = entries.subList(start, Math.min(start + size, entries.size()));
+            for (String bibliographyEntry : render(chunk, databaseContext)) {
+                if (written > 0) {
+                    writer.write(outputFormat.getLineSeparator());
+                }
+                written++;
+                if (start > 0) {
+                    // The CSL engine numbers the entries of each chunk starting with 1
+                    bibliographyEntry = CitationStyleGenerator.updateSingleBibliographyNumber(bibliographyEntry, written);
+                }
+                writer.write(bibliographyEntry);
+            }
+        }
+    }
+
+    /**
+     * Writes the bibliography encoded in UTF-8. The stream is flushed, but not closed.
+     *
+     * @see #write(List, BibDatabaseContext, Writer)
+     */
+    public void write(List<BibEntry> entries, BibDatabaseContext databaseContext, OutputStream outputStream) throws IOException {
+        Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+        write(entries, databaseContext, writer);
+        writer.flush();
+    }
+
+    private List<String> render(List<BibEntry> chunk, BibDatabaseContext databaseContext) throws IOException {
+        try {
+            return CitationStyleGenerator.CSL_ADAPTER_POOL.withAdapter(style.getSource(),
+                    adapter -> adapter.makeBibliography(chunk, outputFormat, databaseContext, entryTypesManager));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | TokenMgrException e) {
+            throw new IOException("Could not generate the bibliography in style " + style.getTitle(), e);
+        }
+    }
+}
@@ -1,55 +1,134 @@
 package org.jabref.logic.citationstyle;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.preview.PreviewLayout;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntryChangedEvent;
 
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.google.common.eventbus.Subscribe;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Caches the generated Citations for quicker access
  * {@link CitationStyleGenerator} generates the citation with JavaScript which may take some time
+ * <p>
+ * There are two tiers: The most recently used citations are kept in memory. Citations in CSL styles are additionally stored in a {@link PersistentPreviewCache},
+ * so that they are available after a restart. Both tiers are addressed by the content of the entry and the style.
+ * Thus, a citation of a changed entry is generated again, and switching between styles does not discard the citations in other styles.
+ * Other layouts (e.g., text-based layouts, which depend on further preferences) are not cached.
  */
-public class CitationStyleCache {
+public class CitationStyleCache implements AutoCloseable {
 
     private static final int CACHE_SIZE = 1024;
 
-    private PreviewLayout citationStyle;
-    private final LoadingCache<BibEntry, String> citationStyleCache;
+    private final BibDatabaseContext databaseContext;
+    private final @Nullable PersistentPreviewCache persistentCache;
+    private final BibDatabaseEntryListener entryListener = new BibDatabaseEntryListener();
+
+    // key -> citation
+    private final Cache<String, String> citationStyleCache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+
+    // entry (by identity) -> keys of its generated citations, to remove the citations when the entry changes
+    private final Cache<BibEntry, Set<String>> keysOfEntries = CacheBuilder.newBuilder().weakKeys().build();
+
+    // layout (by identity) -> hash of the layout; computed once per layout, as it covers the whole style
+    private final Cache<PreviewLayout, String> layoutHashes = CacheBuilder.newBuilder().weakKeys().build();
+
+    private volatile @Nullable PreviewLayout citationStyle;
 
     public CitationStyleCache(BibDatabaseContext databaseContext) {
-        citationStyleCache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build(new CacheLoader<>() {
-            @Override
-            public String load(BibEntry entry) {
-                if (citationStyle != null) {
-                    return citationStyle.generatePreview(entry, databaseContext);
-                } else {
-                    return "";
-                }
-            }
-        });
-        databaseContext.getDatabase().registerListener(new BibDatabaseEntryListener());
+        this(databaseContext, null);
+    }
+
+    /**
+     * @param persistentCache the cache storing citations across restarts, <code>null</code> to keep citations in memory only
+     */
+    public CitationStyleCache(BibDatabaseContext databaseContext, @Nullable PersistentPreviewCache persistentCache) {
+        this.databaseContext = databaseContext;
+        this.persistentCache = persistentCache;
+        databaseContext.getDatabase().registerListener(entryListener);
     }
 
     /**
-     * Returns the citation for the given entry.
+     * Returns the citation for the given entry in the style set by {@link #setCitationStyle(PreviewLayout)}.
      */
     public String getCitationFor(BibEntry entry) {
-        return citationStyleCache.getUnchecked(entry);
+        PreviewLayout style = citationStyle;
+        if (style == null) {
+            return "";
+        }
+        return getCitationFor(entry, style);
+    }
+
+    /**
+     * Returns the citation for the given entry in the given style. The citations in several styles are cached at the same time.
+     */
+    public String getCitationFor(BibEntry entry, PreviewLayout style) {
+        if (!(style instanceof CitationStylePreviewLayout)) {
+            return style.generatePreview(entry, databaseContext);
+        }
+
+        String styleHash = layoutHashes.asMap().computeIfAbsent(style, PersistentPreviewCache::layoutHash);
+        String key = PersistentPreviewCache.key(entry, databaseContext, styleHash);
+        String citation = citationStyleCache.getIfPresent(key);
+        if (citation == null) {
+            citation = getPersistedCitation(key).orElseGet(() -> style.generatePreview(entry, databaseContext));
+            if (isErrorMessage(citation)) {
+                // The entry may be rendered after the style or the entry has been fixed
+                return citation;
+            }
+            citationStyleCache.put(key, citation);
+            if (persistentCache != null) {
+                persistentCache.put(key, citation);
+            }
+        }
+        keysOfEntries.asMap().computeIfAbsent(entry, _ -> ConcurrentHashMap.newKeySet()).add(key);
+        return citation;
+    }
+
+    private static boolean isErrorMessage(String citation) {
+        return citation.startsWith(Localization.lang("Cannot generate bibliography based on selected citation style."))
+                || citation.equals(Localization.lang("Cannot generate citation based on selected citation style."));
+    }
+
+    private Optional<String> getPersistedCitation(String key) {
+        if (persistentCache == null) {
+            return Optional.empty();
+        }
+        return persistentCache.get(key);
     }
 
     public void setCitationStyle(PreviewLayout citationStyle) {
-        Objects.requireNonNull(citationStyle);
-        if (!this.citationStyle.equals(citationStyle)) {
-            this.citationStyle = citationStyle;
-            this.citationStyleCache.invalidateAll();
+        this.citationStyle = Objects.requireNonNull(citationStyle);
+    }
+
+    /**
+     * Stops listening to changes of the library
+     */
+    @Override
+    public void close() {
+        databaseContext.getDatabase().unregisterListener(entryListener);
+    }
+
+    private void invalidate(BibEntry entry, boolean removePersisted) {
+        Set<String> keys = keysOfEntries.asMap().remove(entry);
+        if (keys == null) {
+            return;
+        }
+        for (String key : keys) {
+            citationStyleCache.invalidate(key);
+            if (removePersisted && (persistentCache != null)) {
+                persistentCache.remove(key);
+            }
         }
     }
 
@@ -59,16 +138,17 @@ public class CitationStyleCache {
          */
         @Subscribe
         public void listen(EntryChangedEvent entryChangedEvent) {
-            citationStyleCache.invalidate(entryChangedEvent.getBibEntry());
+            invalidate(entryChangedEvent.getBibEntry(), true);
         }
 
         /**
-         * removes the citation of the removed entries as they are not needed anymore
+         * removes the citation of the removed entries from memory as they are not needed anymore
+         * (the stored citations are kept, so that undoing the removal does not require to render them again)
          */
         @Subscribe
         public void listen(EntriesRemovedEvent entriesRemovedEvent) {
             for (BibEntry entry : entriesRemovedEvent.getBibEntries()) {
-                citationStyleCache.invalidate(entry);
+                invalidate(entry, false);
             }
         }
     }
@@ -2,6 +2,8 @@ package org.jabref.logic.citationstyle;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
@@ -16,12 +18,12 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Facade to unify the access to the citation style engine. Use these methods if you need rendered BibTeX item(s) in a
- * given journal style. This class uses {@link CSLAdapter} to create output.
+ * given journal style. This class uses {@link CSLAdapter}s from a {@link CSLAdapterPool} to create output; thus, it can be called concurrently.
  */
 public class CitationStyleGenerator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationStyleGenerator.class);
-    private static final CSLAdapter CSL_ADAPTER = new CSLAdapter();
+    static final CSLAdapterPool CSL_ADAPTER_POOL = new CSLAdapterPool();
 
     private CitationStyleGenerator() {
     }
@@ -33,7 +35,7 @@ public class CitationStyleGenerator {
      */
     public static String generateCitation(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
         try {
-            return CSL_ADAPTER.makeCitation(bibEntries, style, outputFormat, databaseContext, entryTypesManager).getText();
+            return CSL_ADAPTER_POOL.withAdapter(style, adapter -> adapter.makeCitation(bibEntries, outputFormat, databaseContext, entryTypesManager)).getText();
         } catch (IOException e) {
             LOGGER.error("Could not generate BibEntry citation", e);
             return Localization.lang("Cannot generate citation based on selected citation style.");
@@ -58,7 +60,7 @@ public class CitationStyleGenerator {
      */
     public static List<String> generateBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
         try {
-            return CSL_ADAPTER.makeBibliography(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
+            return CSL_ADAPTER_POOL.withAdapter(style, adapter -> adapter.makeBibliography(bibEntries, outputFormat, databaseContext, entryTypesManager));
         } catch (IllegalArgumentException e) {
             LOGGER.error("Could not generate BibEntry bibliography. The CSL engine could not create a bibliography output for your item.", e);
             return List.of(Localization.lang("Cannot generate bibliography based on selected citation style."));
@@ -75,4 +77,42 @@ public class CitationStyleGenerator {
                     e.getLocalizedMessage());
         }
     }
+
+    /**
+     * Method to update citation number of a bibliographic entry (to be inserted in the list of references).
+     * By default, citeproc-java ({@link #generateBibliography(List, String, CitationStyleOutputFormat, BibDatabaseContext, BibEntryTypesManager) generateBibliography}) always starts the numbering of a list of references with "1".
+     * If a citation doesn't correspond to the first cited entry, the number should be changed to the appropriate current citation number.
+     * The numbers should be globally unique. If an entry has been cited before, the older citation number corresponding to it should be reused.
+     * The number can be enclosed in different formats, such as "1", "1.", "1)", "(1)" or "[1]".
+     * <p>
+     * <b>Precondition:</b> Use ONLY with numeric citation styles.</p>
+     *
+     * @param citation the numeric citation with an unresolved number.
+     * @param currentNumber the correct number to update the citation with.
+     * @return the bibliographic citation with resolved number.
+     */
+    public static String updateSingleBibliographyNumber(String citation, int currentNumber) {
+        Pattern pattern = Pattern.compile("([\\[(])?(\\d+)([])])?(\\.)?\\s*");
+        Matcher matcher = pattern.matcher(citation);
+        StringBuilder sb = new StringBuilder();
+        boolean numberReplaced = false;
+
+        while (matcher.find()) {
+            if (!numberReplaced) {
+                String prefix = matcher.group(1) != null ? matcher.group(1) : "";
+                String suffix = matcher.group(3) != null ? matcher.group(3) : "";
+                String dot = matcher.group(4) != null ? "." : "";
+                String space = matcher.group().endsWith(" ") ? " " : "";
+
+                String replacement = prefix + currentNumber + suffix + dot + space;
+
+                matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+                numberReplaced = true;
+            } else {
+                matcher.appendReplacement(sb, matcher.group());
+            }
+        }
+        matcher.appendTail(sb);
+        return sb.toString();
+    }
 }
@@ -1,13 +1,18 @@
 package org.jabref.logic.citationstyle;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.SequencedCollection;
-import java.util.stream.Collectors;
 
 import org.jabref.logic.formatter.bibtexfields.RemoveNewlinesFormatter;
 import org.jabref.logic.integrity.PagesChecker;
@@ -41,6 +46,8 @@ public class JabRefItemDataProvider implements ItemDataProvider {
     private final StringJsonBuilderFactory stringJsonBuilderFactory;
 
     private final List<BibEntry> data = new ArrayList<>();
+    // citation key -> first entry with that key, as the CSL engine retrieves the items one by one
+    private final Map<String, BibEntry> entriesByCitationKey = new HashMap<>();
 
     private BibDatabaseContext bibDatabaseContext;
     private BibEntryTypesManager entryTypesManager;
@@ -181,6 +188,10 @@ public class JabRefItemDataProvider implements ItemDataProvider {
     public void setData(List<BibEntry> data, BibDatabaseContext bibDatabaseContext, BibEntryTypesManager entryTypesManager) {
         this.data.clear();
         this.data.addAll(data);
+        this.entriesByCitationKey.clear();
+        for (BibEntry entry : data) {
+            entriesByCitationKey.putIfAbsent(entry.getCitationKey().orElse(""), entry);
+        }
         this.bibDatabaseContext = bibDatabaseContext;
         this.entryTypesManager = entryTypesManager;
 
@@ -191,12 +202,16 @@ public class JabRefItemDataProvider implements ItemDataProvider {
         this.pagesChecker = new PagesChecker(ctx);
     }
 
+    /**
+     * Converts the entry with the given citation key. Entries are converted only when the CSL engine asks for them.
+     */
     @Override
     public CSLItemData retrieveItem(String id) {
-        return data.stream()
-                   .filter(entry -> entry.getCitationKey().orElse("").equals(id))
-                   .map(entry -> bibEntryToCSLItemData(entry, bibDatabaseContext, entryTypesManager))
-                   .findFirst().orElse(null);
+        BibEntry entry = entriesByCitationKey.get(id);
+        if (entry == null) {
+            return null;
+        }
+        return bibEntryToCSLItemData(entry, bibDatabaseContext, entryTypesManager);
     }
 
     @Override
@@ -207,12 +222,33 @@ public class JabRefItemDataProvider implements ItemDataProvider {
     }
 
     public String toJson() {
+        StringWriter writer = new StringWriter();
+        try {
+            writeJson(writer);
+        } catch (IOException e) {
+            // A StringWriter does not throw
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Writes all entries of the library as an array of CSL JSON items. The entries are converted one after another,
+     * so that the items of a large library are not held in memory at the same time.
+     */
+    public void writeJson(Writer writer) throws IOException {
         List<BibEntry> entries = bibDatabaseContext.getEntries();
         this.setData(entries, bibDatabaseContext, entryTypesManager);
-        return entries.stream()
-                      .map(entry -> bibEntryToCSLItemData(entry, bibDatabaseContext, entryTypesManager))
-                      .map(item -> item.toJson(stringJsonBuilderFactory.createJsonBuilder()))
-                      .map(String.class::cast)
-                      .collect(Collectors.joining(",", "[", "]"));
+        writer.write('[');
+        boolean first = true;
+        for (BibEntry entry : entries) {
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            CSLItemData item = bibEntryToCSLItemData(entry, bibDatabaseContext, entryTypesManager);
+            writer.write((String) item.toJson(stringJsonBuilderFactory.createJsonBuilder()));
+        }
+        writer.write(']');
     }
 }
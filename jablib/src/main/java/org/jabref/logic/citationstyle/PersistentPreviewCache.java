@@ -0,0 +1,161 @@
+package org.jabref.logic.citationstyle;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.jabref.logic.preview.PreviewLayout;
+import org.jabref.logic.util.Directories;
+import org.jabref.logic.util.PersistentLruCache;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Stores rendered previews across restarts of JabRef, so that the CSL engine does not need to render an unchanged entry again.
+ * <p>
+ * A preview is addressed by a hash of the content of the entry (including the fields inherited by cross-references and resolved strings)
+ * and the identity of the layout. Thus, a changed entry or layout is rendered again, and the previews are shared by all libraries.
+ * <p>
+ * If the cache grows larger than its maximum size, the least recently used previews are evicted.
+ */
+public class PersistentPreviewCache implements AutoCloseable {
+
+    public static final long DEFAULT_MAX_SIZE = 64L * 1024 * 1024;
+
+    private static final String FILE_NAME = "previews.mv";
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    private static PersistentPreviewCache shared;
+
+    // key -> rendered preview
+    private final PersistentLruCache<String> previews;
+
+    /**
+     * @param file    the file to store the cache in, <code>null</code> to keep the cache in memory only
+     * @param maxSize the maximum size of the stored previews in bytes
+     */
+    public PersistentPreviewCache(@Nullable Path file, long maxSize) {
+        this.previews = new PersistentLruCache<>(file, maxSize, preview -> 2L * preview.length());
+    }
+
+    /**
+     * Returns the cache shared by all libraries, stored in the user data directory
+     */
+    public static synchronized PersistentPreviewCache getShared() {
+        if ((shared == null) || shared.previews.isClosed()) {
+            shared = new PersistentPreviewCache(getDefaultFile(), DEFAULT_MAX_SIZE);
+        }
+        return shared;
+    }
+
+    public static synchronized void closeShared() {
+        if (shared != null) {
+            shared.close();
+            shared = null;
+        }
+    }
+
+    public static Path getDefaultFile() {
+        return Directories.getPreviewCacheDirectory().resolve(FILE_NAME);
+    }
+
+    /**
+     * Hashes the identity of the layout. As this hashes the whole style, the result should be reused for all entries.
+     */
+    static String layoutHash(PreviewLayout layout) {
+        return HASH_FUNCTION.newHasher()
+                            .putString(layout.getClass().getName(), StandardCharsets.UTF_8)
+                            .putString(layout.getName(), StandardCharsets.UTF_8)
+                            .putString(layout.getText(), StandardCharsets.UTF_8)
+                            .hash()
+                            .toString();
+    }
+
+    /**
+     * Computes the key of the preview of the given entry
+     *
+     * @param layoutHash the result of {@link #layoutHash(PreviewLayout)}
+     */
+    static String key(BibEntry entry, BibDatabaseContext databaseContext, String layoutHash) {
+        Hasher hasher = HASH_FUNCTION.newHasher();
+        putString(hasher, layoutHash);
+        putString(hasher, databaseContext.getMode().name());
+
+        putFields(hasher, entry, databaseContext);
+        // Fields are inherited from the cross-referenced entry, possibly under another name (e.g., title as booktitle)
+        databaseContext.getDatabase().getReferencedEntry(entry).ifPresent(parent -> putFields(hasher, parent, databaseContext));
+        return hasher.hash().toString();
+    }
+
+    private static void putFields(Hasher hasher, BibEntry entry, BibDatabaseContext databaseContext) {
+        SortedSet<Field> fields = new TreeSet<>(Comparator.comparing(Field::getName));
+        fields.addAll(entry.getFields());
+        putString(hasher, entry.getType().getName());
+        hasher.putInt(fields.size());
+        for (Field field : fields) {
+            putString(hasher, field.getName());
+            // Resolves strings
+            putString(hasher, entry.getResolvedFieldOrAlias(field, databaseContext.getDatabase()).orElse(""));
+        }
+    }
+
+    private static void putString(Hasher hasher, String value) {
+        // The length separates consecutive strings
+        hasher.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+    }
+
+    public Optional<String> get(String key) {
+        return previews.get(key);
+    }
+
+    public void put(String key, String preview) {
+        previews.put(key, preview);
+    }
+
+    public void remove(String key) {
+        previews.remove(key);
+    }
+
+    public boolean isPersistent() {
+        return previews.isPersistent();
+    }
+
+    /**
+     * @return the size of the stored previews in bytes
+     */
+    public long getSize() {
+        return previews.getSize();
+    }
+
+    public int getNumberOfPreviews() {
+        return previews.size();
+    }
+
+    /**
+     * Evicts the least recently used previews until the cache is not larger than the given size
+     *
+     * @param targetSize the size in bytes
+     * @return the number of evicted previews
+     */
+    public int prune(long targetSize) {
+        return previews.prune(targetSize);
+    }
+
+    public void clear() {
+        previews.clear();
+    }
+
+    @Override
+    public void close() {
+        previews.close();
+    }
+}
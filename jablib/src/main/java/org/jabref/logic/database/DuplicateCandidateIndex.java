@@ -0,0 +1,344 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.StandardField;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.eventbus.Subscribe;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Candidate generation stage for the duplicate detection.
+ * <p>
+ * Comparing every pair of entries using {@link DuplicateCheck#isDuplicate(BibEntry, BibEntry, BibDatabaseMode)} is quadratic in the size of the library.
+ * This index puts the entries into buckets based on cheap blocking keys. Only entries sharing at least one bucket need to be checked by {@link DuplicateCheck}:
+ * <ul>
+ *     <li>the content of identifier fields (DOI, eprint, PMID) and the ISBN</li>
+ *     <li>MinHash bands of the character trigrams of the normalized title</li>
+ *     <li>the family name of the first author (or editor) together with the year</li>
+ * </ul>
+ * Entries without any blocking key end up in a catch-all bucket. These are candidates for all other entries.
+ * <p>
+ * Blocking trades recall for speed: two entries which {@link DuplicateCheck} considers duplicates are missed if they do not share any blocking key.
+ * This happens, for instance, if the titles differ in many words (e.g., a translated title), the first authors or years differ, and there is no common identifier.
+ * {@link DuplicateCheck#containsDuplicate(BibDatabase, BibEntry, BibDatabaseMode)} compares with all entries instead.
+ * <p>
+ * The index returned by {@link #listeningTo(BibDatabase)} is kept up to date using the events of the database until it is closed.
+ * Thus, the creator owns the index and has to {@link #close()} it.
+ */
+public class DuplicateCandidateIndex implements AutoCloseable {
+
+    private static final String UNBLOCKED_KEY = "unblocked";
+
+    private static final int MIN_HASH_BANDS = 16;
+    private static final int MIN_HASH_ROWS_PER_BAND = 2;
+    private static final long[] MIN_HASH_SEEDS = new long[MIN_HASH_BANDS * MIN_HASH_ROWS_PER_BAND];
+
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Set<Field> BLOCKING_FIELDS = Set.of(StandardField.TITLE, StandardField.AUTHOR, StandardField.EDITOR,
+            StandardField.YEAR, StandardField.DATE, StandardField.ISBN);
+
+    static {
+        // Fixed seed to have reproducible buckets
+        Random random = new Random(4711);
+        for (int i = 0; i < MIN_HASH_SEEDS.length; i++) {
+            MIN_HASH_SEEDS[i] = random.nextLong();
+        }
+    }
+
+    // ADR-0038: entries are identified by their id
+    private final Map<String, BibEntry> entries = new LinkedHashMap<>();
+    private final Map<String, Set<String>> keysOfEntry = new HashMap<>();
+    private final Map<String, Map<String, BibEntry>> buckets = new HashMap<>();
+
+    // The database followed by this index, null for one-off indexes
+    private final @Nullable BibDatabase database;
+    // The entries of the followed database are added on first use, so that creating the index is cheap. Until then, changes of the database are ignored.
+    private boolean loaded;
+
+    public DuplicateCandidateIndex() {
+        this(null);
+    }
+
+    private DuplicateCandidateIndex(@Nullable BibDatabase database) {
+        this.database = database;
+        this.loaded = database == null;
+    }
+
+    /**
+     * Creates a one-off index of the given entries. The index is not updated if the entries change.
+     */
+    public static DuplicateCandidateIndex of(Collection<BibEntry> entries) {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex();
+        entries.forEach(index::add);
+        return index;
+    }
+
+    /**
+     * Creates an index of the entries of the given database, which follows all changes of the database until {@link #close()} is called.
+     */
+    public static DuplicateCandidateIndex listeningTo(BibDatabase database) {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(database);
+        database.registerListener(index);
+        return index;
+    }
+
+    /**
+     * Stops following the changes of the database
+     */
+    @Override
+    public void close() {
+        if (database != null) {
+            database.unregisterListener(this);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded && (database != null)) {
+            loaded = true;
+            database.getEntries().forEach(this::add);
+        }
+    }
+
+    public synchronized void add(BibEntry entry) {
+        Set<String> keys = computeBlockingKeys(entry);
+        entries.put(entry.getId(), entry);
+        keysOfEntry.put(entry.getId(), keys);
+        for (String key : keys) {
+            buckets.computeIfAbsent(key, _ -> new LinkedHashMap<>()).put(entry.getId(), entry);
+        }
+    }
+
+    public synchronized void remove(BibEntry entry) {
+        remove(entry.getId());
+    }
+
+    private void remove(String entryId) {
+        entries.remove(entryId);
+        Set<String> keys = keysOfEntry.remove(entryId);
+        if (keys == null) {
+            return;
+        }
+        for (String key : keys) {
+            Map<String, BibEntry> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(entryId);
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    public synchronized int size() {
+        ensureLoaded();
+        return entries.size();
+    }
+
+    /**
+     * Returns all indexed entries which share at least one blocking key with the given entry. The entry itself is not part of the result.
+     * The given entry does not need to be part of the index.
+     */
+    public synchronized List<BibEntry> getCandidates(BibEntry entry) {
+        ensureLoaded();
+        Set<String> keys = keysOfEntry.get(entry.getId());
+        if (keys == null) {
+            keys = computeBlockingKeys(entry);
+        }
+        if (keys.contains(UNBLOCKED_KEY)) {
+            return entries.values().stream()
+                          .filter(other -> !other.getId().equals(entry.getId()))
+                          .toList();
+        }
+
+        Map<String, BibEntry> candidates = new LinkedHashMap<>();
+        for (String key : keys) {
+            candidates.putAll(buckets.getOrDefault(key, Map.of()));
+        }
+        candidates.putAll(buckets.getOrDefault(UNBLOCKED_KEY, Map.of()));
+        candidates.remove(entry.getId());
+        return new ArrayList<>(candidates.values());
+    }
+
+    /**
+     * Returns the pairs of the given entries which need to be checked for being duplicates.
+     * Each pair is contained once, and the pairs are ordered by the position of their entries in the given list.
+     * All given entries need to be part of this index.
+     */
+    public synchronized List<DuplicateCandidatePair> getCandidatePairs(List<BibEntry> entriesToPair) {
+        Map<BibEntry, Integer> positions = new IdentityHashMap<>(entriesToPair.size());
+        for (int i = 0; i < entriesToPair.size(); i++) {
+            positions.put(entriesToPair.get(i), i);
+        }
+
+        List<DuplicateCandidatePair> pairs = new ArrayList<>();
+        for (int i = 0; i < entriesToPair.size(); i++) {
+            BibEntry first = entriesToPair.get(i);
+            final int position = i;
+            getCandidates(first).stream()
+                                .filter(candidate -> positions.getOrDefault(candidate, -1) > position)
+                                .sorted((one, two) -> Integer.compare(positions.get(one), positions.get(two)))
+                                .forEach(second -> pairs.add(new DuplicateCandidatePair(first, second)));
+        }
+        return pairs;
+    }
+
+    /**
+     * Returns the entry of the given database which is a duplicate of the given entry. If there are multiple duplicates, the first in the order of the database is returned.
+     */
+    public Optional<BibEntry> findDuplicate(BibDatabase database, BibEntry entry, BibDatabaseMode mode, DuplicateCheck duplicateCheck) {
+        return getCandidates(entry).stream()
+                                   .filter(candidate -> duplicateCheck.isDuplicate(entry, candidate, mode))
+                                   .min((one, two) -> Integer.compare(database.indexOf(one), database.indexOf(two)));
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        if (loaded) {
+            event.getBibEntries().forEach(this::add);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        if (loaded) {
+            event.getBibEntries().forEach(this::remove);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        if (!loaded) {
+            return;
+        }
+        BibEntry entry = event.getBibEntry();
+        if (InternalField.INTERNAL_ID_FIELD == event.getField()) {
+            if (event.getOldValue() != null && keysOfEntry.containsKey(event.getOldValue())) {
+                remove(event.getOldValue());
+                add(entry);
+            }
+            return;
+        }
+        if (!keysOfEntry.containsKey(entry.getId()) || !isBlockingField(event.getField())) {
+            return;
+        }
+        remove(entry.getId());
+        add(entry);
+    }
+
+    private static boolean isBlockingField(Field field) {
+        return BLOCKING_FIELDS.contains(field) || field.getProperties().contains(FieldProperty.IDENTIFIER);
+    }
+
+    @VisibleForTesting
+    static Set<String> computeBlockingKeys(BibEntry entry) {
+        Set<String> keys = new LinkedHashSet<>();
+
+        // Same handling as DuplicateCheck#haveSameIdentifier: exact match of the field content
+        for (Field field : entry.getFields()) {
+            if (field.getProperties().contains(FieldProperty.IDENTIFIER)) {
+                entry.getField(field).ifPresent(value -> keys.add("id:" + field.getName() + ":" + value));
+            }
+        }
+        entry.getISBN().ifPresent(isbn -> keys.add("isbn:" + isbn.asString().toLowerCase(Locale.ROOT)));
+
+        entry.getFieldLatexFree(StandardField.TITLE)
+             .map(DuplicateCandidateIndex::normalize)
+             .ifPresent(title -> keys.addAll(getTitleKeys(title)));
+
+        getFirstFamilyName(entry).ifPresent(familyName ->
+                keys.add("author:" + familyName + ":" + entry.getFieldOrAlias(StandardField.YEAR).orElse("")));
+
+        if (keys.isEmpty()) {
+            keys.add(UNBLOCKED_KEY);
+        }
+        return keys;
+    }
+
+    private static Optional<String> getFirstFamilyName(BibEntry entry) {
+        return entry.getFieldLatexFree(StandardField.AUTHOR)
+                    .or(() -> entry.getFieldLatexFree(StandardField.EDITOR))
+                    .map(AuthorList::parse)
+                    .filter(authors -> !authors.isEmpty())
+                    .flatMap(authors -> authors.getAuthor(0).getFamilyName())
+                    .map(DuplicateCandidateIndex::normalize)
+                    .filter(familyName -> !familyName.isEmpty());
+    }
+
+    private static String normalize(String value) {
+        return NON_ALPHANUMERIC.matcher(value.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Computes locality sensitive hash keys for the title: titles with a high trigram similarity share at least one band with high probability.
+     */
+    private static Set<String> getTitleKeys(String title) {
+        if (title.isEmpty()) {
+            return Set.of();
+        }
+        if (title.length() < 3) {
+            return Set.of("title:" + title);
+        }
+
+        Set<String> trigrams = new HashSet<>();
+        String padded = " " + title + " ";
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+
+        long[] minHashes = new long[MIN_HASH_SEEDS.length];
+        Arrays.fill(minHashes, Long.MAX_VALUE);
+        for (String trigram : trigrams) {
+            long trigramHash = trigram.hashCode();
+            for (int i = 0; i < MIN_HASH_SEEDS.length; i++) {
+                minHashes[i] = Math.min(minHashes[i], mix(trigramHash ^ MIN_HASH_SEEDS[i]));
+            }
+        }
+
+        Set<String> keys = new HashSet<>(MIN_HASH_BANDS);
+        for (int band = 0; band < MIN_HASH_BANDS; band++) {
+            StringBuilder key = new StringBuilder("title:").append(band);
+            for (int row = 0; row < MIN_HASH_ROWS_PER_BAND; row++) {
+                key.append(':').append(Long.toHexString(minHashes[band * MIN_HASH_ROWS_PER_BAND + row]));
+            }
+            keys.add(key.toString());
+        }
+        return keys;
+    }
+
+    /**
+     * Finalizer of SplitMix64, spreads the bits of the input
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
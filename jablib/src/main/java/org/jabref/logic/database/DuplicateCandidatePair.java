@@ -0,0 +1,11 @@
+package org.jabref.logic.database;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Two entries which share at least one blocking key of a {@link DuplicateCandidateIndex} and thus have to be checked by {@link DuplicateCheck}.
+ * <p>
+ * {@code first} always precedes {@code second} in the list of entries the pair was generated from.
+ */
+public record DuplicateCandidatePair(BibEntry first, BibEntry second) {
+}
@@ -366,6 +366,8 @@ public class DuplicateCheck {
      * them is a duplicate of the given entry, as per
      * Util.isDuplicate(BibEntry, BibEntry), the duplicate is returned.
      * The search is terminated when the first duplicate is found.
+     * <p>
+     * To check many entries against a large database, use {@link DuplicateCandidateIndex#findDuplicate(BibDatabase, BibEntry, BibDatabaseMode, DuplicateCheck)} instead.
      *
      * @param database The database to search.
      * @param entry    The entry of which we are looking for duplicates.
@@ -0,0 +1,203 @@
+package org.jabref.logic.database;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Headless engine checking the candidate pairs of a {@link DuplicateCandidateIndex} for duplicates.
+ * <p>
+ * The pairs are checked in parallel on a work-stealing pool. Found duplicates are streamed into a bounded queue, which the consumer
+ * (e.g., the GUI asking the user for a decision) drains at its own pace. If the queue is full, the workers wait until the consumer caught up.
+ * A scan can be cancelled at any time.
+ * <p>
+ * An instance can be started only once.
+ */
+public class DuplicateScan {
+
+    /**
+     * @param score the result of {@link DuplicateCheck#compareEntriesStrictly(BibEntry, BibEntry)}. A score greater than 1 indicates an exact duplicate.
+     */
+    public record Result(BibEntry first, BibEntry second, double score) {
+    }
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DuplicateScan.class);
+
+    // Number of pairs checked sequentially by a single fork-join task
+    private static final int PAIRS_PER_TASK = 256;
+
+    private final DuplicateCheck duplicateCheck;
+    private final BibDatabaseMode databaseMode;
+    private final ForkJoinPool pool;
+    private final BlockingQueue<Result> results;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private final AtomicInteger checkedPairs = new AtomicInteger();
+    private final AtomicInteger foundDuplicates = new AtomicInteger();
+    private volatile int totalPairs;
+    private volatile CompletableFuture<Void> completion;
+
+    public DuplicateScan(DuplicateCheck duplicateCheck, BibDatabaseMode databaseMode) {
+        this(duplicateCheck, databaseMode, Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public DuplicateScan(DuplicateCheck duplicateCheck, BibDatabaseMode databaseMode, int parallelism, int queueCapacity) {
+        this.duplicateCheck = duplicateCheck;
+        this.databaseMode = databaseMode;
+        this.pool = new ForkJoinPool(Math.max(1, parallelism));
+        this.results = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    }
+
+    /**
+     * Starts checking the candidate pairs of the given entries in the background. The method returns immediately.
+     *
+     * @param index   the index containing all given entries
+     * @param entries the entries to check. Their order determines which entry of a pair is {@link Result#first()}.
+     */
+    public DuplicateScan start(DuplicateCandidateIndex index, List<BibEntry> entries) {
+        if (!started.compareAndSet(false, true)) {
+            throw new IllegalStateException("The duplicate scan has already been started");
+        }
+        completion = CompletableFuture.runAsync(() -> {
+                                          List<DuplicateCandidatePair> pairs = index.getCandidatePairs(entries);
+                                          totalPairs = pairs.size();
+                                          LOGGER.debug("Checking {} candidate pairs of {} entries", pairs.size(), entries.size());
+                                          new CheckPairsTask(pairs, 0, pairs.size()).invoke();
+                                      }, pool)
+                                      .whenComplete((_, throwable) -> {
+                                          if (throwable != null) {
+                                              LOGGER.error("Error during duplicate scan", throwable);
+                                          }
+                                          pool.shutdown();
+                                      });
+        return this;
+    }
+
+    /**
+     * Retrieves and removes the next found duplicate, waiting up to the specified time if necessary.
+     *
+     * @return the next duplicate, or an empty optional if none was found within the given time
+     */
+    public Optional<Result> poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return Optional.ofNullable(results.poll(timeout, unit));
+    }
+
+    /**
+     * Returns true as long as the scan is running or there are found duplicates not yet retrieved by {@link #poll(long, TimeUnit)}.
+     * Returns false as soon as the scan is cancelled.
+     */
+    public boolean hasMoreResults() {
+        return !cancelled.get() && (!isFinished() || !results.isEmpty());
+    }
+
+    public boolean isFinished() {
+        return (completion != null) && completion.isDone();
+    }
+
+    /**
+     * Blocks until all pairs are checked or the scan is cancelled. Note that the scan stalls if the result queue is full and not drained.
+     */
+    public void awaitCompletion() throws InterruptedException {
+        if (completion == null) {
+            return;
+        }
+        try {
+            completion.get();
+        } catch (ExecutionException e) {
+            LOGGER.debug("Duplicate scan completed exceptionally", e);
+        }
+    }
+
+    /**
+     * Stops the scan. Found duplicates not yet retrieved are discarded.
+     */
+    public void cancel() {
+        cancelled.set(true);
+        results.clear();
+    }
+
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    public int getCheckedPairs() {
+        return checkedPairs.get();
+    }
+
+    /**
+     * Returns the number of candidate pairs. Zero as long as the candidate pairs are still being computed.
+     */
+    public int getTotalPairs() {
+        return totalPairs;
+    }
+
+    public int getFoundDuplicates() {
+        return foundDuplicates.get();
+    }
+
+    private void publish(Result result) {
+        try {
+            while (!cancelled.get()) {
+                if (results.offer(result, 100, TimeUnit.MILLISECONDS)) {
+                    foundDuplicates.incrementAndGet();
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel();
+        }
+    }
+
+    private class CheckPairsTask extends RecursiveAction {
+
+        private final List<DuplicateCandidatePair> pairs;
+        private final int from;
+        private final int to;
+
+        CheckPairsTask(List<DuplicateCandidatePair> pairs, int from, int to) {
+            this.pairs = pairs;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled.get()) {
+                return;
+            }
+            if (to - from > PAIRS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new CheckPairsTask(pairs, from, middle), new CheckPairsTask(pairs, middle, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                if (cancelled.get()) {
+                    return;
+                }
+                DuplicateCandidatePair pair = pairs.get(i);
+                if (duplicateCheck.isDuplicate(pair.first(), pair.second(), databaseMode)) {
+                    publish(new Result(pair.first(), pair.second(), DuplicateCheck.compareEntriesStrictly(pair.first(), pair.second())));
+                }
+                checkedPairs.incrementAndGet();
+            }
+        }
+    }
+}
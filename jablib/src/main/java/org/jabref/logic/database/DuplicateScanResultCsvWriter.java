@@ -0,0 +1,42 @@
+package org.jabref.logic.database;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.jabref.model.database.BibDatabase;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+/**
+ * Outputs the found duplicates as CSV, one pair per row.
+ */
+public class DuplicateScanResultCsvWriter extends DuplicateScanResultWriter {
+
+    private final CSVPrinter csvPrinter;
+
+    public DuplicateScanResultCsvWriter(Writer writer, BibDatabase database) throws IOException {
+        super(writer, database);
+        this.csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT);
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        csvPrinter.printRecord("first position", "first citation key", "second position", "second citation key", "score");
+    }
+
+    @Override
+    public void write(DuplicateScan.Result result) throws IOException {
+        csvPrinter.printRecord(
+                getPosition(result.first()),
+                getCitationKey(result.first()),
+                getPosition(result.second()),
+                getCitationKey(result.second()),
+                result.score());
+    }
+
+    @Override
+    public void close() throws IOException {
+        csvPrinter.flush();
+    }
+}
@@ -0,0 +1,52 @@
+package org.jabref.logic.database;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Outputs the found duplicates as JSON array, streaming one object per pair.
+ */
+public class DuplicateScanResultJsonWriter extends DuplicateScanResultWriter {
+
+    private final JsonWriter jsonWriter;
+
+    public DuplicateScanResultJsonWriter(Writer writer, BibDatabase database) {
+        super(writer, database);
+        this.jsonWriter = new JsonWriter(writer);
+        this.jsonWriter.setIndent("  ");
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        jsonWriter.beginArray();
+    }
+
+    @Override
+    public void write(DuplicateScan.Result result) throws IOException {
+        jsonWriter.beginObject();
+        jsonWriter.name("first");
+        writeEntry(result.first());
+        jsonWriter.name("second");
+        writeEntry(result.second());
+        jsonWriter.name("score").value(result.score());
+        jsonWriter.endObject();
+    }
+
+    private void writeEntry(BibEntry entry) throws IOException {
+        jsonWriter.beginObject();
+        jsonWriter.name("position").value(getPosition(entry));
+        jsonWriter.name("citationKey").value(getCitationKey(entry));
+        jsonWriter.endObject();
+    }
+
+    @Override
+    public void close() throws IOException {
+        jsonWriter.endArray();
+        jsonWriter.flush();
+    }
+}
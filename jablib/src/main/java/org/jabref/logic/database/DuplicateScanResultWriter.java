@@ -0,0 +1,42 @@
+package org.jabref.logic.database;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Writes the results of a {@link DuplicateScan} one by one. Thus, the results can be written while the scan is still running.
+ * <p>
+ * Entries are identified by their (one-based) position in the library and their citation key.
+ */
+public abstract class DuplicateScanResultWriter implements Closeable {
+
+    protected final Writer writer;
+    protected final BibDatabase database;
+
+    protected DuplicateScanResultWriter(Writer writer, BibDatabase database) {
+        this.writer = writer;
+        this.database = database;
+    }
+
+    public abstract void writeHeader() throws IOException;
+
+    public abstract void write(DuplicateScan.Result result) throws IOException;
+
+    /**
+     * Finishes the output. The underlying writer is flushed, but not closed.
+     */
+    @Override
+    public abstract void close() throws IOException;
+
+    protected int getPosition(BibEntry entry) {
+        return database.indexOf(entry) + 1;
+    }
+
+    protected String getCitationKey(BibEntry entry) {
+        return entry.getCitationKey().orElse("");
+    }
+}
@@ -0,0 +1,61 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import org.jabref.logic.citationstyle.CitationStyle;
+import org.jabref.logic.citationstyle.CitationStyleBibliographyWriter;
+import org.jabref.logic.citationstyle.CitationStyleOutputFormat;
+import org.jabref.logic.os.OS;
+import org.jabref.logic.util.FileType;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+
+/**
+ * Exports the bibliography of the entries in a CSL citation style. The bibliography is streamed to the file, so large libraries can be exported.
+ */
+public class CitationStyleExporter extends Exporter {
+
+    private final CitationStyleOutputFormat outputFormat;
+    private final CitationStyleBibliographyWriter bibliographyWriter;
+
+    public CitationStyleExporter(String displayName, String consoleName, FileType fileType, CitationStyle style, CitationStyleOutputFormat outputFormat, BibEntryTypesManager entryTypesManager) {
+        super(consoleName, displayName, fileType);
+        this.outputFormat = outputFormat;
+        this.bibliographyWriter = new CitationStyleBibliographyWriter(style, outputFormat, entryTypesManager);
+    }
+
+    @Override
+    public void export(BibDatabaseContext databaseContext, Path file, List<BibEntry> entries) throws IOException {
+        Objects.requireNonNull(databaseContext);
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(entries);
+
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            if (outputFormat == CitationStyleOutputFormat.HTML) {
+                writer.write("<!DOCTYPE html>" + OS.NEWLINE +
+                        "<html>" + OS.NEWLINE +
+                        "<head>" + OS.NEWLINE +
+                        "<meta charset=\"utf-8\">" + OS.NEWLINE +
+                        "</head>" + OS.NEWLINE +
+                        "<body>" + OS.NEWLINE);
+            }
+            bibliographyWriter.write(entries, databaseContext, writer);
+            if (outputFormat == CitationStyleOutputFormat.HTML) {
+                writer.write(OS.NEWLINE +
+                        "</body>" + OS.NEWLINE +
+                        "</html>" + OS.NEWLINE);
+            }
+        }
+    }
+}
@@ -7,6 +7,9 @@ import java.util.Objects;
 import java.util.Optional;
 
 import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.citationstyle.CSLStyleLoader;
+import org.jabref.logic.citationstyle.CitationStyle;
+import org.jabref.logic.citationstyle.CitationStyleOutputFormat;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
 import org.jabref.logic.preferences.CliPreferences;
@@ -30,6 +33,7 @@ public class ExporterFactory {
         XmpPreferences xmpPreferences = preferences.getXmpPreferences();
         FieldPreferences fieldPreferences = preferences.getFieldPreferences();
         BibDatabaseMode bibDatabaseMode = preferences.getLibraryPreferences().getDefaultBibDatabaseMode();
+        CitationStyle citationStyle = CSLStyleLoader.getDefaultStyle();
 
         List<Exporter> exporters = new ArrayList<>();
 
@@ -62,6 +66,8 @@ public class ExporterFactory {
         exporters.add(new EmbeddedBibFilePdfExporter(bibDatabaseMode, preferences.getCustomEntryTypesRepository(), fieldPreferences));
         exporters.add(new CffExporter());
         exporters.add(new EndnoteXmlExporter(preferences.getBibEntryPreferences()));
+        exporters.add(new CitationStyleExporter(Localization.lang("Bibliography in citation style %0 (HTML)", citationStyle.getTitle()), "csl-html", StandardFileType.HTML, citationStyle, CitationStyleOutputFormat.HTML, preferences.getCustomEntryTypesRepository()));
+        exporters.add(new CitationStyleExporter(Localization.lang("Bibliography in citation style %0 (text)", citationStyle.getTitle()), "csl-text", StandardFileType.TXT, citationStyle, CitationStyleOutputFormat.TEXT, preferences.getCustomEntryTypesRepository()));
 
         // Now add custom export formats
         exporters.addAll(customFormats);
@@ -32,6 +32,7 @@ public class ImporterPreferences {
     private final ObservableList<String> catalogs;
     private final ObjectProperty<PlainCitationParserChoice> defaultPlainCitationParser;
     private final IntegerProperty citationsRelationsStoreTTL;
+    private final IntegerProperty libraryLoadingMemoryBudget;
 
     public ImporterPreferences(boolean importerEnabled,
                                boolean generateNewKeyOnImport,
@@ -43,7 +44,8 @@ public class ImporterPreferences {
                                boolean persistCustomKeys,
                                List<String> catalogs,
                                PlainCitationParserChoice defaultPlainCitationParser,
-                               int citationsRelationsStoreTTL
+                               int citationsRelationsStoreTTL,
+                               int libraryLoadingMemoryBudget
     ) {
         this.importerEnabled = new SimpleBooleanProperty(importerEnabled);
         this.generateNewKeyOnImport = new SimpleBooleanProperty(generateNewKeyOnImport);
@@ -56,6 +58,7 @@ public class ImporterPreferences {
         this.catalogs = FXCollections.observableArrayList(catalogs);
         this.defaultPlainCitationParser = new SimpleObjectProperty<>(defaultPlainCitationParser);
         this.citationsRelationsStoreTTL = new SimpleIntegerProperty(citationsRelationsStoreTTL);
+        this.libraryLoadingMemoryBudget = new SimpleIntegerProperty(libraryLoadingMemoryBudget);
     }
 
     public boolean areImporterEnabled() {
@@ -176,4 +179,19 @@ public class ImporterPreferences {
     public void setCitationsRelationsStoreTTL(int citationsRelationsStoreTTL) {
         this.citationsRelationsStoreTTL.set(citationsRelationsStoreTTL);
     }
+
+    /**
+     * @return the memory in megabytes which may be used for loading libraries concurrently, 0 if it is derived from the maximum heap size
+     */
+    public int getLibraryLoadingMemoryBudget() {
+        return this.libraryLoadingMemoryBudget.get();
+    }
+
+    public IntegerProperty libraryLoadingMemoryBudgetProperty() {
+        return this.libraryLoadingMemoryBudget;
+    }
+
+    public void setLibraryLoadingMemoryBudget(int libraryLoadingMemoryBudget) {
+        this.libraryLoadingMemoryBudget.set(libraryLoadingMemoryBudget);
+    }
 }
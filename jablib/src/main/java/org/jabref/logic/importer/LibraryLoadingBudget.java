@@ -0,0 +1,109 @@
+package org.jabref.logic.importer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limits the number of libraries loaded at the same time and the memory needed for loading them.
+ * <p>
+ * Parsing a library needs several times the size of the file in memory. When many large libraries are opened at once (e.g., when restoring the last session),
+ * loading all of them at the same time could exceed the heap. Thus, a library is only loaded if the estimated memory needed for it fits into the budget together with the libraries currently loaded.
+ * A library which needs more than the whole budget is loaded when no other library is loaded.
+ */
+public class LibraryLoadingBudget {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryLoadingBudget.class);
+
+    // Rough estimate of the memory needed while parsing a library per byte of the file (file content, parsed serializations, fields, and indexes)
+    private static final int MEMORY_PER_FILE_BYTE = 8;
+
+    private static final int MAX_CONCURRENT_LOADS = 4;
+
+    private final int maxConcurrentLoads;
+    private final long memoryBudget;
+
+    private int activeLoads;
+    private long reservedMemory;
+
+    /**
+     * @param memoryBudget the memory in bytes which may be used for loading libraries at the same time
+     */
+    public LibraryLoadingBudget(int maxConcurrentLoads, long memoryBudget) {
+        if (maxConcurrentLoads < 1) {
+            throw new IllegalArgumentException("At least one library has to be loadable at a time");
+        }
+        this.maxConcurrentLoads = maxConcurrentLoads;
+        this.memoryBudget = memoryBudget;
+    }
+
+    public static LibraryLoadingBudget fromPreferences(ImporterPreferences importerPreferences) {
+        int configuredBudget = importerPreferences.getLibraryLoadingMemoryBudget();
+        long memoryBudget = configuredBudget > 0
+                            ? configuredBudget * 1024L * 1024L
+                            : Runtime.getRuntime().maxMemory() / 2;
+        return new LibraryLoadingBudget(Math.min(MAX_CONCURRENT_LOADS, Runtime.getRuntime().availableProcessors()), memoryBudget);
+    }
+
+    public int getMaxConcurrentLoads() {
+        return maxConcurrentLoads;
+    }
+
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Waits until the given file may be loaded. The returned reservation has to be closed after loading.
+     */
+    public Reservation reserve(Path file) throws InterruptedException {
+        return reserve(estimateMemory(file));
+    }
+
+    /**
+     * Waits until the given amount of memory may be used for loading a library. The returned reservation has to be closed after loading.
+     */
+    public synchronized Reservation reserve(long memory) throws InterruptedException {
+        while ((activeLoads >= maxConcurrentLoads) || ((activeLoads > 0) && (reservedMemory + memory > memoryBudget))) {
+            wait();
+        }
+        activeLoads++;
+        reservedMemory += memory;
+        return new Reservation(memory);
+    }
+
+    private synchronized void release(long memory) {
+        activeLoads--;
+        reservedMemory -= memory;
+        notifyAll();
+    }
+
+    static long estimateMemory(Path file) {
+        try {
+            return Files.size(file) * MEMORY_PER_FILE_BYTE;
+        } catch (IOException e) {
+            // The file is not readable (or does not exist). Loading it fails early, thus no memory is needed
+            LOGGER.debug("Could not determine size of {}", file, e);
+            return 0;
+        }
+    }
+
+    public final class Reservation implements AutoCloseable {
+        private final long memory;
+        private boolean released;
+
+        private Reservation(long memory) {
+            this.memory = memory;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                release(memory);
+            }
+        }
+    }
+}
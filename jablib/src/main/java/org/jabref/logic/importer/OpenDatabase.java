@@ -2,11 +2,22 @@ package org.jabref.logic.importer;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
 
 import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.model.util.FileUpdateMonitor;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 public class OpenDatabase {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OpenDatabase.class);
 
     private OpenDatabase() {
     }
@@ -21,4 +32,72 @@ public class OpenDatabase {
             throws IOException {
         return new BibtexImporter(importFormatPreferences, fileMonitor).importDatabase(fileToOpen);
     }
+
+    /**
+     * Load database (bib-file) as soon as the given budget allows it
+     *
+     * @param fileToOpen Name of the BIB-file to open
+     * @return ParserResult which never is null
+     */
+    public static ParserResult loadDatabase(Path fileToOpen, ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor, LibraryLoadingBudget budget)
+            throws IOException, InterruptedException {
+        try (LibraryLoadingBudget.Reservation _ = budget.reserve(fileToOpen)) {
+            return loadDatabase(fileToOpen, importFormatPreferences, fileMonitor);
+        }
+    }
+
+    /**
+     * Loads several databases (bib-files) concurrently within the given budget.
+     * <p>
+     * The listener is called on the loading thread as soon as a database is loaded. Thus, a database can be used before the other ones are loaded.
+     * A database which could not be read is reported as invalid {@link ParserResult}.
+     *
+     * @param onLoaded called with the file and its result for each loaded database
+     * @return the results in the order of the given files
+     */
+    public static List<ParserResult> loadDatabases(List<Path> filesToOpen,
+                                                   ImportFormatPreferences importFormatPreferences,
+                                                   FileUpdateMonitor fileMonitor,
+                                                   LibraryLoadingBudget budget,
+                                                   BiConsumer<Path, ParserResult> onLoaded) throws InterruptedException {
+        if (filesToOpen.isEmpty()) {
+            return List.of();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(budget.getMaxConcurrentLoads(), filesToOpen.size()));
+        try {
+            List<Future<ParserResult>> futures = filesToOpen.stream()
+                                                            .map(file -> executor.submit(() -> {
+                                                                ParserResult result;
+                                                                try {
+                                                                    result = loadDatabase(file, importFormatPreferences, fileMonitor, budget);
+                                                                } catch (IOException e) {
+                                                                    LOGGER.error("Error opening file '{}'", file, e);
+                                                                    result = ParserResult.fromError(e);
+                                                                    result.setPath(file);
+                                                                }
+                                                                onLoaded.accept(file, result);
+                                                                return result;
+                                                            }))
+                                                            .toList();
+
+            List<ParserResult> results = new ArrayList<>(futures.size());
+            for (Future<ParserResult> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    }
+                    if (e.getCause() instanceof InterruptedException interruptedException) {
+                        throw interruptedException;
+                    }
+                    throw new IllegalStateException("Could not load library", e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
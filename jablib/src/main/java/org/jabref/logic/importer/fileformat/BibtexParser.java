@@ -3,16 +3,15 @@ package org.jabref.logic.importer.fileformat;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PushbackReader;
 import java.io.Reader;
-import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -34,6 +33,7 @@ import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.Parser;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexSpanScanner.Span;
 import org.jabref.logic.importer.util.MetaDataParser;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.os.OS;
@@ -42,6 +42,7 @@ import org.jabref.model.database.KeyCollisionException;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryType;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.IdGenerator;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
@@ -94,21 +95,34 @@ public class BibtexParser implements Parser {
     private static final String BIB_DESK_ROOT_GROUP_NAME = "BibDeskGroups";
     private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
     private static final int INDEX_RELATIVE_PATH_IN_PLIST = 4;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
+
+    // Inputs with more characters are split into spans which are parsed in parallel
+    private static final int PARALLEL_PARSING_THRESHOLD = 4 * 1024 * 1024;
+    private static final int SPANS_PER_THREAD = 4;
+
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+    private final FileUpdateMonitor fileMonitor;
+    private final int parallelParsingThreshold;
+    private BibtexParserInput input;
     private BibDatabase database;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
     private int line = 1;
     private ParserResult parserResult;
+    private List<BibEntry> parsedEntries;
     private final MetaDataParser metaDataParser;
     private final Map<String, String> parsedBibdeskGroups;
 
     private GroupTreeNode bibDeskGroupTreeNode;
 
     public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
+        this(importFormatPreferences, fileMonitor, PARALLEL_PARSING_THRESHOLD);
+    }
+
+    BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor, int parallelParsingThreshold) {
         this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
+        this.fileMonitor = fileMonitor;
+        this.parallelParsingThreshold = parallelParsingThreshold;
         this.metaDataParser = new MetaDataParser(fileMonitor);
         this.parsedBibdeskGroups = new HashMap<>();
     }
@@ -159,10 +173,35 @@ public class BibtexParser implements Parser {
      * Multiple calls to parse() return the same results
      * <p>
      * Handling of encoding is done at {@link BibtexImporter}
+     * <p>
+     * Large inputs are parsed in two phases: The content is split into spans of entries, which are parsed in parallel and merged in their original order afterwards.
+     * The result is the same as the one of parsing the input at once.
      */
     public ParserResult parse(Reader in) throws IOException {
         Objects.requireNonNull(in);
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        if (Runtime.getRuntime().availableProcessors() == 1) {
+            return parseSequentially(in);
+        }
+
+        StringBuilder content = new StringBuilder();
+        char[] buffer = new char[8 * 1024];
+        int read;
+        while ((content.length() <= parallelParsingThreshold) && ((read = in.read(buffer)) >= 0)) {
+            content.append(buffer, 0, read);
+        }
+        if (content.length() <= parallelParsingThreshold) {
+            return parseSequentially(Reader.of(content));
+        }
+
+        while ((read = in.read(buffer)) >= 0) {
+            content.append(buffer, 0, read);
+        }
+        // The spans are read from the buffer directly; converting it to a string would need the memory for the content twice
+        return parseInParallel(content);
+    }
+
+    private ParserResult parseSequentially(Reader in) throws IOException {
+        input = new BibtexParserInput(in);
 
         String newLineSeparator = determineNewLineSeparator();
 
@@ -176,14 +215,113 @@ public class BibtexParser implements Parser {
         return parseFileContent();
     }
 
+    private ParserResult parseInParallel(StringBuilder content) throws IOException {
+        // BibDesk groups refer to entries of the whole file
+        if (content.indexOf(MetaData.BIBDESK_STATIC_FLAG) >= 0) {
+            return parseSequentially(Reader.of(content));
+        }
+
+        int numberOfSpans = Runtime.getRuntime().availableProcessors() * SPANS_PER_THREAD;
+        List<Span> spans = BibtexSpanScanner.split(content, content.length() / numberOfSpans);
+        if (spans.size() == 1) {
+            return parseSequentially(Reader.of(content));
+        }
+
+        List<ParsedSpan> parsedSpans;
+        try {
+            // The parallel stream runs in the common fork join pool and keeps the order of the spans
+            parsedSpans = spans.parallelStream()
+                               .map(span -> new BibtexParser(importFormatPreferences, fileMonitor).parseSpan(content, span))
+                               .toList();
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not parse spans, parsing content at once", e);
+            return parseSequentially(Reader.of(content));
+        }
+
+        for (int i = 0; i < parsedSpans.size(); i++) {
+            if (!isParsedCompletely(parsedSpans.get(i), content, i == parsedSpans.size() - 1)) {
+                LOGGER.debug("Span {} was not parsed completely, parsing content at once", parsedSpans.get(i).span());
+                return parseSequentially(Reader.of(content));
+            }
+        }
+        LOGGER.debug("Parsed {} characters in {} spans", content.length(), spans.size());
+        return mergeParsedSpans(parsedSpans);
+    }
+
+    private ParsedSpan parseSpan(StringBuilder content, Span span) {
+        try {
+            input = new BibtexParserInput(Reader.of(CharBuffer.wrap(content, span.start(), span.end())));
+            initializeParserResult(determineNewLineSeparator());
+            parseDatabaseID();
+            skipWhitespace();
+
+            Map<String, String> meta = new HashMap<>();
+            parseItems(meta);
+            parseRemainingContent();
+            return new ParsedSpan(span, database, parsedEntries, meta, entryTypes, parserResult);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Checks that parsing the span led to the same state as parsing the content up to the end of the span at once would have.
+     * Line numbers in warnings are relative to the span. Thus, spans with warnings are treated as not parsed completely, too.
+     */
+    private static boolean isParsedCompletely(ParsedSpan parsedSpan, StringBuilder content, boolean lastSpan) {
+        if (parsedSpan.result().hasWarnings()) {
+            return false;
+        }
+        if (lastSpan) {
+            return true;
+        }
+        if (!parsedSpan.database().getEpilog().isEmpty()) {
+            return false;
+        }
+
+        // The span has to end with an entry or a string, because the text after other items is handed to the next item
+        int end = parsedSpan.span().end();
+        Predicate<String> endsWith = serialization -> (serialization.length() <= end)
+                && CharSequence.compare(content.subSequence(end - serialization.length(), end), serialization) == 0;
+        return (!parsedSpan.entries().isEmpty() && endsWith.test(parsedSpan.entries().getLast().getParsedSerialization()))
+                || parsedSpan.database().getStringValues().stream().map(BibtexString::getParsedSerialization).anyMatch(endsWith);
+    }
+
+    private ParserResult mergeParsedSpans(List<ParsedSpan> parsedSpans) {
+        BibDatabase firstDatabase = parsedSpans.getFirst().database();
+        initializeParserResult(firstDatabase.getNewLineSeparator());
+        firstDatabase.getSharedDatabaseID().ifPresent(database::setSharedDatabaseID);
+
+        Map<String, String> meta = new HashMap<>();
+        for (ParsedSpan parsedSpan : parsedSpans) {
+            parsedEntries.addAll(parsedSpan.entries());
+            parsedSpan.database().getStringValues().forEach(this::addBibtexString);
+            parsedSpan.database().getPreamble().ifPresent(database::setPreamble);
+            meta.putAll(parsedSpan.meta());
+            entryTypes.addAll(parsedSpan.entryTypes());
+        }
+        database.setEpilog(parsedSpans.getLast().database().getEpilog());
+
+        // The spans were parsed concurrently, thus the IDs of their entries are not in the order of the file.
+        // BibDatabase#indexOf relies on the entries being sorted by their ID.
+        // The new ID must not mark the entry as changed, as this would drop its parsed serialization.
+        for (BibEntry entry : parsedEntries) {
+            boolean changed = entry.hasChanged();
+            entry.setId(IdGenerator.next());
+            entry.setChanged(changed);
+        }
+
+        return finishParsing(meta);
+    }
+
     private String determineNewLineSeparator() throws IOException {
         String newLineSeparator = OS.NEWLINE;
-        StringWriter stringWriter = new StringWriter(BibtexParser.LOOKAHEAD);
+        int[] sneakedCharacters = new int[BibtexParser.LOOKAHEAD];
         int i = 0;
         int currentChar;
         do {
-            currentChar = pushbackReader.read();
-            stringWriter.append((char) currentChar);
+            currentChar = input.readUnrecorded();
+            sneakedCharacters[i] = currentChar;
             i++;
         } while ((i < BibtexParser.LOOKAHEAD) && (currentChar != '\r') && (currentChar != '\n'));
         if (currentChar == '\r') {
@@ -193,7 +331,9 @@ public class BibtexParser implements Parser {
         }
 
         // unread all sneaked characters
-        pushbackReader.unread(stringWriter.toString().toCharArray());
+        for (int j = i - 1; j >= 0; j--) {
+            input.unreadUnrecorded(sneakedCharacters[j]);
+        }
 
         return newLineSeparator;
     }
@@ -203,6 +343,7 @@ public class BibtexParser implements Parser {
         database.setNewLineSeparator(newLineSeparator);
         entryTypes = new HashSet<>(); // To store custom entry types parsed.
         parserResult = new ParserResult(database, new MetaData(), entryTypes);
+        parsedEntries = new ArrayList<>();
     }
 
     private void parseDatabaseID() throws IOException {
@@ -227,7 +368,12 @@ public class BibtexParser implements Parser {
 
     private ParserResult parseFileContent() throws IOException {
         Map<String, String> meta = new HashMap<>();
+        parseItems(meta);
+        parseRemainingContent();
+        return finishParsing(meta);
+    }
 
+    private void parseItems(Map<String, String> meta) throws IOException {
         while (!eof) {
             boolean found = consumeUncritically('@');
             if (!found) {
@@ -258,6 +404,11 @@ public class BibtexParser implements Parser {
 
             skipWhitespace();
         }
+    }
+
+    private ParserResult finishParsing(Map<String, String> meta) {
+        // Inserting all entries at once is much faster than inserting them one by one
+        database.insertEntries(parsedEntries);
 
         addBibDeskGroupEntriesToJabRefGroups();
 
@@ -289,8 +440,6 @@ public class BibtexParser implements Parser {
             parserResult.addException(exception);
         }
 
-        parseRemainingContent();
-
         checkEpilog();
 
         return parserResult;
@@ -332,7 +481,7 @@ public class BibtexParser implements Parser {
             String parsedSerialization = commentsAndEntryTypeDefinition + dumpTextReadSoFarToString();
             entry.setParsedSerialization(parsedSerialization);
 
-            database.insertEntry(entry);
+            parsedEntries.add(entry);
         } catch (IOException ex) {
             // This makes the parser more robust:
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
@@ -451,7 +600,10 @@ public class BibtexParser implements Parser {
     }
 
     private void parseBibtexString() throws IOException {
-        BibtexString bibtexString = parseString();
+        addBibtexString(parseString());
+    }
+
+    private void addBibtexString(BibtexString bibtexString) {
         try {
             database.addString(bibtexString);
         } catch (KeyCollisionException ex) {
@@ -510,12 +662,7 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
-        }
-
-        return entry.toString();
+        return input.takeTextReadSoFar();
     }
 
     /**
@@ -523,9 +670,13 @@ public class BibtexParser implements Parser {
      *
      * @return a String without eof characters
      */
-    private String purgeEOFCharacters(String input) {
-        StringBuilder remainingText = new StringBuilder();
-        for (Character character : input.toCharArray()) {
+    private String purgeEOFCharacters(String text) {
+        if (text.indexOf(65535) == -1) {
+            return text;
+        }
+        StringBuilder remainingText = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
             if (!isEOFCharacter(character)) {
                 remainingText.append(character);
             }
@@ -581,7 +732,7 @@ public class BibtexParser implements Parser {
     }
 
     private boolean isEOFCharacter(int character) {
-        return (character == -1) || (character == 65535);
+        return BibtexParserInput.isEOFCharacter(character);
     }
 
     private String skipAndRecordWhitespace(int character) throws IOException {
@@ -627,11 +778,8 @@ public class BibtexParser implements Parser {
     }
 
     private int read() throws IOException {
-        int character = pushbackReader.read();
+        int character = input.read();
 
-        if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
-        }
         if (character == '\n') {
             line++;
         }
@@ -642,10 +790,7 @@ public class BibtexParser implements Parser {
         if (character == '\n') {
             line--;
         }
-        pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
-        }
+        input.unread(character);
     }
 
     private BibtexString parseString() throws IOException {
@@ -1153,4 +1298,7 @@ public class BibtexParser implements Parser {
                     + " but received " + (char) character);
         }
     }
+
+    private record ParsedSpan(Span span, BibDatabase database, List<BibEntry> entries, Map<String, String> meta, Set<BibEntryType> entryTypes, ParserResult result) {
+    }
 }
@@ -0,0 +1,135 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * The character source of the {@link BibtexParser}.
+ * <p>
+ * Reads the input in chunks into a char buffer and records all characters read since the last call of {@link #takeTextReadSoFar()}.
+ * The recorded text is the source of the parsed serialization of the entries, thus it has to be exactly what was read.
+ * <p>
+ * Compared to a {@link java.io.PushbackReader} combined with a deque of boxed characters, no object is allocated per character:
+ * unreading the last read character just moves the position back in the buffer, and the recorded text is kept in a growing char array which is sliced into a string.
+ */
+final class BibtexParserInput {
+
+    static final int EOF = -1;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_RECORDING_CAPACITY = 4 * 1024;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    // Characters which were unread, but are not the ones before the current position in the buffer (e.g., due to a buffer refill or a different character being unread)
+    private char[] pushback = new char[16];
+    private int pushbackSize;
+
+    private char[] textReadSoFar = new char[INITIAL_RECORDING_CAPACITY];
+    private int textReadSoFarLength;
+
+    BibtexParserInput(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads the next character, {@link #EOF} if the end of the input is reached.
+     * Characters other than EOF (and the character 65535, which is what an unread EOF turns into) are recorded.
+     */
+    int read() throws IOException {
+        int character;
+        if (pushbackSize > 0) {
+            character = pushback[--pushbackSize];
+        } else if ((position < limit) || fill()) {
+            character = buffer[position++];
+        } else {
+            return EOF;
+        }
+
+        if (!isEOFCharacter(character)) {
+            record((char) character);
+        }
+        return character;
+    }
+
+    /**
+     * Pushes back a character, which is the next one returned by {@link #read()}.
+     * If the character is the last recorded one, it is removed from the recording.
+     * <p>
+     * As with {@link java.io.PushbackReader}, {@link #EOF} is pushed back as the character 65535.
+     */
+    void unread(int character) {
+        char unreadCharacter = (char) character;
+        if ((pushbackSize == 0) && (position > 0) && (buffer[position - 1] == unreadCharacter)) {
+            position--;
+        } else {
+            if (pushbackSize == pushback.length) {
+                pushback = Arrays.copyOf(pushback, pushback.length * 2);
+            }
+            pushback[pushbackSize++] = unreadCharacter;
+        }
+
+        if ((textReadSoFarLength > 0) && (textReadSoFar[textReadSoFarLength - 1] == character)) {
+            textReadSoFarLength--;
+        }
+    }
+
+    /**
+     * Reads the next character without recording it. Used to look ahead before the actual parsing starts.
+     */
+    int readUnrecorded() throws IOException {
+        int character = read();
+        if (!isEOFCharacter(character)) {
+            textReadSoFarLength--;
+        }
+        return character;
+    }
+
+    /**
+     * Pushes back a character read by {@link #readUnrecorded()}.
+     */
+    void unreadUnrecorded(int character) {
+        int length = textReadSoFarLength;
+        unread(character);
+        textReadSoFarLength = length;
+    }
+
+    /**
+     * Returns the text recorded since the last call and starts a new recording.
+     */
+    String takeTextReadSoFar() {
+        String text = new String(textReadSoFar, 0, textReadSoFarLength);
+        textReadSoFarLength = 0;
+        return text;
+    }
+
+    static boolean isEOFCharacter(int character) {
+        return (character == EOF) || (character == 65535);
+    }
+
+    private void record(char character) {
+        if (textReadSoFarLength == textReadSoFar.length) {
+            textReadSoFar = Arrays.copyOf(textReadSoFar, textReadSoFar.length * 2);
+        }
+        textReadSoFar[textReadSoFarLength++] = character;
+    }
+
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = reader.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        if (read < 0) {
+            position = 0;
+            limit = 0;
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
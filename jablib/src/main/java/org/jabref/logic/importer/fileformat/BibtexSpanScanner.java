@@ -0,0 +1,102 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits the content of a BibTeX file into spans which can be parsed independently of each other.
+ * <p>
+ * The scanner does not parse the content. It looks for an <code>@</code> at the beginning of a line which is preceded by a closing brace (or parenthesis) and whitespace only.
+ * A span ends where the {@link BibtexParser} would stop reading after that closing brace: after the spaces and the line break following it.
+ * Thus, the comments and whitespace in front of the next item are part of the next span, as they belong to the parsed serialization of the next item.
+ * <p>
+ * Since the scanner only looks at the text, a split point might be wrong (e.g., if a field value contains a line starting with <code>@</code>).
+ * The parser has to check that each span (except the last one) was parsed completely and fall back to parsing the whole content otherwise.
+ */
+final class BibtexSpanScanner {
+
+    record Span(int start, int end) {
+    }
+
+    private BibtexSpanScanner() {
+    }
+
+    /**
+     * @param targetSpanLength the length after which a span ends at the next split point
+     */
+    static List<Span> split(StringBuilder content, int targetSpanLength) {
+        List<Span> spans = new ArrayList<>();
+        int spanStart = 0;
+        while (content.length() - spanStart > targetSpanLength) {
+            int spanEnd = findSplitPoint(content, spanStart, spanStart + targetSpanLength);
+            if (spanEnd < 0) {
+                break;
+            }
+            spans.add(new Span(spanStart, spanEnd));
+            spanStart = spanEnd;
+        }
+        spans.add(new Span(spanStart, content.length()));
+        return spans;
+    }
+
+    /**
+     * Finds the split point in front of the first item starting after the given position, -1 if there is none
+     */
+    private static int findSplitPoint(StringBuilder content, int spanStart, int from) {
+        int lineBreak = content.indexOf("\n@", from);
+        while (lineBreak >= 0) {
+            int splitPoint = endOfPreviousItem(content, lineBreak + 1);
+            if (splitPoint > spanStart) {
+                return splitPoint;
+            }
+            lineBreak = content.indexOf("\n@", lineBreak + 2);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the position where the parser starts recording the text in front of the item starting at the given position.
+     * That is the position after the closing brace of the previous entry or string, the spaces following it, and one line break.
+     *
+     * @return -1 if the text in front of the item does not end with a closing brace followed by whitespace or if the previous item is a comment or preamble
+     */
+    private static int endOfPreviousItem(StringBuilder content, int itemStart) {
+        int closingBrace = itemStart - 1;
+        while ((closingBrace >= 0) && Character.isWhitespace(content.charAt(closingBrace))) {
+            closingBrace--;
+        }
+        if ((closingBrace < 0) || ((content.charAt(closingBrace) != '}') && (content.charAt(closingBrace) != ')'))) {
+            return -1;
+        }
+
+        // The text of comments and preambles is not handed to the next item the same way as the text of entries and strings
+        int previousLineBreak = content.lastIndexOf("\n@", closingBrace);
+        int previousItemStart = previousLineBreak >= 0 ? previousLineBreak + 1 : content.indexOf('@');
+        if (isCommentOrPreamble(content, previousItemStart + 1)) {
+            return -1;
+        }
+
+        // Same as BibtexParser#skipOneNewline
+        int end = closingBrace + 1;
+        while (content.charAt(end) == ' ') {
+            end++;
+        }
+        if (content.charAt(end) == '\r') {
+            end++;
+        }
+        if (content.charAt(end) == '\n') {
+            end++;
+        }
+        return end;
+    }
+
+    private static boolean isCommentOrPreamble(StringBuilder content, int typeStart) {
+        int typeEnd = typeStart;
+        while ((typeEnd < content.length()) && Character.isLetter(content.charAt(typeEnd))) {
+            typeEnd++;
+        }
+        String type = content.substring(typeStart, typeEnd).toLowerCase(Locale.ROOT);
+        return "comment".equals(type) || "preamble".equals(type);
+    }
+}
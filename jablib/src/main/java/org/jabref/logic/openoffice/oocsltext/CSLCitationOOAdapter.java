@@ -205,7 +205,7 @@ public class CSLCitationOOAdapter {
                 String citationKey = entry.getCitationKey().orElse("");
                 int currentNumber = markManager.getCitationNumber(citationKey);
                 String formattedBibliographyEntry = CSLFormatUtils.transformHTML(bibliographyEntry);
-                formattedBibliographyEntry = CSLFormatUtils.updateSingleBibliographyNumber(formattedBibliographyEntry, currentNumber);
+                formattedBibliographyEntry = CitationStyleGenerator.updateSingleBibliographyNumber(formattedBibliographyEntry, currentNumber);
 
                 OOText ooText = OOFormat.setLocaleNone(OOText.fromString(formattedBibliographyEntry));
                 OOTextIntoOO.write(document, cursor, ooText);
@@ -0,0 +1,225 @@
+package org.jabref.logic.pdf;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.util.Directories;
+import org.jabref.logic.util.PersistentLruCache;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+import org.h2.mvstore.MVMap;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores the text extracted from PDF files, addressed by the content of the files.
+ * <p>
+ * Thus, the text of a file is extracted only once, even if the file is moved, renamed, or linked from several libraries.
+ * The full-text index of each library and the AI ingestion read the text from here.
+ * <p>
+ * A file is identified in two steps: A fingerprint of its size and some sampled blocks is cheap to compute and tells whether the file might be known.
+ * Only then, the hash of the whole content is computed to find the text.
+ * <p>
+ * If the cache grows larger than its maximum size, the least recently used texts are evicted.
+ */
+public class ExtractedTextCache implements AutoCloseable {
+
+    public static final long DEFAULT_MAX_SIZE = 1024L * 1024 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExtractedTextCache.class);
+
+    private static final String FILE_NAME = "extracted-text.mv";
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    private static final int SAMPLE_SIZE = 16 * 1024;
+    private static final int NUMBER_OF_SAMPLES = 4;
+
+    private static ExtractedTextCache shared;
+
+    // content hash -> text and annotations of each page (alternating)
+    private final PersistentLruCache<String[]> pages;
+
+    // fingerprint -> content hash
+    private final MVMap<String, String> contentHashes;
+
+    /**
+     * @param file    the file to store the cache in, <code>null</code> to keep the cache in memory only
+     * @param maxSize the maximum size of the stored text in bytes
+     */
+    public ExtractedTextCache(@Nullable Path file, long maxSize) {
+        this.pages = new PersistentLruCache<>(file, maxSize, ExtractedTextCache::sizeOf);
+        this.contentHashes = pages.openMap("contentHashes");
+    }
+
+    /**
+     * Returns the cache shared by all libraries, stored in the user data directory
+     */
+    public static synchronized ExtractedTextCache getShared() {
+        if ((shared == null) || shared.pages.isClosed()) {
+            shared = new ExtractedTextCache(getDefaultFile(), DEFAULT_MAX_SIZE);
+        }
+        return shared;
+    }
+
+    public static synchronized void closeShared() {
+        if (shared != null) {
+            shared.close();
+            shared = null;
+        }
+    }
+
+    public static Path getDefaultFile() {
+        return Directories.getExtractedTextDirectory().resolve(FILE_NAME);
+    }
+
+    /**
+     * Returns the text of the given file, if it was extracted before
+     */
+    public Optional<List<Page>> get(Path file) {
+        try {
+            String candidate = contentHashes.get(fingerprint(file));
+            if (candidate == null) {
+                return Optional.empty();
+            }
+            return pages.get(contentHash(file)).map(ExtractedTextCache::toPages);
+        } catch (IOException e) {
+            LOGGER.debug("Could not hash file {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the text extracted from the given file
+     */
+    public void put(Path file, List<Page> extractedPages) {
+        String fingerprint;
+        String contentHash;
+        try {
+            fingerprint = fingerprint(file);
+            contentHash = contentHash(file);
+        } catch (IOException e) {
+            LOGGER.debug("Could not hash file {}", file, e);
+            return;
+        }
+
+        String[] storedPages = new String[extractedPages.size() * 2];
+        for (int i = 0; i < extractedPages.size(); i++) {
+            Page page = extractedPages.get(i);
+            storedPages[2 * i] = page.text();
+            storedPages[2 * i + 1] = page.annotations();
+        }
+
+        contentHashes.put(fingerprint, contentHash);
+        if (pages.put(contentHash, storedPages) > 0) {
+            removeEvictedFingerprints();
+        }
+    }
+
+    public boolean isPersistent() {
+        return pages.isPersistent();
+    }
+
+    /**
+     * @return the size of the stored text in bytes
+     */
+    public long getSize() {
+        return pages.getSize();
+    }
+
+    /**
+     * @return the number of files whose text is stored
+     */
+    public int getNumberOfFiles() {
+        return pages.size();
+    }
+
+    /**
+     * Evicts the least recently used texts until the cache is not larger than the given size
+     *
+     * @param targetSize the size in bytes
+     * @return the number of evicted files
+     */
+    public int prune(long targetSize) {
+        int evicted = pages.prune(targetSize);
+        if (evicted > 0) {
+            removeEvictedFingerprints();
+        }
+        return evicted;
+    }
+
+    public void clear() {
+        contentHashes.clear();
+        pages.clear();
+    }
+
+    private void removeEvictedFingerprints() {
+        contentHashes.entrySet().removeIf(fingerprint -> !pages.containsKey(fingerprint.getValue()));
+    }
+
+    @Override
+    public void close() {
+        pages.close();
+    }
+
+    private static long sizeOf(String[] storedPages) {
+        long size = 0;
+        for (String value : storedPages) {
+            size += 2L * value.length();
+        }
+        return size;
+    }
+
+    private static List<Page> toPages(String[] storedPages) {
+        List<Page> result = new ArrayList<>(storedPages.length / 2);
+        for (int i = 0; i < storedPages.length; i += 2) {
+            result.add(new Page(storedPages[i], storedPages[i + 1]));
+        }
+        return result;
+    }
+
+    /**
+     * Hashes the size and some blocks spread over the file
+     */
+    static String fingerprint(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            Hasher hasher = HASH_FUNCTION.newHasher().putLong(size);
+            ByteBuffer buffer = ByteBuffer.allocate(SAMPLE_SIZE);
+            long distance = Math.max(SAMPLE_SIZE, (size - SAMPLE_SIZE) / (NUMBER_OF_SAMPLES - 1));
+            for (long position = 0; position < size; position += distance) {
+                buffer.clear();
+                channel.read(buffer, position);
+                buffer.flip();
+                hasher.putBytes(buffer);
+            }
+            return hasher.hash().toString();
+        }
+    }
+
+    static String contentHash(Path file) throws IOException {
+        try (HashingInputStream inputStream = new HashingInputStream(HASH_FUNCTION, Files.newInputStream(file))) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+            return inputStream.hash().toString();
+        }
+    }
+
+    /**
+     * The text extracted from a page of a PDF file
+     *
+     * @param text        the text of the page, empty if there is none
+     * @param annotations the contents of the annotations of the page separated by line breaks, empty if there are none
+     */
+    public record Page(String text, String annotations) {
+    }
+}
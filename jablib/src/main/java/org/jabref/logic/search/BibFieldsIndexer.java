@@ -0,0 +1,36 @@
+package org.jabref.logic.search;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+
+/**
+ * Indexes the fields of the entries of a library. The index is queried by the matching {@link BibFieldsSearcher}.
+ */
+public interface BibFieldsIndexer {
+    void updateOnStart(BackgroundTask<?> task);
+
+    void addToIndex(Collection<BibEntry> entries, BackgroundTask<?> task);
+
+    void removeFromIndex(Collection<BibEntry> entries, BackgroundTask<?> task);
+
+    void updateEntry(BibEntry entry, Field field);
+
+    /**
+     * Updates the changed fields of multiple entries. Implementations should apply all changes at once, so that searches either see none or all of them.
+     */
+    default void updateEntries(List<EntryFieldChanges> changes) {
+        for (EntryFieldChanges change : changes) {
+            for (Field field : change.fields()) {
+                updateEntry(change.entry(), field);
+            }
+        }
+    }
+
+    void close();
+
+    void closeAndWait();
+}
@@ -0,0 +1,14 @@
+package org.jabref.logic.search;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResults;
+
+/**
+ * Evaluates search queries on the index built by the matching {@link BibFieldsIndexer}.
+ */
+public interface BibFieldsSearcher {
+    SearchResults search(SearchQuery searchQuery);
+
+    boolean isMatched(BibEntry entry, SearchQuery searchQuery);
+}
@@ -0,0 +1,149 @@
+package org.jabref.logic.search;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TimerTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.logic.util.TaskExecutor;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.search.event.IndexAddedOrUpdatedEvent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces field changes before applying them to a {@link BibFieldsIndexer}.
+ * <p>
+ * Mass edits (e.g., cleanups, citation key generation, find and replace) change thousands of fields in a short time.
+ * Instead of starting an index update for each change, the changes are collected for a short time window and then applied in one go using {@link BibFieldsIndexer#updateEntries(List)}.
+ * Repeated changes of the same field of an entry are applied only once, because the index reads the current value of the field when applying the change.
+ */
+class BibFieldsUpdateQueue {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BibFieldsUpdateQueue.class);
+
+    static final long DEFAULT_WINDOW_MILLIS = 100;
+
+    private final BibFieldsIndexer bibFieldsIndexer;
+    private final BibDatabaseContext databaseContext;
+    private final TaskExecutor taskExecutor;
+    private final long windowMillis;
+
+    private final Object pendingLock = new Object();
+    // Ensures that batches are applied in the order they were collected
+    private final ReentrantLock applyLock = new ReentrantLock();
+
+    // Keyed by the id of the entry, because BibEntry#equals compares the fields
+    private Map<String, EntryFieldChanges> pendingChanges = new LinkedHashMap<>();
+    private int pendingFieldChanges;
+    private boolean applyScheduled;
+    private boolean closed;
+
+    private final AtomicLong appliedBatches = new AtomicLong();
+    private final AtomicLong appliedChanges = new AtomicLong();
+    private final AtomicLong coalescedChanges = new AtomicLong();
+    private final AtomicLong lastApplyNanos = new AtomicLong();
+    private final AtomicLong maxApplyNanos = new AtomicLong();
+
+    BibFieldsUpdateQueue(BibFieldsIndexer bibFieldsIndexer, BibDatabaseContext databaseContext, TaskExecutor taskExecutor, long windowMillis) {
+        this.bibFieldsIndexer = bibFieldsIndexer;
+        this.databaseContext = databaseContext;
+        this.taskExecutor = taskExecutor;
+        this.windowMillis = windowMillis;
+    }
+
+    void enqueue(BibEntry entry, Field field) {
+        synchronized (pendingLock) {
+            if (closed) {
+                return;
+            }
+            EntryFieldChanges changes = pendingChanges.computeIfAbsent(entry.getId(), _ -> new EntryFieldChanges(entry, new LinkedHashSet<>()));
+            if (changes.fields().add(field)) {
+                pendingFieldChanges++;
+            } else {
+                coalescedChanges.incrementAndGet();
+            }
+            if (!applyScheduled) {
+                applyScheduled = true;
+                HeadlessExecutorService.INSTANCE.submit(new TimerTask() {
+                    @Override
+                    public void run() {
+                        BackgroundTask.wrap(BibFieldsUpdateQueue.this::applyPending).executeWith(taskExecutor);
+                    }
+                }, windowMillis);
+            }
+        }
+    }
+
+    /**
+     * Applies all pending changes to the index and notifies listeners about the updated entries.
+     */
+    void applyPending() {
+        applyLock.lock();
+        try {
+            List<EntryFieldChanges> changes;
+            int fieldChanges;
+            synchronized (pendingLock) {
+                changes = List.copyOf(pendingChanges.values());
+                fieldChanges = pendingFieldChanges;
+                pendingChanges = new LinkedHashMap<>();
+                pendingFieldChanges = 0;
+                applyScheduled = false;
+            }
+            // Entries removed in the meantime are already removed from the index
+            changes = changes.stream()
+                             .filter(change -> databaseContext.getDatabase().getEntryById(change.entry().getId()) != null)
+                             .toList();
+            if (changes.isEmpty()) {
+                return;
+            }
+
+            long startTime = System.nanoTime();
+            bibFieldsIndexer.updateEntries(changes);
+            long applyNanos = System.nanoTime() - startTime;
+
+            appliedBatches.incrementAndGet();
+            appliedChanges.addAndGet(fieldChanges);
+            lastApplyNanos.set(applyNanos);
+            maxApplyNanos.accumulateAndGet(applyNanos, Math::max);
+            LOGGER.debug("Applied {} field changes of {} entries to the index in {} ms", fieldChanges, changes.size(), Duration.ofNanos(applyNanos).toMillis());
+
+            databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(changes.stream().map(EntryFieldChanges::entry).toList()));
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    /**
+     * Discards all pending changes. Changes enqueued afterwards are ignored.
+     */
+    void close() {
+        synchronized (pendingLock) {
+            closed = true;
+            pendingChanges = new LinkedHashMap<>();
+            pendingFieldChanges = 0;
+        }
+    }
+
+    IndexUpdateStatistics getStatistics() {
+        int queueDepth;
+        synchronized (pendingLock) {
+            queueDepth = pendingFieldChanges;
+        }
+        return new IndexUpdateStatistics(
+                queueDepth,
+                appliedBatches.get(),
+                appliedChanges.get(),
+                coalescedChanges.get(),
+                Duration.ofNanos(lastApplyNanos.get()),
+                Duration.ofNanos(maxApplyNanos.get()));
+    }
+}
@@ -10,6 +10,7 @@ import org.jabref.model.database.BibDatabases;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.search.query.SearchQuery;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -19,10 +20,13 @@ public class DatabaseSearcher {
     private final BibDatabaseContext databaseContext;
     private final IndexManager indexManager;
 
+    /**
+     * @param postgreServer the server to use for searching the bib fields. If null, an in-memory index is used.
+     */
     public DatabaseSearcher(BibDatabaseContext databaseContext,
                             TaskExecutor taskExecutor,
                             CliPreferences preferences,
-                            PostgreServer postgreServer) throws IOException {
+                            @Nullable PostgreServer postgreServer) throws IOException {
         this.databaseContext = databaseContext;
         this.indexManager = new IndexManager(databaseContext, taskExecutor, preferences, postgreServer);
     }
@@ -0,0 +1,12 @@
+package org.jabref.logic.search;
+
+import java.util.Set;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+
+/**
+ * The fields of an entry which changed since the entry was indexed last.
+ */
+public record EntryFieldChanges(BibEntry entry, Set<Field> fields) {
+}
@@ -16,11 +16,13 @@ import javafx.beans.property.BooleanProperty;
 import javafx.beans.value.ChangeListener;
 
 import org.jabref.logic.preferences.CliPreferences;
-import org.jabref.logic.search.indexing.BibFieldsIndexer;
 import org.jabref.logic.search.indexing.DefaultLinkedFilesIndexer;
+import org.jabref.logic.search.indexing.InMemoryBibFieldsIndexer;
+import org.jabref.logic.search.indexing.PostgresBibFieldsIndexer;
 import org.jabref.logic.search.indexing.ReadOnlyLinkedFilesIndexer;
-import org.jabref.logic.search.retrieval.BibFieldsSearcher;
+import org.jabref.logic.search.retrieval.InMemoryBibFieldsSearcher;
 import org.jabref.logic.search.retrieval.LinkedFilesSearcher;
+import org.jabref.logic.search.retrieval.PostgresBibFieldsSearcher;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.HeadlessExecutorService;
@@ -37,6 +39,7 @@ import org.jabref.model.search.event.IndexStartedEvent;
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchResults;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -50,19 +53,33 @@ public class IndexManager {
     private final BibFieldsIndexer bibFieldsIndexer;
     private final LuceneIndexer linkedFilesIndexer;
     private final BibFieldsSearcher bibFieldsSearcher;
+    private final BibFieldsUpdateQueue bibFieldsUpdateQueue;
     private final LinkedFilesSearcher linkedFilesSearcher;
 
+    /**
+     * @param postgreServer the server holding the bib fields index. If null, the bib fields are indexed in memory, see {@link org.jabref.model.search.BibFieldsSearchBackend}.
+     */
     public IndexManager(BibDatabaseContext databaseContext,
                         TaskExecutor executor,
                         CliPreferences preferences,
-                        PostgreServer postgreServer) {
+                        @Nullable PostgreServer postgreServer) {
         this.taskExecutor = executor;
         this.databaseContext = databaseContext;
         this.shouldIndexLinkedFiles = preferences.getFilePreferences().fulltextIndexLinkedFilesProperty();
         this.preferencesListener = (observable, oldValue, newValue) -> bindToPreferences(newValue);
         this.shouldIndexLinkedFiles.addListener(preferencesListener);
 
-        bibFieldsIndexer = new BibFieldsIndexer(preferences.getBibEntryPreferences(), databaseContext, postgreServer.getConnection());
+        if (postgreServer == null) {
+            InMemoryBibFieldsIndexer inMemoryIndexer = new InMemoryBibFieldsIndexer(preferences.getBibEntryPreferences(), databaseContext);
+            bibFieldsIndexer = inMemoryIndexer;
+            bibFieldsSearcher = new InMemoryBibFieldsSearcher(inMemoryIndexer.getIndex());
+        } else {
+            PostgresBibFieldsIndexer postgresIndexer = new PostgresBibFieldsIndexer(preferences.getBibEntryPreferences(), databaseContext, postgreServer.getConnection());
+            bibFieldsIndexer = postgresIndexer;
+            bibFieldsSearcher = new PostgresBibFieldsSearcher(postgreServer.getConnection(), postgresIndexer.getTable());
+        }
+
+        bibFieldsUpdateQueue = new BibFieldsUpdateQueue(bibFieldsIndexer, databaseContext, executor, BibFieldsUpdateQueue.DEFAULT_WINDOW_MILLIS);
 
         LuceneIndexer indexer;
         try {
@@ -73,7 +90,6 @@ public class IndexManager {
         }
         linkedFilesIndexer = indexer;
 
-        this.bibFieldsSearcher = new BibFieldsSearcher(postgreServer.getConnection(), bibFieldsIndexer.getTable());
         this.linkedFilesSearcher = new LinkedFilesSearcher(databaseContext, linkedFilesIndexer, preferences.getFilePreferences());
         updateOnStart();
     }
@@ -100,7 +116,10 @@ public class IndexManager {
                 return null;
             }
         }.willBeRecoveredAutomatically(true)
-         .onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexStartedEvent()))
+         .onFinished(() -> {
+             int entryCount = this.databaseContext.getDatabase().getEntryCount();
+             this.databaseContext.getDatabase().postEvent(new IndexStartedEvent(entryCount, entryCount));
+         })
          .executeWith(taskExecutor);
 
         if (shouldIndexLinkedFiles.get()) {
@@ -156,15 +175,11 @@ public class IndexManager {
         }
     }
 
+    /**
+     * The change is not applied to the bib fields index immediately, but coalesced with other changes happening shortly after. An {@link IndexAddedOrUpdatedEvent} is posted once the changes are applied.
+     */
     public void updateEntry(FieldChangedEvent event) {
-        new BackgroundTask<>() {
-            @Override
-            public Object call() {
-                bibFieldsIndexer.updateEntry(event.getBibEntry(), event.getField());
-                return null;
-            }
-        }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(List.of(event.getBibEntry()))))
-         .executeWith(taskExecutor);
+        bibFieldsUpdateQueue.enqueue(event.getBibEntry(), event.getField());
 
         if (shouldIndexLinkedFiles.get() && event.getField().equals(StandardField.FILE)) {
             new BackgroundTask<>() {
@@ -189,7 +204,12 @@ public class IndexManager {
         }
     }
 
+    public IndexUpdateStatistics getIndexUpdateStatistics() {
+        return bibFieldsUpdateQueue.getStatistics();
+    }
+
     public void close() {
+        bibFieldsUpdateQueue.close();
         bibFieldsIndexer.close();
         shouldIndexLinkedFiles.removeListener(preferencesListener);
         linkedFilesIndexer.close();
@@ -197,6 +217,7 @@ public class IndexManager {
     }
 
     public void closeAndWait() {
+        bibFieldsUpdateQueue.close();
         bibFieldsIndexer.closeAndWait();
         shouldIndexLinkedFiles.removeListener(preferencesListener);
         linkedFilesIndexer.closeAndWait();
@@ -0,0 +1,21 @@
+package org.jabref.logic.search;
+
+import java.time.Duration;
+
+/**
+ * Statistics of the updates of the bib fields index caused by field changes.
+ *
+ * @param queueDepth       the number of field changes waiting to be applied
+ * @param appliedBatches   the number of batches applied to the index
+ * @param appliedChanges   the number of field changes applied to the index
+ * @param coalescedChanges the number of field changes which were merged with a pending change of the same field
+ * @param lastApplyLatency the time it took to apply the last batch
+ * @param maxApplyLatency  the longest time it took to apply a batch
+ */
+public record IndexUpdateStatistics(int queueDepth,
+                                    long appliedBatches,
+                                    long appliedChanges,
+                                    long coalescedChanges,
+                                    Duration lastApplyLatency,
+                                    Duration maxApplyLatency) {
+}
@@ -11,6 +11,7 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableSet;
 
+import org.jabref.model.search.BibFieldsSearchBackend;
 import org.jabref.model.search.SearchDisplayMode;
 import org.jabref.model.search.SearchFlags;
 
@@ -25,6 +26,7 @@ public class SearchPreferences {
     private final DoubleProperty searchWindowDividerPosition;
     private final BooleanProperty keepSearchSting;
     private final ObjectProperty<SearchDisplayMode> searchDisplayMode;
+    private final ObjectProperty<BibFieldsSearchBackend> bibFieldsSearchBackend;
 
     public SearchPreferences(SearchDisplayMode searchDisplayMode,
                              boolean isRegularExpression,
@@ -34,8 +36,9 @@ public class SearchPreferences {
                              boolean keepWindowOnTop,
                              double searchWindowHeight,
                              double searchWindowWidth,
-                             double searchWindowDividerPosition) {
-        this(searchDisplayMode, EnumSet.noneOf(SearchFlags.class), keepSearchString, keepWindowOnTop, searchWindowHeight, searchWindowWidth, searchWindowDividerPosition);
+                             double searchWindowDividerPosition,
+                             BibFieldsSearchBackend bibFieldsSearchBackend) {
+        this(searchDisplayMode, EnumSet.noneOf(SearchFlags.class), keepSearchString, keepWindowOnTop, searchWindowHeight, searchWindowWidth, searchWindowDividerPosition, bibFieldsSearchBackend);
         if (isRegularExpression) {
             searchFlags.add(SearchFlags.REGULAR_EXPRESSION);
         }
@@ -48,7 +51,7 @@ public class SearchPreferences {
     }
 
     @VisibleForTesting
-    public SearchPreferences(SearchDisplayMode searchDisplayMode, EnumSet<SearchFlags> searchFlags, boolean keepSearchString, boolean keepWindowOnTop, double searchWindowHeight, double searchWindowWidth, double searchWindowDividerPosition) {
+    public SearchPreferences(SearchDisplayMode searchDisplayMode, EnumSet<SearchFlags> searchFlags, boolean keepSearchString, boolean keepWindowOnTop, double searchWindowHeight, double searchWindowWidth, double searchWindowDividerPosition, BibFieldsSearchBackend bibFieldsSearchBackend) {
         this.searchDisplayMode = new SimpleObjectProperty<>(searchDisplayMode);
         this.searchFlags = FXCollections.observableSet(searchFlags);
 
@@ -57,6 +60,7 @@ public class SearchPreferences {
         this.searchWindowWidth = new SimpleDoubleProperty(searchWindowWidth);
         this.searchWindowDividerPosition = new SimpleDoubleProperty(searchWindowDividerPosition);
         this.keepSearchSting = new SimpleBooleanProperty(keepSearchString);
+        this.bibFieldsSearchBackend = new SimpleObjectProperty<>(bibFieldsSearchBackend);
     }
 
     public EnumSet<SearchFlags> getSearchFlags() {
@@ -162,4 +166,19 @@ public class SearchPreferences {
     public void setKeepSearchString(boolean keepSearchString) {
         this.keepSearchSting.set(keepSearchString);
     }
+
+    /**
+     * The backend is chosen once when JabRef starts and used for all libraries of the session (including starting the Postgres server or not). Thus, a change takes effect after a restart only.
+     */
+    public BibFieldsSearchBackend getBibFieldsSearchBackend() {
+        return bibFieldsSearchBackend.get();
+    }
+
+    public ObjectProperty<BibFieldsSearchBackend> bibFieldsSearchBackendProperty() {
+        return bibFieldsSearchBackend;
+    }
+
+    public void setBibFieldsSearchBackend(BibFieldsSearchBackend bibFieldsSearchBackend) {
+        this.bibFieldsSearchBackend.set(bibFieldsSearchBackend);
+    }
 }
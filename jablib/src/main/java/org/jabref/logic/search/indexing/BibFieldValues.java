@@ -0,0 +1,234 @@
+package org.jabref.logic.search.indexing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.KeywordList;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+
+import static org.jabref.model.entry.field.InternalField.TYPE_HEADER;
+
+/**
+ * Computes the values stored in the bib fields index.
+ * <p>
+ * For each field, the literal value and a value transformed for better querying (LaTeX-free, resolved) is stored.
+ * Values of known multi-value fields (persons, keywords, groups, entry links) are additionally split into their single values to support exact matching of these.
+ */
+public class BibFieldValues {
+
+    /**
+     * @param literal     the value as-is
+     * @param transformed the value transformed for better querying
+     */
+    public record FieldValue(Field field, String literal, String transformed) {
+    }
+
+    /**
+     * All values of an entry, as returned by {@link #getValues(BibEntry)} and {@link #getSplitValues(BibEntry)}
+     */
+    public record EntryValues(String entryId, List<FieldValue> values, List<FieldValue> splitValues) {
+    }
+
+    private static final LatexToUnicodeFormatter LATEX_TO_UNICODE_FORMATTER = new LatexToUnicodeFormatter();
+    private static final Pattern GROUPS_SEPARATOR_REGEX = Pattern.compile("\s*,\s*");
+    private static final Set<Field> DATE_FIELDS = Set.of(StandardField.DATE, StandardField.YEAR, StandardField.MONTH, StandardField.DAY);
+
+    private final BibDatabaseContext databaseContext;
+    private final Character keywordSeparator;
+
+    public BibFieldValues(BibDatabaseContext databaseContext, Character keywordSeparator) {
+        this.databaseContext = databaseContext;
+        this.keywordSeparator = keywordSeparator;
+    }
+
+    public static boolean isDateField(Field field) {
+        return DATE_FIELDS.contains(field);
+    }
+
+    /**
+     * Computes the values of the given entries in parallel. Resolving and converting the values to LaTeX-free Unicode is the expensive part of indexing, and the entries are independent of each other.
+     *
+     * @return the values in the order of the given entries
+     */
+    public List<EntryValues> getEntryValues(List<BibEntry> entries) {
+        return entries.parallelStream()
+                      .map(entry -> new EntryValues(entry.getId(), getValues(entry), getSplitValues(entry)))
+                      .toList();
+    }
+
+    /**
+     * Returns the values of all fields of the entry, including the entry type.
+     */
+    public List<FieldValue> getValues(BibEntry entry) {
+        List<FieldValue> values = new ArrayList<>();
+        for (Map.Entry<Field, String> fieldPair : entry.getFieldMap().entrySet()) {
+            Field field = fieldPair.getKey();
+            // Skip indexing of date-related fields separately to ensure proper handling later in the process.
+            if (!isDateField(field)) {
+                values.add(getValue(entry, field, fieldPair.getValue()));
+            }
+        }
+        // ensure all date-related fields are indexed.
+        addDateValues(entry, values);
+        // add entry type
+        values.add(createValue(TYPE_HEADER, entry.getType().getName()));
+        return values;
+    }
+
+    /**
+     * Returns the values to be stored after the given field changed. For a date-related field, the values of all date-related fields are returned, because they are resolved using each other.
+     */
+    public List<FieldValue> getValues(BibEntry entry, Field field) {
+        List<FieldValue> values = new ArrayList<>();
+        if (isDateField(field)) {
+            addDateValues(entry, values);
+        } else {
+            entry.getField(field).ifPresent(value -> values.add(getValue(entry, field, value)));
+        }
+        return values;
+    }
+
+    /**
+     * Returns the fields whose stored values have to be replaced when the given fields changed. The date-related fields are always replaced together, because they are resolved using each other.
+     */
+    public static Set<Field> getReplacedFields(Set<Field> changedFields) {
+        Set<Field> replacedFields = new LinkedHashSet<>(changedFields);
+        if (changedFields.stream().anyMatch(BibFieldValues::isDateField)) {
+            replacedFields.addAll(DATE_FIELDS);
+        }
+        return replacedFields;
+    }
+
+    /**
+     * Returns the values to be stored after the given fields changed, see {@link #getReplacedFields(Set)}.
+     */
+    public List<FieldValue> getValues(BibEntry entry, Set<Field> changedFields) {
+        List<FieldValue> values = new ArrayList<>();
+        boolean dateFieldChanged = false;
+        for (Field field : changedFields) {
+            if (isDateField(field)) {
+                dateFieldChanged = true;
+            } else {
+                entry.getField(field).ifPresent(value -> values.add(getValue(entry, field, value)));
+            }
+        }
+        if (dateFieldChanged) {
+            addDateValues(entry, values);
+        }
+        return values;
+    }
+
+    /**
+     * Returns the split values of all multi-value fields of the entry.
+     */
+    public List<FieldValue> getSplitValues(BibEntry entry) {
+        List<FieldValue> values = new ArrayList<>();
+        for (Map.Entry<Field, String> fieldPair : entry.getFieldMap().entrySet()) {
+            addSplitValues(entry, fieldPair.getKey(), fieldPair.getValue(), values);
+        }
+        return values;
+    }
+
+    /**
+     * Returns the split values of the given field. The list is empty if the field is not a multi-value field.
+     */
+    public List<FieldValue> getSplitValues(BibEntry entry, Field field) {
+        List<FieldValue> values = new ArrayList<>();
+        entry.getField(field).ifPresent(value -> addSplitValues(entry, field, value, values));
+        return values;
+    }
+
+    /**
+     * Returns the split values of the given fields.
+     */
+    public List<FieldValue> getSplitValues(BibEntry entry, Set<Field> fields) {
+        List<FieldValue> values = new ArrayList<>();
+        for (Field field : fields) {
+            entry.getField(field).ifPresent(value -> addSplitValues(entry, field, value, values));
+        }
+        return values;
+    }
+
+    private FieldValue getValue(BibEntry entry, Field field, String value) {
+        // If a field exists, there also exists a resolved field latex free.
+        // We add a `.orElse("")` only because there could be some flaw in the future in the code - and we want to have search working even if the flaws are present.
+        // To uncover these flaws, we add the "assert" statement.
+        // One potential future flaw is that the bibEntry is modified concurrently and the field being deleted.
+        Optional<String> resolvedFieldLatexFree = entry.getResolvedFieldOrAliasLatexFree(field, databaseContext.getDatabase());
+        assert resolvedFieldLatexFree.isPresent();
+        return new FieldValue(field, value, resolvedFieldLatexFree.orElse(""));
+    }
+
+    private void addDateValues(BibEntry entry, List<FieldValue> values) {
+        for (Field dateField : DATE_FIELDS) {
+            Optional<String> resolvedDateValue = entry.getResolvedFieldOrAlias(dateField, databaseContext.getDatabase());
+            resolvedDateValue.ifPresent(dateValue -> values.add(createValue(dateField, dateValue)));
+        }
+    }
+
+    private void addSplitValues(BibEntry entry, Field field, String value, List<FieldValue> values) {
+        // split and convert to Unicode
+        if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
+            addAuthors(value, field, values);
+        } else if (field == StandardField.KEYWORDS) {
+            addKeywords(value, field, values);
+        } else if (field == StandardField.GROUPS) {
+            addGroups(value, field, values);
+        } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
+            addEntryLinks(entry, field, values);
+        } else if (field == StandardField.FILE) {
+            // No handling of File, because due to relative paths, we think, there won't be any exact match operation
+            // We could add the filename itself (with and without extension). However, the user can also use regular expressions to achieve the same.
+            // The use case to search for file names seems pretty seldom, therefore we omit it.
+        } else {
+            // No other multi-value fields are known
+            // No action needed -> the field value is stored as a whole
+        }
+    }
+
+    private void addEntryLinks(BibEntry entry, Field field, List<FieldValue> values) {
+        entry.getEntryLinkList(field, databaseContext.getDatabase()).stream()
+             .distinct()
+             .forEach(link -> values.add(createValue(field, link.getKey())));
+    }
+
+    private static void addGroups(String value, Field field, List<FieldValue> values) {
+        // We could use KeywordList, but we are afraid that group names could have ">" in their name, and then they would not be handled correctly
+        Arrays.stream(GROUPS_SEPARATOR_REGEX.split(value))
+              .distinct()
+              .forEach(group -> values.add(createValue(field, group)));
+    }
+
+    private void addKeywords(String keywordsString, Field field, List<FieldValue> values) {
+        KeywordList keywordList = KeywordList.parse(keywordsString, keywordSeparator);
+        keywordList.stream()
+                   .flatMap(keyword -> keyword.flatten().stream())
+                   .forEach(keyword -> values.add(createValue(field, keyword.toString())));
+    }
+
+    private static void addAuthors(String value, Field field, List<FieldValue> values) {
+        AuthorList.parse(value).getAuthors().forEach(author -> {
+            // Author object does not support literal values
+            // We use the method giving us the most complete information for the literal value;
+            String literal = author.getGivenFamily(false);
+            String transformed = author.latexFree().getGivenFamily(false);
+            values.add(new FieldValue(field, literal, transformed));
+        });
+    }
+
+    private static FieldValue createValue(Field field, String value) {
+        return new FieldValue(field, value, LATEX_TO_UNICODE_FORMATTER.format(value));
+    }
+}
@@ -0,0 +1,92 @@
+package org.jabref.logic.search.indexing;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.jabref.logic.search.indexing.BibFieldValues.FieldValue;
+
+import org.jspecify.annotations.Nullable;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
+import static org.jabref.model.search.PostgreConstants.FIELD_NAME;
+import static org.jabref.model.search.PostgreConstants.FIELD_VALUE_LITERAL;
+import static org.jabref.model.search.PostgreConstants.FIELD_VALUE_TRANSFORMED;
+
+/**
+ * Streams rows into a bib fields table using <code>COPY ... FROM STDIN</code> in the binary format.
+ * This avoids parsing a statement per row and escaping the values, which makes it much faster than batched inserts for large libraries.
+ * <p>
+ * The rows are committed when the writer is closed. See <a href="https://www.postgresql.org/docs/current/sql-copy.html#id-1.9.3.55.9.4">the documentation of the binary format</a>.
+ */
+class BinaryCopyWriter implements Closeable {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    private static final short NUMBER_OF_COLUMNS = 4;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final PGCopyOutputStream copyStream;
+    private final DataOutputStream out;
+
+    BinaryCopyWriter(Connection connection, String schemaTableReference) throws SQLException, IOException {
+        String copyQuery = """
+                COPY %s ("%s", "%s", "%s", "%s") FROM STDIN (FORMAT BINARY)
+                """.formatted(
+                schemaTableReference,
+                ENTRY_ID,
+                FIELD_NAME,
+                FIELD_VALUE_LITERAL,
+                FIELD_VALUE_TRANSFORMED);
+        this.copyStream = new PGCopyOutputStream(connection.unwrap(PGConnection.class), copyQuery);
+        this.out = new DataOutputStream(new BufferedOutputStream(copyStream, BUFFER_SIZE));
+
+        out.write(SIGNATURE);
+        // flags field
+        out.writeInt(0);
+        // length of header extension area
+        out.writeInt(0);
+    }
+
+    void writeRow(String entryId, FieldValue value) throws IOException {
+        out.writeShort(NUMBER_OF_COLUMNS);
+        writeText(entryId);
+        writeText(value.field().getName());
+        writeText(value.literal());
+        writeText(value.transformed());
+    }
+
+    private void writeText(@Nullable String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Discards all rows written so far. The writer must not be used afterwards.
+     */
+    void abort() throws SQLException {
+        if (copyStream.isActive()) {
+            copyStream.cancelCopy();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!copyStream.isActive()) {
+            return;
+        }
+        // file trailer
+        out.writeShort(-1);
+        out.close();
+    }
+}
@@ -3,14 +3,25 @@ package org.jabref.logic.search.indexing;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -19,6 +30,7 @@ import javafx.util.Pair;
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.importer.util.FileFieldParser;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.pdf.ExtractedTextCache;
 import org.jabref.logic.search.LuceneIndexer;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.HeadlessExecutorService;
@@ -46,14 +58,34 @@ import org.apache.lucene.store.FSDirectory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Indexes the content of the linked PDF files.
+ * <p>
+ * New files are indexed in a pipeline: First, the files to index are determined by their modification time.
+ * Then, the text of the files is extracted in parallel. Finally, the extracted pages are written to the index by the indexing thread, which commits the index regularly.
+ * Thus, an interrupted indexing continues with the files not yet committed when the library is opened the next time.
+ * <p>
+ * The text of the files is shared with other libraries using the {@link ExtractedTextCache}. Thus, moving a file or linking it from another library does not require reading it again.
+ */
 public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultLinkedFilesIndexer.class);
-    private static final DocumentReader DOCUMENT_READER = new DocumentReader();
+
+    private static final int EXTRACTION_THREADS = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Time after which the extraction of a file is given up (e.g., for broken or huge PDFs). The file is not indexed then.
+     */
+    private static final Duration EXTRACTION_TIMEOUT = Duration.ofMinutes(2);
+
+    private static final long POLL_INTERVAL_MILLIS = 500;
+    private static final int FILES_PER_COMMIT = 100;
+
     private static int NUMBER_OF_UNSAVED_LIBRARIES = 1;
 
     private final BibDatabaseContext databaseContext;
     private final FilePreferences filePreferences;
     private final String libraryName;
+    private final DocumentReader documentReader;
     private final Directory indexDirectory;
     private final IndexWriter indexWriter;
     private final SearcherManager searcherManager;
@@ -61,7 +93,15 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     private Map<String, Long> indexedFiles;
 
     public DefaultLinkedFilesIndexer(BibDatabaseContext databaseContext, FilePreferences filePreferences) throws IOException {
+        this(databaseContext, filePreferences, ExtractedTextCache.getShared());
+    }
+
+    /**
+     * @param extractedTextCache the cache to take the text of already extracted files from
+     */
+    public DefaultLinkedFilesIndexer(BibDatabaseContext databaseContext, FilePreferences filePreferences, ExtractedTextCache extractedTextCache) throws IOException {
         this.databaseContext = databaseContext;
+        this.documentReader = new DocumentReader(extractedTextCache);
         this.filePreferences = filePreferences;
         this.libraryName = databaseContext.getDatabasePath().map(path -> path.getFileName().toString()).orElse("untitled");
         this.indexedFiles = new ConcurrentHashMap<>();
@@ -136,30 +176,110 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
         }
 
         LOGGER.debug("Adding {} files to index", linkedFiles.size());
-        int i = 1;
-        for (Map.Entry<String, Pair<Long, Path>> entry : linkedFiles.entrySet()) {
-            if (task.isCancelled()) {
-                LOGGER.debug("Adding files to index canceled");
-                return;
+        // Threads hanging in a broken file are abandoned after the timeout. Thus, new threads are created as needed and the number of running extractions is limited below.
+        ExecutorService extractionExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "Linked files text extraction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletionService<List<Document>> extractions = new ExecutorCompletionService<>(extractionExecutor);
+        Map<Future<List<Document>>, ExtractionJob> runningExtractions = new HashMap<>();
+        Iterator<Map.Entry<String, Pair<Long, Path>>> pendingFiles = linkedFiles.entrySet().iterator();
+        int processedFiles = 0;
+        int uncommittedFiles = 0;
+        try {
+            while (pendingFiles.hasNext() || !runningExtractions.isEmpty()) {
+                if (task.isCancelled()) {
+                    LOGGER.debug("Adding files to index canceled");
+                    return;
+                }
+
+                // At most one extracted file per thread waits for being written, which limits the memory needed for the extracted text
+                while (pendingFiles.hasNext() && (runningExtractions.size() < EXTRACTION_THREADS)) {
+                    Map.Entry<String, Pair<Long, Path>> file = pendingFiles.next();
+                    ExtractionJob job = new ExtractionJob(documentReader, file.getKey(), file.getValue().getKey(), file.getValue().getValue());
+                    runningExtractions.put(extractions.submit(job), job);
+                }
+
+                Future<List<Document>> extraction = extractions.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (extraction != null) {
+                    // null if the extraction timed out before
+                    ExtractionJob job = runningExtractions.remove(extraction);
+                    if (job != null) {
+                        if (writeToIndex(job, extraction)) {
+                            uncommittedFiles++;
+                        }
+                        updateProgress(task, job, ++processedFiles, linkedFiles.size());
+                    }
+                }
+
+                for (ExtractionJob job : removeTimedOutExtractions(runningExtractions)) {
+                    LOGGER.warn("Reading {} took longer than {} seconds. The file will not be indexed.", job.fileLink, EXTRACTION_TIMEOUT.toSeconds());
+                    updateProgress(task, job, ++processedFiles, linkedFiles.size());
+                }
+
+                if (uncommittedFiles >= FILES_PER_COMMIT) {
+                    commit();
+                    uncommittedFiles = 0;
+                }
+            }
+            LOGGER.debug("Added {} files to index", linkedFiles.size());
+        } catch (InterruptedException e) {
+            LOGGER.debug("Adding files to index interrupted");
+            Thread.currentThread().interrupt();
+        } finally {
+            extractionExecutor.shutdownNow();
+            if (uncommittedFiles > 0) {
+                commit();
+            }
+        }
+    }
+
+    private void updateProgress(BackgroundTask<?> task, ExtractionJob job, int processedFiles, int numberOfFiles) {
+        task.setTitle(Localization.lang("Indexing files for %1 | %2 of %0 file(s) indexed.", numberOfFiles, libraryName, processedFiles));
+        task.updateProgress(processedFiles, numberOfFiles);
+        task.updateMessage(Localization.lang("Indexing %0", FileUtil.shortenFileName(job.resolvedPath.getFileName().toString(), 68)));
+        task.showToUser(true);
+    }
+
+    private static List<ExtractionJob> removeTimedOutExtractions(Map<Future<List<Document>>, ExtractionJob> runningExtractions) {
+        long now = System.nanoTime();
+        List<ExtractionJob> timedOut = new ArrayList<>();
+        Iterator<Map.Entry<Future<List<Document>>, ExtractionJob>> iterator = runningExtractions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Future<List<Document>>, ExtractionJob> extraction = iterator.next();
+            if (extraction.getValue().isTimedOut(now)) {
+                extraction.getKey().cancel(true);
+                iterator.remove();
+                timedOut.add(extraction.getValue());
             }
-            addToIndex(entry.getKey(), entry.getValue().getKey(), entry.getValue().getValue());
-            task.setTitle(Localization.lang("Indexing files for %1 | %2 of %0 file(s) indexed.", linkedFiles.size(), libraryName, i));
-            task.updateProgress(i, linkedFiles.size());
-            task.updateMessage(Localization.lang("Indexing %0", FileUtil.shortenFileName(entry.getValue().getValue().getFileName().toString(), 68)));
-            task.showToUser(true);
-            i++;
         }
-        LOGGER.debug("Added {} files to index", linkedFiles.size());
+        return timedOut;
     }
 
-    private void addToIndex(String fileLink, long modifiedTime, Path resolvedPath) {
-        LOGGER.debug("Adding file {} to the index.", fileLink);
-        List<Document> pages = DOCUMENT_READER.readPdfContents(fileLink, resolvedPath);
+    /**
+     * @return true if the pages of the file were written to the index
+     */
+    private boolean writeToIndex(ExtractionJob job, Future<List<Document>> extraction) throws InterruptedException {
+        LOGGER.debug("Adding file {} to the index.", job.fileLink);
         try {
-            indexWriter.addDocuments(pages);
-            indexedFiles.put(fileLink, modifiedTime);
+            indexWriter.addDocuments(extraction.get());
+            indexedFiles.put(job.fileLink, job.modifiedTime);
+            return true;
+        } catch (ExecutionException e) {
+            LOGGER.warn("Could not read the document {}.", job.fileLink, e.getCause());
         } catch (IOException e) {
-            LOGGER.warn("Could not add the document {} to the index.", fileLink, e);
+            LOGGER.warn("Could not add the document {} to the index.", job.fileLink, e);
+        }
+        return false;
+    }
+
+    private void commit() {
+        try {
+            indexWriter.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            LOGGER.warn("Could not commit the linked files index.", e);
         }
     }
 
@@ -259,16 +379,22 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     }
 
     private Map<String, Pair<Long, Path>> getLinkedFilesFromEntries(Collection<BibEntry> entries) {
-        Map<String, Pair<Long, Path>> linkedFiles = new HashMap<>();
+        Map<String, LinkedFile> filesByLink = new HashMap<>();
         for (BibEntry entry : entries) {
             for (LinkedFile linkedFile : entry.getFiles()) {
-                Pair<Long, Path> fileInfo = getLinkedFileInfo(linkedFile);
-                if (fileInfo != null) {
-                    linkedFiles.put(linkedFile.getLink(), fileInfo);
-                }
+                filesByLink.put(linkedFile.getLink(), linkedFile);
             }
         }
-        return linkedFiles;
+
+        // Resolving and checking the files is slow on network drives; thus, it is done in parallel
+        Map<String, Pair<Long, Path>> linkedFiles = new ConcurrentHashMap<>();
+        filesByLink.values().parallelStream().forEach(linkedFile -> {
+            Pair<Long, Path> fileInfo = getLinkedFileInfo(linkedFile);
+            if (fileInfo != null) {
+                linkedFiles.put(linkedFile.getLink(), fileInfo);
+            }
+        });
+        return new HashMap<>(linkedFiles);
     }
 
     private Pair<Long, Path> getLinkedFileInfo(LinkedFile linkedFile) {
@@ -290,6 +416,30 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
         }
     }
 
+    private static final class ExtractionJob implements Callable<List<Document>> {
+        private final DocumentReader documentReader;
+        private final String fileLink;
+        private final long modifiedTime;
+        private final Path resolvedPath;
+        private final long submitted = System.nanoTime();
+
+        private ExtractionJob(DocumentReader documentReader, String fileLink, long modifiedTime, Path resolvedPath) {
+            this.documentReader = documentReader;
+            this.fileLink = Objects.requireNonNull(fileLink);
+            this.modifiedTime = modifiedTime;
+            this.resolvedPath = Objects.requireNonNull(resolvedPath);
+        }
+
+        @Override
+        public List<Document> call() {
+            return documentReader.readPdfContents(fileLink, resolvedPath);
+        }
+
+        boolean isTimedOut(long now) {
+            return now - submitted > EXTRACTION_TIMEOUT.toNanos();
+        }
+    }
+
     private void optimizeIndex() {
         LOGGER.debug("Optimizing index");
         if (indexWriter.hasDeletions()) {
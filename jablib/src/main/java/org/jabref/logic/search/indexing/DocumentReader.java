@@ -1,14 +1,17 @@
 package org.jabref.logic.search.indexing;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
+import org.jabref.logic.pdf.ExtractedTextCache;
 import org.jabref.model.strings.StringUtil;
 
 import org.apache.lucene.document.Document;
@@ -16,10 +19,12 @@ import org.apache.lucene.document.Field;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
 import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
 import org.apache.pdfbox.text.PDFTextStripper;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,6 +36,9 @@ import static org.jabref.model.search.LinkedFilesConstants.PATH;
 
 /**
  * Utility class for reading the data from LinkedFiles of a BibEntry for Lucene.
+ * <p>
+ * The reader keeps no state. Thus, several files can be read in parallel using the same instance.
+ * If a cache of extracted texts is given, the text of a file already extracted (e.g., for another library) is taken from there.
  */
 public final class DocumentReader {
 
@@ -38,23 +46,39 @@ public final class DocumentReader {
     private static final Pattern HYPHEN_LINEBREAK_PATTERN = Pattern.compile("\\-\n");
     private static final Pattern LINEBREAK_WITHOUT_PERIOD_PATTERN = Pattern.compile("([^\\\\.])\\n");
 
+    /**
+     * Files larger than this (in bytes) buffer their decoded streams in temporary files instead of the main memory.
+     * Thus, several (possibly huge) files can be read in parallel.
+     */
+    private static final long LARGE_FILE_SIZE = 50L * 1024 * 1024;
+
+    private final @Nullable ExtractedTextCache extractedTextCache;
+
+    public DocumentReader() {
+        this(null);
+    }
+
+    public DocumentReader(@Nullable ExtractedTextCache extractedTextCache) {
+        this.extractedTextCache = extractedTextCache;
+    }
+
     public List<Document> readPdfContents(String fileLink, Path resolvedPdfPath) {
         List<Document> pages = new ArrayList<>();
-        try (PDDocument pdfDocument = Loader.loadPDF(resolvedPdfPath.toFile())) {
-            int numberOfPages = pdfDocument.getNumberOfPages();
-            LOGGER.debug("Reading file {} content with {} pages", resolvedPdfPath.toAbsolutePath(), numberOfPages);
-            for (int pageNumber = 1; pageNumber <= numberOfPages; pageNumber++) {
-                Document newDocument = new Document();
-                addIdentifiers(newDocument, fileLink);
-                addMetaData(newDocument, resolvedPdfPath, pageNumber);
-                addContentIfNotEmpty(pdfDocument, newDocument, resolvedPdfPath, pageNumber);
-
-                pages.add(newDocument);
-            }
+        List<ExtractedTextCache.Page> extractedPages;
+        try {
+            extractedPages = extractPages(resolvedPdfPath);
         } catch (IOException e) {
             LOGGER.warn("Could not read {}", resolvedPdfPath.toAbsolutePath(), e);
             return pages;
         }
+        for (int pageNumber = 1; pageNumber <= extractedPages.size(); pageNumber++) {
+            Document newDocument = new Document();
+            addIdentifiers(newDocument, fileLink);
+            addMetaData(newDocument, resolvedPdfPath, pageNumber);
+            addContentIfNotEmpty(newDocument, extractedPages.get(pageNumber - 1));
+
+            pages.add(newDocument);
+        }
         if (pages.isEmpty()) {
             Document newDocument = new Document();
             addIdentifiers(newDocument, fileLink);
@@ -64,6 +88,36 @@ public final class DocumentReader {
         return pages;
     }
 
+    private List<ExtractedTextCache.Page> extractPages(Path resolvedPdfPath) throws IOException {
+        if (extractedTextCache != null) {
+            Optional<List<ExtractedTextCache.Page>> cachedPages = extractedTextCache.get(resolvedPdfPath);
+            if (cachedPages.isPresent()) {
+                LOGGER.debug("Using the cached content of file {}", resolvedPdfPath.toAbsolutePath());
+                return cachedPages.get();
+            }
+        }
+
+        List<ExtractedTextCache.Page> extractedPages = new ArrayList<>();
+        try (PDDocument pdfDocument = loadPdf(resolvedPdfPath.toFile())) {
+            int numberOfPages = pdfDocument.getNumberOfPages();
+            LOGGER.debug("Reading file {} content with {} pages", resolvedPdfPath.toAbsolutePath(), numberOfPages);
+            for (int pageNumber = 1; pageNumber <= numberOfPages; pageNumber++) {
+                extractedPages.add(extractPage(pdfDocument, resolvedPdfPath, pageNumber));
+            }
+        }
+        if (extractedTextCache != null) {
+            extractedTextCache.put(resolvedPdfPath, extractedPages);
+        }
+        return extractedPages;
+    }
+
+    private static PDDocument loadPdf(File pdfFile) throws IOException {
+        if (pdfFile.length() > LARGE_FILE_SIZE) {
+            return Loader.loadPDF(pdfFile, IOUtils.createTempFileOnlyStreamCache());
+        }
+        return Loader.loadPDF(pdfFile);
+    }
+
     private void addStringField(Document newDocument, String field, String value) {
         if (!isValidField(value)) {
             return;
@@ -90,7 +144,7 @@ public final class DocumentReader {
         addStringField(newDocument, PAGE_NUMBER.toString(), String.valueOf(pageNumber));
     }
 
-    private void addContentIfNotEmpty(PDDocument pdfDocument, Document newDocument, Path resolvedPath, int pageNumber) {
+    private ExtractedTextCache.Page extractPage(PDDocument pdfDocument, Path resolvedPath, int pageNumber) {
         PDFTextStripper pdfTextStripper = new PDFTextStripper();
         pdfTextStripper.setLineSeparator("\n");
         pdfTextStripper.setStartPage(pageNumber);
@@ -98,9 +152,6 @@ public final class DocumentReader {
 
         try {
             String pdfContent = pdfTextStripper.getText(pdfDocument);
-            if (StringUtil.isNotBlank(pdfContent)) {
-                newDocument.add(new TextField(CONTENT.toString(), mergeLines(pdfContent), Field.Store.YES));
-            }
 
             // Apache PDFTextStripper is 1-based. See {@link org.apache.pdfbox.text.PDFTextStripper.processPages}
             PDPage page = pdfDocument.getPage(pageNumber - 1);
@@ -110,11 +161,19 @@ public final class DocumentReader {
                                            .filter(Objects::nonNull)
                                            .toList();
 
-            if (!annotations.isEmpty()) {
-                newDocument.add(new TextField(ANNOTATIONS.toString(), String.join("\n", annotations), Field.Store.YES));
-            }
+            return new ExtractedTextCache.Page(pdfContent, String.join("\n", annotations));
         } catch (IOException e) {
             LOGGER.warn("Could not read page {} of  {}", pageNumber, resolvedPath.toAbsolutePath(), e);
+            return new ExtractedTextCache.Page("", "");
+        }
+    }
+
+    private void addContentIfNotEmpty(Document newDocument, ExtractedTextCache.Page page) {
+        if (StringUtil.isNotBlank(page.text())) {
+            newDocument.add(new TextField(CONTENT.toString(), mergeLines(page.text()), Field.Store.YES));
+        }
+        if (!page.annotations().isEmpty()) {
+            newDocument.add(new TextField(ANNOTATIONS.toString(), page.annotations(), Field.Store.YES));
         }
     }
 
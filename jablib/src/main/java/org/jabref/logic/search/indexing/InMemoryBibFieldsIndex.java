@@ -0,0 +1,257 @@
+package org.jabref.logic.search.indexing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.jabref.logic.search.indexing.BibFieldValues.EntryValues;
+import org.jabref.logic.search.indexing.BibFieldValues.FieldValue;
+
+/**
+ * Memory-resident index of the bib fields of a library.
+ * <p>
+ * Each entry is stored as a document holding the same values as the tables of {@link PostgresBibFieldsIndexer}: the literal and the transformed value of each field, and the split values of multi-value fields.
+ * Documents are addressed by consecutive numbers, so that sets of documents can be represented as {@link BitSet}s.
+ * <p>
+ * Two inverted indexes narrow down the documents to check: one maps each trigram of the values to the documents containing it (used for "contains" queries), the other one maps each complete value to the documents having it (used for exact queries).
+ * Both are case-insensitive and do not distinguish fields. Thus, the returned candidates have to be verified against the stored values.
+ * <p>
+ * Updating an entry appends a new document and marks the old one as deleted. The index is compacted as soon as more than half of the documents are deleted.
+ * <p>
+ * Modifications are thread-safe. Reading methods have to be called inside {@link #withReadLock(Supplier)} to get a consistent view.
+ */
+public class InMemoryBibFieldsIndex {
+
+    public record Document(String entryId, List<FieldValue> values, List<FieldValue> splitValues) {
+    }
+
+    private static final int TRIGRAM_LENGTH = 3;
+    private static final int MINIMUM_DELETED_DOCUMENTS_FOR_COMPACTION = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> documentOfEntry = new HashMap<>();
+    private final List<Document> documents = new ArrayList<>();
+    private final BitSet liveDocuments = new BitSet();
+    private final Map<String, Postings> trigramPostings = new HashMap<>();
+    private final Map<String, Postings> valuePostings = new HashMap<>();
+
+    /**
+     * Adds the entry to the index. An already indexed entry with the same id is replaced.
+     */
+    public void addOrReplace(String entryId, List<FieldValue> values, List<FieldValue> splitValues) {
+        lock.writeLock().lock();
+        try {
+            delete(entryId);
+            add(new Document(entryId, values, splitValues));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces the documents of all given entries at once. Readers see either none or all of the changes.
+     */
+    public void addOrReplace(List<EntryValues> entries) {
+        lock.writeLock().lock();
+        try {
+            for (EntryValues entry : entries) {
+                delete(entry.entryId());
+                add(new Document(entry.entryId(), entry.values(), entry.splitValues()));
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String entryId) {
+        lock.writeLock().lock();
+        try {
+            delete(entryId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            documentOfEntry.clear();
+            documents.clear();
+            liveDocuments.clear();
+            trigramPostings.clear();
+            valuePostings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public <T> T withReadLock(Supplier<T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        return withReadLock(documentOfEntry::size);
+    }
+
+    /**
+     * @return a copy of the set of all documents not deleted
+     */
+    public BitSet getLiveDocuments() {
+        return (BitSet) liveDocuments.clone();
+    }
+
+    public Optional<Integer> getDocumentNumber(String entryId) {
+        return Optional.ofNullable(documentOfEntry.get(entryId));
+    }
+
+    public Document getDocument(int documentNumber) {
+        return documents.get(documentNumber);
+    }
+
+    /**
+     * Returns a superset of the documents having a value containing the given term, ignoring case.
+     *
+     * @return the candidates, or an empty optional if the term is too short to narrow down the documents
+     */
+    public Optional<BitSet> getDocumentsPossiblyContaining(String term) {
+        String lowerCaseTerm = term.toLowerCase(Locale.ROOT);
+        if (lowerCaseTerm.length() < TRIGRAM_LENGTH) {
+            return Optional.empty();
+        }
+        List<Postings> postingsOfTrigrams = new ArrayList<>();
+        for (String trigram : getTrigrams(lowerCaseTerm)) {
+            Postings postings = trigramPostings.get(trigram);
+            if (postings == null) {
+                return Optional.of(new BitSet());
+            }
+            postingsOfTrigrams.add(postings);
+        }
+        // Starting with the rarest trigram keeps the intermediate results small
+        postingsOfTrigrams.sort(Comparator.comparingInt(Postings::size));
+        BitSet candidates = postingsOfTrigrams.getFirst().toBitSet();
+        for (int i = 1; i < postingsOfTrigrams.size() && !candidates.isEmpty(); i++) {
+            candidates.and(postingsOfTrigrams.get(i).toBitSet());
+        }
+        candidates.and(liveDocuments);
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns the documents having a value (or split value) equal to the given term, ignoring case.
+     */
+    public BitSet getDocumentsHavingValue(String term) {
+        Postings postings = valuePostings.get(term.toLowerCase(Locale.ROOT));
+        if (postings == null) {
+            return new BitSet();
+        }
+        BitSet candidates = postings.toBitSet();
+        candidates.and(liveDocuments);
+        return candidates;
+    }
+
+    private void add(Document document) {
+        int documentNumber = documents.size();
+        documents.add(document);
+        documentOfEntry.put(document.entryId(), documentNumber);
+        liveDocuments.set(documentNumber);
+
+        Set<String> trigrams = new HashSet<>();
+        Set<String> values = new HashSet<>();
+        for (FieldValue value : document.values()) {
+            String literal = value.literal().toLowerCase(Locale.ROOT);
+            String transformed = value.transformed().toLowerCase(Locale.ROOT);
+            trigrams.addAll(getTrigrams(literal));
+            trigrams.addAll(getTrigrams(transformed));
+            values.add(literal);
+            values.add(transformed);
+        }
+        for (FieldValue value : document.splitValues()) {
+            values.add(value.literal().toLowerCase(Locale.ROOT));
+            values.add(value.transformed().toLowerCase(Locale.ROOT));
+        }
+        for (String trigram : trigrams) {
+            trigramPostings.computeIfAbsent(trigram, _ -> new Postings()).add(documentNumber);
+        }
+        for (String value : values) {
+            valuePostings.computeIfAbsent(value, _ -> new Postings()).add(documentNumber);
+        }
+    }
+
+    private void delete(String entryId) {
+        Integer documentNumber = documentOfEntry.remove(entryId);
+        if (documentNumber != null) {
+            // The postings are not touched, the deleted document is filtered out using the live documents
+            liveDocuments.clear(documentNumber);
+            documents.set(documentNumber, null);
+        }
+    }
+
+    private void compactIfNeeded() {
+        int deletedDocuments = documents.size() - documentOfEntry.size();
+        if ((deletedDocuments < MINIMUM_DELETED_DOCUMENTS_FOR_COMPACTION) || (deletedDocuments <= documentOfEntry.size())) {
+            return;
+        }
+        List<Document> remainingDocuments = documents.stream().filter(Objects::nonNull).toList();
+        documentOfEntry.clear();
+        documents.clear();
+        liveDocuments.clear();
+        trigramPostings.clear();
+        valuePostings.clear();
+        remainingDocuments.forEach(this::add);
+    }
+
+    private static Set<String> getTrigrams(String value) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= value.length(); i++) {
+            trigrams.add(value.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Ascending list of document numbers. Documents are only appended, thus the order is kept by adding only.
+     */
+    private static class Postings {
+        private int[] documentNumbers = new int[2];
+        private int size;
+
+        void add(int documentNumber) {
+            if (size == documentNumbers.length) {
+                documentNumbers = Arrays.copyOf(documentNumbers, size * 2);
+            }
+            documentNumbers[size++] = documentNumber;
+        }
+
+        int size() {
+            return size;
+        }
+
+        BitSet toBitSet() {
+            BitSet bitSet = new BitSet();
+            for (int i = 0; i < size; i++) {
+                bitSet.set(documentNumbers[i]);
+            }
+            return bitSet;
+        }
+    }
+}
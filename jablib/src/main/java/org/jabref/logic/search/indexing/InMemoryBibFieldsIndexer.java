@@ -0,0 +1,111 @@
+package org.jabref.logic.search.indexing;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.search.BibFieldsIndexer;
+import org.jabref.logic.search.EntryFieldChanges;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.Field;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Indexes the bib fields into an {@link InMemoryBibFieldsIndex}. In contrast to {@link PostgresBibFieldsIndexer}, no database server is required.
+ */
+public class InMemoryBibFieldsIndexer implements BibFieldsIndexer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryBibFieldsIndexer.class);
+
+    private final BibDatabaseContext databaseContext;
+    private final String libraryName;
+    private final BibFieldValues bibFieldValues;
+    private final InMemoryBibFieldsIndex index = new InMemoryBibFieldsIndex();
+
+    public InMemoryBibFieldsIndexer(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext) {
+        this.databaseContext = databaseContext;
+        this.bibFieldValues = new BibFieldValues(databaseContext, bibEntryPreferences.getKeywordSeparator());
+        this.libraryName = databaseContext.getDatabasePath().map(path -> path.getFileName().toString()).orElse("unsaved");
+    }
+
+    @Override
+    public void updateOnStart(BackgroundTask<?> task) {
+        addToIndex(databaseContext.getDatabase().getEntries(), task);
+    }
+
+    @Override
+    public void addToIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
+        if (entries.size() > 1) {
+            task.showToUser(true);
+            task.setTitle(Localization.lang("Indexing bib fields for %0", libraryName));
+        }
+        int i = 1;
+        long startTime = System.currentTimeMillis();
+        LOGGER.debug("Adding {} entries to index", entries.size());
+        for (BibEntry entry : entries) {
+            if (task.isCancelled()) {
+                LOGGER.debug("Indexing canceled");
+                return;
+            }
+            addToIndex(entry);
+            task.updateProgress(i, entries.size());
+            task.updateMessage(Localization.lang("%0 of %1 entries added to the index.", i, entries.size()));
+            i++;
+        }
+        LOGGER.debug("Added {} entries to index in {} ms", entries.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private void addToIndex(BibEntry entry) {
+        index.addOrReplace(entry.getId(), bibFieldValues.getValues(entry), bibFieldValues.getSplitValues(entry));
+    }
+
+    @Override
+    public void removeFromIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
+        if (entries.size() > 1) {
+            task.showToUser(true);
+            task.setTitle(Localization.lang("Removing entries from index for %0", libraryName));
+        }
+        int i = 1;
+        for (BibEntry entry : entries) {
+            if (task.isCancelled()) {
+                LOGGER.debug("Removing entries canceled");
+                return;
+            }
+            index.remove(entry.getId());
+            task.updateProgress(i, entries.size());
+            task.updateMessage(Localization.lang("%0 of %1 entries removed from the index.", i, entries.size()));
+            i++;
+        }
+    }
+
+    /**
+     * Re-indexes the complete entry. Computing the values of a single entry is cheap, and re-indexing keeps resolved values (e.g., of cross-referenced fields) consistent.
+     */
+    @Override
+    public void updateEntry(BibEntry entry, Field field) {
+        addToIndex(entry);
+    }
+
+    @Override
+    public void updateEntries(List<EntryFieldChanges> changes) {
+        index.addOrReplace(bibFieldValues.getEntryValues(changes.stream().map(EntryFieldChanges::entry).toList()));
+    }
+
+    @Override
+    public void close() {
+        index.clear();
+    }
+
+    @Override
+    public void closeAndWait() {
+        index.clear();
+    }
+
+    public InMemoryBibFieldsIndex getIndex() {
+        return index;
+    }
+}
@@ -1,59 +1,65 @@
 package org.jabref.logic.search.indexing;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.List;
 
 import org.jabref.logic.l10n.Localization;
-import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
+import org.jabref.logic.search.BibFieldsIndexer;
+import org.jabref.logic.search.EntryFieldChanges;
+import org.jabref.logic.search.indexing.BibFieldValues.EntryValues;
+import org.jabref.logic.search.indexing.BibFieldValues.FieldValue;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryPreferences;
-import org.jabref.model.entry.KeywordList;
 import org.jabref.model.entry.field.Field;
-import org.jabref.model.entry.field.FieldProperty;
-import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.search.PostgreConstants;
+import org.jabref.model.search.event.IndexStartedEvent;
 
 import io.github.thibaultmeyer.cuid.CUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static org.jabref.model.entry.field.InternalField.TYPE_HEADER;
 import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
 import static org.jabref.model.search.PostgreConstants.FIELD_NAME;
 import static org.jabref.model.search.PostgreConstants.FIELD_VALUE_LITERAL;
 import static org.jabref.model.search.PostgreConstants.FIELD_VALUE_TRANSFORMED;
 import static org.jabref.model.search.PostgreConstants.SPLIT_TABLE_SUFFIX;
 
-public class BibFieldsIndexer {
-    private static final Logger LOGGER = LoggerFactory.getLogger(BibFieldsIndexer.class);
-    private static final LatexToUnicodeFormatter LATEX_TO_UNICODE_FORMATTER = new LatexToUnicodeFormatter();
-    private static final Pattern GROUPS_SEPARATOR_REGEX = Pattern.compile("\s*,\s*");
-    private static final Set<Field> DATE_FIELDS = Set.of(StandardField.DATE, StandardField.YEAR, StandardField.MONTH, StandardField.DAY);
+public class PostgresBibFieldsIndexer implements BibFieldsIndexer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostgresBibFieldsIndexer.class);
+
+    // From this number of entries on, the entries are loaded using COPY instead of single INSERT statements
+    private static final int BULK_LOAD_THRESHOLD = 100;
+    // Number of entries loaded by a single COPY. After each chunk, progress is reported and the loaded entries become searchable.
+    private static final int DEFAULT_BULK_LOAD_CHUNK_SIZE = 5_000;
 
     private final BibDatabaseContext databaseContext;
     private final Connection connection;
+    // The connection is shared by all operations and updateEntries switches it to a transaction, thus the operations must not overlap
+    private final Object connectionLock = new Object();
     private final String libraryName;
     private final String mainTable;
     private final String schemaMainTableReference;
     private final String splitValuesTable;
     private final String schemaSplitValuesTableReference;
-    private final Character keywordSeparator;
+    private final BibFieldValues bibFieldValues;
+    private final int bulkLoadChunkSize;
+
+    public PostgresBibFieldsIndexer(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext, Connection connection) {
+        this(bibEntryPreferences, databaseContext, connection, DEFAULT_BULK_LOAD_CHUNK_SIZE);
+    }
 
-    public BibFieldsIndexer(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext, Connection connection) {
+    PostgresBibFieldsIndexer(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext, Connection connection, int bulkLoadChunkSize) {
         this.databaseContext = databaseContext;
+        this.bulkLoadChunkSize = bulkLoadChunkSize;
         this.connection = connection;
-        this.keywordSeparator = bibEntryPreferences.getKeywordSeparator();
+        this.bibFieldValues = new BibFieldValues(databaseContext, bibEntryPreferences.getKeywordSeparator());
         this.libraryName = databaseContext.getDatabasePath().map(path -> path.getFileName().toString()).orElse("unsaved");
 
         this.mainTable = CUID.randomCUID2(12).toString();
@@ -62,13 +68,14 @@ public class BibFieldsIndexer {
         this.schemaMainTableReference = PostgreConstants.getMainTableSchemaReference(mainTable);
         this.schemaSplitValuesTableReference = PostgreConstants.getSplitTableSchemaReference(mainTable);
         // TODO: Set-up should be in a background task
-        setup();
+        // The indexes are created after the initial load in updateOnStart, because building them once is much cheaper than maintaining them row by row
+        createTables();
     }
 
     /**
-     * Creates a table for the library in the database, and sets up indexes on the columns.
+     * Creates the tables for the library in the database.
      */
-    private void setup() {
+    private void createTables() {
         try {
             connection.createStatement().executeUpdate("""
                     CREATE TABLE IF NOT EXISTS %s (
@@ -104,6 +111,12 @@ public class BibFieldsIndexer {
         } catch (SQLException e) {
             LOGGER.error("Could not create tables for library: {}", libraryName, e);
         }
+    }
+
+    /**
+     * Sets up indexes on the columns of the tables.
+     */
+    private void createIndexes() {
         try {
             // region btree index on id column
             connection.createStatement().executeUpdate("""
@@ -160,11 +173,23 @@ public class BibFieldsIndexer {
         }
     }
 
+    @Override
     public void updateOnStart(BackgroundTask<?> task) {
-        addToIndex(databaseContext.getDatabase().getEntries(), task);
+        long startTime = System.currentTimeMillis();
+        bulkLoad(List.copyOf(databaseContext.getDatabase().getEntries()), task, true);
+        // Created even if the task was cancelled, because entries added later on are indexed one by one
+        synchronized (connectionLock) {
+            createIndexes();
+        }
+        LOGGER.debug("Indexed library {} in {} ms", libraryName, System.currentTimeMillis() - startTime);
     }
 
+    @Override
     public void addToIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
+        if (entries.size() >= BULK_LOAD_THRESHOLD) {
+            bulkLoad(List.copyOf(entries), task, false);
+            return;
+        }
         if (entries.size() > 1) {
             task.showToUser(true);
             task.setTitle(Localization.lang("Indexing bib fields for %0", libraryName));
@@ -185,7 +210,72 @@ public class BibFieldsIndexer {
         LOGGER.debug("Added {} entries to index in {} ms", entries.size(), System.currentTimeMillis() - startTime);
     }
 
+    /**
+     * Loads the entries in chunks. The values of the entries of a chunk are computed in parallel and then streamed to the server using <code>COPY</code>.
+     *
+     * @param reportPartialAvailability if true, an {@link IndexStartedEvent} is posted after each chunk so that searches can already be run on the loaded entries
+     */
+    private void bulkLoad(List<BibEntry> entries, BackgroundTask<?> task, boolean reportPartialAvailability) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        task.showToUser(true);
+        task.setTitle(Localization.lang("Indexing bib fields for %0", libraryName));
+        long startTime = System.currentTimeMillis();
+        LOGGER.debug("Bulk loading {} entries into index", entries.size());
+        for (int start = 0; start < entries.size(); start += bulkLoadChunkSize) {
+            if (task.isCancelled()) {
+                LOGGER.debug("Indexing canceled");
+                return;
+            }
+            int end = Math.min(start + bulkLoadChunkSize, entries.size());
+            List<EntryValues> chunk = bibFieldValues.getEntryValues(entries.subList(start, end));
+            try {
+                copy(chunk);
+            } catch (SQLException | IOException e) {
+                LOGGER.warn("Could not bulk load entries into the index. Falling back to inserting them one by one.", e);
+                for (EntryValues entryValues : chunk) {
+                    // The COPY may have been committed partially (main table only)
+                    removeFromIndex(entryValues.entryId());
+                    insert(entryValues);
+                }
+            }
+            task.updateProgress(end, entries.size());
+            task.updateMessage(Localization.lang("%0 of %1 entries added to the index.", end, entries.size()));
+            if (reportPartialAvailability && end < entries.size()) {
+                databaseContext.getDatabase().postEvent(new IndexStartedEvent(end, entries.size()));
+            }
+        }
+        LOGGER.debug("Bulk loaded {} entries into index in {} ms", entries.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private void copy(List<EntryValues> chunk) throws SQLException, IOException {
+        synchronized (connectionLock) {
+            copy(chunk, schemaMainTableReference, false);
+            copy(chunk, schemaSplitValuesTableReference, true);
+        }
+    }
+
+    private void copy(List<EntryValues> chunk, String schemaTableReference, boolean splitValues) throws SQLException, IOException {
+        BinaryCopyWriter writer = new BinaryCopyWriter(connection, schemaTableReference);
+        try {
+            for (EntryValues entryValues : chunk) {
+                for (FieldValue value : splitValues ? entryValues.splitValues() : entryValues.values()) {
+                    writer.writeRow(entryValues.entryId(), value);
+                }
+            }
+        } catch (IOException e) {
+            writer.abort();
+            throw e;
+        }
+        writer.close();
+    }
+
     private void addToIndex(BibEntry bibEntry) {
+        insert(new EntryValues(bibEntry.getId(), bibFieldValues.getValues(bibEntry), bibFieldValues.getSplitValues(bibEntry)));
+    }
+
+    private void insert(EntryValues entryValues) {
         String insertFieldQuery = """
                 INSERT INTO %s ("%s", "%s", "%s", "%s")
                 VALUES (?, ?, ?, ?)
@@ -206,58 +296,21 @@ public class BibFieldsIndexer {
                 FIELD_VALUE_LITERAL,
                 FIELD_VALUE_TRANSFORMED);
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(insertFieldQuery);
-             PreparedStatement preparedStatementSplitValues = connection.prepareStatement(insertIntoSplitTable)) {
-            String entryId = bibEntry.getId();
-            for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
-                Field field = fieldPair.getKey();
-                String value = fieldPair.getValue();
-
-                // If a field exists, there also exists a resolved field latex free.
-                // We add a `.orElse("")` only because there could be some flaw in the future in the code - and we want to have search working even if the flaws are present.
-                // To uncover these flaws, we add the "assert" statement.
-                // One potential future flaw is that the bibEntry is modified concurrently and the field being deleted.
-                // Skip indexing of date-related fields separately to ensure proper handling later in the process.
-                if (!DATE_FIELDS.contains(field)) {
-                    Optional<String> resolvedFieldLatexFree = bibEntry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase());
-                    assert resolvedFieldLatexFree.isPresent();
-                    addBatch(preparedStatement, entryId, field, value, resolvedFieldLatexFree.orElse(""));
-                }
-                // region Handling of known multi-value fields
-                // split and convert to Unicode
-                if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-                    addAuthors(value, preparedStatementSplitValues, entryId, field);
-                } else if (field == StandardField.KEYWORDS) {
-                    addKeywords(value, preparedStatementSplitValues, entryId, field, keywordSeparator);
-                } else if (field == StandardField.GROUPS) {
-                    addGroups(value, preparedStatementSplitValues, entryId, field);
-                } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                    addEntryLinks(bibEntry, field, preparedStatementSplitValues, entryId);
-                } else if (field == StandardField.FILE) {
-                    // No handling of File, because due to relative paths, we think, there won't be any exact match operation
-                    // We could add the filename itself (with and without extension). However, the user can also use regular expressions to achieve the same.
-                    // The use case to search for file names seems pretty seldom, therefore we omit it.
-                } else {
-                    // No other multi-value fields are known
-                    // No action needed -> main table has the value
-                }
-                // endregion
-            }
-            // ensure all date-related fields are indexed.
-            for (Field dateField : DATE_FIELDS) {
-                Optional<String> resolvedDateValue = bibEntry.getResolvedFieldOrAlias(dateField, this.databaseContext.getDatabase());
-                resolvedDateValue.ifPresent(dateValue -> addBatch(preparedStatement, entryId, dateField, dateValue));
-            }
-            // add entry type
-            addBatch(preparedStatement, entryId, TYPE_HEADER, bibEntry.getType().getName());
+        synchronized (connectionLock) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(insertFieldQuery);
+                 PreparedStatement preparedStatementSplitValues = connection.prepareStatement(insertIntoSplitTable)) {
+                addBatch(preparedStatement, entryValues.entryId(), entryValues.values());
+                addBatch(preparedStatementSplitValues, entryValues.entryId(), entryValues.splitValues());
 
-            preparedStatement.executeBatch();
-            preparedStatementSplitValues.executeBatch();
-        } catch (SQLException e) {
-            LOGGER.error("Could not add an entry to the index.", e);
+                preparedStatement.executeBatch();
+                preparedStatementSplitValues.executeBatch();
+            } catch (SQLException e) {
+                LOGGER.error("Could not add an entry to the index.", e);
+            }
         }
     }
 
+    @Override
     public void removeFromIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
         if (entries.size() > 1) {
             task.showToUser(true);
@@ -269,36 +322,110 @@ public class BibFieldsIndexer {
                 LOGGER.debug("Removing entries canceled");
                 return;
             }
-            removeFromIndex(entry);
+            removeFromIndex(entry.getId());
             task.updateProgress(i, entries.size());
             task.updateMessage(Localization.lang("%0 of %1 entries removed from the index.", i, entries.size()));
             i++;
         }
     }
 
-    private void removeFromIndex(BibEntry entry) {
-        try {
-            connection.createStatement().executeUpdate("""
-                    DELETE FROM %s
-                    WHERE "%s" = '%s'
-                    """.formatted(schemaMainTableReference, ENTRY_ID, entry.getId()));
-            connection.createStatement().executeUpdate("""
-                    DELETE FROM %s
-                    WHERE "%s" = '%s'
-                    """.formatted(schemaSplitValuesTableReference, ENTRY_ID, entry.getId()));
-            LOGGER.debug("Entry {} removed from index", entry.getId());
-        } catch (SQLException e) {
-            LOGGER.error("Error deleting entry from index", e);
+    private void removeFromIndex(String entryId) {
+        synchronized (connectionLock) {
+            try {
+                connection.createStatement().executeUpdate("""
+                        DELETE FROM %s
+                        WHERE "%s" = '%s'
+                        """.formatted(schemaMainTableReference, ENTRY_ID, entryId));
+                connection.createStatement().executeUpdate("""
+                        DELETE FROM %s
+                        WHERE "%s" = '%s'
+                        """.formatted(schemaSplitValuesTableReference, ENTRY_ID, entryId));
+                LOGGER.debug("Entry {} removed from index", entryId);
+            } catch (SQLException e) {
+                LOGGER.error("Error deleting entry from index", e);
+            }
         }
     }
 
+    @Override
     public void updateEntry(BibEntry entry, Field field) {
-        synchronized (entry.getId()) {
+        synchronized (connectionLock) {
             removeField(entry, field);
             insertField(entry, field);
         }
     }
 
+    /**
+     * Applies the changes in a single transaction. The searcher uses its own connection, thus searches see the index either before or after all changes.
+     * Other operations of this indexer wait until the transaction is finished, as they use the same connection.
+     */
+    @Override
+    public void updateEntries(List<EntryFieldChanges> changes) {
+        String deleteFromMainTable = """
+                DELETE FROM %s
+                WHERE "%s" = ? AND "%s" = ?
+                """.formatted(schemaMainTableReference, ENTRY_ID, FIELD_NAME);
+
+        String deleteFromSplitTable = """
+                DELETE FROM %s
+                WHERE "%s" = ? AND "%s" = ?
+                """.formatted(schemaSplitValuesTableReference, ENTRY_ID, FIELD_NAME);
+
+        String insertIntoMainTable = """
+                INSERT INTO %s ("%s", "%s", "%s", "%s")
+                VALUES (?, ?, ?, ?)
+                """.formatted(
+                schemaMainTableReference,
+                ENTRY_ID,
+                FIELD_NAME,
+                FIELD_VALUE_LITERAL,
+                FIELD_VALUE_TRANSFORMED);
+
+        String insertIntoSplitTable = """
+                INSERT INTO %s ("%s", "%s", "%s", "%s")
+                VALUES (?, ?, ?, ?)
+                """.formatted(
+                schemaSplitValuesTableReference,
+                ENTRY_ID,
+                FIELD_NAME,
+                FIELD_VALUE_LITERAL,
+                FIELD_VALUE_TRANSFORMED);
+
+        synchronized (connectionLock) {
+            try {
+                boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                try (PreparedStatement deleteFromMainTableStatement = connection.prepareStatement(deleteFromMainTable);
+                     PreparedStatement deleteFromSplitTableStatement = connection.prepareStatement(deleteFromSplitTable);
+                     PreparedStatement insertIntoMainTableStatement = connection.prepareStatement(insertIntoMainTable);
+                     PreparedStatement insertIntoSplitTableStatement = connection.prepareStatement(insertIntoSplitTable)) {
+                    for (EntryFieldChanges change : changes) {
+                        String entryId = change.entry().getId();
+                        for (Field field : BibFieldValues.getReplacedFields(change.fields())) {
+                            addDeleteBatch(deleteFromMainTableStatement, entryId, field);
+                            addDeleteBatch(deleteFromSplitTableStatement, entryId, field);
+                        }
+                        addBatch(insertIntoMainTableStatement, entryId, bibFieldValues.getValues(change.entry(), change.fields()));
+                        addBatch(insertIntoSplitTableStatement, entryId, bibFieldValues.getSplitValues(change.entry(), change.fields()));
+                    }
+                    deleteFromMainTableStatement.executeBatch();
+                    deleteFromSplitTableStatement.executeBatch();
+                    insertIntoMainTableStatement.executeBatch();
+                    insertIntoSplitTableStatement.executeBatch();
+                    connection.commit();
+                    LOGGER.debug("Updated {} entries in index", changes.size());
+                } catch (SQLException e) {
+                    connection.rollback();
+                    LOGGER.error("Could not update entries in the index.", e);
+                } finally {
+                    connection.setAutoCommit(autoCommit);
+                }
+            } catch (SQLException e) {
+                LOGGER.error("Could not update entries in the index.", e);
+            }
+        }
+    }
+
     private void insertField(BibEntry entry, Field field) {
         String insertFieldQuery = """
                 INSERT INTO %s ("%s", "%s", "%s", "%s")
@@ -329,27 +456,12 @@ public class BibFieldsIndexer {
                 FIELD_VALUE_TRANSFORMED, FIELD_VALUE_TRANSFORMED);
 
         String entryId = entry.getId();
-        if (DATE_FIELDS.contains(field)) {
-            try (PreparedStatement preparedStatement = connection.prepareStatement(insertDateFieldQuery)) {
-                for (Field dateField : DATE_FIELDS) {
-                    Optional<String> resolvedDateValue = entry.getResolvedFieldOrAlias(dateField, this.databaseContext.getDatabase());
-                    resolvedDateValue.ifPresent(dateValue -> addBatch(preparedStatement, entryId, dateField, dateValue));
-                }
-                preparedStatement.executeBatch();
-            } catch (SQLException e) {
-                LOGGER.error("Could not add an entry to the index.", e);
-            }
-        } else {
-            try (PreparedStatement preparedStatement = connection.prepareStatement(insertFieldQuery)) {
-                String value = entry.getField(field).orElse("");
-
-                Optional<String> resolvedFieldLatexFree = entry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase());
-                assert resolvedFieldLatexFree.isPresent();
-                addBatch(preparedStatement, entryId, field, value, resolvedFieldLatexFree.orElse(""));
-                preparedStatement.executeBatch();
-            } catch (SQLException e) {
-                LOGGER.error("Could not add an entry to the index.", e);
-            }
+        String query = BibFieldValues.isDateField(field) ? insertDateFieldQuery : insertFieldQuery;
+        try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            addBatch(preparedStatement, entryId, bibFieldValues.getValues(entry, field));
+            preparedStatement.executeBatch();
+        } catch (SQLException e) {
+            LOGGER.error("Could not add an entry to the index.", e);
         }
 
         String insertIntoSplitTable = """
@@ -363,19 +475,7 @@ public class BibFieldsIndexer {
                 FIELD_VALUE_TRANSFORMED);
 
         try (PreparedStatement preparedStatement = connection.prepareStatement(insertIntoSplitTable)) {
-            String value = entry.getField(field).orElse("");
-
-            if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-                addAuthors(value, preparedStatement, entryId, field);
-            } else if (field == StandardField.KEYWORDS) {
-                addKeywords(value, preparedStatement, entryId, field, keywordSeparator);
-            } else if (field == StandardField.GROUPS) {
-                addGroups(value, preparedStatement, entryId, field);
-            } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                addEntryLinks(entry, field, preparedStatement, entryId);
-            } else if (field == StandardField.FILE) {
-                // No handling of File, because due to relative paths, we think, there won't be any exact match operation
-            }
+            addBatch(preparedStatement, entryId, bibFieldValues.getSplitValues(entry, field));
             preparedStatement.executeBatch();
         } catch (SQLException e) {
             LOGGER.error("Could not add an entry to the index.", e);
@@ -398,26 +498,30 @@ public class BibFieldsIndexer {
         }
     }
 
+    @Override
     public void close() {
         HeadlessExecutorService.INSTANCE.execute(this::closeIndex);
     }
 
+    @Override
     public void closeAndWait() {
         HeadlessExecutorService.INSTANCE.executeAndWait(this::closeIndex);
     }
 
     private void closeIndex() {
-        try {
-            LOGGER.debug("Closing connection to Postgres server for library: {}", libraryName);
-            connection.createStatement().executeUpdate("""
-                        DROP TABLE IF EXISTS %s
-                        """.formatted(schemaMainTableReference));
-            connection.createStatement().executeUpdate("""
-                        DROP TABLE IF EXISTS %s
-                        """.formatted(schemaSplitValuesTableReference));
-            connection.close();
-        } catch (SQLException e) {
-            LOGGER.error("Could not drop table for library: {}", libraryName, e);
+        synchronized (connectionLock) {
+            try {
+                LOGGER.debug("Closing connection to Postgres server for library: {}", libraryName);
+                connection.createStatement().executeUpdate("""
+                            DROP TABLE IF EXISTS %s
+                            """.formatted(schemaMainTableReference));
+                connection.createStatement().executeUpdate("""
+                            DROP TABLE IF EXISTS %s
+                            """.formatted(schemaSplitValuesTableReference));
+                connection.close();
+            } catch (SQLException e) {
+                LOGGER.error("Could not drop table for library: {}", libraryName, e);
+            }
         }
     }
 
@@ -425,39 +529,16 @@ public class BibFieldsIndexer {
         return mainTable;
     }
 
-    private void addEntryLinks(BibEntry bibEntry, Field field, PreparedStatement preparedStatementSplitValues, String entryId) {
-        bibEntry.getEntryLinkList(field, databaseContext.getDatabase()).stream()
-            .distinct()
-            .forEach(link -> addBatch(preparedStatementSplitValues, entryId, field, link.getKey()));
-    }
-
-    private static void addGroups(String value, PreparedStatement preparedStatementSplitValues, String entryId, Field field) {
-        // We could use KeywordList, but we are afraid that group names could have ">" in their name, and then they would not be handled correctly
-        Arrays.stream(GROUPS_SEPARATOR_REGEX.split(value))
-              .distinct()
-              .forEach(group -> addBatch(preparedStatementSplitValues, entryId, field, group));
-    }
-
-    private static void addKeywords(String keywordsString, PreparedStatement preparedStatementSplitValues, String entryId, Field field, Character keywordSeparator) {
-        KeywordList keywordList = KeywordList.parse(keywordsString, keywordSeparator);
-        keywordList.stream().flatMap(keyword -> keyword.flatten().stream()).forEach(keyword -> {
-            String value = keyword.toString();
-            addBatch(preparedStatementSplitValues, entryId, field, value);
-        });
-    }
-
-    private static void addAuthors(String value, PreparedStatement preparedStatementSplitValues, String entryId, Field field) {
-        AuthorList.parse(value).getAuthors().forEach(author -> {
-            // Author object does not support literal values
-            // We use the method giving us the most complete information for the literal value;
-            String literal = author.getGivenFamily(false);
-            String transformed = author.latexFree().getGivenFamily(false);
-            addBatch(preparedStatementSplitValues, entryId, field, literal, transformed);
-        });
+    private static void addBatch(PreparedStatement preparedStatement, String entryId, List<FieldValue> values) {
+        for (FieldValue value : values) {
+            addBatch(preparedStatement, entryId, value.field(), value.literal(), value.transformed());
+        }
     }
 
-    private static void addBatch(PreparedStatement preparedStatement, String entryId, Field field, String value) {
-        addBatch(preparedStatement, entryId, field, value, LATEX_TO_UNICODE_FORMATTER.format(value));
+    private static void addDeleteBatch(PreparedStatement preparedStatement, String entryId, Field field) throws SQLException {
+        preparedStatement.setString(1, entryId);
+        preparedStatement.setString(2, field.getName());
+        preparedStatement.addBatch();
     }
 
     /**
@@ -1,7 +1,9 @@
 package org.jabref.logic.search.query;
 
+import java.util.BitSet;
 import java.util.List;
 
+import org.jabref.logic.search.indexing.InMemoryBibFieldsIndex;
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchQueryNode;
 import org.jabref.model.search.query.SqlQueryNode;
@@ -18,6 +20,16 @@ public class SearchQueryConversion {
         return new SearchToSqlVisitor(table, searchQuery.getSearchFlags()).visit(searchQuery.getContext());
     }
 
+    /**
+     * Evaluates the search query on the given documents of the index. Has to be called inside {@link InMemoryBibFieldsIndex#withReadLock(java.util.function.Supplier)}.
+     *
+     * @return the matching document numbers
+     */
+    public static BitSet searchToInMemoryIndex(InMemoryBibFieldsIndex index, SearchQuery searchQuery, BitSet documents) {
+        LOGGER.debug("Evaluating search expression on in-memory index: {}", searchQuery.getSearchExpression());
+        return new SearchToInMemoryIndexVisitor(index, searchQuery.getSearchFlags(), documents).visit(searchQuery.getContext());
+    }
+
     public static String flagsToSearchExpression(SearchQuery searchQuery) {
         LOGGER.debug("Converting search flags to search expression: {}, flags {}", searchQuery.getSearchExpression(), searchQuery.getSearchFlags());
         return new SearchFlagsToExpressionVisitor(searchQuery.getSearchFlags()).visit(searchQuery.getContext());
@@ -0,0 +1,192 @@
+package org.jabref.logic.search.query;
+
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.jabref.logic.search.indexing.BibFieldValues.FieldValue;
+import org.jabref.logic.search.indexing.InMemoryBibFieldsIndex;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.search.SearchBaseVisitor;
+import org.jabref.search.SearchParser;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
+import static org.jabref.model.search.SearchFlags.CASE_SENSITIVE;
+import static org.jabref.model.search.SearchFlags.EXACT_MATCH;
+import static org.jabref.model.search.SearchFlags.NEGATION;
+import static org.jabref.model.search.SearchFlags.REGULAR_EXPRESSION;
+
+/// Evaluates a search query directly on an [InMemoryBibFieldsIndex] and returns the matching document numbers.
+///
+/// The semantics are the same as the ones of [SearchToSqlVisitor]:
+/// "contains" and regular expression comparisons check the values of the fields,
+/// exact comparisons additionally check the split values of multi-value fields.
+/// Unfielded comparisons ignore the groups field.
+///
+/// The visitor has to be invoked inside [InMemoryBibFieldsIndex#withReadLock(java.util.function.Supplier)].
+///
+/// Tests are located in `org.jabref.logic.search.query.SearchQueryInMemoryIndexConversionTest`
+public class SearchToInMemoryIndexVisitor extends SearchBaseVisitor<BitSet> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SearchToInMemoryIndexVisitor.class);
+
+    // Below this number of documents, checking all documents is cheaper than looking up the inverted indexes
+    private static final int MINIMUM_DOCUMENTS_FOR_INDEX_LOOKUP = 32;
+
+    private static final String GROUPS_FIELD = StandardField.GROUPS.getName();
+
+    private final InMemoryBibFieldsIndex index;
+    private final EnumSet<SearchFlags> searchBarFlags;
+    private final BitSet documents;
+    private final boolean useIndexLookup;
+
+    /**
+     * @param documents the documents to consider. Negations are relative to this set.
+     */
+    public SearchToInMemoryIndexVisitor(InMemoryBibFieldsIndex index, EnumSet<SearchFlags> searchBarFlags, BitSet documents) {
+        this.index = index;
+        this.searchBarFlags = searchBarFlags;
+        this.documents = documents;
+        this.useIndexLookup = documents.cardinality() >= MINIMUM_DOCUMENTS_FOR_INDEX_LOOKUP;
+    }
+
+    @Override
+    public BitSet visitStart(SearchParser.StartContext ctx) {
+        if (ctx.andExpression() == null) {
+            return new BitSet();
+        }
+        return visit(ctx.andExpression());
+    }
+
+    @Override
+    public BitSet visitImplicitAndExpression(SearchParser.ImplicitAndExpressionContext ctx) {
+        BitSet result = null;
+        for (SearchParser.ExpressionContext expression : ctx.expression()) {
+            BitSet child = visit(expression);
+            if (result == null) {
+                result = child;
+            } else {
+                result.and(child);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public BitSet visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+        return visit(ctx.andExpression());
+    }
+
+    @Override
+    public BitSet visitNegatedExpression(SearchParser.NegatedExpressionContext ctx) {
+        return negate(visit(ctx.expression()));
+    }
+
+    @Override
+    public BitSet visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+        BitSet left = visit(ctx.left);
+        BitSet right = visit(ctx.right);
+        if (ctx.bin_op.getType() == SearchParser.AND) {
+            left.and(right);
+        } else {
+            left.or(right);
+        }
+        return left;
+    }
+
+    @Override
+    public BitSet visitComparisonExpression(SearchParser.ComparisonExpressionContext ctx) {
+        return visit(ctx.comparison());
+    }
+
+    @Override
+    public BitSet visitComparison(SearchParser.ComparisonContext ctx) {
+        SearchComparison comparison = SearchComparison.of(ctx, searchBarFlags);
+
+        if (ENTRY_ID.toString().equals(comparison.field())) {
+            BitSet result = new BitSet();
+            index.getDocumentNumber(comparison.term()).ifPresent(result::set);
+            result.and(documents);
+            return result;
+        }
+
+        BitSet matches = getMatches(comparison);
+        return comparison.searchFlags().contains(NEGATION) ? negate(matches) : matches;
+    }
+
+    private BitSet getMatches(SearchComparison comparison) {
+        EnumSet<SearchFlags> searchFlags = comparison.searchFlags();
+        boolean exactMatch = searchFlags.contains(EXACT_MATCH);
+
+        BitSet candidates = (BitSet) documents.clone();
+        if (useIndexLookup && !searchFlags.contains(REGULAR_EXPRESSION)) {
+            Optional<BitSet> indexedCandidates = exactMatch
+                                                 ? Optional.of(index.getDocumentsHavingValue(comparison.term()))
+                                                 : index.getDocumentsPossiblyContaining(comparison.term());
+            indexedCandidates.ifPresent(candidates::and);
+        }
+
+        Predicate<String> valueMatcher = createValueMatcher(comparison);
+        boolean anyField = SearchComparison.ANY_FIELD.equals(comparison.field());
+        BitSet matches = new BitSet();
+        for (int document = candidates.nextSetBit(0); document >= 0; document = candidates.nextSetBit(document + 1)) {
+            InMemoryBibFieldsIndex.Document indexedDocument = index.getDocument(document);
+            if (matches(indexedDocument.values(), comparison.field(), anyField, valueMatcher)
+                    || (exactMatch && matches(indexedDocument.splitValues(), comparison.field(), anyField, valueMatcher))) {
+                matches.set(document);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean matches(List<FieldValue> values, String field, boolean anyField, Predicate<String> valueMatcher) {
+        for (FieldValue value : values) {
+            String fieldName = value.field().getName();
+            // https://github.com/JabRef/jabref/issues/7996
+            boolean fieldMatches = anyField ? !GROUPS_FIELD.equals(fieldName) : field.equals(fieldName);
+            if (fieldMatches && (valueMatcher.test(value.literal()) || valueMatcher.test(value.transformed()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Predicate<String> createValueMatcher(SearchComparison comparison) {
+        EnumSet<SearchFlags> searchFlags = comparison.searchFlags();
+        boolean caseSensitive = searchFlags.contains(CASE_SENSITIVE);
+        String term = comparison.term();
+
+        if (searchFlags.contains(REGULAR_EXPRESSION)) {
+            try {
+                Pattern pattern = Pattern.compile(term, caseSensitive ? 0 : Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+                return value -> pattern.matcher(value).find();
+            } catch (PatternSyntaxException e) {
+                LOGGER.debug("Invalid regular expression {}", term, e);
+                return _ -> false;
+            }
+        }
+
+        if (caseSensitive) {
+            return searchFlags.contains(EXACT_MATCH) ? term::equals : value -> value.contains(term);
+        }
+        String lowerCaseTerm = term.toLowerCase(Locale.ROOT);
+        return searchFlags.contains(EXACT_MATCH)
+               ? value -> value.toLowerCase(Locale.ROOT).equals(lowerCaseTerm)
+               : value -> value.toLowerCase(Locale.ROOT).contains(lowerCaseTerm);
+    }
+
+    private BitSet negate(BitSet matches) {
+        BitSet result = (BitSet) documents.clone();
+        result.andNot(matches);
+        return result;
+    }
+}
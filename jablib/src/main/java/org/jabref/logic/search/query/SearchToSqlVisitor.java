@@ -4,10 +4,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.stream.Collectors;
 
-import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.search.PostgreConstants;
 import org.jabref.model.search.SearchFlags;
@@ -19,14 +17,13 @@ import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
 import static org.jabref.model.search.PostgreConstants.FIELD_NAME;
 import static org.jabref.model.search.PostgreConstants.FIELD_VALUE_LITERAL;
 import static org.jabref.model.search.PostgreConstants.FIELD_VALUE_TRANSFORMED;
-import static org.jabref.model.search.SearchFlags.CASE_INSENSITIVE;
 import static org.jabref.model.search.SearchFlags.CASE_SENSITIVE;
 import static org.jabref.model.search.SearchFlags.EXACT_MATCH;
 import static org.jabref.model.search.SearchFlags.INEXACT_MATCH;
 import static org.jabref.model.search.SearchFlags.NEGATION;
 import static org.jabref.model.search.SearchFlags.REGULAR_EXPRESSION;
 
-/// Converts to a query processable by the scheme created by [org.jabref.logic.search.indexing.BibFieldsIndexer].
+/// Converts to a query processable by the scheme created by [org.jabref.logic.search.indexing.PostgresBibFieldsIndexer].
 
 /// Tests are located in `org.jabref.logic.search.query.SearchQuerySQLConversionTest`
 public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
@@ -160,62 +157,8 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
 
     @Override
     public SqlQueryNode visitComparison(SearchParser.ComparisonContext ctx) {
-        EnumSet<SearchFlags> searchFlags = EnumSet.noneOf(SearchFlags.class);
-        String term = SearchQueryConversion.unescapeSearchValue(ctx.searchValue());
-
-        // unfielded expression
-        if (ctx.FIELD() == null) {
-            // apply search bar flags to unfielded expressions
-            boolean isCaseSensitive = searchBarFlags.contains(CASE_SENSITIVE);
-            if (searchBarFlags.contains(REGULAR_EXPRESSION)) {
-                setFlags(searchFlags, REGULAR_EXPRESSION, isCaseSensitive, false);
-            } else {
-                setFlags(searchFlags, INEXACT_MATCH, isCaseSensitive, false);
-            }
-            return getFieldQueryNode("any", term, searchFlags);
-        }
-
-        // fielded expression
-        String field = ctx.FIELD().getText();
-        int operator = ctx.operator().getStart().getType();
-
-        if (operator == SearchParser.EQUAL || operator == SearchParser.CONTAINS) {
-            setFlags(searchFlags, INEXACT_MATCH, false, false);
-        } else if (operator == SearchParser.CEQUAL) {
-            setFlags(searchFlags, INEXACT_MATCH, true, false);
-        } else if (operator == SearchParser.EEQUAL || operator == SearchParser.MATCHES) {
-            setFlags(searchFlags, EXACT_MATCH, false, false);
-        } else if (operator == SearchParser.CEEQUAL) {
-            setFlags(searchFlags, EXACT_MATCH, true, false);
-        } else if (operator == SearchParser.REQUAL) {
-            setFlags(searchFlags, REGULAR_EXPRESSION, false, false);
-        } else if (operator == SearchParser.CREEQUAL) {
-            setFlags(searchFlags, REGULAR_EXPRESSION, true, false);
-        } else if (operator == SearchParser.NEQUAL) {
-            setFlags(searchFlags, INEXACT_MATCH, false, true);
-        } else if (operator == SearchParser.NCEQUAL) {
-            setFlags(searchFlags, INEXACT_MATCH, true, true);
-        } else if (operator == SearchParser.NEEQUAL) {
-            setFlags(searchFlags, EXACT_MATCH, false, true);
-        } else if (operator == SearchParser.NCEEQUAL) {
-            setFlags(searchFlags, EXACT_MATCH, true, true);
-        } else if (operator == SearchParser.NREQUAL) {
-            setFlags(searchFlags, REGULAR_EXPRESSION, false, true);
-        } else if (operator == SearchParser.NCREEQUAL) {
-            setFlags(searchFlags, REGULAR_EXPRESSION, true, true);
-        }
-
-        // field = "" -> should find entries where the field is empty
-        // field != "" -> should find entries where the field is not empty
-        if (term.isEmpty()) {
-            if (searchFlags.contains(NEGATION)) {
-                searchFlags.remove(NEGATION);
-            } else {
-                searchFlags.add(NEGATION);
-            }
-        }
-
-        return getFieldQueryNode(field.toLowerCase(Locale.ROOT), term, searchFlags);
+        SearchComparison comparison = SearchComparison.of(ctx, searchBarFlags);
+        return getFieldQueryNode(comparison.field(), comparison.term(), comparison.searchFlags());
     }
 
     private SqlQueryNode getFieldQueryNode(String field, String term, EnumSet<SearchFlags> searchFlags) {
@@ -226,17 +169,9 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
             term = escapeTermForSql(term);
         }
 
-        // Pseudo-fields
-        field = switch (field) {
-            case "key" -> InternalField.KEY_FIELD.getName();
-            case "anykeyword" -> StandardField.KEYWORDS.getName();
-            case "anyfield" -> "any";
-            default -> field;
-        };
-
         if (ENTRY_ID.toString().equals(field)) {
             return buildEntryIdQuery(term);
-        } else if ("any".equals(field)) {
+        } else if (SearchComparison.ANY_FIELD.equals(field)) {
             if (searchFlags.contains(EXACT_MATCH)) {
                 return searchFlags.contains(NEGATION)
                         ? buildExactNegationAnyFieldQuery(sqlOperator, term)
@@ -534,15 +469,6 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
         return new SqlQueryNode("cte" + cteCounter++);
     }
 
-    private static void setFlags(EnumSet<SearchFlags> flags, SearchFlags matchType, boolean caseSensitive, boolean negation) {
-        flags.add(matchType);
-
-        flags.add(caseSensitive ? CASE_SENSITIVE : CASE_INSENSITIVE);
-        if (negation) {
-            flags.add(NEGATION);
-        }
-    }
-
     private static String getSqlOperator(EnumSet<SearchFlags> searchFlags) {
         return searchFlags.contains(REGULAR_EXPRESSION)
                 ? (searchFlags.contains(CASE_SENSITIVE) ? "~" : "~*")
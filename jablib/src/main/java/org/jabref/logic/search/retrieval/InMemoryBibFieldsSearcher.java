@@ -0,0 +1,51 @@
+package org.jabref.logic.search.retrieval;
+
+import java.util.BitSet;
+
+import org.jabref.logic.search.BibFieldsSearcher;
+import org.jabref.logic.search.indexing.InMemoryBibFieldsIndex;
+import org.jabref.logic.search.query.SearchQueryConversion;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResult;
+import org.jabref.model.search.query.SearchResults;
+
+public class InMemoryBibFieldsSearcher implements BibFieldsSearcher {
+
+    private final InMemoryBibFieldsIndex index;
+
+    public InMemoryBibFieldsSearcher(InMemoryBibFieldsIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public boolean isMatched(BibEntry entry, SearchQuery searchQuery) {
+        if (!searchQuery.isValid()) {
+            return false;
+        }
+        // Evaluating the query on the single document avoids scanning the whole index, which matters for search groups checking each entry separately
+        return index.withReadLock(() -> index.getDocumentNumber(entry.getId())
+                                             .map(documentNumber -> {
+                                                 BitSet document = new BitSet();
+                                                 document.set(documentNumber);
+                                                 return !SearchQueryConversion.searchToInMemoryIndex(index, searchQuery, document).isEmpty();
+                                             })
+                                             .orElse(false));
+    }
+
+    @Override
+    public SearchResults search(SearchQuery searchQuery) {
+        SearchResults searchResults = new SearchResults();
+        if (!searchQuery.isValid()) {
+            return searchResults;
+        }
+        index.withReadLock(() -> {
+            BitSet matches = SearchQueryConversion.searchToInMemoryIndex(index, searchQuery, index.getLiveDocuments());
+            for (int document = matches.nextSetBit(0); document >= 0; document = matches.nextSetBit(document + 1)) {
+                searchResults.addSearchResult(index.getDocument(document).entryId(), new SearchResult());
+            }
+            return null;
+        });
+        return searchResults;
+    }
+}
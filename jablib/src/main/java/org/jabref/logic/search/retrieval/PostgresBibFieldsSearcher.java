@@ -5,6 +5,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
+import org.jabref.logic.search.BibFieldsSearcher;
 import org.jabref.logic.search.query.SearchQueryConversion;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.search.query.SearchQuery;
@@ -17,17 +18,18 @@ import org.slf4j.LoggerFactory;
 
 import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
 
-public class BibFieldsSearcher {
-    private static final Logger LOGGER = LoggerFactory.getLogger(BibFieldsSearcher.class);
+public class PostgresBibFieldsSearcher implements BibFieldsSearcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostgresBibFieldsSearcher.class);
 
     private final Connection connection;
     private final String tableName;
 
-    public BibFieldsSearcher(Connection connection, String tableName) {
+    public PostgresBibFieldsSearcher(Connection connection, String tableName) {
         this.connection = connection;
         this.tableName = tableName;
     }
 
+    @Override
     public boolean isMatched(BibEntry entry, SearchQuery searchQuery) {
         SearchQuery newSearchQuery = createBooleanQueryForEntry(entry, searchQuery);
         return search(newSearchQuery).isMatched(entry);
@@ -38,6 +40,7 @@ public class BibFieldsSearcher {
         return new SearchQuery(newSearchExpression, oldSearchQuery.getSearchFlags());
     }
 
+    @Override
     public SearchResults search(SearchQuery searchQuery) {
         if (!searchQuery.isValid()) {
             return new SearchResults();
@@ -163,16 +163,42 @@ public abstract class DBMSProcessor {
         if (notYetExistingEntries.isEmpty()) {
             return;
         }
-        insertIntoEntryTable(notYetExistingEntries);
-        insertIntoFieldTable(notYetExistingEntries);
+        // The shared ids are assigned while inserting. They are restored if the insertion fails.
+        List<Integer> previousSharedIDs = notYetExistingEntries.stream()
+                                                               .map(entry -> entry.getSharedBibEntryData().getSharedID())
+                                                               .toList();
+        // Other clients pull the entries as soon as they are logged as changed, thus the fields are committed together with the entries
+        try {
+            connection.setAutoCommit(false);
+            insertIntoEntryTable(notYetExistingEntries);
+            insertIntoFieldTable(notYetExistingEntries);
+            connection.commit();
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error during entry insertion", e);
+            try {
+                connection.rollback();
+            } catch (SQLException rollbackException) {
+                LOGGER.error("SQL Error during rollback", rollbackException);
+            }
+            for (int i = 0; i < notYetExistingEntries.size(); i++) {
+                notYetExistingEntries.get(i).getSharedBibEntryData().setSharedID(previousSharedIDs.get(i));
+            }
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error", e);
+            }
+        }
     }
 
     /**
      * Inserts the given List of BibEntry into the ENTRY table.
      *
      * @param bibEntries List of {@link BibEntry} to be inserted
+     * @throws SQLException in case of error
      */
-    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
         StringBuilder insertIntoEntryQuery = new StringBuilder()
                 .append("INSERT INTO ")
                 .append(escape_Table("ENTRY"))
@@ -200,8 +226,6 @@ public abstract class DBMSProcessor {
                     LOGGER.error("Error: Some shared IDs left unassigned");
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
@@ -243,50 +267,47 @@ public abstract class DBMSProcessor {
      * Inserts the given list of BibEntry into FIELD table.
      *
      * @param bibEntries {@link BibEntry} to be inserted
+     * @throws SQLException in case of error
      */
-    protected void insertIntoFieldTable(List<BibEntry> bibEntries) {
-        try {
-            // Inserting into FIELD table
-            // Coerce to ArrayList in order to use List.get()
-            List<List<Field>> fields = bibEntries.stream().map(bibEntry -> new ArrayList<>(bibEntry.getFields()))
-                                                 .collect(Collectors.toList());
-
-            StringBuilder insertFieldQuery = new StringBuilder()
-                    .append("INSERT INTO ")
-                    .append(escape_Table("FIELD"))
-                    .append("(")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(", ")
-                    .append(escape("NAME"))
-                    .append(", ")
-                    .append(escape("VALUE"))
-                    .append(") VALUES(?, ?, ?)");
-            int numFields = 0;
-            for (List<Field> entryFields : fields) {
-                numFields += entryFields.size();
-            }
+    protected void insertIntoFieldTable(List<BibEntry> bibEntries) throws SQLException {
+        // Inserting into FIELD table
+        // Coerce to ArrayList in order to use List.get()
+        List<List<Field>> fields = bibEntries.stream().map(bibEntry -> new ArrayList<>(bibEntry.getFields()))
+                                             .collect(Collectors.toList());
 
-            if (numFields == 0) {
-                return; // Prevent SQL Exception
-            }
+        StringBuilder insertFieldQuery = new StringBuilder()
+                .append("INSERT INTO ")
+                .append(escape_Table("FIELD"))
+                .append("(")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(", ")
+                .append(escape("NAME"))
+                .append(", ")
+                .append(escape("VALUE"))
+                .append(") VALUES(?, ?, ?)");
+        int numFields = 0;
+        for (List<Field> entryFields : fields) {
+            numFields += entryFields.size();
+        }
 
-            // Number of commas is fields.size() - 1
-            insertFieldQuery.append(", (?, ?, ?)".repeat(Math.max(0, numFields - 1)));
-            try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
-                int fieldsCompleted = 0;
-                for (int entryIndex = 0; entryIndex < fields.size(); entryIndex++) {
-                    for (int entryFieldsIndex = 0; entryFieldsIndex < fields.get(entryIndex).size(); entryFieldsIndex++) {
-                        // columnIndex starts with 1
-                        preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntries.get(entryIndex).getSharedBibEntryData().getSharedID());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(entryIndex).get(entryFieldsIndex).getName());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntries.get(entryIndex).getField(fields.get(entryIndex).get(entryFieldsIndex)).get());
-                        fieldsCompleted += 1;
-                    }
+        if (numFields == 0) {
+            return; // Prevent SQL Exception
+        }
+
+        // Number of commas is fields.size() - 1
+        insertFieldQuery.append(", (?, ?, ?)".repeat(Math.max(0, numFields - 1)));
+        try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
+            int fieldsCompleted = 0;
+            for (int entryIndex = 0; entryIndex < fields.size(); entryIndex++) {
+                for (int entryFieldsIndex = 0; entryFieldsIndex < fields.get(entryIndex).size(); entryFieldsIndex++) {
+                    // columnIndex starts with 1
+                    preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntries.get(entryIndex).getSharedBibEntryData().getSharedID());
+                    preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(entryIndex).get(entryFieldsIndex).getName());
+                    preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntries.get(entryIndex).getField(fields.get(entryIndex).get(entryFieldsIndex)).get());
+                    fieldsCompleted += 1;
                 }
-                preparedFieldStatement.executeUpdate();
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
+            preparedFieldStatement.executeUpdate();
         }
     }
 
@@ -595,6 +616,33 @@ public abstract class DBMSProcessor {
         return sharedIDVersionMapping;
     }
 
+    /**
+     * Retrieves the current position in the log of changes. The changes visible now are not returned by
+     * {@link #getChangesSince(SharedChangeLogPosition, long, int)} for this position unless they are changed again.
+     *
+     * @return the position, or an empty optional if it cannot be retrieved
+     */
+    public abstract Optional<SharedChangeLogPosition> getChangeLogPosition();
+
+    /**
+     * Retrieves the id the next transaction will get. All transactions of this client finished so far have smaller ids.
+     *
+     * @return the transaction id, or <code>-1</code> if it cannot be retrieved
+     */
+    public abstract long getNextTransactionID();
+
+    /**
+     * Retrieves the changes of entries which were not visible at the given position, ordered by their sequence number.
+     * Only the most recent change of each entry is logged. Changes of transactions running at the given position are
+     * retrieved again, even if they were visible already.
+     *
+     * @param position      the position up to which the log has been read
+     * @param afterSequence the sequence number of the last change retrieved from the given position, to retrieve the
+     *                      changes in several batches
+     * @param limit         the maximum number of changes to retrieve
+     */
+    public abstract List<SharedEntryChange> getChangesSince(SharedChangeLogPosition position, long afterSequence, int limit);
+
     /**
      * Fetches and returns all shared meta data.
      */
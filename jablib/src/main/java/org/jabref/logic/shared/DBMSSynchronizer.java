@@ -3,6 +3,8 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -45,6 +47,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DBMSSynchronizer.class);
 
+    private static final int CHANGES_BATCH_SIZE = 1000;
+
     private DBMSProcessor dbmsProcessor;
     private String dbName;
     private final BibDatabaseContext bibDatabaseContext;
@@ -57,6 +61,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private final FieldPreferences fieldPreferences;
     private final FileUpdateMonitor fileMonitor;
     private Optional<BibEntry> lastEntryChanged;
+    // The position in the log of changes of the last pull, null if all entries have to be compared
+    private volatile SharedChangeLogPosition lastPulledPosition;
 
     public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
                             FieldPreferences fieldPreferences,
@@ -84,6 +90,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             pullWithLastEntry();
             synchronizeLocalDatabase();
             dbmsProcessor.insertEntries(event.getBibEntries());
+            dbmsProcessor.notifyClients();
             // Reset last changed entry because it just has already been synchronized -> Why necessary?
             lastEntryChanged = Optional.empty();
         }
@@ -101,6 +108,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             synchronizeLocalMetaData();
             pullWithLastEntry();
             synchronizeSharedEntry(bibEntry);
+            dbmsProcessor.notifyClients();
             synchronizeLocalDatabase(); // Pull changes for the case that there were some
         } else {
             // Set new BibEntry that has been changed last
@@ -119,6 +127,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             synchronizeLocalMetaData();
             pullWithLastEntry();
             dbmsProcessor.removeEntries(event.getBibEntries());
+            dbmsProcessor.notifyClients();
             synchronizeLocalDatabase();
         }
     }
@@ -168,6 +177,9 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     /**
      * Synchronizes the local database with shared one. Possible update types are: removal, update, or insert of a
      * {@link BibEntry}.
+     * <p>
+     * Initially, all shared entries are compared with the local ones. Afterwards, only the entries changed since the
+     * last synchronization are pulled.
      */
     @Override
     public void synchronizeLocalDatabase() {
@@ -175,51 +187,133 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
 
+        if (lastPulledPosition == null) {
+            synchronizeAllEntries();
+        } else {
+            synchronizeChangedEntries();
+        }
+    }
+
+    private void synchronizeAllEntries() {
+        // Retrieved first, so that changes made while comparing are pulled next time
+        Optional<SharedChangeLogPosition> position = dbmsProcessor.getChangeLogPosition();
+
         List<BibEntry> localEntries = bibDatabase.getEntries();
         Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
 
         // remove old entries locally
         removeNotSharedEntries(localEntries, idVersionMap.keySet());
-        List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
+
+        Map<Integer, BibEntry> localEntriesBySharedID = getLocalEntriesBySharedID();
+        List<Integer> entriesToPull = new ArrayList<>();
         // compare versions and update local entry if needed
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
-                    }
+            BibEntry localEntry = localEntriesBySharedID.get(idVersionEntry.getKey());
+            if ((localEntry == null) || (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion())) {
+                entriesToPull.add(idVersionEntry.getKey());
+            }
+        }
+        pullSharedEntries(entriesToPull, localEntriesBySharedID);
+
+        lastPulledPosition = position.orElse(null);
+    }
+
+    private void synchronizeChangedEntries() {
+        // Retrieved first, so that changes committed while reading are pulled next time
+        Optional<SharedChangeLogPosition> position = dbmsProcessor.getChangeLogPosition();
+        if (position.isEmpty()) {
+            return;
+        }
+
+        // Changes of transactions running at the last pull are retrieved again. Changes already applied are skipped by comparing the versions.
+        // shared id -> most recent change of the entry
+        Map<Integer, SharedEntryChange> changes = new LinkedHashMap<>();
+        long sequence = 0;
+        List<SharedEntryChange> batch;
+        do {
+            batch = dbmsProcessor.getChangesSince(lastPulledPosition, sequence, CHANGES_BATCH_SIZE);
+            for (SharedEntryChange change : batch) {
+                changes.put(change.sharedID(), change);
+                sequence = change.sequence();
+            }
+        } while (batch.size() == CHANGES_BATCH_SIZE);
+
+        Map<Integer, BibEntry> localEntriesBySharedID = getLocalEntriesBySharedID();
+        List<BibEntry> entriesToRemove = new ArrayList<>();
+        List<Integer> entriesToPull = new ArrayList<>();
+        for (SharedEntryChange change : changes.values()) {
+            BibEntry localEntry = localEntriesBySharedID.get(change.sharedID());
+            if (change.deleted()) {
+                if (localEntry != null) {
+                    entriesToRemove.add(localEntry);
+                    localEntriesBySharedID.remove(change.sharedID());
                 }
+            } else if ((localEntry == null) || (change.version() > localEntry.getSharedBibEntryData().getVersion())) {
+                entriesToPull.add(change.sharedID());
             }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
-                entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+        }
+
+        if (!entriesToRemove.isEmpty()) {
+            eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemove));
+            // remove all non-shared entries without triggering listeners
+            bibDatabase.removeEntries(entriesToRemove, EntriesEventSource.SHARED);
+        }
+        pullSharedEntries(entriesToPull, localEntriesBySharedID);
+
+        lastPulledPosition = position.get();
+    }
+
+    private Map<Integer, BibEntry> getLocalEntriesBySharedID() {
+        Map<Integer, BibEntry> localEntriesBySharedID = new HashMap<>();
+        for (BibEntry localEntry : bibDatabase.getEntries()) {
+            localEntriesBySharedID.put(localEntry.getSharedBibEntryData().getSharedID(), localEntry);
+        }
+        return localEntriesBySharedID;
+    }
+
+    /**
+     * Fetches the given shared entries in batches. Entries present locally are updated, all others are inserted into
+     * the local database.
+     */
+    private void pullSharedEntries(List<Integer> sharedIDs, Map<Integer, BibEntry> localEntriesBySharedID) {
+        if (sharedIDs.isEmpty()) {
+            return;
+        }
+
+        List<BibEntry> entriesToInsertIntoLocalDatabase = new ArrayList<>();
+        for (BibEntry sharedEntry : dbmsProcessor.partitionAndGetSharedEntries(sharedIDs)) {
+            BibEntry localEntry = localEntriesBySharedID.get(sharedEntry.getSharedBibEntryData().getSharedID());
+            if (localEntry == null) {
+                entriesToInsertIntoLocalDatabase.add(sharedEntry);
+            } else {
+                updateLocalEntry(localEntry, sharedEntry);
             }
         }
 
         if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
             // in case entries should be added into the local database, insert them
-            bibDatabase.insertEntries(dbmsProcessor.partitionAndGetSharedEntries(entriesToInsertIntoLocalDatabase), EntriesEventSource.SHARED);
+            bibDatabase.insertEntries(entriesToInsertIntoLocalDatabase, EntriesEventSource.SHARED);
         }
     }
 
+    private void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        // update fields
+        localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+        localEntry.getSharedBibEntryData()
+                  .setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+        sharedEntry.getFieldMap().forEach(
+                // copy remote values to local entry
+                (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
+        );
+
+        // locally remove not existing fields
+        localEntry.getFields().stream()
+                  .filter(field -> !sharedEntry.hasField(field))
+                  .forEach(
+                          field -> localEntry.clearField(field, EntriesEventSource.SHARED)
+                  );
+    }
+
     /**
      * Removes all local entries which are not present on shared database.
      *
@@ -323,6 +417,26 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         synchronizeLocalMetaData();
     }
 
+    /**
+     * Pulls the changes announced by another client. The entries are only synchronized if the announced changes have
+     * not been pulled yet.
+     *
+     * @param transactionID the id of the next transaction of the other client after its changes were committed (see
+     *                      {@link DBMSProcessor#getNextTransactionID()})
+     */
+    public void pullChanges(long transactionID) {
+        if (!checkCurrentConnection()) {
+            return;
+        }
+        pullWithLastEntry();
+        // All transactions with smaller ids than the oldest one running at the last pull had been committed, thus their changes were pulled
+        SharedChangeLogPosition position = lastPulledPosition;
+        if ((position == null) || (transactionID > position.oldestRunningTransactionID())) {
+            synchronizeLocalDatabase();
+        }
+        synchronizeLocalMetaData();
+    }
+
     /**
      * Synchronizes local BibEntries only if last entry changes still remain
      */
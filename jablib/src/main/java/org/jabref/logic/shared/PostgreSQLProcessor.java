@@ -4,16 +4,16 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
+import org.jabref.logic.shared.listener.NotificationListenerStatistics;
 import org.jabref.logic.shared.listener.PostgresSQLNotificationListener;
-import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.metadata.MetaData;
 
-import org.postgresql.PGConnection;
-
 /**
  * Processes all incoming or outgoing bib data to PostgreSQL database and manages its structure.
  */
@@ -22,7 +22,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     private PostgresSQLNotificationListener listener;
 
     private int VERSION_DB_STRUCT_DEFAULT = -1;
-    private final int CURRENT_VERSION_DB_STRUCT = 1;
+    private final int CURRENT_VERSION_DB_STRUCT = 2;
 
     public PostgreSQLProcessor(DatabaseConnection connection) {
         super(connection);
@@ -36,7 +36,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     @Override
     public void setUp() throws SQLException {
 
-        if (CURRENT_VERSION_DB_STRUCT == 1 && checkTableAvailability("ENTRY", "FIELD", "METADATA")) {
+        if (checkTableAvailability("ENTRY", "FIELD", "METADATA")) {
             // checkTableAvailability does not distinguish if same table name exists in different schemas
             // VERSION_DB_STRUCT_DEFAULT must be forced
             VERSION_DB_STRUCT_DEFAULT = 0;
@@ -61,6 +61,42 @@ public class PostgreSQLProcessor extends DBMSProcessor {
                         + "\"KEY\" VARCHAR,"
                         + "\"VALUE\" TEXT)");
 
+        // Each change of an entry is logged with an increasing sequence number, so that clients can pull only the entries changed since their last pull.
+        // Only the most recent change of an entry is kept.
+        // The sequence number is assigned before the change is committed, thus the id of the transaction is logged, too (see SharedChangeLogPosition).
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE IF NOT EXISTS " + escape_Table("CHANGELOG") + " (" +
+                        "\"SEQUENCE\" BIGSERIAL PRIMARY KEY, " +
+                        "\"TRANSACTION_ID\" XID8 NOT NULL DEFAULT pg_current_xact_id(), " +
+                        "\"ENTRY_SHARED_ID\" INTEGER NOT NULL, " +
+                        "\"VERSION\" INTEGER, " +
+                        "\"DELETED\" BOOLEAN NOT NULL DEFAULT FALSE)");
+
+        connection.createStatement().executeUpdate(
+                "CREATE INDEX IF NOT EXISTS \"CHANGELOG_ENTRY_SHARED_ID\" ON " + escape_Table("CHANGELOG") + " (\"ENTRY_SHARED_ID\")");
+
+        connection.createStatement().executeUpdate(
+                "CREATE INDEX IF NOT EXISTS \"CHANGELOG_TRANSACTION_ID\" ON " + escape_Table("CHANGELOG") + " (\"TRANSACTION_ID\")");
+
+        connection.createStatement().executeUpdate(
+                "CREATE OR REPLACE FUNCTION " + escape_Table("LOG_ENTRY_CHANGE") + "() RETURNS TRIGGER AS $$ " +
+                        "BEGIN " +
+                        "IF (TG_OP = 'DELETE') THEN " +
+                        "DELETE FROM " + escape_Table("CHANGELOG") + " WHERE \"ENTRY_SHARED_ID\" = OLD.\"SHARED_ID\"; " +
+                        "INSERT INTO " + escape_Table("CHANGELOG") + " (\"ENTRY_SHARED_ID\", \"VERSION\", \"DELETED\") VALUES (OLD.\"SHARED_ID\", OLD.\"VERSION\", TRUE); " +
+                        "RETURN OLD; " +
+                        "END IF; " +
+                        "DELETE FROM " + escape_Table("CHANGELOG") + " WHERE \"ENTRY_SHARED_ID\" = NEW.\"SHARED_ID\"; " +
+                        "INSERT INTO " + escape_Table("CHANGELOG") + " (\"ENTRY_SHARED_ID\", \"VERSION\", \"DELETED\") VALUES (NEW.\"SHARED_ID\", NEW.\"VERSION\", FALSE); " +
+                        "RETURN NEW; " +
+                        "END; " +
+                        "$$ LANGUAGE plpgsql");
+
+        connection.createStatement().executeUpdate("DROP TRIGGER IF EXISTS \"ENTRY_CHANGELOG\" ON " + escape_Table("ENTRY"));
+        connection.createStatement().executeUpdate(
+                "CREATE TRIGGER \"ENTRY_CHANGELOG\" AFTER INSERT OR UPDATE OR DELETE ON " + escape_Table("ENTRY") +
+                        " FOR EACH ROW EXECUTE FUNCTION " + escape_Table("LOG_ENTRY_CHANGE") + "()");
+
         Map<String, String> metadata = getSharedMetaData();
 
         if (metadata.get(MetaData.VERSION_DB_STRUCT) != null) {
@@ -76,7 +112,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
 
         if (VERSION_DB_STRUCT_DEFAULT < CURRENT_VERSION_DB_STRUCT) {
             // We can to migrate from old table in new table
-            if (VERSION_DB_STRUCT_DEFAULT == 0 && CURRENT_VERSION_DB_STRUCT == 1) {
+            if (VERSION_DB_STRUCT_DEFAULT == 0) {
                 LOGGER.info("Migrating from VersionDBStructure == 0");
                 connection.createStatement().executeUpdate("INSERT INTO " + escape_Table("ENTRY") + " SELECT * FROM \"ENTRY\"");
                 connection.createStatement().executeUpdate("INSERT INTO " + escape_Table("FIELD") + " SELECT * FROM \"FIELD\"");
@@ -91,7 +127,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     }
 
     @Override
-    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
         StringBuilder insertIntoEntryQuery = new StringBuilder()
                 .append("INSERT INTO ")
                 .append(escape_Table("ENTRY"))
@@ -118,9 +154,73 @@ public class PostgreSQLProcessor extends DBMSProcessor {
                     LOGGER.error("Some shared IDs left unassigned");
                 }
             }
+        }
+    }
+
+    @Override
+    public Optional<SharedChangeLogPosition> getChangeLogPosition() {
+        // The oldest running transaction is the xmin of the current snapshot (requires PostgreSQL 13)
+        // Both values are retrieved in one statement, so that they refer to the same snapshot
+        String selectQuery = "SELECT COALESCE(MAX(" + escape("SEQUENCE") + "), 0), " +
+                "pg_snapshot_xmin(pg_current_snapshot())::text::bigint FROM " +
+                escape_Table("CHANGELOG");
+
+        try (ResultSet resultSet = connection.createStatement().executeQuery(selectQuery)) {
+            if (resultSet.next()) {
+                return Optional.of(new SharedChangeLogPosition(resultSet.getLong(1), resultSet.getLong(2)));
+            }
         } catch (SQLException e) {
-            LOGGER.error("SQL Error during entry insertion", e);
+            LOGGER.error("SQL Error", e);
         }
+        return Optional.empty();
+    }
+
+    @Override
+    public long getNextTransactionID() {
+        try (ResultSet resultSet = connection.createStatement().executeQuery("SELECT pg_snapshot_xmax(pg_current_snapshot())::text::bigint")) {
+            if (resultSet.next()) {
+                return resultSet.getLong(1);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+        }
+        return -1;
+    }
+
+    @Override
+    public List<SharedEntryChange> getChangesSince(SharedChangeLogPosition position, long afterSequence, int limit) {
+        List<SharedEntryChange> changes = new ArrayList<>();
+        String selectQuery = "SELECT * FROM " +
+                escape_Table("CHANGELOG") +
+                " WHERE (" +
+                escape("SEQUENCE") +
+                " > ? OR " +
+                escape("TRANSACTION_ID") +
+                " >= ?::text::xid8) AND " +
+                escape("SEQUENCE") +
+                " > ? ORDER BY " +
+                escape("SEQUENCE") +
+                " LIMIT ?";
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(selectQuery)) {
+            preparedStatement.setLong(1, position.sequence());
+            preparedStatement.setLong(2, position.oldestRunningTransactionID());
+            preparedStatement.setLong(3, afterSequence);
+            preparedStatement.setInt(4, limit);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    changes.add(new SharedEntryChange(
+                            resultSet.getLong("SEQUENCE"),
+                            resultSet.getInt("ENTRY_SHARED_ID"),
+                            resultSet.getInt("VERSION"),
+                            resultSet.getBoolean("DELETED")));
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+        }
+
+        return changes;
     }
 
     @Override
@@ -140,34 +240,39 @@ public class PostgreSQLProcessor extends DBMSProcessor {
 
     @Override
     public void startNotificationListener(DBMSSynchronizer dbmsSynchronizer) {
-        // Disable cleanup output of ThreadedHousekeeper
-        // Logger.getLogger(ThreadedHousekeeper.class.getName()).setLevel(Level.SEVERE);
-        try {
-            connection.createStatement().execute("LISTEN jabrefLiveUpdate");
-            // Do not use `new PostgresSQLNotificationListener(...)` as the object has to exist continuously!
-            // Otherwise, the listener is going to be deleted by Java's garbage collector.
-            PGConnection pgConnection = connection.unwrap(PGConnection.class);
-            listener = new PostgresSQLNotificationListener(dbmsSynchronizer, pgConnection);
-            HeadlessExecutorService.INSTANCE.execute(listener);
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error during starting the notification listener", e);
+        if (!(connectionProperties instanceof DBMSConnectionProperties properties)) {
+            LOGGER.warn("Cannot open a connection for live updates");
+            return;
         }
+        // The listener waits for notifications on a connection of its own
+        listener = new PostgresSQLNotificationListener(dbmsSynchronizer, properties);
+        listener.start();
     }
 
     @Override
     public void stopNotificationListener() {
         try {
-            listener.stop();
+            if (listener != null) {
+                listener.stop();
+            }
             connection.close();
         } catch (SQLException e) {
             LOGGER.error("SQL Error during stopping the notification listener", e);
         }
     }
 
+    /**
+     * @return the statistics of the notification listener, if it has been started
+     */
+    public Optional<NotificationListenerStatistics> getNotificationListenerStatistics() {
+        return Optional.ofNullable(listener).map(PostgresSQLNotificationListener::getStatistics);
+    }
+
     @Override
     public void notifyClients() {
         try {
-            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + PROCESSOR_ID + "';");
+            // The payload tells the other clients whether they have pulled the changes already (see PostgresSQLNotificationListener)
+            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + PROCESSOR_ID + ":" + getNextTransactionID() + "';");
         } catch (SQLException e) {
             LOGGER.error("SQL Error during client notification", e);
         }
@@ -0,0 +1,15 @@
+package org.jabref.logic.shared;
+
+/**
+ * The position up to which the CHANGELOG table of the shared database has been read.
+ * <p>
+ * The sequence numbers are assigned when a change is made, not when it is committed. Thus, a transaction still
+ * running may commit changes with smaller sequence numbers later on. These changes are found by the id of their
+ * transaction, which is at least the id of the oldest transaction running at the time of reading.
+ *
+ * @param sequence                   the sequence number of the most recent change visible at the time of reading
+ * @param oldestRunningTransactionID the id of the oldest transaction running at the time of reading; all transactions
+ *                                   with smaller ids were finished
+ */
+public record SharedChangeLogPosition(long sequence, long oldestRunningTransactionID) {
+}
@@ -0,0 +1,12 @@
+package org.jabref.logic.shared;
+
+/**
+ * A change of a shared entry as logged in the CHANGELOG table of the shared database.
+ *
+ * @param sequence the position of the change in the log; later changes have larger numbers
+ * @param sharedID the shared id of the changed entry
+ * @param version  the version of the entry after the change
+ * @param deleted  whether the entry has been removed
+ */
+public record SharedEntryChange(long sequence, int sharedID, int version, boolean deleted) {
+}
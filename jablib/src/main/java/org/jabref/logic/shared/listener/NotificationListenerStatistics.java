@@ -0,0 +1,19 @@
+package org.jabref.logic.shared.listener;
+
+import java.time.Duration;
+
+/**
+ * Statistics of a listener for notifications of other clients connected to the same shared database.
+ *
+ * @param receivedNotifications the number of notifications received, including the own ones
+ * @param pulls                 the number of pulls caused by notifications
+ * @param reconnects            the number of times the connection for listening had to be opened again
+ * @param lastPullLatency       the time from receiving a notification until its changes were applied, for the last pull
+ * @param maxPullLatency        the longest time from receiving a notification until its changes were applied
+ */
+public record NotificationListenerStatistics(long receivedNotifications,
+                                             long pulls,
+                                             long reconnects,
+                                             Duration lastPullLatency,
+                                             Duration maxPullLatency) {
+}
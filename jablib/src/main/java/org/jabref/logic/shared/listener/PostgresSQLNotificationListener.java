@@ -1,9 +1,15 @@
 package org.jabref.logic.shared.listener;
 
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.jabref.logic.shared.DBMSConnection;
+import org.jabref.logic.shared.DBMSConnectionProperties;
 import org.jabref.logic.shared.DBMSProcessor;
 import org.jabref.logic.shared.DBMSSynchronizer;
+import org.jabref.logic.shared.exception.InvalidDBMSConnectionPropertiesException;
 
 import org.postgresql.PGConnection;
 import org.postgresql.PGNotification;
@@ -12,45 +18,221 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A listener for PostgreSQL database notifications.
+ * <p>
+ * The listener waits for notifications on its own virtual thread and its own connection, because waiting blocks the
+ * connection. Notifications arriving in quick succession are collected and lead to a single pull. If the connection
+ * is lost, it is opened again with increasing delays. Notifications sent in the meantime are lost, thus the changes
+ * are pulled after reconnecting.
+ * <p>
+ * The first connection is opened by {@link #start()}, so that no notification sent after starting is lost.
  */
 public class PostgresSQLNotificationListener implements Runnable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgresSQLNotificationListener.class);
 
+    // The connection is aborted by stop(), thus the timeout only bounds how long a broken connection may go unnoticed
+    private static final Duration WAIT_TIMEOUT = Duration.ofMinutes(1);
+    private static final Duration DEBOUNCE_DELAY = Duration.ofMillis(50);
+    private static final Duration MAX_DEBOUNCE_DELAY = Duration.ofMillis(500);
+    private static final Duration MIN_RECONNECT_DELAY = Duration.ofSeconds(1);
+    private static final Duration MAX_RECONNECT_DELAY = Duration.ofMinutes(1);
+
     private final DBMSSynchronizer dbmsSynchronizer;
-    private final PGConnection pgConnection;
+    private final DBMSConnectionProperties connectionProperties;
     private volatile boolean stop;
+    // The connection the listener waits on, null while reconnecting
+    private volatile Connection connection;
+    // Wakes up the thread waiting to reconnect when stopping
+    private final Object stopSignal = new Object();
+
+    private final AtomicLong receivedNotifications = new AtomicLong();
+    private final AtomicLong pulls = new AtomicLong();
+    private final AtomicLong reconnects = new AtomicLong();
+    private final AtomicLong lastPullLatencyNanos = new AtomicLong();
+    private final AtomicLong maxPullLatencyNanos = new AtomicLong();
 
-    public PostgresSQLNotificationListener(DBMSSynchronizer dbmsSynchronizer, PGConnection pgConnection) {
+    public PostgresSQLNotificationListener(DBMSSynchronizer dbmsSynchronizer, DBMSConnectionProperties connectionProperties) {
         this.dbmsSynchronizer = dbmsSynchronizer;
-        this.pgConnection = pgConnection;
+        this.connectionProperties = connectionProperties;
+    }
+
+    /**
+     * Starts listening. The notifications are registered for before returning, thus all notifications sent afterwards
+     * are received. They are waited for on a new virtual thread.
+     */
+    public void start() {
+        stop = false;
+        try {
+            connection = openConnection();
+        } catch (SQLException | InvalidDBMSConnectionPropertiesException exception) {
+            // The thread connects again and pulls the changes then
+            LOGGER.warn("Could not listen for updates to PostgresSQL", exception);
+        }
+        Thread.ofVirtual().name("PostgreSQL notification listener").start(this);
     }
 
     @Override
     public void run() {
-        stop = false;
+        Duration reconnectDelay = MIN_RECONNECT_DELAY;
+        while (!stop) {
+            try {
+                if (connection == null) {
+                    connection = openConnection();
+                    reconnects.incrementAndGet();
+                    pull(Long.MAX_VALUE, System.nanoTime());
+                }
+                reconnectDelay = MIN_RECONNECT_DELAY;
+                listen(connection.unwrap(PGConnection.class));
+            } catch (SQLException | InvalidDBMSConnectionPropertiesException exception) {
+                closeConnection();
+                if (stop) {
+                    break;
+                }
+                LOGGER.warn("Error while listening for updates to PostgresSQL. Reconnecting in {} s", reconnectDelay.toSeconds(), exception);
+                try {
+                    waitUntilStopped(reconnectDelay);
+                } catch (InterruptedException e) {
+                    break;
+                }
+                reconnectDelay = reconnectDelay.multipliedBy(2);
+                if (reconnectDelay.compareTo(MAX_RECONNECT_DELAY) > 0) {
+                    reconnectDelay = MAX_RECONNECT_DELAY;
+                }
+            }
+        }
+        closeConnection();
+    }
+
+    private Connection openConnection() throws SQLException, InvalidDBMSConnectionPropertiesException {
+        Connection newConnection = new DBMSConnection(connectionProperties).getConnection();
+        try {
+            newConnection.createStatement().execute("LISTEN jabrefLiveUpdate");
+        } catch (SQLException e) {
+            newConnection.close();
+            throw e;
+        }
+        return newConnection;
+    }
+
+    private void closeConnection() {
+        Connection listeningConnection = connection;
+        connection = null;
+        if (listeningConnection == null) {
+            return;
+        }
         try {
-            // noinspection InfiniteLoopStatement
+            listeningConnection.close();
+        } catch (SQLException e) {
+            LOGGER.debug("Could not close the connection for listening", e);
+        }
+    }
+
+    private void waitUntilStopped(Duration timeout) throws InterruptedException {
+        synchronized (stopSignal) {
+            if (!stop) {
+                stopSignal.wait(timeout.toMillis());
+            }
+        }
+    }
+
+    private void listen(PGConnection pgConnection) throws SQLException {
+        while (!stop) {
+            PGNotification[] notifications = pgConnection.getNotifications((int) WAIT_TIMEOUT.toMillis());
+            if ((notifications == null) || (notifications.length == 0)) {
+                continue;
+            }
+            long receivedTime = System.nanoTime();
+            AnnouncedChanges announcedChanges = new AnnouncedChanges();
+            announcedChanges.add(notifications);
+
+            // Wait for further notifications until none arrived for the debounce delay, but not longer than the maximum delay
+            long deadline = receivedTime + MAX_DEBOUNCE_DELAY.toNanos();
             while (!stop) {
-                PGNotification[] notifications = pgConnection.getNotifications();
-
-                if (notifications != null) {
-                    for (PGNotification notification : notifications) {
-                        if (!DBMSProcessor.PROCESSOR_ID.equals(notification.getName())) {
-                            dbmsSynchronizer.pullChanges();
-                        }
-                    }
+                long remainingMillis = Math.min(DEBOUNCE_DELAY.toMillis(), Duration.ofNanos(deadline - System.nanoTime()).toMillis());
+                if (remainingMillis <= 0) {
+                    break;
+                }
+                // A timeout of 0 would wait forever
+                notifications = pgConnection.getNotifications((int) remainingMillis);
+                if ((notifications == null) || (notifications.length == 0)) {
+                    break;
                 }
+                announcedChanges.add(notifications);
+            }
 
-                // Wait a while before checking again for new notifications
-                Thread.sleep(500);
+            if (announcedChanges.changedByOtherClient) {
+                pull(announcedChanges.latestTransactionID, receivedTime);
             }
-        } catch (SQLException | InterruptedException exception) {
-            LOGGER.error("Error while listening for updates to PostgresSQL", exception);
         }
     }
 
+    private void pull(long transactionID, long receivedTime) {
+        dbmsSynchronizer.pullChanges(transactionID);
+        long latencyNanos = System.nanoTime() - receivedTime;
+        pulls.incrementAndGet();
+        lastPullLatencyNanos.set(latencyNanos);
+        maxPullLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+        LOGGER.debug("Pulled changes of other clients {} ms after the notification", Duration.ofNanos(latencyNanos).toMillis());
+    }
+
+    private static long parseTransactionID(String transactionID) {
+        try {
+            return Long.parseLong(transactionID);
+        } catch (NumberFormatException e) {
+            // Without a transaction id, the changes are pulled in any case
+            return Long.MAX_VALUE;
+        }
+    }
+
+    public NotificationListenerStatistics getStatistics() {
+        return new NotificationListenerStatistics(
+                receivedNotifications.get(),
+                pulls.get(),
+                reconnects.get(),
+                Duration.ofNanos(lastPullLatencyNanos.get()),
+                Duration.ofNanos(maxPullLatencyNanos.get()));
+    }
+
+    /**
+     * Stops listening. The connection for listening is aborted, which wakes up the thread waiting for notifications.
+     * The thread is not interrupted, because it pulls changes on the connection of the synchronizer.
+     */
     public void stop() {
-        stop = true;
+        synchronized (stopSignal) {
+            stop = true;
+            stopSignal.notifyAll();
+        }
+        Connection listeningConnection = connection;
+        if (listeningConnection != null) {
+            try {
+                // Closing would wait for the connection to be released by the waiting thread
+                listeningConnection.abort(Runnable::run);
+            } catch (SQLException e) {
+                LOGGER.debug("Could not abort the connection for listening", e);
+            }
+        }
+    }
+
+    /**
+     * Collects the changes announced by notifications, so that they are pulled at once
+     */
+    private class AnnouncedChanges {
+        private long latestTransactionID = -1;
+        private boolean changedByOtherClient;
+
+        private void add(PGNotification[] notifications) {
+            receivedNotifications.addAndGet(notifications.length);
+            for (PGNotification notification : notifications) {
+                // The payload is "<processor id>:<id of the next transaction of the client>"
+                String payload = notification.getParameter();
+                int separatorIndex = payload.lastIndexOf(':');
+                String processorID = separatorIndex < 0 ? payload : payload.substring(0, separatorIndex);
+                if (DBMSProcessor.PROCESSOR_ID.equals(processorID)) {
+                    continue;
+                }
+                changedByOtherClient = true;
+                latestTransactionID = Math.max(latestTransactionID, parseTransactionID(payload.substring(separatorIndex + 1)));
+            }
+        }
     }
 }
@@ -53,6 +53,20 @@ public class Directories {
                         OS.APP_DIR_APP_AUTHOR));
     }
 
+    public static Path getExtractedTextDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserDataDir(OS.APP_DIR_APP_NAME,
+                                             "extracted-text",
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
+
+    public static Path getPreviewCacheDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserDataDir(OS.APP_DIR_APP_NAME,
+                                             "preview-cache",
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
+
     public static Path getSslDirectory() {
         return Path.of(AppDirsFactory.getInstance()
                                      .getUserDataDir(OS.APP_DIR_APP_NAME,
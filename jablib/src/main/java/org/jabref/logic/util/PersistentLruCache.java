@@ -0,0 +1,205 @@
+package org.jabref.logic.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.h2.mvstore.MVStoreException;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache stored in an {@link MVStore} file, which evicts the least recently used values if it grows larger than its maximum size.
+ * <p>
+ * The size of all values and the number of the last access are kept up to date in the store, so that opening the cache does not need to read all values.
+ * If the file cannot be opened (e.g., because it is in use by another JabRef instance), the values are kept in memory only.
+ *
+ * @param <V> the type of the values, which must be storable in an {@link MVMap} (e.g., strings or arrays of strings)
+ */
+public class PersistentLruCache<V> implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PersistentLruCache.class);
+
+    // When pruning, the cache is reduced below its maximum size to avoid pruning again with the next value
+    private static final double SIZE_AFTER_PRUNING = 0.9;
+
+    private static final String TOTAL_SIZE = "totalSize";
+    private static final String LAST_ACCESS = "lastAccess";
+
+    private final MVStore mvStore;
+
+    // key -> value
+    private final MVMap<String, V> values;
+
+    // key -> number of the last access; a higher number means a more recent access
+    private final MVMap<String, Long> lastAccesses;
+
+    // key -> size of the value in bytes; removing a value does not need to read it
+    private final MVMap<String, Long> sizes;
+
+    // name -> value; the size of all values and the number of the last access
+    private final MVMap<String, Long> counters;
+
+    private final long maxSize;
+    private final ToLongFunction<V> sizeOf;
+
+    /**
+     * @param file    the file to store the cache in, <code>null</code> to keep the cache in memory only
+     * @param maxSize the maximum size of the stored values in bytes
+     * @param sizeOf  computes the size of a value in bytes
+     */
+    public PersistentLruCache(@Nullable Path file, long maxSize, ToLongFunction<V> sizeOf) {
+        this.mvStore = openStore(file);
+        this.values = mvStore.openMap("values");
+        this.lastAccesses = mvStore.openMap("lastAccesses");
+        this.sizes = mvStore.openMap("sizes");
+        this.counters = mvStore.openMap("counters");
+        this.maxSize = maxSize;
+        this.sizeOf = sizeOf;
+    }
+
+    private static MVStore openStore(@Nullable Path file) {
+        if (file != null) {
+            try {
+                Files.createDirectories(file.getParent());
+                return new MVStore.Builder()
+                        .fileName(file.toString())
+                        .open();
+            } catch (IOException | MVStoreException e) {
+                // e.g., if the file is locked by another JabRef instance
+                LOGGER.warn("Could not open the cache at {}. Using a temporary cache.", file, e);
+            }
+        }
+        return new MVStore.Builder()
+                .fileName(null) // creates an in memory store
+                .open();
+    }
+
+    /**
+     * Opens a further map in the file of the cache, e.g., to look up the keys of the values. The map is not pruned.
+     */
+    public <K, T> MVMap<K, T> openMap(String name) {
+        return mvStore.openMap(name);
+    }
+
+    public Optional<V> get(String key) {
+        V value = values.get(key);
+        if (value != null) {
+            lastAccesses.put(key, nextAccess());
+        }
+        return Optional.ofNullable(value);
+    }
+
+    public boolean containsKey(String key) {
+        return values.containsKey(key);
+    }
+
+    /**
+     * Stores the given value. If the cache grows larger than its maximum size, the least recently used values are evicted.
+     *
+     * @return the number of evicted values
+     */
+    public int put(String key, V value) {
+        long size = sizeOf.applyAsLong(value);
+        values.put(key, value);
+        lastAccesses.put(key, nextAccess());
+        Long previousSize = sizes.put(key, size);
+        long totalSize = counters.merge(TOTAL_SIZE, size - (previousSize == null ? 0 : previousSize), Long::sum);
+
+        if (totalSize > maxSize) {
+            return prune((long) (maxSize * SIZE_AFTER_PRUNING));
+        }
+        return 0;
+    }
+
+    public void remove(String key) {
+        values.remove(key);
+        lastAccesses.remove(key);
+        Long size = sizes.remove(key);
+        if (size != null) {
+            counters.merge(TOTAL_SIZE, -size, Long::sum);
+        }
+    }
+
+    /**
+     * Evicts the least recently used values until the cache is not larger than the given size
+     *
+     * @param targetSize the size in bytes
+     * @return the number of evicted values
+     */
+    public synchronized int prune(long targetSize) {
+        if (getSize() <= targetSize) {
+            return 0;
+        }
+
+        List<Map.Entry<String, Long>> leastRecentlyUsedFirst = new ArrayList<>(lastAccesses.entrySet());
+        leastRecentlyUsedFirst.sort(Map.Entry.comparingByValue(Comparator.naturalOrder()));
+
+        int evicted = 0;
+        for (Map.Entry<String, Long> access : leastRecentlyUsedFirst) {
+            if (getSize() <= targetSize) {
+                break;
+            }
+            remove(access.getKey());
+            evicted++;
+        }
+
+        mvStore.commit();
+        LOGGER.debug("Evicted {} values from the cache", evicted);
+        return evicted;
+    }
+
+    /**
+     * Removes all values. Further maps opened using {@link #openMap(String)} are not cleared.
+     */
+    public synchronized void clear() {
+        values.clear();
+        lastAccesses.clear();
+        sizes.clear();
+        counters.clear();
+        mvStore.commit();
+    }
+
+    /**
+     * @return false if the cache is kept in memory only, e.g., because its file is in use by another JabRef instance
+     */
+    public boolean isPersistent() {
+        return mvStore.getFileStore() != null;
+    }
+
+    public boolean isClosed() {
+        return mvStore.isClosed();
+    }
+
+    /**
+     * @return the size of the stored values in bytes
+     */
+    public long getSize() {
+        return counters.getOrDefault(TOTAL_SIZE, 0L);
+    }
+
+    /**
+     * @return the number of stored values
+     */
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public void close() {
+        mvStore.close();
+    }
+
+    private long nextAccess() {
+        return counters.merge(LAST_ACCESS, 1L, Long::sum);
+    }
+}
@@ -9,6 +9,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -36,6 +37,7 @@ import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
@@ -68,6 +70,12 @@ public class BibDatabase {
     // Reverse index for citation links
     private final Map<String, Set<BibEntry>> citationIndex = new ConcurrentHashMap<>();
 
+    // Citation key to the entries having this key, in the order of insertion; guarded by itself
+    private final Map<String, List<BibEntry>> entriesByCitationKey = new HashMap<>();
+
+    // Entry of this database (by identity) to the citation key it is indexed with in entriesByCitationKey, null if it has no key; guarded by entriesByCitationKey
+    private final Map<BibEntry, String> indexedCitationKeys = new IdentityHashMap<>();
+
     private String preamble;
 
     // All file contents below the last entry in the file
@@ -141,10 +149,14 @@ public class BibDatabase {
     }
 
     /**
-     * Returns the entry with the given citation key.
+     * Returns the entry with the given citation key. If several entries have this key, the first one in the database is returned.
      */
-    public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        return entries.stream().filter(entry -> Objects.equals(entry.getCitationKey().orElse(null), key)).findFirst();
+    public Optional<BibEntry> getEntryByCitationKey(@Nullable String key) {
+        if (key == null) {
+            return entries.stream().filter(entry -> entry.getCitationKey().isEmpty()).findFirst();
+        }
+        List<BibEntry> result = getEntriesByCitationKey(key);
+        return result.isEmpty() ? Optional.empty() : Optional.of(result.getFirst());
     }
 
     /**
@@ -153,17 +165,21 @@ public class BibDatabase {
      *
      * @return list of entries that contains the given key
      */
-    public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
-
-        for (BibEntry entry : entries) {
-            entry.getCitationKey().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
+    public List<BibEntry> getEntriesByCitationKey(String key) {
+        List<BibEntry> indexedEntries;
+        synchronized (entriesByCitationKey) {
+            indexedEntries = entriesByCitationKey.getOrDefault(key, List.of());
+            if (indexedEntries.size() <= 1) {
+                return new ArrayList<>(indexedEntries);
+            }
+            indexedEntries = new ArrayList<>(indexedEntries);
+        }
+        // Duplicate keys are rare, thus determining the order in the database is affordable
+        Set<BibEntry> duplicates = Collections.newSetFromMap(new IdentityHashMap<>());
+        duplicates.addAll(indexedEntries);
+        synchronized (entries) {
+            return entries.stream().filter(duplicates::contains).collect(Collectors.toCollection(ArrayList::new));
         }
-        return result;
     }
 
     public synchronized void insertEntry(BibEntry entry) {
@@ -202,6 +218,7 @@ public class BibDatabase {
         newEntries.forEach(entry -> {
                     entriesId.put(entry.getId(), entry);
                     indexEntry(entry);
+                    addToCitationKeyIndex(entry);
                 }
         );
     }
@@ -245,8 +262,14 @@ public class BibDatabase {
             idsToBeDeleted.add(entry.getId());
         }
 
-        List<BibEntry> newEntries = new ArrayList<>(entries);
-        newEntries.removeIf(entry -> idsToBeDeleted.contains(entry.getId()));
+        List<BibEntry> newEntries = new ArrayList<>(entries.size());
+        for (BibEntry entry : new ArrayList<>(entries)) {
+            if (idsToBeDeleted.contains(entry.getId())) {
+                removeFromCitationKeyIndex(entry);
+            } else {
+                newEntries.add(entry);
+            }
+        }
 
         toBeDeleted.forEach(entry -> {
             entriesId.remove(entry.getId());
@@ -301,6 +324,46 @@ public class BibDatabase {
         });
     }
 
+    /**
+     * Indexes the entry with its current citation key. If the entry was indexed with another key before, it is removed from that key.
+     */
+    private void addToCitationKeyIndex(BibEntry entry) {
+        synchronized (entriesByCitationKey) {
+            removeFromCitationKeyIndex(entry);
+            String key = entry.getCitationKey().orElse(null);
+            indexedCitationKeys.put(entry, key);
+            if (key != null) {
+                entriesByCitationKey.computeIfAbsent(key, _ -> new ArrayList<>(1)).add(entry);
+            }
+        }
+    }
+
+    /**
+     * Indexes the entry with its current citation key if it belongs to this database
+     * (removed entries still notify the database about their changes).
+     */
+    private void updateCitationKeyIndex(BibEntry entry) {
+        synchronized (entriesByCitationKey) {
+            if (indexedCitationKeys.containsKey(entry)) {
+                addToCitationKeyIndex(entry);
+            }
+        }
+    }
+
+    private void removeFromCitationKeyIndex(BibEntry entry) {
+        synchronized (entriesByCitationKey) {
+            String key = indexedCitationKeys.remove(entry);
+            if (key == null) {
+                return;
+            }
+            List<BibEntry> entriesForKey = entriesByCitationKey.get(key);
+            entriesForKey.removeIf(indexedEntry -> indexedEntry == entry);
+            if (entriesForKey.isEmpty()) {
+                entriesByCitationKey.remove(key);
+            }
+        }
+    }
+
     /**
      * Returns the database's preamble.
      * If the preamble text consists only of whitespace, then also an empty optional is returned.
@@ -625,6 +688,10 @@ public class BibDatabase {
 
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        // The index is updated first, so that listeners of the database already find the entry under its new key
+        if (event.getField().equals(InternalField.KEY_FIELD)) {
+            updateCitationKeyIndex(event.getBibEntry());
+        }
         eventBus.post(event);
     }
 
@@ -662,10 +729,9 @@ public class BibDatabase {
      * Returns the number of occurrences of the given citation key in this database.
      */
     public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+        synchronized (entriesByCitationKey) {
+            return entriesByCitationKey.getOrDefault(key, List.of()).size();
+        }
     }
 
     /**
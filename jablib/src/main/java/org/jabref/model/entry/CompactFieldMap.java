@@ -0,0 +1,182 @@
+package org.jabref.model.entry;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jabref.model.entry.field.Field;
+
+/**
+ * Stores the fields of a {@link BibEntry} in a single array holding the keys and values alternately.
+ * <p>
+ * An entry has only a few fields. Thus, a linear search is as fast as a hash lookup, and the array needs a fraction of the memory of a hash map (table plus one node per field).
+ * <p>
+ * The map is thread safe: Each modification replaces the array (copy on write); a read works on the array present at the time of the read.
+ * As in {@link java.util.concurrent.ConcurrentHashMap}, <code>null</code> is neither allowed as key nor as value.
+ * The fields are iterated in the order they were added.
+ */
+final class CompactFieldMap extends AbstractMap<Field, String> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private volatile Object[] keysAndValues = EMPTY;
+
+    CompactFieldMap() {
+    }
+
+    CompactFieldMap(Map<? extends Field, ? extends String> content) {
+        Object[] newKeysAndValues = new Object[content.size() * 2];
+        int i = 0;
+        for (Map.Entry<? extends Field, ? extends String> entry : content.entrySet()) {
+            newKeysAndValues[i++] = Objects.requireNonNull(entry.getKey());
+            newKeysAndValues[i++] = Objects.requireNonNull(entry.getValue());
+        }
+        // The given map might have been modified concurrently
+        this.keysAndValues = i == newKeysAndValues.length ? newKeysAndValues : Arrays.copyOf(newKeysAndValues, i);
+    }
+
+    private static int indexOf(Object[] keysAndValues, Object key) {
+        if (key == null) {
+            return -1;
+        }
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            if ((keysAndValues[i] == key) || key.equals(keysAndValues[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return keysAndValues.length / 2;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keysAndValues.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(keysAndValues, key) >= 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        Object[] current = keysAndValues;
+        int index = indexOf(current, key);
+        return index < 0 ? null : (String) current[index + 1];
+    }
+
+    @Override
+    public synchronized String put(Field key, String value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+
+        Object[] current = keysAndValues;
+        int index = indexOf(current, key);
+        if (index >= 0) {
+            Object[] updated = current.clone();
+            updated[index + 1] = value;
+            keysAndValues = updated;
+            return (String) current[index + 1];
+        }
+
+        Object[] extended = Arrays.copyOf(current, current.length + 2);
+        extended[current.length] = key;
+        extended[current.length + 1] = value;
+        keysAndValues = extended;
+        return null;
+    }
+
+    @Override
+    public synchronized String remove(Object key) {
+        Object[] current = keysAndValues;
+        int index = indexOf(current, key);
+        if (index < 0) {
+            return null;
+        }
+
+        Object[] reduced = new Object[current.length - 2];
+        System.arraycopy(current, 0, reduced, 0, index);
+        System.arraycopy(current, index + 2, reduced, index, current.length - index - 2);
+        keysAndValues = reduced;
+        return (String) current[index + 1];
+    }
+
+    @Override
+    public synchronized void clear() {
+        keysAndValues = EMPTY;
+    }
+
+    @Override
+    public Set<Map.Entry<Field, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<Field, String>> iterator() {
+                return new EntryIterator(keysAndValues);
+            }
+
+            @Override
+            public int size() {
+                return CompactFieldMap.this.size();
+            }
+        };
+    }
+
+    /**
+     * Iterates over the fields present when the iteration started. Removing and setting values is written through to the map.
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<Field, String>> {
+        private final Object[] snapshot;
+        private int next;
+        private Field lastKey;
+
+        private EntryIterator(Object[] snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < snapshot.length;
+        }
+
+        @Override
+        public Map.Entry<Field, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastKey = (Field) snapshot[next];
+            Map.Entry<Field, String> entry = new FieldEntry(lastKey, (String) snapshot[next + 1]);
+            next += 2;
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (lastKey == null) {
+                throw new IllegalStateException();
+            }
+            CompactFieldMap.this.remove(lastKey);
+            lastKey = null;
+        }
+    }
+
+    private final class FieldEntry extends AbstractMap.SimpleEntry<Field, String> {
+        private FieldEntry(Field key, String value) {
+            super(key, value);
+        }
+
+        @Override
+        public String setValue(String value) {
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
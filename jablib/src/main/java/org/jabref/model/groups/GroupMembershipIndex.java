@@ -0,0 +1,364 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.groups.event.GroupMembershipChangedEvent;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Keeps track of the entries contained in the groups of a library.
+ * <p>
+ * Each entry of the library is numbered. For each group, the numbers of the entries it contains are kept in a {@link BitSet}.
+ * The entries matched by a node of the group tree depend on the hierarchical context of its group (see {@link GroupTreeNode#getSearchMatcher()}).
+ * They are derived by uniting and intersecting the bit sets of the groups involved.
+ * <p>
+ * The content of a group is determined when it is requested first. Afterwards, a field change only re-evaluates the groups depending on the changed field.
+ * The first evaluation checks all entries. It runs without holding the lock of the index, so that the listeners for changes of the library (which may run on the JavaFX thread) are not blocked by it.
+ * If the library changes in the meantime, the group is evaluated again.
+ * If the content of groups changes, a {@link GroupMembershipChangedEvent} is posted to the library.
+ * <p>
+ * The content of a {@link SearchGroup} depends on the search index. It has to be updated using {@link #updateGroup(AbstractGroup, Collection)} once the search index has processed the changes.
+ */
+public class GroupMembershipIndex {
+
+    private final BibDatabase database;
+
+    // entry id -> number of the entry
+    private final Map<String, Integer> numbersById = new HashMap<>();
+    private final List<BibEntry> entriesByNumber = new ArrayList<>();
+    private final BitSet usedNumbers = new BitSet();
+
+    // The groups are compared by identity. Groups no longer used are garbage collected together with their content.
+    private final Map<AbstractGroup, BitSet> contentByGroup = new MapMaker().weakKeys().makeMap();
+    private final Map<Field, Set<AbstractGroup>> groupsByField = new HashMap<>();
+    private final Set<AbstractGroup> groupsDependingOnAllFields = newWeakGroupSet();
+
+    // Incremented with each change of the entries or groups. A group evaluated while this changed is evaluated again.
+    private long version;
+
+    public GroupMembershipIndex(BibDatabase database) {
+        this.database = database;
+        for (BibEntry entry : database.getEntries()) {
+            addEntry(entry);
+        }
+        database.registerListener(this);
+    }
+
+    /**
+     * Returns the number of entries matched by the node, taking the hierarchical context of its group into account.
+     */
+    public int getMatchCount(GroupTreeNode node) {
+        // Evaluates the groups not requested yet without holding the lock
+        getGroupsDeterminingMatches(node).forEach(this::getContent);
+        synchronized (this) {
+            return getMatches(node).cardinality();
+        }
+    }
+
+    /**
+     * Checks whether the entries matched by the node depend on the content of one of the given groups.
+     *
+     * @param groups groups compared by identity, as given by {@link GroupMembershipChangedEvent#groups()}
+     */
+    public boolean dependsOnAny(GroupTreeNode node, Set<AbstractGroup> groups) {
+        return getGroupsDeterminingMatches(node).stream().anyMatch(groups::contains);
+    }
+
+    /**
+     * Evaluates the group again for the given entries
+     */
+    public void updateGroup(AbstractGroup group, Collection<BibEntry> entries) {
+        boolean changed = false;
+        synchronized (this) {
+            version++;
+            BitSet content = contentByGroup.get(group);
+            if (content == null) {
+                // Not requested yet, thus determined completely once requested
+                return;
+            }
+            for (BibEntry entry : entries) {
+                Integer number = numbersById.get(entry.getId());
+                if (number != null) {
+                    changed |= update(content, number, group.contains(entry));
+                }
+            }
+        }
+        if (changed) {
+            database.postEvent(new GroupMembershipChangedEvent(Collections.singleton(group)));
+        }
+    }
+
+    /**
+     * Discards the content of the group, so that it is determined again when requested next
+     */
+    public void invalidateGroup(AbstractGroup group) {
+        synchronized (this) {
+            version++;
+            if (contentByGroup.remove(group) == null) {
+                return;
+            }
+            groupsDependingOnAllFields.remove(group);
+            groupsByField.values().forEach(groups -> groups.remove(group));
+        }
+        database.postEvent(new GroupMembershipChangedEvent(Collections.singleton(group)));
+    }
+
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        Set<AbstractGroup> changedGroups = newGroupSet();
+        synchronized (this) {
+            version++;
+            List<Integer> numbers = new ArrayList<>(event.getBibEntries().size());
+            for (BibEntry entry : event.getBibEntries()) {
+                numbers.add(addEntry(entry));
+            }
+            contentByGroup.forEach((group, content) -> {
+                for (int i = 0; i < numbers.size(); i++) {
+                    if (group.contains(event.getBibEntries().get(i))) {
+                        content.set(numbers.get(i));
+                        changedGroups.add(group);
+                    }
+                }
+            });
+        }
+        postIfChanged(changedGroups);
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        Set<AbstractGroup> changedGroups = newGroupSet();
+        synchronized (this) {
+            version++;
+            for (BibEntry entry : event.getBibEntries()) {
+                Integer number = numbersById.remove(entry.getId());
+                if (number == null) {
+                    continue;
+                }
+                entriesByNumber.set(number, null);
+                usedNumbers.clear(number);
+                contentByGroup.forEach((group, content) -> {
+                    if (update(content, number, false)) {
+                        changedGroups.add(group);
+                    }
+                });
+            }
+        }
+        postIfChanged(changedGroups);
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        Set<AbstractGroup> changedGroups = newGroupSet();
+        synchronized (this) {
+            version++;
+            Integer number = numbersById.get(event.getBibEntry().getId());
+            if (number == null) {
+                return;
+            }
+            List<AbstractGroup> affectedGroups = new ArrayList<>(groupsDependingOnAllFields);
+            affectedGroups.addAll(groupsByField.getOrDefault(event.getField(), Set.of()));
+            for (AbstractGroup group : affectedGroups) {
+                BitSet content = contentByGroup.get(group);
+                if ((content != null) && update(content, number, group.contains(event.getBibEntry()))) {
+                    changedGroups.add(group);
+                }
+            }
+        }
+        postIfChanged(changedGroups);
+    }
+
+    private BitSet getMatches(GroupTreeNode node) {
+        return switch (node.getGroup().getHierarchicalContext()) {
+            case INDEPENDENT ->
+                    (BitSet) getContent(node.getGroup()).clone();
+            case INCLUDING ->
+                    getUnion(node);
+            case REFINING ->
+                    getIntersection(node);
+        };
+    }
+
+    /**
+     * Unites the content of the group with the matches of its subgroups. Subgroups only include their own subgroups if they are including themselves.
+     */
+    private BitSet getUnion(GroupTreeNode node) {
+        BitSet matches = (BitSet) getContent(node.getGroup()).clone();
+        if (node.getGroup().getHierarchicalContext() == GroupHierarchyType.INCLUDING) {
+            for (GroupTreeNode child : node.getChildren()) {
+                matches.or(getUnion(child));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Intersects the content of the group with the content of its ancestors, up to the first ancestor which is not refining itself.
+     */
+    private BitSet getIntersection(GroupTreeNode node) {
+        BitSet matches = (BitSet) getContent(node.getGroup()).clone();
+        GroupTreeNode current = node;
+        Optional<GroupTreeNode> parent = current.getParent();
+        while ((current.getGroup().getHierarchicalContext() == GroupHierarchyType.REFINING) && parent.isPresent()) {
+            current = parent.get();
+            matches.and(getContent(current.getGroup()));
+            parent = current.getParent();
+        }
+        return matches;
+    }
+
+    private Set<AbstractGroup> getGroupsDeterminingMatches(GroupTreeNode node) {
+        Set<AbstractGroup> groups = newGroupSet();
+        switch (node.getGroup().getHierarchicalContext()) {
+            case INDEPENDENT ->
+                    groups.add(node.getGroup());
+            case INCLUDING ->
+                    addIncludedGroups(node, groups);
+            case REFINING -> {
+                GroupTreeNode current = node;
+                groups.add(current.getGroup());
+                while ((current.getGroup().getHierarchicalContext() == GroupHierarchyType.REFINING) && current.getParent().isPresent()) {
+                    current = current.getParent().get();
+                    groups.add(current.getGroup());
+                }
+            }
+        }
+        return groups;
+    }
+
+    private static void addIncludedGroups(GroupTreeNode node, Set<AbstractGroup> groups) {
+        groups.add(node.getGroup());
+        if (node.getGroup().getHierarchicalContext() == GroupHierarchyType.INCLUDING) {
+            for (GroupTreeNode child : node.getChildren()) {
+                addIncludedGroups(child, groups);
+            }
+        }
+    }
+
+    /**
+     * Returns the content of the group, evaluating the group if it was not requested yet.
+     * The entries are checked without holding the lock (unless the caller holds it). The content is published only if the library did not change meanwhile.
+     */
+    private BitSet getContent(AbstractGroup group) {
+        while (true) {
+            List<BibEntry> entries;
+            BitSet numbers;
+            long evaluatedVersion;
+            synchronized (this) {
+                BitSet content = contentByGroup.get(group);
+                if (content != null) {
+                    return content;
+                }
+                entries = new ArrayList<>(entriesByNumber);
+                numbers = (BitSet) usedNumbers.clone();
+                evaluatedVersion = version;
+            }
+
+            BitSet content = evaluate(group, entries, numbers);
+
+            synchronized (this) {
+                BitSet existingContent = contentByGroup.get(group);
+                if (existingContent != null) {
+                    // Evaluated by another thread meanwhile
+                    return existingContent;
+                }
+                if (evaluatedVersion == version) {
+                    contentByGroup.put(group, content);
+                    getDeterminingFields(group).ifPresentOrElse(
+                            fields -> fields.forEach(field -> groupsByField.computeIfAbsent(field, _ -> newWeakGroupSet()).add(group)),
+                            () -> groupsDependingOnAllFields.add(group));
+                    return content;
+                }
+            }
+        }
+    }
+
+    private static BitSet evaluate(AbstractGroup group, List<BibEntry> entriesByNumber, BitSet usedNumbers) {
+        if (group instanceof AllEntriesGroup) {
+            return usedNumbers;
+        }
+        BitSet content = new BitSet(entriesByNumber.size());
+        for (int number = usedNumbers.nextSetBit(0); number >= 0; number = usedNumbers.nextSetBit(number + 1)) {
+            if (group.contains(entriesByNumber.get(number))) {
+                content.set(number);
+            }
+        }
+        return content;
+    }
+
+    /**
+     * Returns the fields the content of the group depends on, or an empty optional if a change of any field may change the content
+     */
+    private static Optional<Set<Field>> getDeterminingFields(AbstractGroup group) {
+        return switch (group) {
+            // also covers ExplicitGroup, SmartGroup, LastNameGroup, RegexKeywordGroup and WordKeywordGroup
+            case KeywordGroup keywordGroup ->
+                    Optional.of(Set.of(keywordGroup.getSearchField()));
+            case TexGroup _ ->
+                    Optional.of(Set.of(InternalField.KEY_FIELD));
+            // The content of a search group is updated by the search index, the others do not depend on fields at all
+            case AllEntriesGroup _, AutomaticGroup _, SearchGroup _ ->
+                    Optional.of(Set.of());
+            default ->
+                    Optional.empty();
+        };
+    }
+
+    private int addEntry(BibEntry entry) {
+        Integer existingNumber = numbersById.get(entry.getId());
+        if (existingNumber != null) {
+            return existingNumber;
+        }
+        int number = usedNumbers.nextClearBit(0);
+        usedNumbers.set(number);
+        if (number == entriesByNumber.size()) {
+            entriesByNumber.add(entry);
+        } else {
+            entriesByNumber.set(number, entry);
+        }
+        numbersById.put(entry.getId(), number);
+        return number;
+    }
+
+    /**
+     * @return whether the content changed
+     */
+    private static boolean update(BitSet content, int number, boolean contained) {
+        if (content.get(number) == contained) {
+            return false;
+        }
+        content.set(number, contained);
+        return true;
+    }
+
+    private void postIfChanged(Set<AbstractGroup> changedGroups) {
+        if (!changedGroups.isEmpty()) {
+            database.postEvent(new GroupMembershipChangedEvent(Collections.unmodifiableSet(changedGroups)));
+        }
+    }
+
+    private static Set<AbstractGroup> newGroupSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static Set<AbstractGroup> newWeakGroupSet() {
+        return Collections.newSetFromMap(new MapMaker().weakKeys().makeMap());
+    }
+}
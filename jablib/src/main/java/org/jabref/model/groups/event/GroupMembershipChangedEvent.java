@@ -0,0 +1,13 @@
+package org.jabref.model.groups.event;
+
+import java.util.Set;
+
+import org.jabref.model.groups.AbstractGroup;
+
+/**
+ * Posted when entries were added to or removed from the content of groups.
+ *
+ * @param groups the groups whose content changed, compared by identity
+ */
+public record GroupMembershipChangedEvent(Set<AbstractGroup> groups) {
+}
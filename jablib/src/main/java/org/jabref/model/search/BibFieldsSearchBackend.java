@@ -0,0 +1,16 @@
+package org.jabref.model.search;
+
+/**
+ * Backend used to index and search the fields of the entries. Linked files are always indexed using Lucene.
+ */
+public enum BibFieldsSearchBackend {
+    /**
+     * Tables in an embedded Postgres server
+     */
+    POSTGRES,
+
+    /**
+     * Inverted index kept in memory. No Postgres server is started.
+     */
+    IN_MEMORY
+}
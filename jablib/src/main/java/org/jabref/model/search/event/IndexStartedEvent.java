@@ -1,4 +1,12 @@
 package org.jabref.model.search.event;
 
-public record IndexStartedEvent() {
+/**
+ * Posted while the bib fields index of a library is built initially.
+ * Searches already cover the first {@code indexedEntries} entries. When the index is complete, the event is posted a last time with {@link #isComplete()} being true.
+ */
+public record IndexStartedEvent(int indexedEntries, int totalEntries) {
+
+    public boolean isComplete() {
+        return indexedEntries >= totalEntries;
+    }
 }
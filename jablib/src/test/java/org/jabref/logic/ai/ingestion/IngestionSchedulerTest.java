@@ -0,0 +1,133 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javafx.beans.property.SimpleIntegerProperty;
+
+import org.jabref.logic.ai.AiPreferences;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.CurrentThreadTaskExecutor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IngestionSchedulerTest {
+
+    private final SimpleIntegerProperty ingestionWorkers = new SimpleIntegerProperty(2);
+    private IngestionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        AiPreferences aiPreferences = mock(AiPreferences.class);
+        when(aiPreferences.getIngestionWorkers()).thenAnswer(_ -> ingestionWorkers.get());
+        when(aiPreferences.ingestionWorkersProperty()).thenReturn(ingestionWorkers);
+        scheduler = new IngestionScheduler(aiPreferences, new CurrentThreadTaskExecutor());
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.close();
+    }
+
+    @Test
+    void callbacksReceiveResult() throws ExecutionException, InterruptedException {
+        AtomicReference<String> result = new AtomicReference<>();
+        AtomicInteger finished = new AtomicInteger();
+
+        scheduler.execute(BackgroundTask.wrap(() -> "done")
+                                        .onSuccess(result::set)
+                                        .onFinished(finished::incrementAndGet))
+                 .get();
+
+        assertEquals("done", result.get());
+        assertEquals(1, finished.get());
+    }
+
+    @Test
+    void failureIsPassedToCallback() {
+        AtomicReference<Exception> failure = new AtomicReference<>();
+
+        Future<Object> future = scheduler.execute(BackgroundTask.wrap(() -> {
+            throw new IllegalStateException("failed");
+        }).onFailure(failure::set));
+
+        assertThrows(ExecutionException.class, future::get);
+        assertEquals("failed", failure.get().getMessage());
+    }
+
+    @Test
+    void taskRunOnWorkerIsExecutedByTaskExecutor() {
+        AtomicReference<String> thread = new AtomicReference<>();
+        AtomicInteger running = new AtomicInteger();
+
+        scheduler.runOnWorker(BackgroundTask.wrap(() -> Thread.currentThread().getName()))
+                 .onRunning(running::incrementAndGet)
+                 .onSuccess(thread::set)
+                 .executeWith(new CurrentThreadTaskExecutor());
+
+        assertEquals(1, running.get());
+        assertTrue(thread.get().startsWith("ai-ingestion-"));
+    }
+
+    @Test
+    void failureOfTaskRunOnWorkerIsPassedToCallback() {
+        AtomicReference<Exception> failure = new AtomicReference<>();
+
+        scheduler.runOnWorker(BackgroundTask.wrap(() -> {
+                     throw new IllegalStateException("failed");
+                 }))
+                 .onFailure(failure::set)
+                 .executeWith(new CurrentThreadTaskExecutor());
+
+        assertEquals("failed", failure.get().getMessage());
+    }
+
+    @Test
+    void noMoreTasksThanWorkersRunAtTheSameTime() throws ExecutionException, InterruptedException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Future<Void>> futures = new ArrayList<>();
+        int workers = scheduler.getNumberOfWorkers();
+
+        for (int i = 0; i < 10; i++) {
+            futures.add(scheduler.execute(BackgroundTask.wrap(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            })));
+        }
+        for (Future<Void> future : futures) {
+            future.get();
+        }
+
+        assertTrue(maxRunning.get() <= workers);
+    }
+
+    @Test
+    void numberOfWorkersLeavesOneProcessorFree() {
+        int availableProcessors = Runtime.getRuntime().availableProcessors();
+
+        assertEquals(Math.max(1, availableProcessors - 1), IngestionScheduler.getNumberOfWorkers(availableProcessors + 4));
+    }
+
+    @Test
+    void numberOfWorkersIsChosenAutomatically() {
+        assertTrue(IngestionScheduler.getNumberOfWorkers(0) >= 1);
+    }
+}
@@ -0,0 +1,68 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+import org.jabref.logic.ai.AiPreferences;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LowLevelIngestorTest {
+
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private final InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
+    private LowLevelIngestor ingestor;
+
+    @BeforeEach
+    void setUp() {
+        AiPreferences aiPreferences = mock(AiPreferences.class);
+        when(aiPreferences.getDocumentSplitterChunkSize()).thenReturn(20);
+        when(aiPreferences.getDocumentSplitterOverlapSize()).thenReturn(0);
+        when(aiPreferences.customizeExpertSettingsProperty()).thenReturn(new SimpleBooleanProperty());
+
+        EmbeddingModel embeddingModel = new EmbeddingModel() {
+            @Override
+            public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+                batchSizes.add(textSegments.size());
+                return new Response<>(textSegments.stream().map(segment -> Embedding.from(new float[] {segment.text().length(), 1})).toList());
+            }
+        };
+
+        ingestor = new LowLevelIngestor(aiPreferences, embeddingStore, embeddingModel);
+    }
+
+    @Test
+    void segmentsAreEmbeddedInBatches() throws InterruptedException {
+        SimpleIntegerProperty workDone = new SimpleIntegerProperty();
+        SimpleIntegerProperty workMax = new SimpleIntegerProperty();
+
+        ingestor.ingestDocument(Document.from("word ".repeat(400)), new SimpleBooleanProperty(false), workDone, workMax);
+
+        assertTrue(workMax.get() > LowLevelIngestor.EMBEDDING_BATCH_SIZE);
+        assertEquals(LowLevelIngestor.EMBEDDING_BATCH_SIZE, batchSizes.getFirst());
+        assertEquals(workMax.get(), batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(workMax.get(), workDone.get());
+    }
+
+    @Test
+    void ingestionStopsWhenRequested() {
+        assertThrows(InterruptedException.class, () -> ingestor.ingestDocument(Document.from("word ".repeat(400)), new SimpleBooleanProperty(true), new SimpleIntegerProperty(), new SimpleIntegerProperty()));
+        assertEquals(List.of(), batchSizes);
+    }
+}
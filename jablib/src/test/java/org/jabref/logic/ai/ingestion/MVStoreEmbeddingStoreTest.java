@@ -0,0 +1,158 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.jabref.logic.util.NotificationService;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.filter.MetadataFilterBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class MVStoreEmbeddingStoreTest {
+    private static final int DIMENSIONS = 16;
+
+    @TempDir
+    private Path tempDir;
+
+    private MVStoreEmbeddingStore indexedStore;
+    private MVStoreEmbeddingStore exhaustiveStore;
+    private final List<Embedding> embeddings = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        indexedStore = new MVStoreEmbeddingStore(tempDir.resolve("indexed.mv"), mock(NotificationService.class));
+        exhaustiveStore = new MVStoreEmbeddingStore(tempDir.resolve("exhaustive.mv"), mock(NotificationService.class), false);
+
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            Embedding embedding = randomEmbedding(random);
+            embeddings.add(embedding);
+            TextSegment segment = new TextSegment("segment " + i, new Metadata(Map.of(LINK_METADATA_KEY, "file" + (i % 10) + ".pdf")));
+            indexedStore.add(embedding, segment);
+            exhaustiveStore.add(embedding, segment);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        indexedStore.close();
+        exhaustiveStore.close();
+    }
+
+    @Test
+    void searchFindsSameSegmentsAsComparingAllEmbeddings() {
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                                                               .queryEmbedding(randomEmbedding(new Random(7)))
+                                                               .maxResults(5)
+                                                               .build();
+
+        assertEquals(texts(exhaustiveStore.search(request).matches()), texts(indexedStore.search(request).matches()));
+    }
+
+    @Test
+    void foundEmbeddingIsCloseToStoredEmbedding() {
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                                                               .queryEmbedding(embeddings.get(17))
+                                                               .maxResults(1)
+                                                               .build();
+
+        float[] expected = embeddings.get(17).vector();
+        float[] actual = exhaustiveStore.search(request).matches().getFirst().embedding().vector();
+        for (int i = 0; i < DIMENSIONS; i++) {
+            assertEquals(expected[i], actual[i], 0.01);
+        }
+    }
+
+    @Test
+    void searchWithFilterFindsSegmentsOfFilteredFilesOnly() {
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                                                               .queryEmbedding(randomEmbedding(new Random(7)))
+                                                               .maxResults(5)
+                                                               .filter(MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isIn(List.of("file1.pdf", "file2.pdf")))
+                                                               .build();
+
+        List<EmbeddingMatch<TextSegment>> matches = indexedStore.search(request).matches();
+
+        assertEquals(texts(exhaustiveStore.search(request).matches()), texts(matches));
+        assertTrue(matches.stream().allMatch(match -> List.of("file1.pdf", "file2.pdf").contains(match.embedded().metadata().getString(LINK_METADATA_KEY))));
+    }
+
+    @Test
+    void removedSegmentsAreNotFound() {
+        indexedStore.removeAll(MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isEqualTo("file1.pdf"));
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                                                               .queryEmbedding(randomEmbedding(new Random(7)))
+                                                               .maxResults(5)
+                                                               .filter(MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isEqualTo("file1.pdf"))
+                                                               .build();
+
+        assertEquals(List.of(), indexedStore.search(request).matches());
+    }
+
+    @Test
+    void indexIsKeptAfterReopening() {
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                                                               .queryEmbedding(randomEmbedding(new Random(7)))
+                                                               .maxResults(5)
+                                                               .build();
+        List<String> expected = texts(indexedStore.search(request).matches());
+
+        indexedStore.close();
+        indexedStore = new MVStoreEmbeddingStore(tempDir.resolve("indexed.mv"), mock(NotificationService.class));
+
+        assertEquals(expected, texts(indexedStore.search(request).matches()));
+    }
+
+    @Test
+    void changesDuringRebuildAreIndexed() throws InterruptedException {
+        exhaustiveStore.close();
+        // The store has no index yet, thus the index is built in the background
+        exhaustiveStore = new MVStoreEmbeddingStore(tempDir.resolve("exhaustive.mv"), mock(NotificationService.class));
+        Embedding added = randomEmbedding(new Random(8));
+        exhaustiveStore.add(added, new TextSegment("added during rebuild", new Metadata(Map.of(LINK_METADATA_KEY, "new.pdf"))));
+        exhaustiveStore.removeAll(MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isEqualTo("file1.pdf"));
+
+        for (int i = 0; (i < 100) && !exhaustiveStore.usesVectorIndex(); i++) {
+            Thread.sleep(100);
+        }
+
+        assertTrue(exhaustiveStore.usesVectorIndex());
+        assertEquals(List.of("added during rebuild"), texts(exhaustiveStore.search(EmbeddingSearchRequest.builder()
+                                                                                                           .queryEmbedding(added)
+                                                                                                           .maxResults(1)
+                                                                                                           .build()).matches()));
+        assertEquals(List.of(), exhaustiveStore.search(EmbeddingSearchRequest.builder()
+                                                                             .queryEmbedding(added)
+                                                                             .filter(MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isEqualTo("file1.pdf"))
+                                                                             .build()).matches());
+    }
+
+    private static List<String> texts(List<EmbeddingMatch<TextSegment>> matches) {
+        return matches.stream().map(match -> match.embedded().text()).toList();
+    }
+
+    private static Embedding randomEmbedding(Random random) {
+        float[] vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return Embedding.from(vector);
+    }
+}
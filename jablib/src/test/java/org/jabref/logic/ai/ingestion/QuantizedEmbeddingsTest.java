@@ -0,0 +1,40 @@
+package org.jabref.logic.ai.ingestion;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QuantizedEmbeddingsTest {
+
+    private static final float[] VECTOR = {0.5f, -1.0f, 0.25f, 0.0f};
+
+    @Test
+    void dequantizedVectorIsCloseToOriginal() {
+        assertArrayEquals(VECTOR, QuantizedEmbeddings.dequantize(QuantizedEmbeddings.quantize(VECTOR), QuantizedEmbeddings.scale(VECTOR)), 0.01f);
+    }
+
+    @Test
+    void cosineSimilarityOfSameVectorIsOne() {
+        assertEquals(1.0, QuantizedEmbeddings.cosineSimilarity(QuantizedEmbeddings.quantize(VECTOR), QuantizedEmbeddings.quantize(VECTOR)), 0.001);
+    }
+
+    @Test
+    void cosineSimilarityDoesNotDependOnLength() {
+        float[] longerVector = {5.0f, -10.0f, 2.5f, 0.0f};
+
+        assertEquals(1.0, QuantizedEmbeddings.cosineSimilarity(QuantizedEmbeddings.quantize(longerVector), QuantizedEmbeddings.quantize(VECTOR)), 0.001);
+    }
+
+    @Test
+    void cosineSimilarityOfOppositeVectorsIsMinusOne() {
+        float[] opposite = {-0.5f, 1.0f, -0.25f, 0.0f};
+
+        assertEquals(-1.0, QuantizedEmbeddings.cosineSimilarity(QuantizedEmbeddings.quantize(opposite), QuantizedEmbeddings.quantize(VECTOR)), 0.001);
+    }
+
+    @Test
+    void zeroVectorHasNoSimilarity() {
+        assertEquals(0.0, QuantizedEmbeddings.cosineSimilarity(QuantizedEmbeddings.quantize(new float[4]), QuantizedEmbeddings.quantize(VECTOR)));
+    }
+}
@@ -1,13 +1,20 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Answers;
 
@@ -1083,4 +1091,90 @@ class CitationKeyGeneratorTest {
         entry.setField(StandardField.YEAR, "2019");
         assertEquals("Artemenko2019", generateKey(entry, "[auth][year]"));
     }
+
+    @ParameterizedTest
+    @EnumSource(CitationKeyPatternPreferences.KeySuffix.class)
+    void generateAndSetKeysEqualsGeneratingOneKeyAfterAnother(CitationKeyPatternPreferences.KeySuffix keySuffix) {
+        GlobalCitationKeyPatterns keyPattern = GlobalCitationKeyPatterns.fromPattern("[auth][year]");
+        CitationKeyPatternPreferences patternPreferences = new CitationKeyPatternPreferences(
+                false,
+                false,
+                false,
+                keySuffix,
+                "",
+                "",
+                DEFAULT_UNWANTED_CHARACTERS,
+                keyPattern,
+                "",
+                ',');
+
+        BibDatabase sequentialDatabase = new BibDatabase(createEntriesWithDuplicateKeys());
+        CitationKeyGenerator sequentialGenerator = new CitationKeyGenerator(keyPattern, sequentialDatabase, patternPreferences);
+        List<BibEntry> sequentialEntries = List.copyOf(sequentialDatabase.getEntries());
+        sequentialEntries.forEach(sequentialGenerator::generateAndSetKey);
+
+        BibDatabase bulkDatabase = new BibDatabase(createEntriesWithDuplicateKeys());
+        List<BibEntry> bulkEntries = List.copyOf(bulkDatabase.getEntries());
+        new CitationKeyGenerator(keyPattern, bulkDatabase, patternPreferences).generateAndSetKeys(bulkEntries);
+
+        assertEquals(sequentialEntries.stream().map(BibEntry::getCitationKey).toList(),
+                bulkEntries.stream().map(BibEntry::getCitationKey).toList());
+    }
+
+    @Test
+    void generateAndSetKeysReturnsChangedKeys() {
+        GlobalCitationKeyPatterns keyPattern = GlobalCitationKeyPatterns.fromPattern("[auth][year]");
+        CitationKeyPatternPreferences patternPreferences = new CitationKeyPatternPreferences(
+                false,
+                false,
+                false,
+                CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_A,
+                "",
+                "",
+                DEFAULT_UNWANTED_CHARACTERS,
+                keyPattern,
+                "",
+                ',');
+        BibEntry unchanged = createABibEntryAuthor("Isaac Newton").withField(StandardField.YEAR, "1687").withCitationKey("Newton1687");
+        BibEntry changed = createABibEntryAuthor("Isaac Newton").withField(StandardField.YEAR, "1687");
+        BibDatabase database = new BibDatabase(List.of(unchanged, changed));
+
+        List<FieldChange> changes = new CitationKeyGenerator(keyPattern, database, patternPreferences).generateAndSetKeys(List.of(unchanged, changed));
+
+        assertEquals(List.of(new FieldChange(changed, InternalField.KEY_FIELD, null, "Newton1687a")), changes);
+    }
+
+    @Test
+    void generateAndSetKeysReportsTwoStepsPerEntry() {
+        GlobalCitationKeyPatterns keyPattern = GlobalCitationKeyPatterns.fromPattern("[auth][year]");
+        CitationKeyPatternPreferences patternPreferences = new CitationKeyPatternPreferences(
+                false,
+                false,
+                false,
+                CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_A,
+                "",
+                "",
+                DEFAULT_UNWANTED_CHARACTERS,
+                keyPattern,
+                "",
+                ',');
+        List<BibEntry> entries = createEntriesWithDuplicateKeys();
+        Set<Integer> reportedSteps = ConcurrentHashMap.newKeySet();
+
+        new CitationKeyGenerator(keyPattern, new BibDatabase(entries), patternPreferences).generateAndSetKeys(entries, reportedSteps::add);
+
+        assertEquals(IntStream.rangeClosed(1, 2 * entries.size()).boxed().collect(Collectors.toSet()), reportedSteps);
+    }
+
+    private static List<BibEntry> createEntriesWithDuplicateKeys() {
+        return List.of(
+                createABibEntryAuthor("Isaac Newton").withField(StandardField.YEAR, "1687").withCitationKey("Newton1687"),
+                createABibEntryAuthor("Isaac Newton").withField(StandardField.YEAR, "1687"),
+                createABibEntryAuthor("Isaac Newton").withField(StandardField.YEAR, "1687").withCitationKey("Newton1687b"),
+                createABibEntryAuthor("Isaac Newton").withField(StandardField.YEAR, "1704").withCitationKey("Newton1687"),
+                createABibEntryAuthor("Isaac Newton").withField(StandardField.YEAR, "1687").withCitationKey("other"),
+                createABibEntryAuthor("Albert Einstein").withField(StandardField.YEAR, "1905"),
+                createABibEntryAuthor("Albert Einstein").withField(StandardField.YEAR, "1905"),
+                new BibEntry().withCitationKey("noAuthor"));
+    }
 }
@@ -0,0 +1,116 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.util.TestEntry;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CSLAdapterPoolTest {
+
+    private static final String IEEE = CSLStyleLoader.getDefaultStyle().getSource();
+    private static final String ACM = CSLStyleLoader.getInternalStyles().stream()
+                                                    .filter(style -> "ACM SIGGRAPH".equals(style.getTitle()))
+                                                    .findAny().get().getSource();
+
+    private final BibEntry testEntry = TestEntry.getTestEntry();
+    private final BibDatabaseContext context = new BibDatabaseContext(new BibDatabase(List.of(testEntry)));
+    private final BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+
+    @Test
+    void adapterIsReusedForSameStyle() throws IOException {
+        CSLAdapterPool pool = new CSLAdapterPool(2, 2, Duration.ofMinutes(1));
+
+        CSLAdapter first = pool.withAdapter(IEEE, adapter -> adapter);
+        CSLAdapter second = pool.withAdapter(IEEE, adapter -> adapter);
+
+        assertSame(first, second);
+        assertEquals(1, pool.getNumberOfIdleAdapters());
+    }
+
+    @Test
+    void adaptersOfSeveralStylesAreKept() throws IOException {
+        CSLAdapterPool pool = new CSLAdapterPool(2, 2, Duration.ofMinutes(1));
+
+        CSLAdapter ieee = pool.withAdapter(IEEE, adapter -> adapter);
+        pool.withAdapter(ACM, adapter -> adapter);
+
+        assertSame(ieee, pool.withAdapter(IEEE, adapter -> adapter));
+        assertEquals(2, pool.getNumberOfIdleAdapters());
+    }
+
+    @Test
+    void leastRecentlyUsedAdapterIsEvicted() throws IOException {
+        CSLAdapterPool pool = new CSLAdapterPool(2, 1, Duration.ofMinutes(1));
+
+        CSLAdapter ieee = pool.withAdapter(IEEE, adapter -> adapter);
+        pool.withAdapter(ACM, adapter -> adapter);
+
+        assertEquals(1, pool.getNumberOfIdleAdapters());
+        assertNotSame(ieee, pool.withAdapter(IEEE, adapter -> adapter));
+    }
+
+    @Test
+    void expiredAdapterIsEvicted() throws IOException {
+        CSLAdapterPool pool = new CSLAdapterPool(2, 2, Duration.ZERO);
+
+        CSLAdapter first = pool.withAdapter(IEEE, adapter -> adapter);
+
+        assertNotSame(first, pool.withAdapter(IEEE, adapter -> adapter));
+    }
+
+    @Test
+    void failedAdapterIsNotReused() {
+        CSLAdapterPool pool = new CSLAdapterPool(2, 2, Duration.ofMinutes(1));
+
+        assertThrows(IllegalStateException.class, () -> pool.withAdapter(IEEE, adapter -> {
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(0, pool.getNumberOfIdleAdapters());
+    }
+
+    @Test
+    void bibliographiesAreRenderedConcurrently() throws Exception {
+        CSLAdapterPool pool = new CSLAdapterPool(2, 2, Duration.ofMinutes(1));
+        CountDownLatch bothRendering = new CountDownLatch(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<List<String>>> bibliographies = executor.invokeAll(List.of(
+                    () -> pool.withAdapter(IEEE, adapter -> awaitOtherAndRender(adapter, bothRendering)),
+                    () -> pool.withAdapter(IEEE, adapter -> awaitOtherAndRender(adapter, bothRendering))));
+
+            assertEquals(bibliographies.getFirst().get(), bibliographies.getLast().get());
+            assertEquals(2, pool.getNumberOfIdleAdapters());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<String> awaitOtherAndRender(CSLAdapter adapter, CountDownLatch bothRendering) {
+        bothRendering.countDown();
+        try {
+            assertTrue(bothRendering.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        return adapter.makeBibliography(List.of(testEntry), CitationStyleOutputFormat.TEXT, context, entryTypesManager);
+    }
+}
@@ -199,4 +199,21 @@ class CSLStyleUtilsTest {
                 Arguments.of(false, JOURNAL_OF_CLINICAL_ETHICS)
         );
     }
+
+    @ParameterizedTest
+    @MethodSource
+    void keepsBibliographyInCitationOrder(boolean expected, String cslFileName) {
+        CitationStyle citationStyle = CSLStyleUtils.createCitationStyleFromFile(cslFileName).get();
+        assertEquals(expected, CSLStyleUtils.keepsBibliographyInCitationOrder(citationStyle.getSource()));
+    }
+
+    private static Stream<Arguments> keepsBibliographyInCitationOrder() {
+        return Stream.of(
+                Arguments.of(true, IEEE),
+                Arguments.of(false, APA),
+                Arguments.of(true, VANCOUVER),
+                Arguments.of(false, CHICAGO_AUTHOR_DATE),
+                Arguments.of(false, MLA)
+        );
+    }
 }
@@ -0,0 +1,90 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CitationStyleBibliographyWriterTest {
+
+    private static final BibEntryTypesManager ENTRY_TYPES_MANAGER = new BibEntryTypesManager();
+
+    private final CitationStyle style = CSLStyleLoader.getDefaultStyle();
+    private List<BibEntry> entries;
+    private BibDatabaseContext databaseContext;
+
+    @BeforeEach
+    void setUp() {
+        entries = IntStream.rangeClosed(1, 5)
+                           .mapToObj(i -> new BibEntry(StandardEntryType.Article)
+                                   .withCitationKey("key" + i)
+                                   .withField(StandardField.AUTHOR, "Author" + i + ", Given")
+                                   .withField(StandardField.TITLE, "Title " + i)
+                                   .withField(StandardField.JOURNAL, "Journal")
+                                   .withField(StandardField.YEAR, "2020"))
+                           .toList();
+        databaseContext = new BibDatabaseContext(new BibDatabase(entries));
+        databaseContext.setMode(BibDatabaseMode.BIBLATEX);
+    }
+
+    @Test
+    void writingInChunksEqualsWritingAtOnce() throws IOException {
+        StringWriter inChunks = new StringWriter();
+        new CitationStyleBibliographyWriter(style, CitationStyleOutputFormat.TEXT, ENTRY_TYPES_MANAGER, 2).write(entries, databaseContext, inChunks);
+
+        StringWriter atOnce = new StringWriter();
+        new CitationStyleBibliographyWriter(style, CitationStyleOutputFormat.TEXT, ENTRY_TYPES_MANAGER, 100).write(entries, databaseContext, atOnce);
+
+        assertEquals(atOnce.toString(), inChunks.toString());
+        assertTrue(inChunks.toString().contains("[5]"));
+    }
+
+    @Test
+    void sortedStyleIsNotSortedPerChunk() throws IOException {
+        CitationStyle apa = CSLStyleUtils.createCitationStyleFromFile("apa.csl").get();
+        List<BibEntry> reversed = entries.reversed();
+
+        StringWriter writer = new StringWriter();
+        new CitationStyleBibliographyWriter(apa, CitationStyleOutputFormat.TEXT, ENTRY_TYPES_MANAGER, 2).write(reversed, databaseContext, writer);
+
+        assertEquals(String.join(CitationStyleOutputFormat.TEXT.getLineSeparator(),
+                        CitationStyleGenerator.generateBibliography(reversed, apa.getSource(), CitationStyleOutputFormat.TEXT, databaseContext, ENTRY_TYPES_MANAGER)),
+                writer.toString());
+        assertTrue(writer.toString().indexOf("Author1") < writer.toString().indexOf("Author5"));
+    }
+
+    @Test
+    void writesAllEntriesToOutputStream() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new CitationStyleBibliographyWriter(style, CitationStyleOutputFormat.HTML, ENTRY_TYPES_MANAGER, 2).write(entries, databaseContext, outputStream);
+
+        String bibliography = outputStream.toString(StandardCharsets.UTF_8);
+        assertEquals(String.join(CitationStyleOutputFormat.HTML.getLineSeparator(),
+                        CitationStyleGenerator.generateBibliography(entries, style.getSource(), CitationStyleOutputFormat.HTML, databaseContext, ENTRY_TYPES_MANAGER)),
+                bibliography);
+    }
+
+    @Test
+    void writesNothingForNoEntries() throws IOException {
+        StringWriter writer = new StringWriter();
+        new CitationStyleBibliographyWriter(style, CitationStyleOutputFormat.TEXT, ENTRY_TYPES_MANAGER).write(List.of(), databaseContext, writer);
+
+        assertEquals("", writer.toString());
+    }
+}
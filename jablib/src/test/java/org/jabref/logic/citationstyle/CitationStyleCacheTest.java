@@ -1,13 +1,17 @@
 package org.jabref.logic.citationstyle;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 class CitationStyleCacheTest {
@@ -18,6 +22,8 @@ class CitationStyleCacheTest {
   private BibDatabaseContext databaseContext;
   private CitationStyleCache csCache;
 
+  private final CitationStylePreviewLayout layout = new CitationStylePreviewLayout(CSLStyleLoader.getDefaultStyle(), new BibEntryTypesManager());
+
   @Test
   void getCitationForTest() {
     BibEntry bibEntry = new BibEntry().withCitationKey("test");
@@ -28,4 +34,34 @@ class CitationStyleCacheTest {
 
     assertNotNull(csCache.getCitationFor(bibEntry));
   }
+
+  @Test
+  void storedCitationIsUsedByNewCache() {
+    BibEntry bibEntry = new BibEntry().withCitationKey("test").withField(StandardField.TITLE, "Title");
+    BibDatabaseContext databaseContext = new BibDatabaseContext(new BibDatabase(List.of(bibEntry)));
+    try (PersistentPreviewCache persistentCache = new PersistentPreviewCache(null, PersistentPreviewCache.DEFAULT_MAX_SIZE)) {
+      String key = PersistentPreviewCache.key(bibEntry, databaseContext, PersistentPreviewCache.layoutHash(layout));
+      persistentCache.put(key, "stored citation");
+
+      CitationStyleCache csCache = new CitationStyleCache(databaseContext, persistentCache);
+
+      assertEquals("stored citation", csCache.getCitationFor(bibEntry, layout));
+    }
+  }
+
+  @Test
+  void changingEntryRemovesStoredCitation() {
+    BibEntry bibEntry = new BibEntry().withCitationKey("test").withField(StandardField.TITLE, "Title");
+    BibDatabaseContext databaseContext = new BibDatabaseContext(new BibDatabase(List.of(bibEntry)));
+    try (PersistentPreviewCache persistentCache = new PersistentPreviewCache(null, PersistentPreviewCache.DEFAULT_MAX_SIZE)) {
+      CitationStyleCache csCache = new CitationStyleCache(databaseContext, persistentCache);
+      String key = PersistentPreviewCache.key(bibEntry, databaseContext, PersistentPreviewCache.layoutHash(layout));
+      String citation = csCache.getCitationFor(bibEntry, layout);
+      assertEquals(Optional.of(citation), persistentCache.get(key));
+
+      bibEntry.setField(StandardField.TITLE, "Other title");
+
+      assertEquals(Optional.empty(), persistentCache.get(key));
+    }
+  }
 }
@@ -0,0 +1,113 @@
+package org.jabref.logic.citationstyle;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class PersistentPreviewCacheTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private PersistentPreviewCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PersistentPreviewCache(tempDir.resolve("previews.mv"), PersistentPreviewCache.DEFAULT_MAX_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.close();
+    }
+
+    @Test
+    void previewIsFoundAfterReopening() {
+        cache.put("key", "preview");
+        cache.close();
+
+        cache = new PersistentPreviewCache(tempDir.resolve("previews.mv"), PersistentPreviewCache.DEFAULT_MAX_SIZE);
+
+        assertEquals(Optional.of("preview"), cache.get("key"));
+        assertEquals(2L * "preview".length(), cache.getSize());
+    }
+
+    @Test
+    void removedPreviewIsNotFound() {
+        cache.put("key", "preview");
+
+        cache.remove("key");
+
+        assertEquals(Optional.empty(), cache.get("key"));
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void leastRecentlyUsedPreviewsAreEvicted() {
+        cache.close();
+        cache = new PersistentPreviewCache(null, 2L * 25);
+        cache.put("first", "0123456789");
+        cache.put("second", "0123456789");
+        cache.get("first");
+
+        cache.put("third", "0123456789");
+
+        assertEquals(Optional.of("0123456789"), cache.get("first"));
+        assertEquals(Optional.empty(), cache.get("second"));
+        assertEquals(Optional.of("0123456789"), cache.get("third"));
+    }
+
+    @Test
+    void sizeAndAccessOrderAreKeptAfterReopening() {
+        cache.put("first", "0123456789");
+        cache.put("second", "0123456789");
+        cache.get("first");
+        cache.close();
+
+        cache = new PersistentPreviewCache(tempDir.resolve("previews.mv"), 2L * 25);
+        assertEquals(2L * 20, cache.getSize());
+        cache.put("third", "0123456789");
+
+        assertEquals(Optional.of("0123456789"), cache.get("first"));
+        assertEquals(Optional.empty(), cache.get("second"));
+    }
+
+    @Test
+    void keyDependsOnContentOfEntry() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withCitationKey("key").withField(StandardField.TITLE, "Title");
+        BibDatabaseContext databaseContext = new BibDatabaseContext(new BibDatabase(List.of(entry)));
+        String key = PersistentPreviewCache.key(entry, databaseContext, "style");
+
+        assertEquals(key, PersistentPreviewCache.key((BibEntry) entry.clone(), databaseContext, "style"));
+        assertNotEquals(key, PersistentPreviewCache.key(entry, databaseContext, "other style"));
+
+        entry.setField(StandardField.TITLE, "Other title");
+        assertNotEquals(key, PersistentPreviewCache.key(entry, databaseContext, "style"));
+    }
+
+    @Test
+    void keyDependsOnCrossReferencedEntry() {
+        BibEntry parent = new BibEntry(StandardEntryType.Proceedings).withCitationKey("parent").withField(StandardField.TITLE, "Proceedings");
+        BibEntry child = new BibEntry(StandardEntryType.InProceedings).withCitationKey("child").withField(StandardField.CROSSREF, "parent");
+        BibDatabaseContext databaseContext = new BibDatabaseContext(new BibDatabase(List.of(parent, child)));
+        String key = PersistentPreviewCache.key(child, databaseContext, "style");
+
+        parent.setField(StandardField.TITLE, "Other proceedings");
+
+        assertNotEquals(key, PersistentPreviewCache.key(child, databaseContext, "style"));
+    }
+}
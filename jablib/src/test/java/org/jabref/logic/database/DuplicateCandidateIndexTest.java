@@ -0,0 +1,116 @@
+package org.jabref.logic.database;
+
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DuplicateCandidateIndexTest {
+
+    private final BibEntry article = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Single Author")
+            .withField(StandardField.TITLE, "A serious paper about something")
+            .withField(StandardField.YEAR, "2017");
+    private final BibEntry articleWithTypo = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Single Author")
+            .withField(StandardField.TITLE, "A serious paper about somethin")
+            .withField(StandardField.YEAR, "2017");
+    private final BibEntry unrelatedArticle = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Completely Different")
+            .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla")
+            .withField(StandardField.YEAR, "1992");
+
+    @Test
+    void similarEntriesAreCandidates() {
+        DuplicateCandidateIndex index = DuplicateCandidateIndex.of(List.of(article, articleWithTypo, unrelatedArticle));
+
+        assertEquals(List.of(articleWithTypo), index.getCandidates(article));
+    }
+
+    @Test
+    void unrelatedEntriesAreNoCandidates() {
+        DuplicateCandidateIndex index = DuplicateCandidateIndex.of(List.of(article, unrelatedArticle));
+
+        assertEquals(List.of(), index.getCandidatePairs(List.of(article, unrelatedArticle)));
+    }
+
+    @Test
+    void entriesWithSameDoiAreCandidates() {
+        BibEntry one = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Some title")
+                .withField(StandardField.DOI, "10.1000/182");
+        BibEntry two = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Completely other")
+                .withField(StandardField.DOI, "10.1000/182");
+        DuplicateCandidateIndex index = DuplicateCandidateIndex.of(List.of(one, two));
+
+        assertEquals(List.of(new DuplicateCandidatePair(one, two)), index.getCandidatePairs(List.of(one, two)));
+    }
+
+    @Test
+    void entryWithoutBlockingKeyIsCandidateForAllEntries() {
+        BibEntry empty = new BibEntry(StandardEntryType.Misc).withField(StandardField.NOTE, "Some note");
+        DuplicateCandidateIndex index = DuplicateCandidateIndex.of(List.of(article, unrelatedArticle, empty));
+
+        assertEquals(List.of(
+                new DuplicateCandidatePair(article, empty),
+                new DuplicateCandidatePair(unrelatedArticle, empty)), index.getCandidatePairs(List.of(article, unrelatedArticle, empty)));
+    }
+
+    @Test
+    void databaseIndexFollowsInsertedAndRemovedEntries() {
+        BibDatabase database = new BibDatabase(List.of(article));
+        try (DuplicateCandidateIndex index = DuplicateCandidateIndex.listeningTo(database)) {
+            database.insertEntry(articleWithTypo);
+            assertEquals(List.of(articleWithTypo), index.getCandidates(article));
+
+            database.removeEntry(articleWithTypo);
+            assertEquals(List.of(), index.getCandidates(article));
+        }
+    }
+
+    @Test
+    void databaseIndexFollowsFieldChanges() {
+        BibDatabase database = new BibDatabase(List.of(article, unrelatedArticle));
+        try (DuplicateCandidateIndex index = DuplicateCandidateIndex.listeningTo(database)) {
+            assertEquals(List.of(), index.getCandidates(article));
+
+            unrelatedArticle.setField(StandardField.TITLE, "A serious paper about something");
+            assertEquals(List.of(unrelatedArticle), index.getCandidates(article));
+        }
+    }
+
+    @Test
+    void closedDatabaseIndexIgnoresChanges() {
+        BibDatabase database = new BibDatabase(List.of(article));
+        DuplicateCandidateIndex index = DuplicateCandidateIndex.listeningTo(database);
+        assertEquals(1, index.size());
+
+        index.close();
+        database.insertEntry(articleWithTypo);
+        assertEquals(List.of(), index.getCandidates(article));
+    }
+
+    @Test
+    void findDuplicateReturnsDuplicateInDatabase() {
+        BibDatabase database = new BibDatabase(List.of(unrelatedArticle, article));
+        DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
+        DuplicateCandidateIndex index = DuplicateCandidateIndex.of(database.getEntries());
+
+        assertTrue(index.findDuplicate(database, articleWithTypo, BibDatabaseMode.BIBTEX, duplicateCheck).isPresent());
+        assertFalse(index.findDuplicate(database, new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Other Person")
+                .withField(StandardField.TITLE, "Nothing in common")
+                .withField(StandardField.YEAR, "2001"), BibDatabaseMode.BIBTEX, duplicateCheck).isPresent());
+    }
+}
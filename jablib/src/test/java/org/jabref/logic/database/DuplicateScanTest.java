@@ -0,0 +1,87 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DuplicateScanTest {
+
+    private final DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
+
+    private static BibEntry createArticle(String author, String title, String year) {
+        return new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, author)
+                .withField(StandardField.TITLE, title)
+                .withField(StandardField.YEAR, year);
+    }
+
+    private static List<DuplicateScan.Result> drain(DuplicateScan scan) throws InterruptedException {
+        List<DuplicateScan.Result> results = new ArrayList<>();
+        while (scan.hasMoreResults()) {
+            scan.poll(10, TimeUnit.MILLISECONDS).ifPresent(results::add);
+        }
+        return results;
+    }
+
+    @Test
+    void findsDuplicatesAmongManyEntries() throws InterruptedException {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            entries.add(createArticle("Author" + i + " Family" + i, "Title number " + i + " about topic " + (i * 7), String.valueOf(1900 + i)));
+        }
+        BibEntry exactDuplicate = createArticle("Author42 Family42", "Title number 42 about topic 294", "1942");
+        entries.add(exactDuplicate);
+
+        DuplicateScan scan = new DuplicateScan(duplicateCheck, BibDatabaseMode.BIBTEX, 4, 2)
+                .start(DuplicateCandidateIndex.of(entries), entries);
+        List<DuplicateScan.Result> results = drain(scan);
+
+        assertEquals(1, results.size());
+        assertEquals(entries.get(42), results.getFirst().first());
+        assertEquals(exactDuplicate, results.getFirst().second());
+        assertTrue(results.getFirst().score() > 1);
+        assertEquals(1, scan.getFoundDuplicates());
+        assertEquals(scan.getTotalPairs(), scan.getCheckedPairs());
+    }
+
+    @Test
+    void cancelStopsScan() throws InterruptedException {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entries.add(createArticle("Same Author", "Same title", "2020"));
+        }
+
+        // Queue of size one blocks the workers until the consumer drains the queue
+        DuplicateScan scan = new DuplicateScan(duplicateCheck, BibDatabaseMode.BIBTEX, 2, 1)
+                .start(DuplicateCandidateIndex.of(entries), entries);
+        assertTrue(scan.poll(10, TimeUnit.SECONDS).isPresent());
+        scan.cancel();
+        scan.awaitCompletion();
+
+        assertTrue(scan.isCancelled());
+        assertFalse(scan.hasMoreResults());
+        assertTrue(scan.getCheckedPairs() < scan.getTotalPairs());
+    }
+
+    @Test
+    void scanCannotBeStartedTwice() {
+        List<BibEntry> entries = List.of(createArticle("Some Author", "Some title", "2000"));
+        DuplicateScan scan = new DuplicateScan(duplicateCheck, BibDatabaseMode.BIBTEX)
+                .start(DuplicateCandidateIndex.of(entries), entries);
+
+        assertThrows(IllegalStateException.class, () -> scan.start(DuplicateCandidateIndex.of(entries), entries));
+    }
+}
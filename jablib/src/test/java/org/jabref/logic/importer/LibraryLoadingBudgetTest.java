@@ -0,0 +1,57 @@
+package org.jabref.logic.importer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LibraryLoadingBudgetTest {
+
+    private final LibraryLoadingBudget budget = new LibraryLoadingBudget(2, 100);
+
+    @Test
+    void libraryExceedingBudgetWaitsUntilOtherLibrariesAreLoaded() throws Exception {
+        LibraryLoadingBudget.Reservation first = budget.reserve(60);
+        CompletableFuture<LibraryLoadingBudget.Reservation> second = reserveAsync(60);
+
+        assertThrows(TimeoutException.class, () -> second.get(200, TimeUnit.MILLISECONDS));
+        first.close();
+        second.get(5, TimeUnit.SECONDS).close();
+    }
+
+    @Test
+    void libraryLargerThanWholeBudgetIsLoadedAlone() throws Exception {
+        budget.reserve(1_000).close();
+
+        LibraryLoadingBudget.Reservation small = budget.reserve(10);
+        CompletableFuture<LibraryLoadingBudget.Reservation> large = reserveAsync(1_000);
+        assertThrows(TimeoutException.class, () -> large.get(200, TimeUnit.MILLISECONDS));
+
+        small.close();
+        large.get(5, TimeUnit.SECONDS).close();
+    }
+
+    @Test
+    void numberOfConcurrentLoadsIsLimited() throws Exception {
+        LibraryLoadingBudget.Reservation first = budget.reserve(0);
+        budget.reserve(0);
+        CompletableFuture<LibraryLoadingBudget.Reservation> third = reserveAsync(0);
+
+        assertThrows(TimeoutException.class, () -> third.get(200, TimeUnit.MILLISECONDS));
+        first.close();
+        third.get(5, TimeUnit.SECONDS).close();
+    }
+
+    private CompletableFuture<LibraryLoadingBudget.Reservation> reserveAsync(long memory) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return budget.reserve(memory);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+}
@@ -5,8 +5,12 @@ import java.net.URISyntaxException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.logic.LibraryPreferences;
 import org.jabref.model.database.BibDatabase;
@@ -119,4 +123,16 @@ class OpenDatabaseTest {
         BibEntry entry = entries.iterator().next();
         assertEquals(Optional.of("testArticle"), entry.getCitationKey());
     }
+
+    @Test
+    void loadDatabasesReturnsResultsInOrderOfFiles() throws InterruptedException {
+        List<Path> files = List.of(bibNoHeader, bibHeader, Path.of("does-not-exist.bib"), bibHeaderAndSignature);
+        List<Path> loadedFiles = Collections.synchronizedList(new ArrayList<>());
+
+        List<ParserResult> results = OpenDatabase.loadDatabases(files, importFormatPreferences, fileMonitor, new LibraryLoadingBudget(2, Long.MAX_VALUE), (file, _) -> loadedFiles.add(file));
+
+        assertEquals(List.of(1, 1, 0, 1), results.stream().map(result -> result.getDatabase().getEntryCount()).toList());
+        assertEquals(List.of(false, false, true, false), results.stream().map(ParserResult::isInvalid).toList());
+        assertEquals(Set.copyOf(files), Set.copyOf(loadedFiles));
+    }
 }
@@ -11,6 +11,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javafx.collections.FXCollections;
 
@@ -58,6 +60,7 @@ import org.jabref.model.groups.RegexKeywordGroup;
 import org.jabref.model.groups.TexGroup;
 import org.jabref.model.groups.WordKeywordGroup;
 import org.jabref.model.metadata.SaveOrder;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -339,6 +342,86 @@ class BibtexParserTest {
         assertEquals(secondEntry, parsedEntries.get(1).getParsedSerialization());
     }
 
+    @Test
+    void parseSetsParsedSerializationForInputLargerThanReadBuffer() throws IOException {
+        List<String> serializations = IntStream.range(0, 2000)
+                                               .mapToObj(i -> "% comment " + i + OS.NEWLINE
+                                                       + "@article{key" + i + "," + OS.NEWLINE
+                                                       + "  title = {Title " + i + " with {nested} brackets}," + OS.NEWLINE
+                                                       + "  year = " + (1900 + i % 100) + OS.NEWLINE
+                                                       + "}" + OS.NEWLINE)
+                                               .toList();
+        List<BibEntry> parsedEntries = parser.parse(Reader.of(String.join("", serializations)))
+                                             .getDatabase().getEntries();
+
+        assertEquals(serializations, parsedEntries.stream().map(BibEntry::getParsedSerialization).toList());
+    }
+
+    @Test
+    void parseInParallelLeadsToSameResultAsSequentialParsing() throws IOException {
+        String content = "% Encoding: UTF-8" + OS.NEWLINE + OS.NEWLINE
+                + "@Preamble{preamble}" + OS.NEWLINE + OS.NEWLINE
+                + "@String{journal = {Journal}}" + OS.NEWLINE + OS.NEWLINE
+                + IntStream.range(0, 500)
+                           .mapToObj(i -> "% comment " + i + OS.NEWLINE
+                                   + "@article{key" + i + "," + OS.NEWLINE
+                                   + "  title = {Title " + i + " @ {nested} brackets}," + OS.NEWLINE
+                                   + "  journal = journal" + OS.NEWLINE
+                                   + "}  " + OS.NEWLINE + (i % 7 == 0 ? "@Comment{not an entry}" + OS.NEWLINE : OS.NEWLINE))
+                           .collect(Collectors.joining())
+                + "@Comment{jabref-meta: databaseType:biblatex;}" + OS.NEWLINE
+                + "epilog";
+        ParserResult sequentialResult = new BibtexParser(importFormatPreferences).parse(Reader.of(content));
+        ParserResult parallelResult = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor(), 0).parse(Reader.of(content));
+
+        BibDatabase sequentialDatabase = sequentialResult.getDatabase();
+        BibDatabase parallelDatabase = parallelResult.getDatabase();
+        assertEquals(sequentialDatabase.getEntries(), parallelDatabase.getEntries());
+        assertEquals(sequentialDatabase.getEntries().stream().map(BibEntry::getParsedSerialization).toList(),
+                parallelDatabase.getEntries().stream().map(BibEntry::getParsedSerialization).toList());
+        assertEquals(sequentialDatabase.getStringValues().stream().map(BibtexString::getParsedSerialization).toList(),
+                parallelDatabase.getStringValues().stream().map(BibtexString::getParsedSerialization).toList());
+        assertEquals(sequentialDatabase.getPreamble(), parallelDatabase.getPreamble());
+        assertEquals(sequentialDatabase.getEpilog(), parallelDatabase.getEpilog());
+        assertEquals(sequentialResult.getMetaData().getMode(), parallelResult.getMetaData().getMode());
+        assertEquals(sequentialResult.warnings(), parallelResult.warnings());
+    }
+
+    @Test
+    void parseInParallelKeepsEntriesFindableByIndex() throws IOException {
+        String content = IntStream.range(0, 500)
+                                  .mapToObj(i -> "@article{key" + i + "," + OS.NEWLINE
+                                          + "  title = {Title " + i + "}" + OS.NEWLINE
+                                          + "}" + OS.NEWLINE + OS.NEWLINE)
+                                  .collect(Collectors.joining());
+        BibDatabase database = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor(), 0).parse(Reader.of(content)).getDatabase();
+
+        List<BibEntry> entries = database.getEntries();
+        assertEquals(500, entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            BibEntry entry = entries.get(i);
+            assertEquals(Optional.of("key" + i), entry.getCitationKey());
+            assertEquals(i, database.indexOf(entry));
+            assertFalse(entry.hasChanged());
+        }
+    }
+
+    @Test
+    void parseInParallelFallsBackToSequentialParsingForLinesStartingWithAt() throws IOException {
+        String content = IntStream.range(0, 100)
+                                  .mapToObj(i -> "@article{key" + i + "," + OS.NEWLINE
+                                          + "  abstract = {first {line}" + OS.NEWLINE
+                                          + "@second line}" + OS.NEWLINE
+                                          + "}" + OS.NEWLINE)
+                                  .collect(Collectors.joining());
+        ParserResult sequentialResult = new BibtexParser(importFormatPreferences).parse(Reader.of(content));
+        ParserResult parallelResult = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor(), 0).parse(Reader.of(content));
+
+        assertEquals(sequentialResult.getDatabase().getEntries(), parallelResult.getDatabase().getEntries());
+        assertEquals(sequentialResult.getDatabase().getEntries().stream().map(BibEntry::getParsedSerialization).toList(),
+                parallelResult.getDatabase().getEntries().stream().map(BibEntry::getParsedSerialization).toList());
+    }
+
     @Test
     void parseRecognizesMultipleEntriesOnSameLine() throws IOException {
         ParserResult result = parser
@@ -502,7 +502,7 @@ class CSLFormatUtilsTest {
     void updateSingleNumericBibliography(String expected, CitationStyle style) {
         String citation = CitationStyleGenerator.generateBibliography(List.of(TEST_ENTRY), style.getSource(), HTML_OUTPUT_FORMAT, TEST_ENTRY_CONTEXT, ENTRY_TYPES_MANAGER).getFirst();
         String transformedCitation = CSLFormatUtils.transformHTML(citation);
-        String actual = CSLFormatUtils.updateSingleBibliographyNumber(transformedCitation, 3);
+        String actual = CitationStyleGenerator.updateSingleBibliographyNumber(transformedCitation, 3);
         assertEquals(expected, actual);
     }
 
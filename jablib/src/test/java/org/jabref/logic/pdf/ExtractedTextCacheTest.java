@@ -0,0 +1,106 @@
+package org.jabref.logic.pdf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExtractedTextCacheTest {
+
+    private static final List<ExtractedTextCache.Page> PAGES = List.of(
+            new ExtractedTextCache.Page("First page", ""),
+            new ExtractedTextCache.Page("Second page", "A note"));
+
+    @TempDir
+    private Path tempDir;
+
+    private ExtractedTextCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ExtractedTextCache(tempDir.resolve("cache.mv"), ExtractedTextCache.DEFAULT_MAX_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.close();
+    }
+
+    @Test
+    void storedTextIsFound() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("paper.pdf"), "content");
+
+        cache.put(file, PAGES);
+
+        assertEquals(Optional.of(PAGES), cache.get(file));
+    }
+
+    @Test
+    void textIsFoundForFileWithSameContent() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("paper.pdf"), "content");
+        Path movedFile = Files.writeString(tempDir.resolve("moved.pdf"), "content");
+
+        cache.put(file, PAGES);
+
+        assertEquals(Optional.of(PAGES), cache.get(movedFile));
+    }
+
+    @Test
+    void textIsNotFoundForChangedFile() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("paper.pdf"), "content");
+        cache.put(file, PAGES);
+
+        Files.writeString(file, "changed content");
+
+        assertEquals(Optional.empty(), cache.get(file));
+    }
+
+    @Test
+    void textIsKeptAfterReopening() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("paper.pdf"), "content");
+        cache.put(file, PAGES);
+        cache.close();
+
+        cache = new ExtractedTextCache(tempDir.resolve("cache.mv"), ExtractedTextCache.DEFAULT_MAX_SIZE);
+
+        assertEquals(Optional.of(PAGES), cache.get(file));
+    }
+
+    @Test
+    void pruneEvictsLeastRecentlyUsedText() throws IOException {
+        Path first = Files.writeString(tempDir.resolve("first.pdf"), "first");
+        Path second = Files.writeString(tempDir.resolve("second.pdf"), "second");
+        cache.put(first, PAGES);
+        cache.put(second, PAGES);
+        cache.get(first);
+
+        assertEquals(1, cache.prune(cache.getSize() - 1));
+
+        assertTrue(cache.get(first).isPresent());
+        assertEquals(Optional.empty(), cache.get(second));
+    }
+
+    @Test
+    void putEvictsWhenMaximumSizeIsExceeded() throws IOException {
+        long sizeOfPages = 2L * ("First page".length() + "Second page".length() + "A note".length());
+        cache.close();
+        cache = new ExtractedTextCache(null, sizeOfPages);
+        Path first = Files.writeString(tempDir.resolve("first.pdf"), "first");
+        Path second = Files.writeString(tempDir.resolve("second.pdf"), "second");
+
+        cache.put(first, PAGES);
+        cache.put(second, PAGES);
+
+        assertEquals(1, cache.getNumberOfFiles());
+        assertTrue(cache.get(second).isPresent());
+    }
+}
@@ -0,0 +1,77 @@
+package org.jabref.logic.search;
+
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.logic.util.CurrentThreadTaskExecutor;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class BibFieldsUpdateQueueTest {
+
+    private final BibFieldsIndexer bibFieldsIndexer = mock(BibFieldsIndexer.class);
+    private final BibDatabaseContext databaseContext = new BibDatabaseContext();
+    private final BibEntry first = new BibEntry().withField(StandardField.TITLE, "First");
+    private final BibEntry second = new BibEntry().withField(StandardField.TITLE, "Second");
+
+    // A long window, so that the changes are applied by the test only
+    private final BibFieldsUpdateQueue queue = new BibFieldsUpdateQueue(bibFieldsIndexer, databaseContext, new CurrentThreadTaskExecutor(), 60_000);
+
+    @BeforeEach
+    void setUp() {
+        databaseContext.getDatabase().insertEntries(List.of(first, second));
+    }
+
+    @Test
+    void repeatedChangesOfSameFieldAreCoalesced() {
+        queue.enqueue(first, StandardField.TITLE);
+        queue.enqueue(first, StandardField.TITLE);
+        queue.enqueue(first, StandardField.YEAR);
+        queue.enqueue(second, StandardField.TITLE);
+
+        assertEquals(3, queue.getStatistics().queueDepth());
+        assertEquals(1, queue.getStatistics().coalescedChanges());
+
+        queue.applyPending();
+
+        verify(bibFieldsIndexer).updateEntries(List.of(
+                new EntryFieldChanges(first, Set.of(StandardField.TITLE, StandardField.YEAR)),
+                new EntryFieldChanges(second, Set.of(StandardField.TITLE))));
+        IndexUpdateStatistics statistics = queue.getStatistics();
+        assertEquals(0, statistics.queueDepth());
+        assertEquals(1, statistics.appliedBatches());
+        assertEquals(3, statistics.appliedChanges());
+    }
+
+    @Test
+    void changesOfRemovedEntriesAreDropped() {
+        queue.enqueue(first, StandardField.TITLE);
+        queue.enqueue(second, StandardField.TITLE);
+        databaseContext.getDatabase().removeEntry(second);
+
+        queue.applyPending();
+
+        verify(bibFieldsIndexer).updateEntries(List.of(new EntryFieldChanges(first, Set.of(StandardField.TITLE))));
+    }
+
+    @Test
+    void nothingIsAppliedAfterClose() {
+        queue.enqueue(first, StandardField.TITLE);
+        queue.close();
+        queue.enqueue(second, StandardField.TITLE);
+
+        queue.applyPending();
+
+        verify(bibFieldsIndexer, never()).updateEntries(any());
+    }
+}
@@ -3,6 +3,7 @@ package org.jabref.logic.search;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import javafx.beans.property.BooleanProperty;
@@ -20,6 +21,7 @@ import org.jabref.model.search.query.SearchQuery;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -71,6 +73,32 @@ public class DatabaseSearcherTest {
         assertEquals(expectedMatches, matches);
     }
 
+    @ParameterizedTest
+    @MethodSource("databaseSearcher")
+    void databaseSearcherInMemory(List<BibEntry> expectedMatches, SearchQuery query, List<BibEntry> entries) throws IOException {
+        for (BibEntry entry : entries) {
+            databaseContext.getDatabase().insertEntry(entry);
+        }
+        List<BibEntry> matches = new DatabaseSearcher(databaseContext, TASK_EXECUTOR, preferences, null).getMatches(query);
+        assertEquals(expectedMatches, matches);
+    }
+
+    @Test
+    void bulkLoadedEntriesAreFound() throws IOException {
+        // More entries than the bulk load threshold, so that the entries are loaded using COPY
+        List<BibEntry> entries = IntStream.range(0, 250)
+                                          .mapToObj(i -> new BibEntry(StandardEntryType.Article)
+                                                  .withField(StandardField.TITLE, "Entry " + i)
+                                                  .withField(StandardField.KEYWORDS, "k" + i + ", common"))
+                                          .toList();
+        databaseContext.getDatabase().insertEntries(entries);
+
+        // The searcher closes the index after a search
+        assertEquals(List.of(entries.get(170)), new DatabaseSearcher(databaseContext, TASK_EXECUTOR, preferences, postgreServer).getMatches(new SearchQuery("title == \"Entry 170\"")));
+        assertEquals(List.of(entries.get(42)), new DatabaseSearcher(databaseContext, TASK_EXECUTOR, preferences, postgreServer).getMatches(new SearchQuery("keywords == k42")));
+        assertEquals(entries, new DatabaseSearcher(databaseContext, TASK_EXECUTOR, preferences, postgreServer).getMatches(new SearchQuery("keywords == common")));
+    }
+
     private static Stream<Arguments> databaseSearcher() {
         BibEntry emptyEntry = new BibEntry();
 
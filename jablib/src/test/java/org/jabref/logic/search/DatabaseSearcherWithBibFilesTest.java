@@ -154,4 +154,13 @@ class DatabaseSearcherWithBibFilesTest {
         List<BibEntry> matches = new DatabaseSearcher(databaseContext, TASK_EXECUTOR, preferences, postgreServer).getMatches(new SearchQuery(query, flags));
         assertThat(expected, Matchers.containsInAnyOrder(matches.toArray()));
     }
+
+    @ParameterizedTest
+    @MethodSource("searchLibrary")
+    void searchLibraryInMemory(List<BibEntry> expected, String testFile, String query, boolean isFullText) throws URISyntaxException, IOException {
+        BibDatabaseContext databaseContext = initializeDatabaseFromPath(testFile);
+        EnumSet<SearchFlags> flags = isFullText ? EnumSet.of(SearchFlags.FULLTEXT) : EnumSet.noneOf(SearchFlags.class);
+        List<BibEntry> matches = new DatabaseSearcher(databaseContext, TASK_EXECUTOR, preferences, null).getMatches(new SearchQuery(query, flags));
+        assertThat(expected, Matchers.containsInAnyOrder(matches.toArray()));
+    }
 }
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.jabref.logic.FilePreferences;
+import org.jabref.logic.pdf.ExtractedTextCache;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.search.LuceneIndexer;
 import org.jabref.logic.util.BackgroundTask;
@@ -42,7 +43,7 @@ public class LinkedFilesIndexerTest {
         when(context.getFileDirectories(Mockito.any())).thenReturn(List.of(Path.of("src/test/resources/pdfs")));
         when(context.getFulltextIndexPath()).thenReturn(indexDir);
 
-        this.indexer = new DefaultLinkedFilesIndexer(context, filePreferences);
+        this.indexer = new DefaultLinkedFilesIndexer(context, filePreferences, new ExtractedTextCache(null, ExtractedTextCache.DEFAULT_MAX_SIZE));
     }
 
     @AfterEach
@@ -161,6 +162,42 @@ public class LinkedFilesIndexerTest {
         }
     }
 
+    @Test
+    void severalFilesIndexedInParallel() throws IOException {
+        // given
+        BibEntry exampleThesis = new BibEntry(StandardEntryType.PhdThesis)
+                .withFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        BibEntry metadata = new BibEntry(StandardEntryType.Article)
+                .withFiles(List.of(new LinkedFile("Metadata file", "metaData.pdf", StandardFileType.PDF.getName())));
+
+        // when
+        indexer.addToIndex(List.of(exampleThesis, metadata), mock(BackgroundTask.class));
+
+        // then
+        indexer.getSearcherManager().maybeRefreshBlocking();
+        try (IndexReader reader = indexer.getSearcherManager().acquire().getIndexReader()) {
+            assertEquals(34, reader.numDocs());
+        }
+    }
+
+    @Test
+    void cancelledTaskDoesNotIndex() throws IOException {
+        // given
+        BibEntry entry = new BibEntry(StandardEntryType.PhdThesis)
+                .withFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        BackgroundTask<?> task = mock(BackgroundTask.class);
+        when(task.isCancelled()).thenReturn(true);
+
+        // when
+        indexer.addToIndex(List.of(entry), task);
+
+        // then
+        indexer.getSearcherManager().maybeRefreshBlocking();
+        try (IndexReader reader = indexer.getSearcherManager().acquire().getIndexReader()) {
+            assertEquals(0, reader.numDocs());
+        }
+    }
+
     @Test
     public void flushIndex() throws IOException {
         // given
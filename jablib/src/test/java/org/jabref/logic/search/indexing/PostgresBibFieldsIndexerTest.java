@@ -0,0 +1,76 @@
+package org.jabref.logic.search.indexing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.retrieval.PostgresBibFieldsSearcher;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.event.IndexStartedEvent;
+import org.jabref.model.search.query.SearchQuery;
+
+import com.google.common.eventbus.Subscribe;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostgresBibFieldsIndexerTest {
+    private static final int CHUNK_SIZE = 100;
+    private static final SearchQuery QUERY_MATCHING_ALL_ENTRIES = new SearchQuery("keywords == common");
+
+    private final BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+    private final BibDatabaseContext databaseContext = new BibDatabaseContext();
+    private PostgreServer postgreServer;
+    private PostgresBibFieldsIndexer indexer;
+    private PostgresBibFieldsSearcher searcher;
+
+    @BeforeEach
+    void setUp() {
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        // More entries than fit into one chunk, so that the index is loaded in three chunks
+        databaseContext.getDatabase().insertEntries(IntStream.range(0, 250)
+                                                             .mapToObj(i -> new BibEntry(StandardEntryType.Article)
+                                                                     .withField(StandardField.TITLE, "Entry " + i)
+                                                                     .withField(StandardField.KEYWORDS, "k" + i + ", common"))
+                                                             .toList());
+
+        postgreServer = new PostgreServer();
+        indexer = new PostgresBibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer.getConnection(), CHUNK_SIZE);
+        searcher = new PostgresBibFieldsSearcher(postgreServer.getConnection(), indexer.getTable());
+    }
+
+    @AfterEach
+    void tearDown() {
+        indexer.closeAndWait();
+        postgreServer.shutdown();
+    }
+
+    @Test
+    void loadedChunksAreSearchableBeforeIndexingCompletes() {
+        List<IndexStartedEvent> events = new ArrayList<>();
+        List<Integer> matchesWhileIndexing = new ArrayList<>();
+        databaseContext.getDatabase().registerListener(new Object() {
+            @Subscribe
+            public void listen(IndexStartedEvent event) {
+                events.add(event);
+                matchesWhileIndexing.add(searcher.search(QUERY_MATCHING_ALL_ENTRIES).getMatchedEntries().size());
+            }
+        });
+
+        indexer.updateOnStart(mock(BackgroundTask.class));
+
+        assertEquals(List.of(new IndexStartedEvent(100, 250), new IndexStartedEvent(200, 250)), events);
+        assertEquals(List.of(100, 200), matchesWhileIndexing);
+        assertEquals(250, searcher.search(QUERY_MATCHING_ALL_ENTRIES).getMatchedEntries().size());
+    }
+}
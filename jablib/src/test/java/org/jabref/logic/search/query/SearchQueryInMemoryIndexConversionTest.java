@@ -0,0 +1,116 @@
+package org.jabref.logic.search.query;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jabref.logic.search.indexing.BibFieldValues;
+import org.jabref.logic.search.indexing.InMemoryBibFieldsIndex;
+import org.jabref.logic.search.retrieval.InMemoryBibFieldsSearcher;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.query.SearchQuery;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchQueryInMemoryIndexConversionTest {
+
+    private static final BibEntry KNUTH = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Donald E. Knuth and Leslie Lamport")
+            .withField(StandardField.TITLE, "The Art of {C}omputer Programming")
+            .withField(StandardField.KEYWORDS, "algorithms, latex")
+            .withField(StandardField.GROUPS, "reading");
+    private static final BibEntry MUELLER = new BibEntry(StandardEntryType.Book)
+            .withField(StandardField.AUTHOR, "Kurt M{\\\"u}ller")
+            .withField(StandardField.TITLE, "Über Alles")
+            .withField(StandardField.YEAR, "2010");
+    private static final BibEntry ANOTHER = new BibEntry(StandardEntryType.Misc)
+            .withField(StandardField.TITLE, "Another")
+            .withField(StandardField.GROUPS, "Knuth");
+
+    private final InMemoryBibFieldsIndex index = new InMemoryBibFieldsIndex();
+    private final InMemoryBibFieldsSearcher searcher = new InMemoryBibFieldsSearcher(index);
+
+    @BeforeEach
+    void setUp() {
+        BibDatabaseContext databaseContext = new BibDatabaseContext();
+        databaseContext.getDatabase().insertEntries(List.of(KNUTH, MUELLER, ANOTHER));
+        BibFieldValues bibFieldValues = new BibFieldValues(databaseContext, ',');
+        for (BibEntry entry : databaseContext.getEntries()) {
+            index.addOrReplace(entry.getId(), bibFieldValues.getValues(entry), bibFieldValues.getSplitValues(entry));
+        }
+    }
+
+    private static Set<String> ids(BibEntry... entries) {
+        return Stream.of(entries).map(BibEntry::getId).collect(Collectors.toSet());
+    }
+
+    public static Stream<Arguments> searchConversion() {
+        return Stream.of(
+                // groups are not considered for unfielded terms
+                Arguments.of(ids(KNUTH), "knuth"),
+                Arguments.of(ids(KNUTH), "art AND programming"),
+                Arguments.of(ids(KNUTH, MUELLER), "knuth OR müller"),
+                Arguments.of(ids(KNUTH), "computer"),
+
+                // split values are matched exactly
+                Arguments.of(ids(KNUTH), "author == \"Leslie Lamport\""),
+                Arguments.of(ids(), "author == Lamport"),
+                Arguments.of(ids(KNUTH), "anykeyword == algorithms"),
+                Arguments.of(ids(ANOTHER), "groups == Knuth"),
+
+                // transformed values
+                Arguments.of(ids(MUELLER), "author = müller"),
+                Arguments.of(ids(MUELLER), "title = über"),
+
+                // empty and negated fields
+                Arguments.of(ids(ANOTHER), "author = \"\""),
+                Arguments.of(ids(MUELLER, ANOTHER), "author != knuth"),
+                Arguments.of(ids(KNUTH, ANOTHER), "NOT year = 2010"),
+
+                Arguments.of(ids(KNUTH), "title =~ \"^The Art\""),
+                Arguments.of(ids(), "title =~! \"^the art\""),
+                Arguments.of(ids(MUELLER), "entrytype = book")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void searchConversion(Set<String> expected, String searchExpression) {
+        assertEquals(expected, searcher.search(new SearchQuery(searchExpression)).getMatchedEntries());
+    }
+
+    @Test
+    void isMatchedChecksSingleEntry() {
+        SearchQuery query = new SearchQuery("author = knuth");
+
+        assertTrue(searcher.isMatched(KNUTH, query));
+        assertFalse(searcher.isMatched(MUELLER, query));
+    }
+
+    @Test
+    void replacedEntryIsFoundByNewValue() {
+        BibEntry entry = new BibEntry(StandardEntryType.Misc).withField(StandardField.TITLE, "Old title");
+        BibDatabaseContext databaseContext = new BibDatabaseContext();
+        databaseContext.getDatabase().insertEntry(entry);
+        BibFieldValues bibFieldValues = new BibFieldValues(databaseContext, ',');
+        index.addOrReplace(entry.getId(), bibFieldValues.getValues(entry), bibFieldValues.getSplitValues(entry));
+
+        entry.setField(StandardField.TITLE, "New title");
+        index.addOrReplace(entry.getId(), bibFieldValues.getValues(entry), bibFieldValues.getSplitValues(entry));
+
+        assertEquals(ids(), searcher.search(new SearchQuery("title = old")).getMatchedEntries());
+        assertEquals(ids(entry), searcher.search(new SearchQuery("title = new")).getMatchedEntries());
+    }
+}
@@ -1,5 +1,6 @@
 package org.jabref.logic.shared;
 
+import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -303,6 +304,78 @@ class DBMSProcessorTest {
         assertEquals(expectedIDVersionMap, actualIDVersionMap);
     }
 
+    @Test
+    void changesAreLoggedOncePerEntry() throws OfflineLockException, SQLException {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample2();
+        dbmsProcessor.insertEntry(firstEntry);
+        dbmsProcessor.insertEntry(secondEntry);
+        dbmsProcessor.updateEntry(firstEntry);
+        dbmsProcessor.removeEntries(List.of(secondEntry));
+
+        List<SharedEntryChange> changes = dbmsProcessor.getChangesSince(new SharedChangeLogPosition(0, 0), 0, 10);
+
+        assertEquals(2, changes.size());
+        assertEquals(firstEntry.getSharedBibEntryData().getSharedID(), changes.getFirst().sharedID());
+        assertEquals(2, changes.getFirst().version());
+        assertFalse(changes.getFirst().deleted());
+        assertEquals(secondEntry.getSharedBibEntryData().getSharedID(), changes.get(1).sharedID());
+        assertTrue(changes.get(1).deleted());
+        assertEquals(changes.get(1).sequence(), dbmsProcessor.getChangeLogPosition().orElseThrow().sequence());
+    }
+
+    @Test
+    void getChangesSinceReturnsOnlyLaterChanges() {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample2();
+        BibEntry thirdEntry = getBibEntryExample3();
+        dbmsProcessor.insertEntry(firstEntry);
+        SharedChangeLogPosition position = dbmsProcessor.getChangeLogPosition().orElseThrow();
+        dbmsProcessor.insertEntry(secondEntry);
+        dbmsProcessor.insertEntry(thirdEntry);
+
+        List<SharedEntryChange> firstBatch = dbmsProcessor.getChangesSince(position, 0, 1);
+        List<SharedEntryChange> secondBatch = dbmsProcessor.getChangesSince(position, firstBatch.getLast().sequence(), 1);
+
+        assertEquals(List.of(secondEntry.getSharedBibEntryData().getSharedID()), firstBatch.stream().map(SharedEntryChange::sharedID).toList());
+        assertEquals(List.of(thirdEntry.getSharedBibEntryData().getSharedID()), secondBatch.stream().map(SharedEntryChange::sharedID).toList());
+    }
+
+    @Test
+    void getChangesSinceReturnsChangesCommittedAfterLaterChanges() throws SQLException {
+        dbmsProcessor.insertEntry(getBibEntryExample());
+
+        // The change of the other client gets the smaller sequence number, but is committed after the position has been retrieved
+        Connection otherClient = dbmsConnection.getConnection();
+        otherClient.setAutoCommit(false);
+        otherClient.createStatement().executeUpdate("INSERT INTO jabref.\"ENTRY\" (\"TYPE\") VALUES ('article')");
+        BibEntry laterEntry = getBibEntryExample2();
+        dbmsProcessor.insertEntry(laterEntry);
+        SharedChangeLogPosition position = dbmsProcessor.getChangeLogPosition().orElseThrow();
+        otherClient.commit();
+        otherClient.setAutoCommit(true);
+
+        List<SharedEntryChange> changes = dbmsProcessor.getChangesSince(position, 0, 10);
+
+        assertEquals(1, changes.stream().filter(change -> change.sequence() < position.sequence()).count());
+    }
+
+    @Test
+    void insertEntriesRestoresSharedIDsOnError() throws SQLException {
+        BibEntry entry = getBibEntryExample();
+        dbmsConnection.getConnection().createStatement().executeUpdate("ALTER TABLE jabref.\"FIELD\" ADD CONSTRAINT \"NO_FIELDS\" CHECK (FALSE)");
+
+        dbmsProcessor.insertEntry(entry);
+
+        assertEquals(-1, entry.getSharedBibEntryData().getSharedID());
+        assertEquals(Map.of(), dbmsProcessor.getSharedIDVersionMapping());
+    }
+
+    @Test
+    void getChangeLogPositionOfEmptyLog() {
+        assertEquals(0, dbmsProcessor.getChangeLogPosition().orElseThrow().sequence());
+    }
+
     @Test
     void getSharedMetaData() {
         insertMetaData("databaseType", "bibtex;", dbmsConnection, dbmsProcessor);
@@ -1,6 +1,8 @@
 package org.jabref.logic.shared;
 
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -212,6 +214,72 @@ class DBMSSynchronizerTest {
         assertEquals(List.of(modifiedBibEntry), dbmsProcessor.getSharedEntries());
     }
 
+    @Test
+    void synchronizeLocalDatabasePullsOnlyChangedEntries() throws SQLException, OfflineLockException {
+        BibEntry unchangedEntry = createExampleBibEntry(1);
+        BibEntry changedEntry = createExampleBibEntry(2);
+        dbmsProcessor.insertEntries(List.of(unchangedEntry, changedEntry));
+        dbmsSynchronizer.synchronizeLocalDatabase();
+        assertEquals(2, bibDatabase.getEntries().size());
+
+        BibEntry modifiedEntry = createExampleBibEntry(2).withField(StandardField.YEAR, "2024");
+        dbmsProcessor.updateEntry(modifiedEntry);
+        BibEntry insertedEntry = createExampleBibEntry(3);
+        dbmsProcessor.insertEntry(insertedEntry);
+        dbmsProcessor.removeEntries(List.of(unchangedEntry));
+
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        assertEquals(List.of(modifiedEntry, insertedEntry), bibDatabase.getEntries());
+    }
+
+    @Test
+    void synchronizeLocalDatabasePullsChangesCommittedAfterLaterChanges() throws SQLException, InvalidDBMSConnectionPropertiesException {
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        try (Connection otherClient = ConnectorTest.getTestDBMSConnection(dbmsType).getConnection()) {
+            // The entry of the other client gets the smaller sequence number, but is committed after the later entry has been pulled
+            otherClient.setAutoCommit(false);
+            otherClient.createStatement().executeUpdate("INSERT INTO jabref.\"ENTRY\" (\"TYPE\") VALUES ('article')");
+            dbmsProcessor.insertEntry(createExampleBibEntry(1));
+            dbmsSynchronizer.synchronizeLocalDatabase();
+            assertEquals(1, bibDatabase.getEntries().size());
+
+            otherClient.commit();
+        }
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        assertEquals(2, bibDatabase.getEntries().size());
+    }
+
+    @Test
+    void pullChangesSkipsChangesAlreadyPulled() {
+        dbmsProcessor.insertEntry(createExampleBibEntry(1));
+        long announcedTransactionID = dbmsProcessor.getNextTransactionID();
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        // Removed without notification, thus the change is only pulled if a newer change is announced
+        dbmsProcessor.removeEntries(List.of(bibDatabase.getEntries().getFirst()));
+        dbmsSynchronizer.pullChanges(announcedTransactionID);
+        assertEquals(1, bibDatabase.getEntries().size());
+
+        dbmsSynchronizer.pullChanges(dbmsProcessor.getNextTransactionID());
+        assertTrue(bibDatabase.getEntries().isEmpty());
+    }
+
+    @Test
+    void notificationOfOtherClientIsPulled() throws SQLException, InterruptedException {
+        dbmsProcessor.insertEntry(createExampleBibEntry(1));
+        dbmsConnection.getConnection().createStatement().execute("NOTIFY jabrefLiveUpdate, 'other client:" + dbmsProcessor.getNextTransactionID() + "'");
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (bibDatabase.getEntries().isEmpty() && (System.nanoTime() < deadline)) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, bibDatabase.getEntries().size());
+    }
+
     @Test
     void updateEntryDoesNotModifyLocalDatabase() throws SQLException, OfflineLockException {
         BibEntry bibEntry = createExampleBibEntry(1);
@@ -0,0 +1,78 @@
+package org.jabref.logic.util;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.h2.mvstore.MVMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersistentLruCacheTest {
+
+    private static final long MAX_SIZE = 10;
+
+    @TempDir
+    private Path tempDir;
+
+    private PersistentLruCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.close();
+    }
+
+    private PersistentLruCache<String> open() {
+        return new PersistentLruCache<>(tempDir.resolve("cache.mv"), MAX_SIZE, value -> value.length());
+    }
+
+    @Test
+    void leastRecentlyUsedValueIsEvicted() {
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.get("a");
+
+        assertEquals(1, cache.put("c", "cccc"));
+
+        assertEquals(Optional.empty(), cache.get("b"));
+        assertEquals(Optional.of("aaaa"), cache.get("a"));
+        assertEquals(8, cache.getSize());
+    }
+
+    @Test
+    void sizeAndAccessOrderAreKeptAfterReopening() {
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.get("a");
+        cache.close();
+
+        cache = open();
+
+        assertTrue(cache.isPersistent());
+        assertEquals(8, cache.getSize());
+        cache.put("c", "cccc");
+        assertEquals(Optional.empty(), cache.get("b"));
+    }
+
+    @Test
+    void clearKeepsFurtherMaps() {
+        MVMap<String, String> aliases = cache.openMap("aliases");
+        aliases.put("alias", "a");
+        cache.put("a", "aaaa");
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getSize());
+        assertEquals("a", aliases.get("alias"));
+    }
+}
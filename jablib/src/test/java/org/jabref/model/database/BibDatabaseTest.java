@@ -344,6 +344,54 @@ class BibDatabaseTest {
         assertEquals(1, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void changedKeyIsFound() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+
+        entry.setCitationKey("BBB");
+
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("AAA"));
+        assertEquals(Optional.of(entry), database.getEntryByCitationKey("BBB"));
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(1, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void clearedKeyIsNotFound() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+
+        entry.clearCiteKey();
+
+        assertEquals(List.of(), database.getEntriesByCitationKey("AAA"));
+    }
+
+    @Test
+    void keyOfRemovedEntryIsNotFoundAfterChange() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+
+        entry.setCitationKey("BBB");
+
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void entriesWithSameKeyAreInOrderOfDatabase() {
+        BibEntry first = new BibEntry().withCitationKey("AAA").withField(StandardField.TITLE, "First");
+        BibEntry second = new BibEntry().withCitationKey("BBB").withField(StandardField.TITLE, "Second");
+        database.insertEntries(first, second);
+
+        // The second entry gets the key first
+        second.setCitationKey("CCC");
+        first.setCitationKey("CCC");
+
+        assertEquals(List.of(first, second), database.getEntriesByCitationKey("CCC"));
+        assertEquals(Optional.of(first), database.getEntryByCitationKey("CCC"));
+    }
+
     @Test
     void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
@@ -0,0 +1,118 @@
+package org.jabref.model.entry;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactFieldMapTest {
+
+    private final CompactFieldMap map = new CompactFieldMap();
+
+    @Test
+    void putAndGet() {
+        assertNull(map.put(StandardField.AUTHOR, "Smith"));
+        assertNull(map.put(StandardField.TITLE, "Title"));
+
+        assertEquals("Smith", map.get(StandardField.AUTHOR));
+        assertEquals("Title", map.get(StandardField.TITLE));
+        assertNull(map.get(StandardField.YEAR));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void putReplacesValue() {
+        map.put(StandardField.AUTHOR, "Smith");
+
+        assertEquals("Smith", map.put(StandardField.AUTHOR, "Jones"));
+        assertEquals("Jones", map.get(StandardField.AUTHOR));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void unknownFieldsAreFoundByEqualField() {
+        map.put(new UnknownField("custom"), "value");
+
+        assertEquals("value", map.get(new UnknownField("custom")));
+    }
+
+    @Test
+    void removeKeepsOtherFields() {
+        map.put(StandardField.AUTHOR, "Smith");
+        map.put(StandardField.TITLE, "Title");
+        map.put(StandardField.YEAR, "2025");
+
+        assertEquals("Title", map.remove(StandardField.TITLE));
+        assertNull(map.remove(StandardField.TITLE));
+        assertEquals(Map.of(StandardField.AUTHOR, "Smith", StandardField.YEAR, "2025"), map);
+    }
+
+    @Test
+    void iterationFollowsInsertionOrder() {
+        map.put(StandardField.YEAR, "2025");
+        map.put(StandardField.AUTHOR, "Smith");
+        map.put(StandardField.TITLE, "Title");
+
+        assertEquals(List.of(StandardField.YEAR, StandardField.AUTHOR, StandardField.TITLE), List.copyOf(map.keySet()));
+    }
+
+    @Test
+    void iteratorRemovesFromMap() {
+        map.put(StandardField.AUTHOR, "Smith");
+        map.put(StandardField.TITLE, "Title");
+
+        Iterator<Map.Entry<Field, String>> iterator = map.entrySet().iterator();
+        iterator.next();
+        iterator.remove();
+
+        assertEquals(Map.of(StandardField.TITLE, "Title"), map);
+    }
+
+    @Test
+    void settingEntryValueWritesThrough() {
+        map.put(StandardField.AUTHOR, "Smith");
+
+        map.entrySet().iterator().next().setValue("Jones");
+
+        assertEquals("Jones", map.get(StandardField.AUTHOR));
+    }
+
+    @Test
+    void equalToHashMapWithSameContent() {
+        Map<Field, String> content = new HashMap<>();
+        content.put(StandardField.AUTHOR, "Smith");
+        content.put(StandardField.TITLE, "Title");
+
+        CompactFieldMap copy = new CompactFieldMap(content);
+
+        assertEquals(content, copy);
+        assertEquals(content.hashCode(), copy.hashCode());
+    }
+
+    @Test
+    void nullValueIsRejected() {
+        assertThrows(NullPointerException.class, () -> map.put(StandardField.AUTHOR, null));
+        assertFalse(map.containsKey(StandardField.AUTHOR));
+    }
+
+    @Test
+    void clearRemovesAllFields() {
+        map.put(StandardField.AUTHOR, "Smith");
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+    }
+}
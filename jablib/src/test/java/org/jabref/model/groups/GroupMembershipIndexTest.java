@@ -0,0 +1,121 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.event.GroupMembershipChangedEvent;
+
+import com.google.common.eventbus.Subscribe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupMembershipIndexTest {
+
+    private final BibDatabase database = new BibDatabase();
+    private final List<GroupMembershipChangedEvent> events = new ArrayList<>();
+    private GroupMembershipIndex index;
+
+    @BeforeEach
+    void setUp() {
+        for (String keywords : List.of("", "a", "b", "c", "a, b", "b, c", "a, c", "a, b, c")) {
+            database.insertEntry(new BibEntry().withField(StandardField.KEYWORDS, keywords));
+        }
+        index = new GroupMembershipIndex(database);
+        database.registerListener(this);
+    }
+
+    @Subscribe
+    public void listen(GroupMembershipChangedEvent event) {
+        events.add(event);
+    }
+
+    private static Stream<Arguments> hierarchicalContexts() {
+        return Stream.of(GroupHierarchyType.values())
+                     .flatMap(parentContext -> Stream.of(GroupHierarchyType.values())
+                                                     .map(childContext -> Arguments.of(parentContext, childContext)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("hierarchicalContexts")
+    void matchCountEqualsNumberOfMatchesOfGroupTreeNode(GroupHierarchyType parentContext, GroupHierarchyType childContext) {
+        GroupTreeNode root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+        GroupTreeNode parent = root.addSubgroup(getKeywordGroup("a", parentContext));
+        GroupTreeNode child = parent.addSubgroup(getKeywordGroup("b", childContext));
+        GroupTreeNode grandChild = child.addSubgroup(getKeywordGroup("c", childContext));
+
+        for (GroupTreeNode node : List.of(root, parent, child, grandChild)) {
+            assertEquals(node.findMatches(database.getEntries()).size(), index.getMatchCount(node), node.getName());
+        }
+    }
+
+    @Test
+    void fieldChangeUpdatesMatchCount() {
+        GroupTreeNode node = GroupTreeNode.fromGroup(getKeywordGroup("a", GroupHierarchyType.INDEPENDENT));
+        assertEquals(4, index.getMatchCount(node));
+
+        database.getEntries().getFirst().setField(StandardField.KEYWORDS, "a");
+
+        assertEquals(5, index.getMatchCount(node));
+        assertEquals(1, events.size());
+        assertTrue(index.dependsOnAny(node, events.getFirst().groups()));
+    }
+
+    @Test
+    void changeOfOtherFieldDoesNotChangeGroups() {
+        GroupTreeNode node = GroupTreeNode.fromGroup(getKeywordGroup("a", GroupHierarchyType.INDEPENDENT));
+        index.getMatchCount(node);
+
+        database.getEntries().getFirst().setField(StandardField.TITLE, "a");
+
+        assertEquals(List.of(), events);
+    }
+
+    @Test
+    void addedAndRemovedEntriesUpdateMatchCount() {
+        GroupTreeNode root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+        GroupTreeNode node = root.addSubgroup(getKeywordGroup("a", GroupHierarchyType.INDEPENDENT));
+        assertEquals(8, index.getMatchCount(root));
+        assertEquals(4, index.getMatchCount(node));
+
+        database.removeEntry(database.getEntries().get(1));
+        database.insertEntry(new BibEntry().withField(StandardField.KEYWORDS, "a"));
+        database.insertEntry(new BibEntry().withField(StandardField.KEYWORDS, "a, b"));
+
+        assertEquals(9, index.getMatchCount(root));
+        assertEquals(5, index.getMatchCount(node));
+    }
+
+    @Test
+    void changeDuringFirstEvaluationIsTakenIntoAccount() {
+        AbstractGroup group = new WordKeywordGroup("a", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "a", true, ',', false) {
+            private boolean changed;
+
+            @Override
+            public boolean contains(BibEntry entry) {
+                boolean contained = super.contains(entry);
+                if (!changed) {
+                    // Changes the library while the group is evaluated for the first time
+                    changed = true;
+                    entry.setField(StandardField.KEYWORDS, "a");
+                }
+                return contained;
+            }
+        };
+
+        assertEquals(5, index.getMatchCount(GroupTreeNode.fromGroup(group)));
+    }
+
+    private static AbstractGroup getKeywordGroup(String keyword, GroupHierarchyType context) {
+        return new WordKeywordGroup(keyword, context, StandardField.KEYWORDS, keyword, true, ',', false);
+    }
+}
@@ -0,0 +1,15 @@
+package org.jabref.http.dto;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The data transfer object (DTO) for a page of the result of a query on the entries of a library
+ *
+ * @param entries    the entries of this page
+ * @param total      the number of entries matching the query
+ * @param nextCursor the cursor to request the next page with, <code>null</code> on the last page
+ */
+public record EntriesPageDTO(List<EntryFieldsDTO> entries, int total, @Nullable String nextCursor) {
+}
@@ -0,0 +1,33 @@
+package org.jabref.http.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+
+/**
+ * The data transfer object (DTO) for the fields of a BibEntry, as returned by queries on the entries of a library
+ *
+ * @param citationKey the citation key, empty if the entry has none
+ * @param entryType   the name of the entry type (e.g., "article")
+ * @param fields      the field names mapped to the values as they are stored in the library
+ */
+public record EntryFieldsDTO(String citationKey, String entryType, Map<String, String> fields) {
+
+    /**
+     * @param projection the fields to include; all fields of the entry if empty
+     */
+    public EntryFieldsDTO(BibEntry entry, Set<Field> projection) {
+        this(entry.getCitationKey().orElse(""), entry.getType().getName(), getFields(entry, projection));
+    }
+
+    private static Map<String, String> getFields(BibEntry entry, Set<Field> projection) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (Field field : projection.isEmpty() ? entry.getFields() : projection) {
+            entry.getField(field).ifPresent(value -> fields.put(field.getName(), value));
+        }
+        return fields;
+    }
+}
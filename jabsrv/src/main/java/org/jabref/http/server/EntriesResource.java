@@ -0,0 +1,147 @@
+package org.jabref.http.server;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.http.dto.EntriesPageDTO;
+import org.jabref.http.dto.EntryFieldsDTO;
+import org.jabref.http.server.services.LibraryCache.CachedLibrary;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+
+import com.google.gson.Gson;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Queries on the entries of a library. Reached through {@link LibraryResource#getEntries(String)}.
+ * <p>
+ * The result of a query is returned in pages. A page contains a cursor to request the next page with.
+ * The cursor is bound to the version of the library, so that pages of a changed library are not mixed up.
+ */
+public class EntriesResource {
+
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 1000;
+
+    private final CachedLibrary library;
+    private final Gson gson;
+
+    EntriesResource(CachedLibrary library, Gson gson) {
+        this.library = library;
+        this.gson = gson;
+    }
+
+    /**
+     * @param searchExpression the search expression in JabRef's search syntax, empty for all entries
+     * @param sortOrder        a comma-separated list of fields, a leading "-" sorts descending (e.g., "-year,author"); empty for the order of the library
+     * @param fields           a comma-separated list of the fields to return; empty for all fields
+     * @param cursor           the cursor of the previous page, empty for the first page
+     * @param limit            the maximum number of entries of the page
+     */
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getEntries(@QueryParam("q") @DefaultValue("") String searchExpression,
+                               @QueryParam("sort") @DefaultValue("") String sortOrder,
+                               @QueryParam("fields") @DefaultValue("") String fields,
+                               @QueryParam("cursor") @DefaultValue("") String cursor,
+                               @QueryParam("limit") @DefaultValue("" + DEFAULT_LIMIT) int limit,
+                               @Context Request request) {
+        if ((limit < 1) || (limit > MAX_LIMIT)) {
+            throw new BadRequestException("The limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        List<BibEntry> matches;
+        try {
+            matches = library.getIndex().query(searchExpression, sortOrder);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage(), e);
+        }
+
+        int offset = cursor.isEmpty() ? 0 : decodeCursor(cursor);
+        int end = Math.min(offset + limit, matches.size());
+        Set<Field> projection = parseFields(fields);
+        List<EntryFieldsDTO> page = matches.subList(Math.min(offset, end), end)
+                                           .stream()
+                                           .map(entry -> new EntryFieldsDTO(entry, projection))
+                                           .toList();
+        String nextCursor = end < matches.size() ? encodeCursor(end) : null;
+
+        String json = gson.toJson(new EntriesPageDTO(page, matches.size(), nextCursor));
+        return LibraryResource.buildResponse(request, library, "entries", output -> output.write(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * @param fields a comma-separated list of the fields to return; empty for all fields
+     */
+    @GET
+    @Path("{citationKey}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getEntry(@PathParam("citationKey") String citationKey,
+                             @QueryParam("fields") @DefaultValue("") String fields,
+                             @Context Request request) {
+        BibEntry entry = library.getIndex()
+                                .getEntryByCitationKey(citationKey)
+                                .orElseThrow(() -> new NotFoundException("No entry with citation key " + citationKey));
+        String json = gson.toJson(new EntryFieldsDTO(entry, parseFields(fields)));
+        return LibraryResource.buildResponse(request, library, "entry", output -> output.write(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static Set<Field> parseFields(String fields) {
+        Set<Field> result = new LinkedHashSet<>();
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                result.add(FieldFactory.parseField(name.trim()));
+            }
+        }
+        return result;
+    }
+
+    private String encodeCursor(int offset) {
+        String cursor = offset + ":" + library.getEntityTag("entries");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the offset of the next page
+     * @throws BadRequestException if the cursor is malformed or belongs to another version of the library
+     */
+    private int decodeCursor(String cursor) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Malformed cursor", e);
+        }
+        int separator = decoded.indexOf(':');
+        if (separator < 0) {
+            throw new BadRequestException("Malformed cursor");
+        }
+        if (!decoded.substring(separator + 1).equals(library.getEntityTag("entries"))) {
+            throw new BadRequestException("The library has changed. Please start again with the first page.");
+        }
+        try {
+            int offset = Integer.parseInt(decoded.substring(0, separator));
+            if (offset < 0) {
+                throw new BadRequestException("Malformed cursor");
+            }
+            return offset;
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Malformed cursor", e);
+        }
+    }
+}
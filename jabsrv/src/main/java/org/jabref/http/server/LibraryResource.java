@@ -1,25 +1,27 @@
 package org.jabref.http.server;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.util.List;
+import java.util.Date;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.jabref.http.JabrefMediaType;
 import org.jabref.http.dto.BibEntryDTO;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.LibraryCache;
+import org.jabref.http.server.services.LibraryCache.CachedLibrary;
 import org.jabref.logic.citationstyle.JabRefItemDataProvider;
 import org.jabref.logic.importer.ParserResult;
-import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
-import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import com.airhacks.afterburner.injection.Injector;
 import com.google.gson.Gson;
@@ -30,7 +32,10 @@ import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.StreamingOutput;
 import org.jspecify.annotations.Nullable;
@@ -47,33 +52,55 @@ public class LibraryResource {
     @Inject
     FilesToServe filesToServe;
 
+    @Inject
+    LibraryCache libraryCache;
+
     @Inject
     Gson gson;
 
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    public String getJson(@PathParam("id") String id) throws IOException {
-        ParserResult parserResult = getParserResult(id);
+    public Response getJson(@PathParam("id") String id, @Context Request request) throws IOException {
+        CachedLibrary library = getLibrary(id);
+        ParserResult parserResult = library.parserResult();
         BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
-        List<BibEntryDTO> list = parserResult.getDatabase().getEntries().stream()
-                                             .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
-                                             .map(entry -> new BibEntryDTO(entry, parserResult.getDatabaseContext().getMode(), preferences.getFieldPreferences(), entryTypesManager))
-                                             .toList();
-        return gson.toJson(list);
+        // The entries are serialized one after another, so that the JSON of a large library is not held as one string
+        StreamingOutput stream = output -> {
+            Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+            writer.write('[');
+            boolean first = true;
+            for (BibEntry bibEntry : parserResult.getDatabase().getEntries()) {
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry));
+                gson.toJson(new BibEntryDTO(bibEntry, parserResult.getDatabaseContext().getMode(), preferences.getFieldPreferences(), entryTypesManager), writer);
+            }
+            writer.write(']');
+            writer.flush();
+        };
+        return buildResponse(request, library, "json", stream);
     }
 
     @GET
     @Produces(JabrefMediaType.JSON_CSL_ITEM)
-    public String getClsItemJson(@PathParam("id") String id) throws IOException {
-        ParserResult parserResult = getParserResult(id);
+    public Response getClsItemJson(@PathParam("id") String id, @Context Request request) throws IOException {
+        CachedLibrary library = getLibrary(id);
         JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
-        jabRefItemDataProvider.setData(parserResult.getDatabaseContext(), new BibEntryTypesManager());
-        return jabRefItemDataProvider.toJson();
+        jabRefItemDataProvider.setData(library.parserResult().getDatabaseContext(), new BibEntryTypesManager());
+        // The items are converted while they are written, so that large libraries are not held as one string
+        StreamingOutput stream = output -> {
+            Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+            jabRefItemDataProvider.writeJson(writer);
+            writer.flush();
+        };
+        return buildResponse(request, library, "csl", stream);
     }
 
     @GET
     @Produces(JabrefMediaType.BIBTEX)
-    public Response getBibtex(@PathParam("id") String id) {
+    public Response getBibtex(@PathParam("id") String id, @Context Request request) {
         if ("demo".equals(id)) {
             StreamingOutput stream = output -> {
                 try (InputStream in = getChocolateBibAsStream()) {
@@ -88,19 +115,53 @@ public class LibraryResource {
         }
 
         java.nio.file.Path library = getLibraryPath(id);
-        String libraryAsString;
+        LibraryCache.Version version;
         try {
-            libraryAsString = Files.readString(library);
+            version = LibraryCache.Version.of(library);
         } catch (IOException e) {
             LOGGER.error("Could not read library {}", library, e);
             throw new InternalServerErrorException("Could not read library " + library, e);
         }
-        return Response.ok()
+        EntityTag entityTag = new EntityTag(version + "-bibtex");
+        Date lastModified = new Date(version.lastModified());
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(lastModified, entityTag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+
+        StreamingOutput stream = output -> Files.copy(library, output);
+        return Response.ok(stream)
                 .header("Content-Disposition", "attachment; filename=\"" + library.getFileName() + "\"")
-                .entity(libraryAsString)
+                .tag(entityTag)
+                .lastModified(lastModified)
                 .build();
     }
 
+    /**
+     * Sub-resource for querying the entries of the library (<code>libraries/{id}/entries</code>)
+     */
+    @Path("entries")
+    public EntriesResource getEntries(@PathParam("id") String id) throws IOException {
+        return new EntriesResource(getLibrary(id), gson);
+    }
+
+    /**
+     * Answers with "304 Not Modified" if the client has the current version of the library, otherwise with the given output
+     */
+    static Response buildResponse(Request request, CachedLibrary library, String representation, StreamingOutput output) {
+        EntityTag entityTag = new EntityTag(library.getEntityTag(representation));
+        Optional<Date> lastModified = library.getLastModified();
+        Response.ResponseBuilder notModified = lastModified.map(date -> request.evaluatePreconditions(date, entityTag))
+                                                           .orElseGet(() -> request.evaluatePreconditions(entityTag));
+        if (notModified != null) {
+            return notModified.build();
+        }
+
+        Response.ResponseBuilder builder = Response.ok(output).tag(entityTag);
+        lastModified.ifPresent(builder::lastModified);
+        return builder.build();
+    }
+
     private java.nio.file.Path getLibraryPath(String id) {
         return filesToServe.getFilesToServe()
                           .stream()
@@ -109,25 +170,20 @@ public class LibraryResource {
                           .orElseThrow(NotFoundException::new);
     }
 
-    private ParserResult getParserResult(String id) throws IOException {
-        BibtexImporter bibtexImporter = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor());
-
+    private CachedLibrary getLibrary(String id) throws IOException {
         if ("demo".equals(id)) {
             try (InputStream chocolateBibInputStream = getChocolateBibAsStream()) {
-                BufferedReader reader = new BufferedReader(new InputStreamReader(chocolateBibInputStream, StandardCharsets.UTF_8));
-                return bibtexImporter.importDatabase(reader);
+                return libraryCache.getDemoLibrary(chocolateBibInputStream, preferences.getImportFormatPreferences());
             }
         }
 
         java.nio.file.Path library = getLibraryPath(id);
-        ParserResult parserResult;
         try {
-            parserResult = bibtexImporter.importDatabase(library);
+            return libraryCache.getLibrary(library, preferences.getImportFormatPreferences());
         } catch (IOException e) {
             LOGGER.warn("Could not find open library file {}", library, e);
             throw new InternalServerErrorException("Could not parse library", e);
         }
-        return parserResult;
     }
 
     /// @return a stream to the Chocolate.bib file in the classpath (is null only if the file was moved or there are issues with the classpath)
@@ -10,7 +10,9 @@ import javax.net.ssl.SSLContext;
 import org.jabref.http.dto.GlobalExceptionMapper;
 import org.jabref.http.dto.GsonFactory;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.LibraryCache;
 import org.jabref.logic.os.OS;
+import org.jabref.logic.pdf.ExtractedTextCache;
 
 import net.harawata.appdirs.AppDirsFactory;
 import org.glassfish.grizzly.http.server.HttpServer;
@@ -70,6 +72,7 @@ public class Server {
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new GsonFactory());
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new PreferencesFactory());
         ServiceLocatorUtilities.addOneConstant(serviceLocator, filesToServe);
+        ServiceLocatorUtilities.addOneConstant(serviceLocator, new LibraryCache());
 
         final HttpServer httpServer = startServer(serviceLocator, uri);
 
@@ -78,6 +81,7 @@ public class Server {
             try {
                 System.out.println("Shutting down jabsrv...");
                 httpServer.shutdownNow();
+                ExtractedTextCache.closeShared();
                 System.out.println("Done, exit.");
             } catch (Exception e) {
                 LOGGER.error("Could not shut down server", e);
@@ -0,0 +1,143 @@
+package org.jabref.http.server.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import jakarta.inject.Singleton;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the parsed libraries, so that a library is parsed again only if its file has changed.
+ * <p>
+ * A file is considered changed if its size or its modification time differs from the parsed version.
+ * The version is also used for conditional requests (<code>ETag</code> and <code>Last-Modified</code>).
+ */
+@Singleton
+public class LibraryCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryCache.class);
+
+    private final Map<Path, CachedLibrary> libraries = new ConcurrentHashMap<>();
+    private @Nullable CachedLibrary demoLibrary;
+
+    /**
+     * Returns the parsed library stored in the given file. Concurrent requests for the same library wait until the library is parsed.
+     *
+     * @throws IOException if the file could not be read
+     */
+    public CachedLibrary getLibrary(Path file, ImportFormatPreferences importFormatPreferences) throws IOException {
+        Version version = Version.of(file);
+        try {
+            return libraries.compute(file, (_, cached) -> {
+                if ((cached != null) && version.equals(cached.version())) {
+                    return cached;
+                }
+                LOGGER.debug("Parsing library {}", file);
+                try {
+                    ParserResult parserResult = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor()).importDatabase(file);
+                    return new CachedLibrary(parserResult, Optional.of(version), importFormatPreferences.bibEntryPreferences().getKeywordSeparator());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Returns the parsed demo library, which is parsed only once as it is part of JabRef.
+     *
+     * @param demoLibrary the content of the demo library
+     */
+    public synchronized CachedLibrary getDemoLibrary(InputStream demoLibrary, ImportFormatPreferences importFormatPreferences) throws IOException {
+        if (this.demoLibrary == null) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(demoLibrary, StandardCharsets.UTF_8));
+            ParserResult parserResult = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor()).importDatabase(reader);
+            this.demoLibrary = new CachedLibrary(parserResult, Optional.empty(), importFormatPreferences.bibEntryPreferences().getKeywordSeparator());
+        }
+        return this.demoLibrary;
+    }
+
+    /**
+     * A parsed library together with the version of its file
+     */
+    public static class CachedLibrary {
+        private final ParserResult parserResult;
+        private final Optional<Version> version;
+        private final Character keywordSeparator;
+        private @Nullable LibraryIndex index;
+
+        /**
+         * @param version the version of the file the library was parsed from, empty for the demo library
+         */
+        CachedLibrary(ParserResult parserResult, Optional<Version> version, Character keywordSeparator) {
+            this.parserResult = parserResult;
+            this.version = version;
+            this.keywordSeparator = keywordSeparator;
+        }
+
+        public ParserResult parserResult() {
+            return parserResult;
+        }
+
+        public Optional<Version> version() {
+            return version;
+        }
+
+        /**
+         * Returns the index for querying the entries. The index is built with the first query, as most requests retrieve the whole library.
+         */
+        public synchronized LibraryIndex getIndex() {
+            if (index == null) {
+                index = new LibraryIndex(parserResult.getDatabaseContext(), keywordSeparator);
+            }
+            return index;
+        }
+
+        /**
+         * Returns the tag identifying the given representation of this version of the library
+         *
+         * @param representation a name of the representation (e.g., "json"), as the tags of different representations must differ
+         */
+        public String getEntityTag(String representation) {
+            return version.map(Version::toString).orElse("demo") + "-" + representation;
+        }
+
+        public Optional<Date> getLastModified() {
+            return version.map(Version::lastModified).map(Date::new);
+        }
+    }
+
+    /**
+     * @param lastModified the modification time of the file in milliseconds since the epoch
+     */
+    public record Version(long size, long lastModified) {
+        static Version of(Path file) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return new Version(attributes.size(), attributes.lastModifiedTime().toMillis());
+        }
+
+        @Override
+        public String toString() {
+            return Long.toHexString(size) + "-" + Long.toHexString(lastModified);
+        }
+    }
+}
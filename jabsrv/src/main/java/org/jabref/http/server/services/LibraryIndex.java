@@ -0,0 +1,113 @@
+package org.jabref.http.server.services;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.logic.bibtex.comparator.FieldComparator;
+import org.jabref.logic.bibtex.comparator.FieldComparatorStack;
+import org.jabref.logic.search.indexing.BibFieldValues;
+import org.jabref.logic.search.indexing.InMemoryBibFieldsIndex;
+import org.jabref.logic.search.retrieval.InMemoryBibFieldsSearcher;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.metadata.SaveOrder;
+import org.jabref.model.search.query.SearchQuery;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Answers queries on the entries of a parsed library: searching, sorting and looking up entries by their citation key.
+ * <p>
+ * The library is indexed once. The results of the most recent queries are kept, so that requesting further pages of a result does not search and sort again.
+ */
+public class LibraryIndex {
+
+    private static final int CACHED_QUERIES = 16;
+
+    private final List<BibEntry> entries;
+    private final Map<String, BibEntry> entriesByCitationKey = new HashMap<>();
+    private final InMemoryBibFieldsSearcher searcher;
+
+    // (search expression, sort order) -> matching entries in that order
+    private final Cache<Query, List<BibEntry>> results = CacheBuilder.newBuilder().maximumSize(CACHED_QUERIES).build();
+
+    private record Query(String searchExpression, String sortOrder) {
+    }
+
+    public LibraryIndex(BibDatabaseContext databaseContext, Character keywordSeparator) {
+        this.entries = List.copyOf(databaseContext.getEntries());
+        for (BibEntry entry : entries) {
+            // The first entry wins if a citation key is used twice, as in the BibTeX export
+            entry.getCitationKey().ifPresent(key -> entriesByCitationKey.putIfAbsent(key, entry));
+        }
+
+        InMemoryBibFieldsIndex index = new InMemoryBibFieldsIndex();
+        index.addOrReplace(new BibFieldValues(databaseContext, keywordSeparator).getEntryValues(entries));
+        this.searcher = new InMemoryBibFieldsSearcher(index);
+    }
+
+    public Optional<BibEntry> getEntryByCitationKey(String citationKey) {
+        return Optional.ofNullable(entriesByCitationKey.get(citationKey));
+    }
+
+    /**
+     * Returns the matching entries in the given order
+     *
+     * @param searchExpression a search expression in JabRef's search syntax, empty to match all entries
+     * @param sortOrder        a comma-separated list of field names; a leading "-" sorts by the field in descending order.
+     *                         Entries equal in all fields keep their order in the library. Empty to keep the order of the library.
+     * @throws IllegalArgumentException if the search expression is invalid
+     */
+    public List<BibEntry> query(String searchExpression, String sortOrder) {
+        Query query = new Query(searchExpression.trim(), sortOrder.trim());
+        List<BibEntry> result = results.getIfPresent(query);
+        if (result == null) {
+            result = search(query.searchExpression());
+            if (!query.sortOrder().isEmpty()) {
+                result = new ArrayList<>(result);
+                // List.sort is stable, thus the order of the library breaks ties
+                result.sort(getComparator(query.sortOrder()));
+            }
+            result = List.copyOf(result);
+            results.put(query, result);
+        }
+        return result;
+    }
+
+    private List<BibEntry> search(String searchExpression) {
+        if (searchExpression.isEmpty()) {
+            return entries;
+        }
+        SearchQuery searchQuery = new SearchQuery(searchExpression);
+        if (!searchQuery.isValid()) {
+            throw new IllegalArgumentException("Invalid search expression: " + searchExpression);
+        }
+        Set<String> matchedEntries = searcher.search(searchQuery).getMatchedEntries();
+        return entries.stream()
+                      .filter(entry -> matchedEntries.contains(entry.getId()))
+                      .toList();
+    }
+
+    private static Comparator<BibEntry> getComparator(String sortOrder) {
+        List<FieldComparator> comparators = new ArrayList<>();
+        for (String criterion : sortOrder.split(",")) {
+            String fieldName = criterion.trim();
+            if (fieldName.isEmpty()) {
+                continue;
+            }
+            boolean descending = fieldName.startsWith("-");
+            if (descending) {
+                fieldName = fieldName.substring(1);
+            }
+            comparators.add(new FieldComparator(new SaveOrder.SortCriterion(FieldFactory.parseField(fieldName), descending)));
+        }
+        return new FieldComparatorStack<>(comparators);
+    }
+}
@@ -0,0 +1,107 @@
+package org.jabref.http.server;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.MediaType;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntriesResourceTest extends ServerTest {
+
+    @Override
+    protected Application configure() {
+        ResourceConfig resourceConfig = new ResourceConfig(LibraryResource.class);
+        addFilesToServeToResourceConfig(resourceConfig);
+        addLibraryCacheToResourceConfig(resourceConfig);
+        addPreferencesToResourceConfig(resourceConfig);
+        addGsonToResourceConfig(resourceConfig);
+        addGlobalExceptionMapperToResourceConfig(resourceConfig);
+        return resourceConfig.getApplication();
+    }
+
+    @Test
+    void entryIsFoundByCitationKey() {
+        JsonObject entry = get(target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries/Author2023test").queryParam("fields", "title"));
+
+        assertEquals("Author2023test", entry.get("citationKey").getAsString());
+        assertEquals("misc", entry.get("entryType").getAsString().toLowerCase());
+        JsonObject fields = entry.getAsJsonObject("fields");
+        assertEquals(1, fields.size());
+        assertEquals("Demo Title", fields.get("title").getAsString());
+    }
+
+    @Test
+    void unknownCitationKeyIsNotFound() {
+        assertEquals(404, target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries/unknown").request(MediaType.APPLICATION_JSON).get().getStatus());
+    }
+
+    @Test
+    void searchFiltersEntries() {
+        WebTarget entries = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries");
+
+        assertEquals(1, get(entries.queryParam("q", "author=Demo")).get("total").getAsInt());
+        assertEquals(0, get(entries.queryParam("q", "title=Unknown")).get("total").getAsInt());
+    }
+
+    @Test
+    void pagesContainAllMatchingEntries() {
+        WebTarget entries = target("/libraries/demo/entries").queryParam("fields", "year");
+        List<String> allAtOnce = citationKeys(get(entries.queryParam("limit", EntriesResource.MAX_LIMIT)));
+
+        List<String> inPages = new ArrayList<>();
+        JsonObject page = get(entries.queryParam("limit", 10));
+        inPages.addAll(citationKeys(page));
+        while (page.has("nextCursor")) {
+            page = get(entries.queryParam("limit", 10).queryParam("cursor", page.get("nextCursor").getAsString()));
+            inPages.addAll(citationKeys(page));
+        }
+
+        assertTrue(allAtOnce.size() > 10);
+        assertEquals(allAtOnce, inPages);
+    }
+
+    @Test
+    void entriesAreSortedByGivenOrder() {
+        JsonObject page = get(target("/libraries/demo/entries").queryParam("sort", "-year").queryParam("fields", "year").queryParam("limit", EntriesResource.MAX_LIMIT));
+
+        List<String> years = new ArrayList<>();
+        for (JsonElement entry : page.getAsJsonArray("entries")) {
+            JsonObject fields = entry.getAsJsonObject().getAsJsonObject("fields");
+            if (fields.has("year")) {
+                years.add(fields.get("year").getAsString());
+            }
+        }
+
+        assertFalse(years.isEmpty());
+        List<String> sortedYears = new ArrayList<>(years);
+        sortedYears.sort((first, second) -> second.compareTo(first));
+        assertEquals(sortedYears, years);
+    }
+
+    @Test
+    void invalidCursorIsRejected() {
+        assertEquals(400, target("/libraries/demo/entries").queryParam("cursor", "invalid").request(MediaType.APPLICATION_JSON).get().getStatus());
+    }
+
+    private static JsonObject get(WebTarget target) {
+        return JsonParser.parseString(target.request(MediaType.APPLICATION_JSON).get(String.class)).getAsJsonObject();
+    }
+
+    private static List<String> citationKeys(JsonObject page) {
+        List<String> keys = new ArrayList<>();
+        for (JsonElement entry : page.getAsJsonArray("entries")) {
+            keys.add(entry.getAsJsonObject().get("citationKey").getAsString());
+        }
+        return keys;
+    }
+}
@@ -3,10 +3,15 @@ package org.jabref.http.server;
 import org.jabref.http.JabrefMediaType;
 
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 class LibraryResourceTest extends ServerTest {
 
@@ -14,6 +19,7 @@ class LibraryResourceTest extends ServerTest {
     protected Application configure() {
         ResourceConfig resourceConfig = new ResourceConfig(LibraryResource.class, LibrariesResource.class);
         addFilesToServeToResourceConfig(resourceConfig);
+        addLibraryCacheToResourceConfig(resourceConfig);
         addPreferencesToResourceConfig(resourceConfig);
         addGsonToResourceConfig(resourceConfig);
         return resourceConfig.getApplication();
@@ -37,4 +43,24 @@ class LibraryResourceTest extends ServerTest {
         assertEquals("""
                 [{"id":"Author2023test","type":"article","author":[{"family":"Author","given":"Demo"}],"event-date":{"date-parts":[[2023]]},"issued":{"date-parts":[[2023]]},"title":"Demo Title"}]""", target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get(String.class));
     }
+
+    @Test
+    void unchangedLibraryIsNotSentAgain() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get();
+        EntityTag entityTag = response.getEntityTag();
+        assertEquals(200, response.getStatus());
+        assertNotNull(entityTag);
+
+        Response secondResponse = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).header(HttpHeaders.IF_NONE_MATCH, entityTag).get();
+
+        assertEquals(304, secondResponse.getStatus());
+    }
+
+    @Test
+    void representationsHaveDifferentEntityTags() {
+        Response cslResponse = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get();
+        Response bibtexResponse = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.BIBTEX).get();
+
+        assertNotEquals(cslResponse.getEntityTag(), bibtexResponse.getEntityTag());
+    }
 }